@@ -0,0 +1,828 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.benchmark.specimen.ExampleSignatureClass;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.PackageDefinitionStrategy;
+import net.bytebuddy.implementation.*;
+import net.bytebuddy.implementation.bind.annotation.*;
+import net.bytebuddy.utility.JavaType;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * <p>
+ * This benchmark measures the runtime overhead of an intercepted method invocation for any interception style that is offered
+ * by Byte Buddy. For each {@link InterceptionBenchmark.Style}, a subclass of {@link ExampleSignatureClass} is created where both
+ * its method with primitive arguments and its method with reference arguments are intercepted. Any interception invokes the
+ * original method, either as a super method or on a non-intercepted instance of the specimen, and yields its result such that
+ * the styles perform equivalent work and are comparable. The benchmark should be run with the GC profiler in order to
+ * additionally measure the allocation rate of any interception style.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InterceptionBenchmark {
+
+    /**
+     * The name of the method with primitive arguments.
+     */
+    private static final String PRIMITIVE = "primitive";
+
+    /**
+     * The name of the method with reference arguments.
+     */
+    private static final String REFERENCE = "reference";
+
+    /**
+     * A non-intercepted instance of the specimen to which invocations are piped or reflectively dispatched.
+     */
+    private static final ExampleSignatureClass TARGET = new ExampleSignatureClass();
+
+    /**
+     * The interception style that is benchmarked.
+     */
+    @Param({"SUPER_METHOD_CALL",
+            "FIXED_VALUE",
+            "FIELD_ACCESSOR",
+            "METHOD_CALL",
+            "SUPER_CALL",
+            "SUPER",
+            "CACHED_SUPER",
+            "PIPE",
+            "MORPH",
+            "DEFAULT_CALL",
+            "ALL_ARGUMENTS",
+            "ARGUMENT_CARRIER",
+            "INVOCATION_HANDLER",
+            "CACHED_INVOCATION_HANDLER",
+            "INVOKE_DYNAMIC"})
+    public Style style;
+
+    /**
+     * A generic {@code int} value.
+     */
+    private int intValue = 42;
+
+    /**
+     * A generic {@code long} value.
+     */
+    private long longValue = 42L;
+
+    /**
+     * A generic {@code double} value.
+     */
+    private double doubleValue = 42d;
+
+    /**
+     * A generic {@link Object} value.
+     */
+    private Object objectValue = new Object();
+
+    /**
+     * A generic {@link String} value.
+     */
+    private String stringValue = "foo";
+
+    /**
+     * An instance of the intercepted specimen.
+     */
+    private ExampleSignatureClass instance;
+
+    /**
+     * Creates an instance of the specimen that is intercepted by the benchmarked style.
+     *
+     * @throws Exception If the instance cannot be created.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        ClassLoader classLoader = style.classLoader();
+        instance = style.apply(new ByteBuddy().subclass(ExampleSignatureClass.class), classLoader)
+                .make()
+                .load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+        style.initialize(instance);
+    }
+
+    /**
+     * Performs a benchmark of an intercepted method invocation with primitive arguments.
+     *
+     * @return The result of the invocation, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public long benchmarkPrimitive() {
+        return instance.primitive(intValue, longValue, doubleValue);
+    }
+
+    /**
+     * Performs a benchmark of an intercepted method invocation with reference arguments.
+     *
+     * @return The result of the invocation, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Object benchmarkReference() {
+        return instance.reference(objectValue, stringValue, objectValue);
+    }
+
+    /**
+     * An interception style that is benchmarked.
+     */
+    public enum Style {
+
+        /**
+         * Invokes the super method directly.
+         */
+        SUPER_METHOD_CALL {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return builder.method(isDeclaredBy(ExampleSignatureClass.class)).intercept(SuperMethodCall.INSTANCE);
+            }
+        },
+
+        /**
+         * Invokes the super method directly but returns a fixed value instead of the super method's return value.
+         */
+        FIXED_VALUE {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return builder.method(named(PRIMITIVE)).intercept(SuperMethodCall.INSTANCE.andThen(FixedValue.value(126L)))
+                        .method(named(REFERENCE)).intercept(SuperMethodCall.INSTANCE.andThen(FixedValue.value("foo")));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that reads a non-intercepted instance of the specimen by a getter that is implemented by a
+         * {@link FieldAccessor} and invokes the intercepted method on this instance.
+         */
+        FIELD_ACCESSOR {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder.implement(TargetAccessor.class)
+                                .method(isDeclaredBy(TargetAccessor.class))
+                                .intercept(FieldAccessor.ofField("target").defineAs(ExampleSignatureClass.class, Visibility.PRIVATE)),
+                        "fieldAccessor",
+                        MethodDelegation.to(PrimitiveInterceptor.class),
+                        MethodDelegation.to(ReferenceInterceptor.class));
+            }
+
+            @Override
+            protected void initialize(ExampleSignatureClass instance) {
+                ((TargetAccessor) instance).setTarget(TARGET);
+            }
+        },
+
+        /**
+         * Invokes the super method by a {@link MethodCall}.
+         */
+        METHOD_CALL {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return builder.method(isDeclaredBy(ExampleSignatureClass.class)).intercept(MethodCall.invokeSuper().withArgument(0, 1, 2));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that invokes the super method by a {@link SuperCall} proxy.
+         */
+        SUPER_CALL {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder, "superCall", MethodDelegation.to(PrimitiveInterceptor.class), MethodDelegation.to(ReferenceInterceptor.class));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that invokes the super method by a {@link Super} proxy.
+         */
+        SUPER {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder, "superProxy", MethodDelegation.to(PrimitiveInterceptor.class), MethodDelegation.to(ReferenceInterceptor.class));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that invokes the super method by a cached {@link Super} proxy.
+         */
+        CACHED_SUPER {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder, "cachedSuperProxy", MethodDelegation.to(PrimitiveInterceptor.class), MethodDelegation.to(ReferenceInterceptor.class));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that pipes the invocation to another instance by a {@link Pipe} proxy.
+         */
+        PIPE {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder,
+                        "pipe",
+                        MethodDelegation.to(PrimitiveInterceptor.class).appendParameterBinder(Pipe.Binder.install(Forwarding.class)),
+                        MethodDelegation.to(ReferenceInterceptor.class).appendParameterBinder(Pipe.Binder.install(Forwarding.class)));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that invokes the super method by a {@link Morph} proxy.
+         */
+        MORPH {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder,
+                        "morph",
+                        MethodDelegation.to(PrimitiveInterceptor.class).appendParameterBinder(Morph.Binder.install(Morphing.class)),
+                        MethodDelegation.to(ReferenceInterceptor.class).appendParameterBinder(Morph.Binder.install(Morphing.class)));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that invokes a default method of the {@link Defaults} interface by a {@link DefaultCall}
+         * proxy where the default method invokes the intercepted method on a non-intercepted instance of the specimen. As this
+         * benchmark is compiled for Java 6, the interface is replaced by an equally named interface with default methods that
+         * is loaded together with the {@link DefaultCallInterceptor} by a child-first class loader. This style requires Java 8.
+         */
+        DEFAULT_CALL {
+            @Override
+            protected ClassLoader classLoader() throws Exception {
+                Map<String, byte[]> typeDefinitions = new HashMap<String, byte[]>();
+                typeDefinitions.put(Defaults.class.getName(), new ByteBuddy(ClassFileVersion.JAVA_V8)
+                        .makeInterface()
+                        .name(Defaults.class.getName())
+                        .defineMethod(PRIMITIVE, long.class, Arrays.<Class<?>>asList(int.class, long.class, double.class), Visibility.PUBLIC)
+                        .intercept(MethodDelegation.to(PrimitiveInterceptor.class).filter(named("forward")))
+                        .defineMethod(REFERENCE, Object.class, Arrays.<Class<?>>asList(Object.class, String.class, Object.class), Visibility.PUBLIC)
+                        .intercept(MethodDelegation.to(ReferenceInterceptor.class).filter(named("forward")))
+                        .make()
+                        .getBytes());
+                typeDefinitions.put(DefaultCallInterceptor.class.getName(), ClassFileLocator.ForClassLoader.read(DefaultCallInterceptor.class).resolve());
+                return new ByteArrayClassLoader.ChildFirst(ExampleSignatureClass.class.getClassLoader(),
+                        typeDefinitions,
+                        null,
+                        AccessController.getContext(),
+                        ByteArrayClassLoader.PersistenceHandler.LATENT,
+                        PackageDefinitionStrategy.NoOp.INSTANCE);
+            }
+
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) throws Exception {
+                Class<?> interceptor = Class.forName(DefaultCallInterceptor.class.getName(), false, classLoader);
+                return builder.implement(Class.forName(Defaults.class.getName(), false, classLoader))
+                        .method(named(PRIMITIVE)).intercept(MethodDelegation.to(interceptor).filter(named(PRIMITIVE)))
+                        .method(named(REFERENCE)).intercept(MethodDelegation.to(interceptor).filter(named(REFERENCE)));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that reads the arguments from an {@link AllArguments} array and invokes the super
+         * method with these arguments by a cached {@link Super} proxy.
+         */
+        ALL_ARGUMENTS {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder, "allArguments", MethodDelegation.to(PrimitiveInterceptor.class), MethodDelegation.to(ReferenceInterceptor.class));
+            }
+        },
+
+        /**
+         * Delegates to an interceptor that reads the arguments from an {@link ArgumentCarrier} and invokes the super method
+         * with these arguments by a cached {@link Super} proxy.
+         */
+        ARGUMENT_CARRIER {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return delegate(builder, "argumentCarrier", MethodDelegation.to(PrimitiveInterceptor.class), MethodDelegation.to(ReferenceInterceptor.class));
+            }
+        },
+
+        /**
+         * Dispatches the invocation to an {@link InvocationHandler}.
+         */
+        INVOCATION_HANDLER {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return builder.method(isDeclaredBy(ExampleSignatureClass.class)).intercept(InvocationHandlerAdapter.of(ForwardingHandler.INSTANCE));
+            }
+        },
+
+        /**
+         * Dispatches the invocation to an {@link InvocationHandler} where the intercepted {@link Method} instances are cached.
+         */
+        CACHED_INVOCATION_HANDLER {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) {
+                return builder.method(isDeclaredBy(ExampleSignatureClass.class))
+                        .intercept(InvocationHandlerAdapter.of(ForwardingHandler.INSTANCE).withMethodCache());
+            }
+        },
+
+        /**
+         * Invokes the super method by an {@link InvokeDynamic} call site that is bound to a method handle of the super method.
+         * The bootstrap method is created when this style is applied and delegates to {@link SuperMethodBootstrap}. This style
+         * requires Java 7.
+         */
+        INVOKE_DYNAMIC {
+            @Override
+            protected DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) throws Exception {
+                Class<?> lookupType = JavaType.METHOD_HANDLES_LOOKUP.load(), methodType = JavaType.METHOD_TYPE.load();
+                Method bootstrap = new ByteBuddy()
+                        .subclass(Object.class)
+                        .defineMethod("bootstrap", JavaType.CALL_SITE.load(), Arrays.<Class<?>>asList(lookupType, String.class, methodType), Visibility.PUBLIC, Ownership.STATIC)
+                        .intercept(MethodDelegation.to(SuperMethodBootstrap.class))
+                        .make()
+                        .load(classLoader, ClassLoadingStrategy.Default.INJECTION)
+                        .getLoaded()
+                        .getMethod("bootstrap", lookupType, String.class, methodType);
+                return builder.method(isDeclaredBy(ExampleSignatureClass.class)).intercept(InvokeDynamic.bootstrap(bootstrap));
+            }
+        };
+
+        /**
+         * Intercepts both specimen methods by delegating to the interceptor methods with the given name.
+         *
+         * @param builder   The builder for the intercepting class.
+         * @param name      The name of the interceptor methods.
+         * @param primitive The delegation to use for the method with primitive arguments.
+         * @param reference The delegation to use for the method with reference arguments.
+         * @return The builder where both specimen methods are intercepted.
+         */
+        private static DynamicType.Builder<ExampleSignatureClass> delegate(DynamicType.Builder<ExampleSignatureClass> builder,
+                                                                           String name,
+                                                                           MethodDelegation primitive,
+                                                                           MethodDelegation reference) {
+            return builder.method(named(PRIMITIVE)).intercept(primitive.filter(named(name)))
+                    .method(named(REFERENCE)).intercept(reference.filter(named(name)));
+        }
+
+        /**
+         * Returns the class loader that loads the intercepting class.
+         *
+         * @return The class loader that loads the intercepting class.
+         * @throws Exception If the class loader cannot be created.
+         */
+        protected ClassLoader classLoader() throws Exception {
+            return ExampleSignatureClass.class.getClassLoader();
+        }
+
+        /**
+         * Applies this interception style to the builder of a subclass of the specimen.
+         *
+         * @param builder     The builder for the intercepting class.
+         * @param classLoader The class loader that loads the intercepting class.
+         * @return The builder where both specimen methods are intercepted.
+         * @throws Exception If an auxiliary type of this style cannot be created.
+         */
+        protected abstract DynamicType.Builder<ExampleSignatureClass> apply(DynamicType.Builder<ExampleSignatureClass> builder, ClassLoader classLoader) throws Exception;
+
+        /**
+         * Initializes an instance of the intercepting class before it is benchmarked.
+         *
+         * @param instance The instance of the intercepting class.
+         */
+        protected void initialize(ExampleSignatureClass instance) {
+            /* do nothing */
+        }
+    }
+
+    /**
+     * A type for forwarding an invocation by a {@link Pipe} proxy.
+     *
+     * @param <T> The return type of the forwarded invocation.
+     * @param <S> The type of the target of the forwarded invocation.
+     */
+    public interface Forwarding<T, S> {
+
+        /**
+         * Forwards the intercepted invocation to the given target.
+         *
+         * @param target The target of the forwarded invocation.
+         * @return The result of the forwarded invocation.
+         */
+        T to(S target);
+    }
+
+    /**
+     * A type for invoking a super method with altered arguments by a {@link Morph} proxy.
+     *
+     * @param <T> The return type of the invocation.
+     */
+    public interface Morphing<T> {
+
+        /**
+         * Invokes the super method with the given arguments.
+         *
+         * @param arguments The arguments of the invocation.
+         * @return The result of the invocation.
+         */
+        T morph(Object[] arguments);
+    }
+
+    /**
+     * A type that is implemented by a {@link FieldAccessor} for accessing a non-intercepted instance of the specimen.
+     */
+    public interface TargetAccessor {
+
+        /**
+         * Returns the non-intercepted instance of the specimen.
+         *
+         * @return The non-intercepted instance of the specimen.
+         */
+        ExampleSignatureClass getTarget();
+
+        /**
+         * Sets the non-intercepted instance of the specimen.
+         *
+         * @param target The non-intercepted instance of the specimen.
+         */
+        void setTarget(ExampleSignatureClass target);
+    }
+
+    /**
+     * An interface for the {@link Style#DEFAULT_CALL} style. As this benchmark is compiled for Java 6, this interface only
+     * declares the specimen's methods abstractly and is replaced by an equally named interface with default methods when
+     * the style is applied.
+     */
+    public interface Defaults {
+
+        /**
+         * Invokes the specimen's method with primitive arguments.
+         *
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the invocation.
+         */
+        long primitive(int first, long second, double third);
+
+        /**
+         * Invokes the specimen's method with reference arguments.
+         *
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the invocation.
+         */
+        Object reference(Object first, String second, Object third);
+    }
+
+    /**
+     * An invocation handler that reflectively dispatches any invocation to a non-intercepted instance of the specimen.
+     */
+    public enum ForwardingHandler implements InvocationHandler {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            return method.invoke(TARGET, arguments);
+        }
+    }
+
+    /**
+     * Interceptors that invoke the default methods of the {@link Defaults} interface. This class is loaded together with the
+     * replaced {@link Defaults} interface such that the explicit target type refers to the interface with default methods.
+     */
+    public static class DefaultCallInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private DefaultCallInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Invokes the default method for the specimen's method with primitive arguments by a {@link DefaultCall} proxy.
+         *
+         * @param zuper A proxy for invoking the default method.
+         * @return The return value of the default method invocation.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        public static long primitive(@DefaultCall(targetType = Defaults.class) Callable<Long> zuper) throws Exception {
+            return zuper.call();
+        }
+
+        /**
+         * Invokes the default method for the specimen's method with reference arguments by a {@link DefaultCall} proxy.
+         *
+         * @param zuper A proxy for invoking the default method.
+         * @return The return value of the default method invocation.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        public static Object reference(@DefaultCall(targetType = Defaults.class) Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+    }
+
+    /**
+     * An implementation of a bootstrap method that binds a call site to a method handle of the super method of the intercepted
+     * method. As this benchmark is compiled against the Java 6 API, the method handle API is invoked reflectively. This only
+     * happens once when a call site is linked and does not affect the benchmarked invocation.
+     */
+    public static class SuperMethodBootstrap {
+
+        /**
+         * The bootstrap's constructor is not supposed to be invoked.
+         */
+        private SuperMethodBootstrap() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Binds a call site to a special method handle of the specimen's method of the given name and type where the call
+         * site's type takes the intercepted instance as its first parameter. The method handle is adapted to the call site's
+         * type which might declare the intercepted instance by the specimen type.
+         *
+         * @param lookup     The lookup of the intercepting class.
+         * @param name       The name of the intercepted method.
+         * @param methodType The type of the call site.
+         * @return A constant call site that invokes the super method.
+         * @throws Exception If the method handle API cannot be invoked.
+         */
+        @RuntimeType
+        public static Object bootstrap(@Argument(0) Object lookup, @Argument(1) String name, @Argument(2) Object methodType) throws Exception {
+            Class<?> lookupType = JavaType.METHOD_HANDLES_LOOKUP.load(),
+                    methodTypeType = JavaType.METHOD_TYPE.load(),
+                    methodHandleType = JavaType.METHOD_HANDLE.load();
+            Object methodHandle = lookupType.getMethod("findSpecial", Class.class, String.class, methodTypeType, Class.class).invoke(lookup,
+                    ExampleSignatureClass.class,
+                    name,
+                    methodTypeType.getMethod("dropParameterTypes", int.class, int.class).invoke(methodType, 0, 1),
+                    lookupType.getMethod("lookupClass").invoke(lookup));
+            return Class.forName("java.lang.invoke.ConstantCallSite")
+                    .getConstructor(methodHandleType)
+                    .newInstance(methodHandleType.getMethod("asType", methodTypeType).invoke(methodHandle, methodType));
+        }
+    }
+
+    /**
+     * Interceptors for the specimen method with primitive arguments.
+     */
+    public static class PrimitiveInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private PrimitiveInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Invokes the super method by a {@link SuperCall} proxy.
+         *
+         * @param zuper A proxy for invoking the super method.
+         * @return The return value of the super method invocation.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        public static long superCall(@SuperCall Callable<Long> zuper) throws Exception {
+            return zuper.call();
+        }
+
+        /**
+         * Invokes the super method by a {@link Super} proxy.
+         *
+         * @param zuper  A proxy for invoking the super method.
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the super method invocation.
+         */
+        public static long superProxy(@Super ExampleSignatureClass zuper, @Argument(0) int first, @Argument(1) long second, @Argument(2) double third) {
+            return zuper.primitive(first, second, third);
+        }
+
+        /**
+         * Invokes the super method by a cached {@link Super} proxy.
+         *
+         * @param zuper  A proxy for invoking the super method.
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the super method invocation.
+         */
+        public static long cachedSuperProxy(@Super(cached = true) ExampleSignatureClass zuper,
+                                            @Argument(0) int first,
+                                            @Argument(1) long second,
+                                            @Argument(2) double third) {
+            return zuper.primitive(first, second, third);
+        }
+
+        /**
+         * Pipes the invocation to a non-intercepted instance of the specimen.
+         *
+         * @param forwarding A proxy for forwarding the invocation.
+         * @return The return value of the forwarded invocation.
+         */
+        public static long pipe(@Pipe Forwarding<Long, ExampleSignatureClass> forwarding) {
+            return forwarding.to(TARGET);
+        }
+
+        /**
+         * Invokes the super method by a {@link Morph} proxy.
+         *
+         * @param morphing  A proxy for invoking the super method.
+         * @param arguments The arguments of the intercepted method.
+         * @return The return value of the super method invocation.
+         */
+        public static long morph(@Morph Morphing<Long> morphing, @AllArguments Object[] arguments) {
+            return morphing.morph(arguments);
+        }
+
+        /**
+         * Invokes the super method by a cached {@link Super} proxy with the arguments of an {@link AllArguments} array.
+         *
+         * @param zuper     A proxy for invoking the super method.
+         * @param arguments The arguments of the intercepted method.
+         * @return The return value of the super method invocation.
+         */
+        public static long allArguments(@Super(cached = true) ExampleSignatureClass zuper, @AllArguments Object[] arguments) {
+            return zuper.primitive((Integer) arguments[0], (Long) arguments[1], (Double) arguments[2]);
+        }
+
+        /**
+         * Invokes the super method by a cached {@link Super} proxy with the arguments of an {@link ArgumentCarrier}.
+         *
+         * @param zuper     A proxy for invoking the super method.
+         * @param arguments The arguments of the intercepted method.
+         * @return The return value of the super method invocation.
+         */
+        public static long argumentCarrier(@Super(cached = true) ExampleSignatureClass zuper, @ArgumentCarrier ArgumentCarrier.Arguments arguments) {
+            return zuper.primitive(arguments.getInt(0), arguments.getLong(1), arguments.getDouble(2));
+        }
+
+        /**
+         * Invokes the intercepted method on a non-intercepted instance of the specimen that is read by a {@link FieldAccessor}.
+         *
+         * @param accessor An accessor for the non-intercepted instance of the specimen.
+         * @param first    The first argument.
+         * @param second   The second argument.
+         * @param third    The third argument.
+         * @return The return value of the invocation.
+         */
+        public static long fieldAccessor(@This TargetAccessor accessor, @Argument(0) int first, @Argument(1) long second, @Argument(2) double third) {
+            return accessor.getTarget().primitive(first, second, third);
+        }
+
+        /**
+         * Invokes the intercepted method on a non-intercepted instance of the specimen. This method implements the default
+         * method that is invoked by {@link DefaultCallInterceptor#primitive(Callable)}.
+         *
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the invocation.
+         */
+        public static long forward(@Argument(0) int first, @Argument(1) long second, @Argument(2) double third) {
+            return TARGET.primitive(first, second, third);
+        }
+    }
+
+    /**
+     * Interceptors for the specimen method with reference arguments.
+     */
+    public static class ReferenceInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private ReferenceInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Invokes the super method by a {@link SuperCall} proxy.
+         *
+         * @param zuper A proxy for invoking the super method.
+         * @return The return value of the super method invocation.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        public static Object superCall(@SuperCall Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+
+        /**
+         * Invokes the super method by a {@link Super} proxy.
+         *
+         * @param zuper  A proxy for invoking the super method.
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the super method invocation.
+         */
+        public static Object superProxy(@Super ExampleSignatureClass zuper, @Argument(0) Object first, @Argument(1) String second, @Argument(2) Object third) {
+            return zuper.reference(first, second, third);
+        }
+
+        /**
+         * Invokes the super method by a cached {@link Super} proxy.
+         *
+         * @param zuper  A proxy for invoking the super method.
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the super method invocation.
+         */
+        public static Object cachedSuperProxy(@Super(cached = true) ExampleSignatureClass zuper,
+                                              @Argument(0) Object first,
+                                              @Argument(1) String second,
+                                              @Argument(2) Object third) {
+            return zuper.reference(first, second, third);
+        }
+
+        /**
+         * Pipes the invocation to a non-intercepted instance of the specimen.
+         *
+         * @param forwarding A proxy for forwarding the invocation.
+         * @return The return value of the forwarded invocation.
+         */
+        public static Object pipe(@Pipe Forwarding<Object, ExampleSignatureClass> forwarding) {
+            return forwarding.to(TARGET);
+        }
+
+        /**
+         * Invokes the super method by a {@link Morph} proxy.
+         *
+         * @param morphing  A proxy for invoking the super method.
+         * @param arguments The arguments of the intercepted method.
+         * @return The return value of the super method invocation.
+         */
+        public static Object morph(@Morph Morphing<Object> morphing, @AllArguments Object[] arguments) {
+            return morphing.morph(arguments);
+        }
+
+        /**
+         * Invokes the super method by a cached {@link Super} proxy with the arguments of an {@link AllArguments} array.
+         *
+         * @param zuper     A proxy for invoking the super method.
+         * @param arguments The arguments of the intercepted method.
+         * @return The return value of the super method invocation.
+         */
+        public static Object allArguments(@Super(cached = true) ExampleSignatureClass zuper, @AllArguments Object[] arguments) {
+            return zuper.reference(arguments[0], (String) arguments[1], arguments[2]);
+        }
+
+        /**
+         * Invokes the super method by a cached {@link Super} proxy with the arguments of an {@link ArgumentCarrier}.
+         *
+         * @param zuper     A proxy for invoking the super method.
+         * @param arguments The arguments of the intercepted method.
+         * @return The return value of the super method invocation.
+         */
+        public static Object argumentCarrier(@Super(cached = true) ExampleSignatureClass zuper, @ArgumentCarrier ArgumentCarrier.Arguments arguments) {
+            return zuper.reference(arguments.get(0), (String) arguments.get(1), arguments.get(2));
+        }
+
+        /**
+         * Invokes the intercepted method on a non-intercepted instance of the specimen that is read by a {@link FieldAccessor}.
+         *
+         * @param accessor An accessor for the non-intercepted instance of the specimen.
+         * @param first    The first argument.
+         * @param second   The second argument.
+         * @param third    The third argument.
+         * @return The return value of the invocation.
+         */
+        public static Object fieldAccessor(@This TargetAccessor accessor, @Argument(0) Object first, @Argument(1) String second, @Argument(2) Object third) {
+            return accessor.getTarget().reference(first, second, third);
+        }
+
+        /**
+         * Invokes the intercepted method on a non-intercepted instance of the specimen. This method implements the default
+         * method that is invoked by {@link DefaultCallInterceptor#reference(Callable)}.
+         *
+         * @param first  The first argument.
+         * @param second The second argument.
+         * @param third  The third argument.
+         * @return The return value of the invocation.
+         */
+        public static Object forward(@Argument(0) Object first, @Argument(1) String second, @Argument(2) Object third) {
+            return TARGET.reference(first, second, third);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.any;
+
+/**
+ * <p>
+ * A benchmark for defining a type with a large number of fields and methods where each member is added by an individual
+ * step of a builder chain. This benchmark intends to measure the overhead of Byte Buddy's immutable builder API for code
+ * generators that define members programmatically.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LargeTypeDefinitionBenchmark {
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    public static final Class<?> BASE_CLASS = Object.class;
+
+    /**
+     * The number of fields and the number of methods that are defined by each benchmark.
+     */
+    public static final int DEFINITIONS = 1000;
+
+    /**
+     * The prefix of the names of any defined field.
+     */
+    public static final String FIELD_PREFIX = "field";
+
+    /**
+     * The prefix of the names of any defined method.
+     */
+    public static final String METHOD_PREFIX = "method";
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    private Class<?> baseClass = BASE_CLASS;
+
+    /**
+     * The number of fields and the number of methods that are defined by each benchmark.
+     */
+    private int definitions = DEFINITIONS;
+
+    /**
+     * The zero-length of the class loader's URL.
+     */
+    private int urlLength = 0;
+
+    /**
+     * Creates a new class loader. By using a fresh class loader for each creation, we avoid name space issues.
+     * A class loader's creation is part of the benchmark but since any test creates a class loader exactly once,
+     * the benchmark remains valid.
+     *
+     * @return A new class loader.
+     */
+    private ClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[urlLength]);
+    }
+
+    /**
+     * Defines all fields and methods on a new builder.
+     *
+     * @return A builder that defines all fields and methods.
+     */
+    private DynamicType.Builder<?> define() {
+        DynamicType.Builder<?> builder = new ByteBuddy()
+                .withIgnoredMethods(any())
+                .subclass(baseClass);
+        for (int index = 0; index < definitions; index++) {
+            builder = builder.defineField(FIELD_PREFIX + index, int.class, Modifier.PUBLIC)
+                    .defineMethod(METHOD_PREFIX + index, void.class, Collections.<Class<?>>emptyList(), Modifier.PUBLIC)
+                    .intercept(StubMethod.INSTANCE);
+        }
+        return builder;
+    }
+
+    /**
+     * Performs a benchmark for defining a type with a large number of fields and methods using Byte Buddy's builder API
+     * without creating the type.
+     *
+     * @return The created builder, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public DynamicType.Builder<?> benchmarkByteBuddyDefinition() {
+        return define();
+    }
+
+    /**
+     * Performs a benchmark for defining and creating a type with a large number of fields and methods using Byte Buddy.
+     *
+     * @return The created type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Class<?> benchmarkByteBuddyCreation() {
+        return define()
+                .make()
+                .load(newClassLoader(), ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded();
+    }
+}
@@ -0,0 +1,32 @@
+package net.bytebuddy.benchmark.specimen;
+
+/**
+ * An example class with a method that only takes primitive arguments and a method that only takes reference arguments
+ * which is used as a specimen in benchmarks.
+ */
+public class ExampleSignatureClass {
+
+    /**
+     * An example method with primitive arguments only.
+     *
+     * @param first  The first argument.
+     * @param second The second argument.
+     * @param third  The third argument.
+     * @return The sum of all arguments.
+     */
+    public long primitive(int first, long second, double third) {
+        return first + second + (long) third;
+    }
+
+    /**
+     * An example method with reference arguments only.
+     *
+     * @param first  The first argument.
+     * @param second The second argument.
+     * @param third  The third argument.
+     * @return The second argument.
+     */
+    public Object reference(Object first, String second, Object third) {
+        return second;
+    }
+}
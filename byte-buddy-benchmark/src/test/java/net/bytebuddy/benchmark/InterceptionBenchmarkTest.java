@@ -0,0 +1,39 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ClassFileVersion;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class InterceptionBenchmarkTest {
+
+    private static final long PRIMITIVE_RESULT = 126L;
+
+    private static final String REFERENCE_RESULT = "foo";
+
+    private static boolean isSupported(InterceptionBenchmark.Style style) {
+        switch (style) {
+            case INVOKE_DYNAMIC:
+                return ClassFileVersion.forCurrentJavaVersion().isAtLeast(ClassFileVersion.JAVA_V7);
+            case DEFAULT_CALL:
+                return ClassFileVersion.forCurrentJavaVersion().isAtLeast(ClassFileVersion.JAVA_V8);
+            default:
+                return true;
+        }
+    }
+
+    @Test
+    public void testAllStyles() throws Exception {
+        for (InterceptionBenchmark.Style style : InterceptionBenchmark.Style.values()) {
+            if (!isSupported(style)) {
+                continue;
+            }
+            InterceptionBenchmark interceptionBenchmark = new InterceptionBenchmark();
+            interceptionBenchmark.style = style;
+            interceptionBenchmark.setUp();
+            assertThat(interceptionBenchmark.benchmarkPrimitive(), is(PRIMITIVE_RESULT));
+            assertThat(interceptionBenchmark.benchmarkReference(), is((Object) REFERENCE_RESULT));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class LargeTypeDefinitionBenchmarkTest {
+
+    private LargeTypeDefinitionBenchmark largeTypeDefinitionBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        largeTypeDefinitionBenchmark = new LargeTypeDefinitionBenchmark();
+    }
+
+    @Test
+    public void testByteBuddyDefinition() throws Exception {
+        assertNotNull(largeTypeDefinitionBenchmark.benchmarkByteBuddyDefinition());
+    }
+
+    @Test
+    public void testByteBuddyCreation() throws Exception {
+        Class<?> type = largeTypeDefinitionBenchmark.benchmarkByteBuddyCreation();
+        assertNotEquals(LargeTypeDefinitionBenchmark.BASE_CLASS, type);
+        assertEquals(LargeTypeDefinitionBenchmark.BASE_CLASS, type.getSuperclass());
+        assertEquals(LargeTypeDefinitionBenchmark.DEFINITIONS, type.getDeclaredFields().length);
+        assertEquals(LargeTypeDefinitionBenchmark.DEFINITIONS, type.getDeclaredMethods().length);
+        assertNotNull(type.getDeclaredMethod(LargeTypeDefinitionBenchmark.METHOD_PREFIX + 0));
+        assertNotNull(type.getDeclaredField(LargeTypeDefinitionBenchmark.FIELD_PREFIX + 0));
+    }
+}
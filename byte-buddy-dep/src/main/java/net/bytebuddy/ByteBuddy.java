@@ -230,7 +230,7 @@ public class ByteBuddy {
      * @return A dynamic type builder for this configuration that extends or implements the given loaded type.
      */
     public <T> DynamicType.Builder<T> subclass(Class<T> superType) {
-        return subclass(new TypeDescription.ForLoadedType(nonNull(superType)));
+        return subclass(superType, ConstructorStrategy.Default.IMITATE_SUPER_TYPE);
     }
 
     /**
@@ -242,7 +242,9 @@ public class ByteBuddy {
      * @return A dynamic type builder for this configuration that extends or implements the given loaded type.
      */
     public <T> DynamicType.Builder<T> subclass(Class<T> superType, ConstructorStrategy constructorStrategy) {
-        return subclass(new TypeDescription.ForLoadedType(nonNull(superType)), constructorStrategy);
+        return subclass(new TypeDescription.ForLoadedType(nonNull(superType)),
+                constructorStrategy,
+                ClassFileLocator.ForClassLoader.of(superType.getClassLoader()));
     }
 
     /**
@@ -267,6 +269,19 @@ public class ByteBuddy {
      * @return A dynamic type builder for this configuration that extends or implements the given type description.
      */
     public <T> DynamicType.Builder<T> subclass(TypeDescription superType, ConstructorStrategy constructorStrategy) {
+        return subclass(superType, constructorStrategy, ClassFileLocator.ForClassLoader.ofClassPath());
+    }
+
+    /**
+     * Creates a dynamic type builder that creates a subclass of a given type description.
+     *
+     * @param superType           The type or interface to be extended or implemented by the dynamic type.
+     * @param constructorStrategy The constructor strategy to apply.
+     * @param classFileLocator    The class file locator to use for resolving types when computing stack map frames.
+     * @param <T>                 The most specific known type that the created dynamic type represents.
+     * @return A dynamic type builder for this configuration that extends or implements the given type description.
+     */
+    private <T> DynamicType.Builder<T> subclass(TypeDescription superType, ConstructorStrategy constructorStrategy, ClassFileLocator classFileLocator) {
         TypeDescription actualSuperType = isExtendable(superType);
         List<TypeDescription> interfaceTypes = this.interfaceTypes;
         if (nonNull(superType).isInterface()) {
@@ -288,7 +303,8 @@ public class ByteBuddy {
                 methodGraphCompiler,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
-                nonNull(constructorStrategy));
+                nonNull(constructorStrategy),
+                classFileLocator);
     }
 
     /**
@@ -369,7 +385,8 @@ public class ByteBuddy {
                 methodGraphCompiler,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
-                ConstructorStrategy.Default.NO_CONSTRUCTORS);
+                ConstructorStrategy.Default.NO_CONSTRUCTORS,
+                ClassFileLocator.ForClassLoader.ofClassPath());
     }
 
     /**
@@ -395,7 +412,8 @@ public class ByteBuddy {
                 methodGraphCompiler,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
-                ConstructorStrategy.Default.NO_CONSTRUCTORS);
+                ConstructorStrategy.Default.NO_CONSTRUCTORS,
+                ClassFileLocator.ForClassLoader.ofClassPath());
     }
 
     /**
@@ -444,7 +462,8 @@ public class ByteBuddy {
                 methodGraphCompiler,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
-                ConstructorStrategy.Default.NO_CONSTRUCTORS);
+                ConstructorStrategy.Default.NO_CONSTRUCTORS,
+                ClassFileLocator.ForClassLoader.ofClassPath());
     }
 
     /**
@@ -11,6 +11,9 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A naming strategy for finding a fully qualified name for a Java type.
@@ -374,6 +377,92 @@ public interface NamingStrategy {
                         '}';
             }
         }
+
+        /**
+         * An unbound naming strategy that names subclasses and created types similarly to the {@link Default} naming strategy
+         * but using a {@link net.bytebuddy.NamingStrategy.SuffixingHash} instead of a random suffix such that type names are
+         * reproducible. All naming strategies that are created by this unbound naming strategy share a single
+         * {@link net.bytebuddy.NamingStrategy.SuffixingHash.Registry} such that repeatedly created types with the same
+         * configuration are enumerated instead of receiving the same name.
+         */
+        class Hashing implements Unbound {
+
+            /**
+             * The suffix to apply for generated names.
+             */
+            private final String suffix;
+
+            /**
+             * The registry of names that were issued by this unbound naming strategy.
+             */
+            private final SuffixingHash.Registry registry;
+
+            /**
+             * Creates a new hashing unbound naming strategy.
+             *
+             * @param suffix The suffix to apply for generated names.
+             */
+            public Hashing(String suffix) {
+                this(suffix, new SuffixingHash.Registry());
+            }
+
+            /**
+             * Creates a new hashing unbound naming strategy.
+             *
+             * @param suffix   The suffix to apply for generated names.
+             * @param registry The registry of names that were issued by this unbound naming strategy.
+             */
+            protected Hashing(String suffix, SuffixingHash.Registry registry) {
+                this.suffix = suffix;
+                this.registry = registry;
+            }
+
+            @Override
+            public NamingStrategy subclass(TypeDescription typeDescription) {
+                return new SuffixingHash(suffix,
+                        new SuffixingRandom.BaseNameResolver.ForGivenType(typeDescription),
+                        SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE,
+                        registry);
+            }
+
+            @Override
+            public NamingStrategy redefine(TypeDescription typeDescription) {
+                return new Fixed(typeDescription.getName());
+            }
+
+            @Override
+            public NamingStrategy rebase(TypeDescription typeDescription) {
+                return new Fixed(typeDescription.getName());
+            }
+
+            @Override
+            public NamingStrategy create() {
+                return new SuffixingHash(suffix,
+                        new SuffixingRandom.BaseNameResolver.ForFixedValue(Default.CREATION_NAME),
+                        SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE,
+                        registry);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && suffix.equals(((Hashing) other).suffix)
+                        && registry.equals(((Hashing) other).registry);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * suffix.hashCode() + registry.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "NamingStrategy.Unbound.Hashing{" +
+                        "suffix='" + suffix + '\'' +
+                        ", registry=" + registry +
+                        '}';
+            }
+        }
     }
 
     /**
@@ -400,7 +489,7 @@ public interface NamingStrategy {
          * The package prefix of the {@code java.**} packages for which the definition of non-bootstrap types is
          * illegal.
          */
-        private static final String JAVA_PACKAGE = "java.";
+        protected static final String JAVA_PACKAGE = "java.";
 
         /**
          * The suffix to attach to a super type name.
@@ -619,6 +708,220 @@ public interface NamingStrategy {
         }
     }
 
+    /**
+     * <p>
+     * A naming strategy that creates a name by concatenating:
+     * </p>
+     * <ol>
+     * <li>The super classes package and name</li>
+     * <li>A given suffix string</li>
+     * <li>A hash value of the unnamed type's super class, interfaces, modifiers and class file version</li>
+     * </ol>
+     * <p>
+     * Other than with a {@link net.bytebuddy.NamingStrategy.SuffixingRandom} naming strategy, a name only depends on the
+     * unnamed type such that repeated runs yield the same names and therefore the same class files. If a name was already
+     * issued by the same {@link net.bytebuddy.NamingStrategy.SuffixingHash.Registry}, the name is appended the number of
+     * times it was previously issued. The naming strategy does not require any random number generation and the registry
+     * is safe for concurrent use. Types within the {@code java.**} packages are renamed as by a
+     * {@link net.bytebuddy.NamingStrategy.SuffixingRandom} naming strategy.
+     * </p>
+     */
+    class SuffixingHash implements NamingStrategy {
+
+        /**
+         * The suffix to attach to a super type name.
+         */
+        private final String suffix;
+
+        /**
+         * A resolver for the base name for naming the unnamed type.
+         */
+        private final SuffixingRandom.BaseNameResolver baseNameResolver;
+
+        /**
+         * The renaming location for types of the {@code java.**} packages.
+         */
+        private final String javaLangPackagePrefix;
+
+        /**
+         * The registry of names that were issued by this naming strategy.
+         */
+        private final Registry registry;
+
+        /**
+         * Creates a new suffixing hash naming strategy that derives all names from the unnamed type's super type.
+         *
+         * @param suffix The suffix for the generated class.
+         */
+        public SuffixingHash(String suffix) {
+            this(suffix, SuffixingRandom.BaseNameResolver.ForUnnamedType.INSTANCE);
+        }
+
+        /**
+         * Creates a new suffixing hash naming strategy.
+         *
+         * @param suffix           The suffix for the generated class.
+         * @param baseNameResolver The base name resolver that is queried for locating the base name.
+         */
+        public SuffixingHash(String suffix, SuffixingRandom.BaseNameResolver baseNameResolver) {
+            this(suffix, baseNameResolver, SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE, new Registry());
+        }
+
+        /**
+         * Creates a new suffixing hash naming strategy.
+         *
+         * @param suffix                The suffix for the generated class.
+         * @param baseNameResolver      The base name resolver that is queried for locating the base name.
+         * @param javaLangPackagePrefix The fallback namespace for type's that subclass types within the
+         *                              {@code java.lang} namespace.
+         * @param registry              The registry of names that were issued by this naming strategy.
+         */
+        public SuffixingHash(String suffix, SuffixingRandom.BaseNameResolver baseNameResolver, String javaLangPackagePrefix, Registry registry) {
+            this.suffix = suffix;
+            this.baseNameResolver = baseNameResolver;
+            this.javaLangPackagePrefix = javaLangPackagePrefix;
+            this.registry = registry;
+        }
+
+        /**
+         * Computes a hash value of an unnamed type's properties that is stable between different runs of a JVM.
+         *
+         * @param unnamedType The unnamed type to hash.
+         * @return A stable hash value of the unnamed type.
+         */
+        private static int hashOf(UnnamedType unnamedType) {
+            int result = unnamedType.getSuperClass().asErasure().getName().hashCode();
+            for (GenericTypeDescription interfaceType : unnamedType.getDeclaredInterfaces()) {
+                result = 31 * result + interfaceType.asErasure().getName().hashCode();
+            }
+            result = 31 * result + unnamedType.getVisibility().name().hashCode();
+            result = 31 * result + unnamedType.getTypeManifestation().name().hashCode();
+            result = 31 * result + unnamedType.getSyntheticState().name().hashCode();
+            result = 31 * result + unnamedType.getEnumerationState().name().hashCode();
+            result = 31 * result + unnamedType.getClassFileVersion().getMinorMajorVersion();
+            return result;
+        }
+
+        @Override
+        public String name(UnnamedType unnamedType) {
+            String baseName = baseNameResolver.resolve(unnamedType);
+            if (baseName.startsWith(SuffixingRandom.JAVA_PACKAGE)) {
+                baseName = javaLangPackagePrefix + "." + baseName;
+            }
+            return registry.issue(String.format("%s$%s$%s", baseName, suffix, RandomString.hashOf(hashOf(unnamedType))));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            SuffixingHash that = (SuffixingHash) other;
+            return javaLangPackagePrefix.equals(that.javaLangPackagePrefix)
+                    && suffix.equals(that.suffix)
+                    && baseNameResolver.equals(that.baseNameResolver)
+                    && registry.equals(that.registry);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = suffix.hashCode();
+            result = 31 * result + javaLangPackagePrefix.hashCode();
+            result = 31 * result + baseNameResolver.hashCode();
+            result = 31 * result + registry.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "NamingStrategy.SuffixingHash{" +
+                    "suffix='" + suffix + '\'' +
+                    ", baseNameResolver=" + baseNameResolver +
+                    ", javaLangPackagePrefix='" + javaLangPackagePrefix + '\'' +
+                    ", registry=" + registry +
+                    '}';
+        }
+
+        /**
+         * A registry of issued names that enumerates any name that is issued repeatedly. A registry only records a bounded number
+         * of names. Once this bound is reached, any name that was not yet recorded is appended a random suffix instead such that
+         * such names are no longer reproducible. A registry is safe for concurrent use. Two registries are only equal if they are
+         * the same instance.
+         */
+        public static class Registry {
+
+            /**
+             * The default maximum number of names that are recorded by a registry.
+             */
+            public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+            /**
+             * A mapping of issued names to the number of times they were issued.
+             */
+            private final ConcurrentMap<String, AtomicInteger> names;
+
+            /**
+             * The maximum number of names that are recorded by this registry.
+             */
+            private final int maximumSize;
+
+            /**
+             * A generator for the suffixes of names that are issued once the maximum number of names is recorded.
+             */
+            private final RandomString randomString;
+
+            /**
+             * Creates a new, empty registry that records up to {@link Registry#DEFAULT_MAXIMUM_SIZE} names.
+             */
+            public Registry() {
+                this(DEFAULT_MAXIMUM_SIZE);
+            }
+
+            /**
+             * Creates a new, empty registry.
+             *
+             * @param maximumSize The maximum number of names that are recorded by this registry.
+             */
+            public Registry(int maximumSize) {
+                names = new ConcurrentHashMap<String, AtomicInteger>();
+                this.maximumSize = maximumSize;
+                randomString = new RandomString();
+            }
+
+            /**
+             * Issues a name. If the name was issued before, the name is appended the number of its previous issues. If the name
+             * was not issued before but this registry already records its maximum number of names, a random suffix is appended.
+             *
+             * @param name The name to issue.
+             * @return A name that was not yet issued by this registry.
+             */
+            public String issue(String name) {
+                AtomicInteger counter = names.get(name);
+                if (counter == null) {
+                    if (names.size() >= maximumSize) {
+                        return name + "$" + randomString.nextString();
+                    }
+                    AtomicInteger previous = names.putIfAbsent(name, counter = new AtomicInteger());
+                    if (previous != null) {
+                        counter = previous;
+                    }
+                }
+                int index = counter.getAndIncrement();
+                return index == 0
+                        ? name
+                        : name + "$" + index;
+            }
+
+            @Override
+            public String toString() {
+                return "NamingStrategy.SuffixingHash.Registry{" +
+                        "names=" + names +
+                        ", maximumSize=" + maximumSize +
+                        ", randomString=" + randomString +
+                        '}';
+            }
+        }
+    }
+
     /**
      * A naming strategy that creates a name by prefixing a given class and its package with another package and
      * by appending a random number to the class's simple name.
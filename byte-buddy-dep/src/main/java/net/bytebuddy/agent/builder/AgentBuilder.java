@@ -20,10 +20,13 @@ import net.bytebuddy.implementation.bytecode.constant.NullConstant;
 import net.bytebuddy.implementation.bytecode.constant.TextConstant;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.matcher.HierarchyIndex;
 import net.bytebuddy.pool.TypePool;
 import org.objectweb.asm.MethodVisitor;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.instrument.ClassDefinition;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
@@ -34,6 +37,8 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
@@ -334,6 +339,208 @@ public interface AgentBuilder {
                         '}';
             }
         }
+
+        /**
+         * A raw matcher that resolves a type's hierarchy from the {@link HierarchyIndex} of the class loader that loads the type. As a
+         * hierarchy index identifies types by their names, an index must not be shared among class loaders that define types of the
+         * same name, as it is typical for an agent. This matcher therefore queries the index that is registered for the instrumented
+         * type's class loader.
+         */
+        class ForHierarchyIndex implements RawMatcher {
+
+            /**
+             * The registry of hierarchy indices for each class loader.
+             */
+            private final HierarchyIndex.PerClassLoader hierarchyIndices;
+
+            /**
+             * The indexed matcher to apply.
+             */
+            private final IndexedMatcher indexedMatcher;
+
+            /**
+             * Creates a new raw matcher for a hierarchy index.
+             *
+             * @param hierarchyIndices The registry of hierarchy indices for each class loader.
+             * @param indexedMatcher   The indexed matcher to apply.
+             */
+            public ForHierarchyIndex(HierarchyIndex.PerClassLoader hierarchyIndices, IndexedMatcher indexedMatcher) {
+                this.hierarchyIndices = hierarchyIndices;
+                this.indexedMatcher = indexedMatcher;
+            }
+
+            /**
+             * Creates a raw matcher that matches any sub type of the given type.
+             *
+             * @param type             The type to be checked being a super type of the matched type.
+             * @param hierarchyIndices The registry of hierarchy indices for each class loader.
+             * @return A raw matcher that matches any sub type of the given type.
+             */
+            public static RawMatcher isSubTypeOf(Class<?> type, HierarchyIndex.PerClassLoader hierarchyIndices) {
+                return isSubTypeOf(TypeDescription.ForLoadedType.of(nonNull(type)), hierarchyIndices);
+            }
+
+            /**
+             * Creates a raw matcher that matches any sub type of the given type.
+             *
+             * @param typeDescription  The type to be checked being a super type of the matched type.
+             * @param hierarchyIndices The registry of hierarchy indices for each class loader.
+             * @return A raw matcher that matches any sub type of the given type.
+             */
+            public static RawMatcher isSubTypeOf(TypeDescription typeDescription, HierarchyIndex.PerClassLoader hierarchyIndices) {
+                return new ForHierarchyIndex(nonNull(hierarchyIndices), new IndexedMatcher.ForSubType(nonNull(typeDescription)));
+            }
+
+            /**
+             * Creates a raw matcher that matches any type that declares or inherits an annotation of the given type.
+             *
+             * @param type             The annotation type to be matched.
+             * @param hierarchyIndices The registry of hierarchy indices for each class loader.
+             * @return A raw matcher that matches any type that declares or inherits an annotation of the given type.
+             */
+            public static RawMatcher inheritsAnnotation(Class<?> type, HierarchyIndex.PerClassLoader hierarchyIndices) {
+                return inheritsAnnotation(TypeDescription.ForLoadedType.of(nonNull(type)), hierarchyIndices);
+            }
+
+            /**
+             * Creates a raw matcher that matches any type that declares or inherits an annotation of the given type.
+             *
+             * @param typeDescription  The annotation type to be matched.
+             * @param hierarchyIndices The registry of hierarchy indices for each class loader.
+             * @return A raw matcher that matches any type that declares or inherits an annotation of the given type.
+             */
+            public static RawMatcher inheritsAnnotation(TypeDescription typeDescription, HierarchyIndex.PerClassLoader hierarchyIndices) {
+                return new ForHierarchyIndex(nonNull(hierarchyIndices), new IndexedMatcher.ForInheritedAnnotation(nonNull(typeDescription)));
+            }
+
+            @Override
+            public boolean matches(TypeDescription typeDescription,
+                                   ClassLoader classLoader,
+                                   Class<?> classBeingRedefined,
+                                   ProtectionDomain protectionDomain) {
+                return indexedMatcher.resolve(hierarchyIndices.locate(classLoader)).matches(typeDescription);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && hierarchyIndices.equals(((ForHierarchyIndex) other).hierarchyIndices)
+                        && indexedMatcher.equals(((ForHierarchyIndex) other).indexedMatcher);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * hierarchyIndices.hashCode() + indexedMatcher.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.RawMatcher.ForHierarchyIndex{" +
+                        "hierarchyIndices=" + hierarchyIndices +
+                        ", indexedMatcher=" + indexedMatcher +
+                        '}';
+            }
+
+            /**
+             * A matcher that queries a hierarchy index.
+             */
+            public interface IndexedMatcher {
+
+                /**
+                 * Resolves an element matcher that queries the given hierarchy index.
+                 *
+                 * @param hierarchyIndex The hierarchy index of the class loader of the matched type.
+                 * @return An element matcher that queries the given hierarchy index.
+                 */
+                ElementMatcher<? super TypeDescription> resolve(HierarchyIndex hierarchyIndex);
+
+                /**
+                 * An indexed matcher that matches any sub type of a given type.
+                 */
+                class ForSubType implements IndexedMatcher {
+
+                    /**
+                     * The type to be checked being a super type of the matched type.
+                     */
+                    private final TypeDescription superType;
+
+                    /**
+                     * Creates an indexed matcher for sub types.
+                     *
+                     * @param superType The type to be checked being a super type of the matched type.
+                     */
+                    public ForSubType(TypeDescription superType) {
+                        this.superType = superType;
+                    }
+
+                    @Override
+                    public ElementMatcher<? super TypeDescription> resolve(HierarchyIndex hierarchyIndex) {
+                        return ElementMatchers.isSubTypeOf(superType, hierarchyIndex);
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && superType.equals(((ForSubType) other).superType);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return superType.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "AgentBuilder.RawMatcher.ForHierarchyIndex.IndexedMatcher.ForSubType{" +
+                                "superType=" + superType +
+                                '}';
+                    }
+                }
+
+                /**
+                 * An indexed matcher that matches any type that declares or inherits an annotation of a given type.
+                 */
+                class ForInheritedAnnotation implements IndexedMatcher {
+
+                    /**
+                     * The annotation type to be matched.
+                     */
+                    private final TypeDescription annotationType;
+
+                    /**
+                     * Creates an indexed matcher for inherited annotations.
+                     *
+                     * @param annotationType The annotation type to be matched.
+                     */
+                    public ForInheritedAnnotation(TypeDescription annotationType) {
+                        this.annotationType = annotationType;
+                    }
+
+                    @Override
+                    public ElementMatcher<? super TypeDescription> resolve(HierarchyIndex hierarchyIndex) {
+                        return ElementMatchers.inheritsAnnotation(annotationType, hierarchyIndex);
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && annotationType.equals(((ForInheritedAnnotation) other).annotationType);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return annotationType.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "AgentBuilder.RawMatcher.ForHierarchyIndex.IndexedMatcher.ForInheritedAnnotation{" +
+                                "annotationType=" + annotationType +
+                                '}';
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -591,6 +798,313 @@ public interface AgentBuilder {
                 return "AgentBuilder.BinaryLocator.ClassLoading." + name();
             }
         }
+
+        /**
+         * <p>
+         * A binary locator that shares a single type pool cache for all types of a given class loader and that is capable of
+         * pre-parsing the class files of a class path into this cache by a {@link Runnable} that the user schedules on a
+         * thread of its choice. Doing so, type descriptions are already cached when a type is loaded for the first time such
+         * that a class loading thread is not required to parse the type and its hierarchy. For any other class loader, this
+         * binary locator behaves as {@link net.bytebuddy.agent.builder.AgentBuilder.BinaryLocator.Default}.
+         * </p>
+         * <p>
+         * <b>Important</b>: By default, cached type descriptions are referenced softly such that they are only discarded
+         * when memory runs short. A cached type description describes the class file as it is found by its class loader. This
+         * binary locator should therefore not be used if another transformer might apply changes to the class file before it is
+         * handed to a transformer that applies this binary locator.
+         * </p>
+         */
+        class Prewarming implements BinaryLocator {
+
+            /**
+             * The file extension of a class file.
+             */
+            private static final String CLASS_FILE_EXTENSION = ".class";
+
+            /**
+             * The name of the system property that contains the system class path.
+             */
+            private static final String CLASS_PATH_PROPERTY = "java.class.path";
+
+            /**
+             * The reader mode to apply by this binary locator.
+             */
+            private final TypePool.Default.ReaderMode readerMode;
+
+            /**
+             * The class loader for which type descriptions are cached.
+             */
+            private final ClassLoader classLoader;
+
+            /**
+             * The cache provider that is shared by all type pools of the cached class loader.
+             */
+            private final TypePool.CacheProvider cacheProvider;
+
+            /**
+             * Creates a new pre-warming binary locator.
+             *
+             * @param readerMode  The reader mode to apply by this binary locator.
+             * @param classLoader The class loader for which type descriptions are cached.
+             */
+            public Prewarming(TypePool.Default.ReaderMode readerMode, ClassLoader classLoader) {
+                this(readerMode, classLoader, new TypePool.CacheProvider.Soft());
+            }
+
+            /**
+             * Creates a new pre-warming binary locator.
+             *
+             * @param readerMode    The reader mode to apply by this binary locator.
+             * @param classLoader   The class loader for which type descriptions are cached.
+             * @param cacheProvider The cache provider that is shared by all type pools of the cached class loader.
+             */
+            protected Prewarming(TypePool.Default.ReaderMode readerMode, ClassLoader classLoader, TypePool.CacheProvider cacheProvider) {
+                this.readerMode = readerMode;
+                this.classLoader = classLoader;
+                this.cacheProvider = cacheProvider;
+            }
+
+            /**
+             * Creates a binary locator that caches the type descriptions of the system class loader. The cache is not
+             * warmed up before {@link Prewarming#warmUp(String...)} is executed.
+             *
+             * @param readerMode The reader mode to apply by this binary locator.
+             * @return A binary locator for the system class loader.
+             */
+            public static Prewarming ofSystemClassPath(TypePool.Default.ReaderMode readerMode) {
+                return new Prewarming(readerMode, ClassLoader.getSystemClassLoader());
+            }
+
+            /**
+             * Creates a task for pre-parsing all types of the system class path into this binary locator's cache. Types
+             * within any of the given packages are parsed first such that types that are relevant to an agent's matchers
+             * should be named. The returned task can be executed by any thread, for example by a daemon thread of minimal
+             * priority.
+             *
+             * @param priorityPackages The names of packages, including their sub packages, whose types are pre-parsed first.
+             * @return A task for warming up this binary locator with the types of the system class path.
+             */
+            public Runnable warmUp(String... priorityPackages) {
+                List<File> classPath = new ArrayList<File>();
+                for (String element : System.getProperty(CLASS_PATH_PROPERTY, "").split(File.pathSeparator)) {
+                    if (element.length() > 0) {
+                        classPath.add(new File(element));
+                    }
+                }
+                return warmUp(classPath, Arrays.asList(priorityPackages));
+            }
+
+            /**
+             * Creates a task for pre-parsing all types of the given class path into this binary locator's cache. The types
+             * must be visible to the class loader of this binary locator. The returned task can be executed by any thread.
+             *
+             * @param classPath        The jar files and folders to scan for class files.
+             * @param priorityPackages The names of packages, including their sub packages, whose types are pre-parsed first.
+             * @return A task for warming up this binary locator.
+             */
+            public Runnable warmUp(List<? extends File> classPath, List<String> priorityPackages) {
+                return new WarmUp(classPath, priorityPackages);
+            }
+
+            @Override
+            public ClassFileLocator classFileLocator(ClassLoader classLoader) {
+                return ClassFileLocator.ForClassLoader.of(classLoader);
+            }
+
+            @Override
+            public TypePool typePool(ClassFileLocator classFileLocator, ClassLoader classLoader) {
+                return new TypePool.LazyFacade(TypePool.Default.Precomputed.withObjectType(classLoader == this.classLoader
+                        ? cacheProvider
+                        : new TypePool.CacheProvider.Simple(), classFileLocator, readerMode));
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Prewarming that = (Prewarming) other;
+                return readerMode == that.readerMode
+                        && !(classLoader != null ? !classLoader.equals(that.classLoader) : that.classLoader != null)
+                        && cacheProvider.equals(that.cacheProvider);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = readerMode.hashCode();
+                result = 31 * result + (classLoader != null ? classLoader.hashCode() : 0);
+                result = 31 * result + cacheProvider.hashCode();
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.BinaryLocator.Prewarming{" +
+                        "readerMode=" + readerMode +
+                        ", classLoader=" + classLoader +
+                        ", cacheProvider=" + cacheProvider +
+                        '}';
+            }
+
+            /**
+             * A task that pre-parses all types of a class path into the cache of a pre-warming binary locator. Any type that
+             * cannot be parsed is ignored. The task stops if its executing thread is interrupted.
+             */
+            protected class WarmUp implements Runnable {
+
+                /**
+                 * The jar files and folders to scan for class files.
+                 */
+                private final List<? extends File> classPath;
+
+                /**
+                 * The names of packages, including their sub packages, whose types are pre-parsed first.
+                 */
+                private final List<String> priorityPackages;
+
+                /**
+                 * Creates a new warm up task.
+                 *
+                 * @param classPath        The jar files and folders to scan for class files.
+                 * @param priorityPackages The names of packages, including their sub packages, whose types are pre-parsed first.
+                 */
+                protected WarmUp(List<? extends File> classPath, List<String> priorityPackages) {
+                    this.classPath = classPath;
+                    this.priorityPackages = priorityPackages;
+                }
+
+                @Override
+                public void run() {
+                    List<String> prioritized = new ArrayList<String>(), remaining = new ArrayList<String>();
+                    for (File file : classPath) {
+                        try {
+                            if (file.isDirectory()) {
+                                scan(file, "", prioritized, remaining);
+                            } else if (file.isFile()) {
+                                scan(file, prioritized, remaining);
+                            }
+                        } catch (IOException ignored) {
+                            // Skip class path elements that cannot be read.
+                        }
+                    }
+                    TypePool typePool = TypePool.Default.Precomputed.withObjectType(cacheProvider,
+                            ClassFileLocator.ForClassLoader.of(classLoader),
+                            readerMode);
+                    prioritized.addAll(remaining);
+                    for (String typeName : prioritized) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            return;
+                        }
+                        try {
+                            typePool.describe(typeName);
+                        } catch (Throwable ignored) {
+                            // Skip types that cannot be parsed, the type is parsed again when it is used.
+                        }
+                    }
+                }
+
+                /**
+                 * Collects the names of all types of a jar file.
+                 *
+                 * @param file        The jar file to scan.
+                 * @param prioritized The list of type names that are parsed first.
+                 * @param remaining   The list of type names that are parsed subsequently.
+                 * @throws IOException If the jar file cannot be read.
+                 */
+                private void scan(File file, List<String> prioritized, List<String> remaining) throws IOException {
+                    JarFile jarFile = new JarFile(file);
+                    try {
+                        Enumeration<JarEntry> entries = jarFile.entries();
+                        while (entries.hasMoreElements()) {
+                            JarEntry jarEntry = entries.nextElement();
+                            if (!jarEntry.isDirectory()) {
+                                register(jarEntry.getName(), prioritized, remaining);
+                            }
+                        }
+                    } finally {
+                        jarFile.close();
+                    }
+                }
+
+                /**
+                 * Collects the names of all types of a folder and its sub folders.
+                 *
+                 * @param folder      The folder to scan.
+                 * @param prefix      The resource name prefix of the folder's files.
+                 * @param prioritized The list of type names that are parsed first.
+                 * @param remaining   The list of type names that are parsed subsequently.
+                 */
+                private void scan(File folder, String prefix, List<String> prioritized, List<String> remaining) {
+                    File[] files = folder.listFiles();
+                    if (files == null) {
+                        return;
+                    }
+                    for (File file : files) {
+                        if (file.isDirectory()) {
+                            scan(file, prefix + file.getName() + "/", prioritized, remaining);
+                        } else {
+                            register(prefix + file.getName(), prioritized, remaining);
+                        }
+                    }
+                }
+
+                /**
+                 * Registers a resource if it represents a class file of a regular type.
+                 *
+                 * @param resourceName The name of the resource.
+                 * @param prioritized  The list of type names that are parsed first.
+                 * @param remaining    The list of type names that are parsed subsequently.
+                 */
+                private void register(String resourceName, List<String> prioritized, List<String> remaining) {
+                    if (!resourceName.endsWith(CLASS_FILE_EXTENSION) || resourceName.indexOf('-') != -1) {
+                        return;
+                    }
+                    String typeName = resourceName.substring(0, resourceName.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+                    for (String priorityPackage : priorityPackages) {
+                        if (typeName.startsWith(priorityPackage + ".")) {
+                            prioritized.add(typeName);
+                            return;
+                        }
+                    }
+                    remaining.add(typeName);
+                }
+
+                /**
+                 * Returns the outer instance.
+                 *
+                 * @return The outer instance.
+                 */
+                private Prewarming getOuter() {
+                    return Prewarming.this;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    WarmUp warmUp = (WarmUp) other;
+                    return Prewarming.this.equals(warmUp.getOuter())
+                            && classPath.equals(warmUp.classPath)
+                            && priorityPackages.equals(warmUp.priorityPackages);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = classPath.hashCode();
+                    result = 31 * result + priorityPackages.hashCode();
+                    result = 31 * result + Prewarming.this.hashCode();
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "AgentBuilder.BinaryLocator.Prewarming.WarmUp{" +
+                            "prewarming=" + Prewarming.this +
+                            ", classPath=" + classPath +
+                            ", priorityPackages=" + priorityPackages +
+                            '}';
+                }
+            }
+        }
     }
 
     /**
@@ -1441,7 +1955,7 @@ public interface AgentBuilder {
 
                 @Override
                 public boolean consider(Class<?> type) {
-                    Default.Transformation.Resolution resolution = transformation.resolve(new TypeDescription.ForLoadedType(type),
+                    Default.Transformation.Resolution resolution = transformation.resolve(TypeDescription.ForLoadedType.of(type),
                             type.getClassLoader(),
                             type,
                             type.getProtectionDomain());
@@ -1604,7 +2118,7 @@ public interface AgentBuilder {
 
                 @Override
                 public boolean consider(Class<?> type) {
-                    return transformation.resolve(new TypeDescription.ForLoadedType(type),
+                    return transformation.resolve(TypeDescription.ForLoadedType.of(type),
                             type.getClassLoader(), type, type.getProtectionDomain()).isResolved() && types.add(type);
                 }
 
@@ -1968,7 +2482,7 @@ public interface AgentBuilder {
                         if (!instrumentation.isModifiableClass(type) || !collector.consider(type)) {
                             try {
                                 try {
-                                    listener.onIgnored(new TypeDescription.ForLoadedType(type));
+                                    listener.onIgnored(TypeDescription.ForLoadedType.of(type));
                                 } finally {
                                     listener.onComplete(type.getName());
                                 }
@@ -2989,7 +3503,7 @@ public interface AgentBuilder {
                             binaryLocator.classFileLocator(classLoader));
                     return transformation.resolve(classBeingRedefined == null
                                     ? binaryLocator.typePool(classFileLocator, classLoader).describe(binaryTypeName).resolve()
-                                    : new TypeDescription.ForLoadedType(classBeingRedefined),
+                                    : TypeDescription.ForLoadedType.of(classBeingRedefined),
                             classLoader,
                             classBeingRedefined,
                             protectionDomain).apply(initializationStrategy,
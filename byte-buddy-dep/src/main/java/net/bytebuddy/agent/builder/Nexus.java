@@ -1,7 +1,12 @@
 package net.bytebuddy.agent.builder;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -13,31 +18,70 @@ import java.util.logging.Logger;
  * loaded type initializer registered before hand.
  * </p>
  * <p>
+ * Any registration is held by an explicit key of its type that references the type's class loader weakly. Once a class
+ * loader is garbage collected, the registrations of all of its types are removed by their keys, even if these types
+ * were never initialized. As a registration is held strongly until then, a loaded type initializer should not itself
+ * reference the class loader of its type strongly. Loaded type initializers
+ * are invoked via the interface method that declares {@code onLoad} which is resolved once and reused for any initializer
+ * implementing this interface instead of being looked up on every initialization. For operational monitoring, the nexus
+ * exposes the number of pending registrations and the number and the accumulated duration of initializations.
+ * </p>
+ * <p>
  * <b>Important</b>: The nexus must never be accessed directly but only by its
  * {@link net.bytebuddy.agent.builder.AgentBuilder.Default.InitializationStrategy.SelfInjection.NexusAccessor}
  * which makes sure that the nexus is loaded by the system class loader. Otherwise, a class might not
  * be able to initialize itself if it is loaded by different class loader that does not have the
- * system class loader in its hierarchy.
+ * system class loader in its hierarchy. For the same reason, the nexus must not declare any nested types.
  * </p>
  */
-public class Nexus {
+public class Nexus extends WeakReference<ClassLoader> {
+
+    /**
+     * The name of the method that is invoked on a loaded type initializer.
+     */
+    private static final String ON_LOAD = "onLoad";
+
+    /**
+     * Indicates that a key is not registered in a reference queue as it is only used for a lookup.
+     */
+    private static final ReferenceQueue<ClassLoader> NO_QUEUE = null;
 
     /**
-     * A map of keys identifying a loaded type by its name and class loader mapping their
-     * potential {@link net.bytebuddy.implementation.LoadedTypeInitializer} where the class
-     * loader of these initializers is however irrelevant.
+     * A map of keys identifying a loaded type by its name, its weakly referenced class loader and an identification
+     * mapping their potential {@link net.bytebuddy.implementation.LoadedTypeInitializer} where the class loader of
+     * these initializers is however irrelevant. The bootstrap class loader is represented by {@code null}.
      */
     private static final ConcurrentMap<Nexus, Object> TYPE_INITIALIZERS = new ConcurrentHashMap<Nexus, Object>();
 
+    /**
+     * A reference queue that is notified of the registration keys of garbage collected class loaders.
+     */
+    private static final ReferenceQueue<ClassLoader> UNLOADED = new ReferenceQueue<ClassLoader>();
+
+    /**
+     * The number of loaded type initializers that were applied by this nexus.
+     */
+    private static final AtomicLong INITIALIZATIONS = new AtomicLong();
+
+    /**
+     * The accumulated time in nanoseconds that was spent for applying loaded type initializers.
+     */
+    private static final AtomicLong INITIALIZATION_NANOS = new AtomicLong();
+
+    /**
+     * The most recently resolved {@code onLoad} method or {@code null} if no such method was resolved yet.
+     */
+    private static volatile Method onLoad;
+
     /**
      * The name of a type for which a loaded type initializer is registered.
      */
     private final String name;
 
     /**
-     * The class loader for which a loaded type initializer is registered.
+     * The identity hash code of the class loader of the type for which a loaded type initializer is registered.
      */
-    private final ClassLoader classLoader;
+    private final int classLoaderHashCode;
 
     /**
      * A random value that uniquely identifies a Nexus entry in order to avoid conflicts when
@@ -45,26 +89,18 @@ public class Nexus {
      */
     private final int identification;
 
-    /**
-     * Creates a key for identifying a loaded type initializer.
-     *
-     * @param type           The loaded type for which a key is to be created.
-     * @param identification An identification for the initializer to run.
-     */
-    private Nexus(Class<?> type, int identification) {
-        this(type.getName(), type.getClassLoader(), identification);
-    }
-
     /**
      * Creates a key for identifying a loaded type initializer.
      *
      * @param name           The name of a type for which a loaded type initializer is registered.
-     * @param classLoader    The class loader for which a loaded type initializer is registered.
+     * @param classLoader    The class loader of the type for which a loaded type initializer is registered.
+     * @param referenceQueue The reference queue to notify when the class loader is garbage collected or {@code null}.
      * @param identification An identification for the initializer to run.
      */
-    private Nexus(String name, ClassLoader classLoader, int identification) {
+    private Nexus(String name, ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue, int identification) {
+        super(classLoader, referenceQueue);
         this.name = name;
-        this.classLoader = classLoader;
+        classLoaderHashCode = System.identityHashCode(classLoader);
         this.identification = identification;
     }
 
@@ -77,9 +113,15 @@ public class Nexus {
      */
     @SuppressWarnings("unused")
     public static void initialize(Class<?> type, int identification) throws Exception {
-        Object typeInitializer = TYPE_INITIALIZERS.remove(new Nexus(type, identification));
+        Object typeInitializer = TYPE_INITIALIZERS.remove(new Nexus(type.getName(), type.getClassLoader(), NO_QUEUE, identification));
         if (typeInitializer != null) {
-            typeInitializer.getClass().getMethod("onLoad", Class.class).invoke(typeInitializer, type);
+            long start = System.nanoTime();
+            try {
+                onLoadMethodOf(typeInitializer).invoke(typeInitializer, type);
+            } finally {
+                INITIALIZATION_NANOS.addAndGet(System.nanoTime() - start);
+                INITIALIZATIONS.incrementAndGet();
+            }
         }
     }
 
@@ -103,26 +145,107 @@ public class Nexus {
      *                        it does however not matter which class loader loaded this latter type.
      */
     public static void register(String name, ClassLoader classLoader, int identification, Object typeInitializer) {
-        if (TYPE_INITIALIZERS.put(new Nexus(name, classLoader, identification), typeInitializer) != null) {
+        expunge();
+        Object previous = TYPE_INITIALIZERS.put(new Nexus(name, classLoader, UNLOADED, identification), typeInitializer);
+        if (previous != null) {
             Logger.getAnonymousLogger().warning("Initializer with id " + identification + " is already registered for " + name);
         }
     }
 
+    /**
+     * Returns the number of loaded type initializers that are registered but that were not yet applied. Registrations of class
+     * loaders that were garbage collected are not included.
+     *
+     * @return The number of pending registrations.
+     */
+    public static int size() {
+        expunge();
+        return TYPE_INITIALIZERS.size();
+    }
+
+    /**
+     * Removes the registrations of all types whose class loader was garbage collected.
+     */
+    private static void expunge() {
+        Reference<?> reference;
+        while ((reference = UNLOADED.poll()) != null) {
+            TYPE_INITIALIZERS.remove(reference);
+        }
+    }
+
+    /**
+     * Returns the number of loaded type initializers that were applied by this nexus.
+     *
+     * @return The number of applied initializations.
+     */
+    public static long getInitializationCount() {
+        return INITIALIZATIONS.get();
+    }
+
+    /**
+     * Returns the accumulated time in nanoseconds that was spent for applying loaded type initializers.
+     *
+     * @return The accumulated initialization time in nanoseconds.
+     */
+    public static long getInitializationNanos() {
+        return INITIALIZATION_NANOS.get();
+    }
+
+    /**
+     * Resolves the {@code onLoad} method of a loaded type initializer. The method is resolved from the interface that declares it
+     * such that it can be reused for any other initializer that implements this interface.
+     *
+     * @param typeInitializer The loaded type initializer.
+     * @return The {@code onLoad} method to invoke on the initializer.
+     * @throws NoSuchMethodException If the initializer does not declare an {@code onLoad} method.
+     */
+    private static Method onLoadMethodOf(Object typeInitializer) throws NoSuchMethodException {
+        Method onLoad = Nexus.onLoad;
+        if (onLoad == null || !onLoad.getDeclaringClass().isInstance(typeInitializer)) {
+            onLoad = onLoadMethodOf(typeInitializer.getClass());
+            if (onLoad == null) {
+                onLoad = typeInitializer.getClass().getMethod(ON_LOAD, Class.class);
+            }
+            Nexus.onLoad = onLoad;
+        }
+        return onLoad;
+    }
+
+    /**
+     * Locates the {@code onLoad} method of an interface that is implemented by the given type.
+     *
+     * @param type The type for which to locate the interface method.
+     * @return The interface method or {@code null} if no interface declares the method.
+     */
+    private static Method onLoadMethodOf(Class<?> type) {
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            try {
+                return interfaceType.getMethod(ON_LOAD, Class.class);
+            } catch (NoSuchMethodException ignored) {
+                // Continue with the next interface.
+            }
+        }
+        return type.getSuperclass() == null
+                ? null
+                : onLoadMethodOf(type.getSuperclass());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) return true;
         if (other == null || getClass() != other.getClass()) return false;
         Nexus nexus = (Nexus) other;
         return identification == nexus.identification
-                && !(classLoader != null ? !classLoader.equals(nexus.classLoader) : nexus.classLoader != null)
-                && name.equals(nexus.name);
+                && classLoaderHashCode == nexus.classLoaderHashCode
+                && name.equals(nexus.name)
+                && get() == nexus.get();
     }
 
     @Override
     public int hashCode() {
         int result = name.hashCode();
+        result = 31 * result + classLoaderHashCode;
         result = 31 * result + identification;
-        result = 31 * result + (classLoader != null ? classLoader.hashCode() : 0);
         return result;
     }
 
@@ -130,7 +253,7 @@ public class Nexus {
     public String toString() {
         return "Nexus{" +
                 "name='" + name + '\'' +
-                ", classLoader=" + classLoader +
+                ", classLoaderHashCode=" + classLoaderHashCode +
                 ", identification=" + identification +
                 '}';
     }
@@ -0,0 +1,974 @@
+package net.bytebuddy.asm;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.method.ParameterList;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.objectweb.asm.*;
+
+import java.io.IOException;
+import java.lang.annotation.*;
+import java.util.*;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+/**
+ * <p>
+ * An advice wrapper copies the byte code of static template methods into the methods of an instrumented type. The byte code of a method
+ * that is annotated by {@link OnMethodEnter} is inlined at the beginning of any matched method. The byte code of a method that is annotated
+ * by {@link OnMethodExit} is inlined before any return from a matched method and is also invoked if a matched method completes
+ * exceptionally, before the exception is rethrown. As the template code is copied, applying advice neither adds a call frame nor
+ * requires an allocation for each invocation.
+ * </p>
+ * <p>
+ * The parameters of an advice method must be annotated by {@link Argument} in order to read or write the arguments of an instrumented
+ * method. Any local variables of an advice method are remapped to variables that are not used by the instrumented method.
+ * </p>
+ * <p>
+ * <b>Important</b>: Advice methods must be {@code static}, must return {@code void} and must only access members that are visible
+ * to the instrumented type as their code is copied into this type. Constructors, type initializers, abstract and native methods
+ * are never advised. Neither are methods that Byte Buddy adds to an instrumented type, such as rebased original methods or accessor
+ * methods. Advice requires the computation of stack map frames by ASM. The frames are computed without loading any class by resolving
+ * types from the class file locator of a redefined or rebased type or from the class path for a created type.
+ * </p>
+ */
+public class Advice implements ClassVisitorWrapper.ForInstrumentedType {
+
+    /**
+     * Indicates that a method should not be visited.
+     */
+    private static final MethodVisitor IGNORE_METHOD = null;
+
+    /**
+     * A matcher for the methods that are advised.
+     */
+    private final ElementMatcher<? super MethodDescription.InDefinedShape> matcher;
+
+    /**
+     * The dispatcher for the advice that is applied upon entering a method.
+     */
+    private final Dispatcher methodEnter;
+
+    /**
+     * The dispatcher for the advice that is applied upon exiting a method.
+     */
+    private final Dispatcher methodExit;
+
+    /**
+     * The binary representation of the class declaring the advice methods.
+     */
+    private final byte[] binaryRepresentation;
+
+    /**
+     * Creates a new advice.
+     *
+     * @param matcher              A matcher for the methods that are advised.
+     * @param methodEnter          The dispatcher for the advice that is applied upon entering a method.
+     * @param methodExit           The dispatcher for the advice that is applied upon exiting a method.
+     * @param binaryRepresentation The binary representation of the class declaring the advice methods.
+     */
+    protected Advice(ElementMatcher<? super MethodDescription.InDefinedShape> matcher,
+                     Dispatcher methodEnter,
+                     Dispatcher methodExit,
+                     byte[] binaryRepresentation) {
+        this.matcher = matcher;
+        this.methodEnter = methodEnter;
+        this.methodExit = methodExit;
+        this.binaryRepresentation = binaryRepresentation;
+    }
+
+    /**
+     * Creates an advice for the given type which is applied to all methods of an instrumented type that are not synthetic. The advice
+     * type's class file is located by its class loader.
+     *
+     * @param type The type declaring the advice methods.
+     * @return An advice for the given type.
+     */
+    public static Advice to(Class<?> type) {
+        return to(new TypeDescription.ForLoadedType(type), ClassFileLocator.ForClassLoader.of(type.getClassLoader()));
+    }
+
+    /**
+     * Creates an advice for the given type which is applied to all methods of an instrumented type that are not synthetic.
+     *
+     * @param typeDescription  A description of the type declaring the advice methods.
+     * @param classFileLocator A class file locator for locating the advice type's class file.
+     * @return An advice for the given type.
+     */
+    public static Advice to(TypeDescription typeDescription, ClassFileLocator classFileLocator) {
+        byte[] binaryRepresentation;
+        try {
+            binaryRepresentation = classFileLocator.locate(typeDescription.getName()).resolve();
+        } catch (IOException exception) {
+            throw new IllegalStateException("Cannot locate class file of " + typeDescription, exception);
+        }
+        Dispatcher methodEnter = locate(OnMethodEnter.class, typeDescription, binaryRepresentation);
+        Dispatcher methodExit = locate(OnMethodExit.class, typeDescription, binaryRepresentation);
+        if (!methodEnter.isAlive() && !methodExit.isAlive()) {
+            throw new IllegalArgumentException("No advice defined by " + typeDescription);
+        }
+        return new Advice(not(isSynthetic()), methodEnter, methodExit, binaryRepresentation);
+    }
+
+    /**
+     * Locates an advice method of the given type.
+     *
+     * @param annotation           The annotation that marks the advice method.
+     * @param typeDescription      A description of the type declaring the advice methods.
+     * @param binaryRepresentation The binary representation of the type declaring the advice methods.
+     * @return A dispatcher for the located advice method.
+     */
+    private static Dispatcher locate(Class<? extends Annotation> annotation, TypeDescription typeDescription, byte[] binaryRepresentation) {
+        MethodList<MethodDescription.InDefinedShape> methodDescriptions = typeDescription.getDeclaredMethods().filter(isAnnotatedWith(annotation));
+        if (methodDescriptions.isEmpty()) {
+            return Dispatcher.Inactive.INSTANCE;
+        } else if (methodDescriptions.size() > 1) {
+            throw new IllegalArgumentException("Duplicate advice for " + annotation.getSimpleName() + " in " + typeDescription);
+        }
+        MethodDescription.InDefinedShape adviceMethod = methodDescriptions.getOnly();
+        if (!adviceMethod.isStatic()) {
+            throw new IllegalArgumentException("Advice method is not static: " + adviceMethod);
+        } else if (!adviceMethod.getReturnType().asErasure().represents(void.class)) {
+            throw new IllegalArgumentException("Advice method does not return void: " + adviceMethod);
+        }
+        int[] argumentIndex = new int[adviceMethod.getParameters().size()];
+        for (ParameterDescription.InDefinedShape parameterDescription : adviceMethod.getParameters()) {
+            Argument argument = parameterDescription.getDeclaredAnnotations().ofType(Argument.class) == null
+                    ? null
+                    : parameterDescription.getDeclaredAnnotations().ofType(Argument.class).loadSilent();
+            if (argument == null) {
+                throw new IllegalArgumentException("Parameter is not annotated with @Argument: " + parameterDescription);
+            } else if (argument.value() < 0) {
+                throw new IllegalArgumentException("Negative argument index for " + parameterDescription);
+            }
+            argumentIndex[parameterDescription.getIndex()] = argument.value();
+        }
+        MaxLocalsLocator maxLocalsLocator = new MaxLocalsLocator(adviceMethod);
+        new ClassReader(binaryRepresentation).accept(maxLocalsLocator, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return new Dispatcher.Active(adviceMethod, argumentIndex, maxLocalsLocator.getMaxLocals() - adviceMethod.getStackSize());
+    }
+
+    /**
+     * Returns an advice that is only applied to methods that are matched by the given matcher. The matcher is applied to the methods
+     * as they are described by the instrumented type such that annotations and generic types are considered. Other than the default
+     * matcher, the given matcher might match synthetic methods such as bridge methods.
+     *
+     * @param matcher A matcher for the methods that are advised.
+     * @return An advice that is only applied to methods that are matched by the given matcher.
+     */
+    public Advice on(ElementMatcher<? super MethodDescription.InDefinedShape> matcher) {
+        return new Advice(matcher, methodEnter, methodExit, binaryRepresentation);
+    }
+
+    @Override
+    public int mergeWriter(int flags) {
+        return flags | ClassWriter.COMPUTE_FRAMES;
+    }
+
+    @Override
+    public int mergeReader(int flags) {
+        return flags;
+    }
+
+    @Override
+    public ClassVisitor wrap(ClassVisitor classVisitor) {
+        throw new UnsupportedOperationException("Advice requires a description of the instrumented type");
+    }
+
+    @Override
+    public ClassVisitor wrap(TypeDescription instrumentedType, ClassVisitor classVisitor) {
+        return new AdvisingClassVisitor(classVisitor, instrumentedType);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        Advice advice = (Advice) other;
+        return matcher.equals(advice.matcher)
+                && methodEnter.equals(advice.methodEnter)
+                && methodExit.equals(advice.methodExit)
+                && Arrays.equals(binaryRepresentation, advice.binaryRepresentation);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = matcher.hashCode();
+        result = 31 * result + methodEnter.hashCode();
+        result = 31 * result + methodExit.hashCode();
+        result = 31 * result + Arrays.hashCode(binaryRepresentation);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Advice{" +
+                "matcher=" + matcher +
+                ", methodEnter=" + methodEnter +
+                ", methodExit=" + methodExit +
+                ", binaryRepresentation=<" + binaryRepresentation.length + " bytes>" +
+                '}';
+    }
+
+    /**
+     * A dispatcher for inlining an advice method.
+     */
+    protected interface Dispatcher {
+
+        /**
+         * Returns {@code true} if this dispatcher inlines any code.
+         *
+         * @return {@code true} if this dispatcher inlines any code.
+         */
+        boolean isAlive();
+
+        /**
+         * Returns the size of the local variables that the advice method requires in addition to its parameters.
+         *
+         * @return The size of the local variables that the advice method requires in addition to its parameters.
+         */
+        int getLocalVariableLength();
+
+        /**
+         * Inlines the advice method's code.
+         *
+         * @param methodVisitor        The method visitor to which the advice method's code is written.
+         * @param instrumentedMethod   The instrumented method.
+         * @param binaryRepresentation The binary representation of the class declaring the advice method.
+         */
+        void apply(MethodVisitor methodVisitor, MethodDescription instrumentedMethod, byte[] binaryRepresentation);
+
+        /**
+         * A dispatcher for an advice method that is not defined.
+         */
+        enum Inactive implements Dispatcher {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public boolean isAlive() {
+                return false;
+            }
+
+            @Override
+            public int getLocalVariableLength() {
+                return 0;
+            }
+
+            @Override
+            public void apply(MethodVisitor methodVisitor, MethodDescription instrumentedMethod, byte[] binaryRepresentation) {
+                /* do nothing */
+            }
+
+            @Override
+            public String toString() {
+                return "Advice.Dispatcher.Inactive." + name();
+            }
+        }
+
+        /**
+         * A dispatcher for an advice method that is defined.
+         */
+        class Active implements Dispatcher {
+
+            /**
+             * The advice method.
+             */
+            private final MethodDescription.InDefinedShape adviceMethod;
+
+            /**
+             * The index of the instrumented method's argument for each parameter of the advice method.
+             */
+            private final int[] argumentIndex;
+
+            /**
+             * The size of the local variables that the advice method requires in addition to its parameters.
+             */
+            private final int localVariableLength;
+
+            /**
+             * Creates a new active dispatcher.
+             *
+             * @param adviceMethod        The advice method.
+             * @param argumentIndex       The index of the instrumented method's argument for each parameter of the advice method.
+             * @param localVariableLength The size of the local variables that the advice method requires in addition to its parameters.
+             */
+            protected Active(MethodDescription.InDefinedShape adviceMethod, int[] argumentIndex, int localVariableLength) {
+                this.adviceMethod = adviceMethod;
+                this.argumentIndex = argumentIndex;
+                this.localVariableLength = localVariableLength;
+            }
+
+            @Override
+            public boolean isAlive() {
+                return true;
+            }
+
+            @Override
+            public int getLocalVariableLength() {
+                return localVariableLength;
+            }
+
+            @Override
+            public void apply(MethodVisitor methodVisitor, MethodDescription instrumentedMethod, byte[] binaryRepresentation) {
+                ParameterList<?> parameters = instrumentedMethod.getParameters();
+                int[] offsetMapping = new int[adviceMethod.getStackSize()];
+                for (ParameterDescription.InDefinedShape parameterDescription : adviceMethod.getParameters()) {
+                    int index = argumentIndex[parameterDescription.getIndex()];
+                    if (index >= parameters.size()) {
+                        throw new IllegalStateException(instrumentedMethod + " does not define an argument with index " + index);
+                    } else if (!parameters.get(index).getType().asErasure().equals(parameterDescription.getType().asErasure())) {
+                        throw new IllegalStateException(parameterDescription + " is not of the type of " + parameters.get(index));
+                    }
+                    offsetMapping[parameterDescription.getOffset()] = parameters.get(index).getOffset();
+                }
+                new ClassReader(binaryRepresentation).accept(new CodeCopier(methodVisitor,
+                        adviceMethod,
+                        offsetMapping,
+                        instrumentedMethod.getStackSize()), ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Active active = (Active) other;
+                return localVariableLength == active.localVariableLength
+                        && adviceMethod.equals(active.adviceMethod)
+                        && Arrays.equals(argumentIndex, active.argumentIndex);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = adviceMethod.hashCode();
+                result = 31 * result + Arrays.hashCode(argumentIndex);
+                result = 31 * result + localVariableLength;
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "Advice.Dispatcher.Active{" +
+                        "adviceMethod=" + adviceMethod +
+                        ", argumentIndex=" + Arrays.toString(argumentIndex) +
+                        ", localVariableLength=" + localVariableLength +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A class visitor that locates the size of the local variable array of an advice method.
+     */
+    protected static class MaxLocalsLocator extends ClassVisitor {
+
+        /**
+         * The advice method.
+         */
+        private final MethodDescription.InDefinedShape adviceMethod;
+
+        /**
+         * The size of the local variable array of the advice method.
+         */
+        private int maxLocals;
+
+        /**
+         * Creates a new max locals locator.
+         *
+         * @param adviceMethod The advice method.
+         */
+        protected MaxLocalsLocator(MethodDescription.InDefinedShape adviceMethod) {
+            super(Opcodes.ASM5);
+            this.adviceMethod = adviceMethod;
+        }
+
+        /**
+         * Returns the size of the local variable array of the advice method.
+         *
+         * @return The size of the local variable array of the advice method.
+         */
+        protected int getMaxLocals() {
+            return maxLocals;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exception) {
+            return adviceMethod.getInternalName().equals(internalName) && adviceMethod.getDescriptor().equals(descriptor)
+                    ? new MethodVisitor(Opcodes.ASM5) {
+                        @Override
+                        public void visitMaxs(int maxStack, int maxLocals) {
+                            MaxLocalsLocator.this.maxLocals = maxLocals;
+                        }
+                    }
+                    : IGNORE_METHOD;
+        }
+
+        @Override
+        public String toString() {
+            return "Advice.MaxLocalsLocator{" +
+                    "adviceMethod=" + adviceMethod +
+                    ", maxLocals=" + maxLocals +
+                    '}';
+        }
+    }
+
+    /**
+     * A class visitor that copies the code of an advice method to a method visitor of an instrumented method.
+     */
+    protected static class CodeCopier extends ClassVisitor {
+
+        /**
+         * The method visitor of the instrumented method.
+         */
+        private final MethodVisitor methodVisitor;
+
+        /**
+         * The advice method.
+         */
+        private final MethodDescription.InDefinedShape adviceMethod;
+
+        /**
+         * A mapping of the advice method's parameter offsets to the instrumented method's parameter offsets.
+         */
+        private final int[] offsetMapping;
+
+        /**
+         * The offset of the first local variable that is used by the advice method within the instrumented method.
+         */
+        private final int localVariableOffset;
+
+        /**
+         * Creates a new code copier.
+         *
+         * @param methodVisitor       The method visitor of the instrumented method.
+         * @param adviceMethod        The advice method.
+         * @param offsetMapping       A mapping of the advice method's parameter offsets to the instrumented method's parameter offsets.
+         * @param localVariableOffset The offset of the first local variable that is used by the advice method within the instrumented method.
+         */
+        protected CodeCopier(MethodVisitor methodVisitor, MethodDescription.InDefinedShape adviceMethod, int[] offsetMapping, int localVariableOffset) {
+            super(Opcodes.ASM5);
+            this.methodVisitor = methodVisitor;
+            this.adviceMethod = adviceMethod;
+            this.offsetMapping = offsetMapping;
+            this.localVariableOffset = localVariableOffset;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exception) {
+            return adviceMethod.getInternalName().equals(internalName) && adviceMethod.getDescriptor().equals(descriptor)
+                    ? new CodeCopyingMethodVisitor()
+                    : IGNORE_METHOD;
+        }
+
+        @Override
+        public String toString() {
+            return "Advice.CodeCopier{" +
+                    "methodVisitor=" + methodVisitor +
+                    ", adviceMethod=" + adviceMethod +
+                    ", offsetMapping=" + Arrays.toString(offsetMapping) +
+                    ", localVariableOffset=" + localVariableOffset +
+                    '}';
+        }
+
+        /**
+         * A method visitor that copies the instructions of an advice method while remapping local variables and replacing returns
+         * by jumps to the end of the copied code. Any other elements of the advice method are ignored.
+         */
+        protected class CodeCopyingMethodVisitor extends MethodVisitor {
+
+            /**
+             * A label that marks the end of the copied code.
+             */
+            private final Label endOfAdvice;
+
+            /**
+             * Creates a new code copying method visitor.
+             */
+            protected CodeCopyingMethodVisitor() {
+                super(Opcodes.ASM5);
+                endOfAdvice = new Label();
+            }
+
+            /**
+             * Maps an offset of the advice method to an offset of the instrumented method.
+             *
+             * @param offset The offset of the advice method.
+             * @return The offset within the instrumented method.
+             */
+            private int map(int offset) {
+                return offset < offsetMapping.length
+                        ? offsetMapping[offset]
+                        : localVariableOffset + offset - offsetMapping.length;
+            }
+
+            @Override
+            public void visitInsn(int opcode) {
+                if (opcode == Opcodes.RETURN) {
+                    methodVisitor.visitJumpInsn(Opcodes.GOTO, endOfAdvice);
+                } else {
+                    methodVisitor.visitInsn(opcode);
+                }
+            }
+
+            @Override
+            public void visitIntInsn(int opcode, int operand) {
+                methodVisitor.visitIntInsn(opcode, operand);
+            }
+
+            @Override
+            public void visitVarInsn(int opcode, int offset) {
+                methodVisitor.visitVarInsn(opcode, map(offset));
+            }
+
+            @Override
+            public void visitTypeInsn(int opcode, String type) {
+                methodVisitor.visitTypeInsn(opcode, type);
+            }
+
+            @Override
+            public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+                methodVisitor.visitFieldInsn(opcode, owner, name, descriptor);
+            }
+
+            @Override
+            public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+                methodVisitor.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrap, Object... argument) {
+                methodVisitor.visitInvokeDynamicInsn(name, descriptor, bootstrap, argument);
+            }
+
+            @Override
+            public void visitJumpInsn(int opcode, Label label) {
+                methodVisitor.visitJumpInsn(opcode, label);
+            }
+
+            @Override
+            public void visitLabel(Label label) {
+                methodVisitor.visitLabel(label);
+            }
+
+            @Override
+            public void visitLdcInsn(Object constant) {
+                methodVisitor.visitLdcInsn(constant);
+            }
+
+            @Override
+            public void visitIincInsn(int offset, int increment) {
+                methodVisitor.visitIincInsn(map(offset), increment);
+            }
+
+            @Override
+            public void visitTableSwitchInsn(int minimum, int maximum, Label defaultLabel, Label... label) {
+                methodVisitor.visitTableSwitchInsn(minimum, maximum, defaultLabel, label);
+            }
+
+            @Override
+            public void visitLookupSwitchInsn(Label defaultLabel, int[] key, Label[] label) {
+                methodVisitor.visitLookupSwitchInsn(defaultLabel, key, label);
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(String descriptor, int dimensions) {
+                methodVisitor.visitMultiANewArrayInsn(descriptor, dimensions);
+            }
+
+            @Override
+            public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+                methodVisitor.visitTryCatchBlock(start, end, handler, type);
+            }
+
+            @Override
+            public void visitEnd() {
+                methodVisitor.visitLabel(endOfAdvice);
+            }
+
+            @Override
+            public String toString() {
+                return "Advice.CodeCopier.CodeCopyingMethodVisitor{" +
+                        "codeCopier=" + CodeCopier.this +
+                        ", endOfAdvice=" + endOfAdvice +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A class visitor that applies the advice to any matched method. Methods are matched by their descriptions as they are
+     * represented by the instrumented type. A method that is not declared by the instrumented type is only matched if it overrides
+     * a method of a super type. Any other method was added by Byte Buddy, such as a rebased original method or an accessor method,
+     * and is never advised.
+     */
+    protected class AdvisingClassVisitor extends ClassVisitor {
+
+        /**
+         * The instrumented type.
+         */
+        private final TypeDescription instrumentedType;
+
+        /**
+         * A mapping of the internal names and descriptors of the methods that are declared by the instrumented type to their descriptions.
+         */
+        private final Map<String, MethodDescription.InDefinedShape> declaredMethods;
+
+        /**
+         * A mapping of the internal names and descriptors of the instrumented type's inherited methods to their descriptions or
+         * {@code null} if the inherited methods were not yet resolved.
+         */
+        private Map<String, MethodDescription.InDefinedShape> inheritedMethods;
+
+        /**
+         * Creates a new advising class visitor.
+         *
+         * @param classVisitor     The class visitor to delegate to.
+         * @param instrumentedType The instrumented type.
+         */
+        protected AdvisingClassVisitor(ClassVisitor classVisitor, TypeDescription instrumentedType) {
+            super(Opcodes.ASM5, classVisitor);
+            this.instrumentedType = instrumentedType;
+            declaredMethods = new HashMap<String, MethodDescription.InDefinedShape>();
+            for (MethodDescription.InDefinedShape methodDescription : instrumentedType.getDeclaredMethods()) {
+                declaredMethods.put(methodDescription.getInternalName() + methodDescription.getDescriptor(), methodDescription);
+            }
+        }
+
+        /**
+         * Resolves a description of a method that the instrumented type inherits.
+         *
+         * @param signature The internal name and descriptor of the method.
+         * @return A description of the inherited method or {@code null} if no such method is inherited.
+         */
+        private MethodDescription.InDefinedShape inherited(String signature) {
+            if (inheritedMethods == null) {
+                inheritedMethods = new HashMap<String, MethodDescription.InDefinedShape>();
+                for (MethodGraph.Node node : MethodGraph.Compiler.DEFAULT.compile(instrumentedType).listNodes()) {
+                    MethodDescription methodDescription = node.getRepresentative();
+                    inheritedMethods.put(methodDescription.getInternalName() + methodDescription.getDescriptor(), methodDescription.asDefined());
+                }
+            }
+            return inheritedMethods.get(signature);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exception) {
+            MethodVisitor methodVisitor = super.visitMethod(modifiers, internalName, descriptor, signature, exception);
+            if (methodVisitor == IGNORE_METHOD
+                    || (modifiers & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) != 0
+                    || internalName.equals(MethodDescription.CONSTRUCTOR_INTERNAL_NAME)
+                    || internalName.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME)) {
+                return methodVisitor;
+            }
+            MethodDescription.InDefinedShape instrumentedMethod = declaredMethods.get(internalName + descriptor);
+            if (instrumentedMethod == null && (modifiers & (Opcodes.ACC_SYNTHETIC | Opcodes.ACC_STATIC | Opcodes.ACC_PRIVATE)) == 0) {
+                instrumentedMethod = inherited(internalName + descriptor);
+            }
+            return instrumentedMethod != null && matcher.matches(instrumentedMethod)
+                    ? new AdvisingMethodVisitor(methodVisitor, instrumentedMethod)
+                    : methodVisitor;
+        }
+
+        @Override
+        public String toString() {
+            return "Advice.AdvisingClassVisitor{" +
+                    "advice=" + Advice.this +
+                    ", classVisitor=" + cv +
+                    ", instrumentedType=" + instrumentedType +
+                    '}';
+        }
+    }
+
+    /**
+     * <p>
+     * A method visitor that inlines the advice methods into an instrumented method. The local variables of the instrumented method
+     * are shifted in order to reserve a range of local variables for the advice methods, directly after the instrumented method's
+     * parameters, followed by a variable for storing the instrumented method's return value or thrown exception.
+     * </p>
+     * <p>
+     * In order to apply the exit advice when the instrumented method completes exceptionally, the instrumented method's original
+     * code is covered by a catch-all handler. The inlined exit advice is excluded from this handler such that it is not applied
+     * twice. The handler is registered after all other exception handlers such that it does not shadow them.
+     * </p>
+     */
+    protected class AdvisingMethodVisitor extends MethodVisitor {
+
+        /**
+         * The instrumented method.
+         */
+        private final MethodDescription instrumentedMethod;
+
+        /**
+         * The size of the instrumented method's parameters, including the {@code this} reference.
+         */
+        private final int parameterLength;
+
+        /**
+         * The offset of the variable storing the return value or thrown exception.
+         */
+        private final int returnValueOffset;
+
+        /**
+         * The size of the local variables that are reserved for the advice.
+         */
+        private final int padding;
+
+        /**
+         * The ranges of the instrumented method's original code that are covered by the catch-all handler, as pairs of labels.
+         */
+        private final List<Label> ranges;
+
+        /**
+         * The start of the currently open range of original code.
+         */
+        private Label currentStart;
+
+        /**
+         * {@code true} if the currently open range contains an instruction.
+         */
+        private boolean instructionVisited;
+
+        /**
+         * Creates a new advising method visitor.
+         *
+         * @param methodVisitor      The method visitor to delegate to.
+         * @param instrumentedMethod The instrumented method.
+         */
+        protected AdvisingMethodVisitor(MethodVisitor methodVisitor, MethodDescription instrumentedMethod) {
+            super(Opcodes.ASM5, methodVisitor);
+            this.instrumentedMethod = instrumentedMethod;
+            parameterLength = instrumentedMethod.getStackSize();
+            returnValueOffset = parameterLength + Math.max(methodEnter.getLocalVariableLength(), methodExit.getLocalVariableLength());
+            padding = returnValueOffset - parameterLength + (methodExit.isAlive()
+                    ? Math.max(instrumentedMethod.getReturnType().asErasure().getStackSize().getSize(), 1)
+                    : 0);
+            ranges = new ArrayList<Label>();
+        }
+
+        /**
+         * Maps a local variable offset of the instrumented method's original code.
+         *
+         * @param offset The original offset.
+         * @return The offset after reserving the variables of the advice.
+         */
+        private int map(int offset) {
+            return offset < parameterLength
+                    ? offset
+                    : offset + padding;
+        }
+
+        /**
+         * Marks that an instruction of the instrumented method's original code was visited.
+         */
+        private void onInstruction() {
+            instructionVisited = true;
+        }
+
+        /**
+         * Closes the currently open range of original code if it contains any instruction.
+         */
+        private void closeRange() {
+            if (instructionVisited) {
+                Label end = new Label();
+                mv.visitLabel(end);
+                ranges.add(currentStart);
+                ranges.add(end);
+            }
+        }
+
+        /**
+         * Opens a new range of original code.
+         */
+        private void openRange() {
+            currentStart = new Label();
+            mv.visitLabel(currentStart);
+            instructionVisited = false;
+        }
+
+        @Override
+        public void visitCode() {
+            super.visitCode();
+            methodEnter.apply(mv, instrumentedMethod, binaryRepresentation);
+            openRange();
+        }
+
+        @Override
+        public void visitFrame(int type, int localVariableLength, Object[] localVariable, int stackSize, Object[] stack) {
+            /* frames are recomputed as the advice alters the local variable array */
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            onInstruction();
+            if (methodExit.isAlive() && opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) {
+                Type returnType = Type.getType(instrumentedMethod.getReturnType().asErasure().getDescriptor());
+                if (opcode != Opcodes.RETURN) {
+                    mv.visitVarInsn(returnType.getOpcode(Opcodes.ISTORE), returnValueOffset);
+                }
+                closeRange();
+                methodExit.apply(mv, instrumentedMethod, binaryRepresentation);
+                if (opcode != Opcodes.RETURN) {
+                    mv.visitVarInsn(returnType.getOpcode(Opcodes.ILOAD), returnValueOffset);
+                }
+                mv.visitInsn(opcode);
+                openRange();
+            } else {
+                super.visitInsn(opcode);
+            }
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            onInstruction();
+            super.visitIntInsn(opcode, operand);
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int offset) {
+            onInstruction();
+            super.visitVarInsn(opcode, map(offset));
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            onInstruction();
+            super.visitTypeInsn(opcode, type);
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            onInstruction();
+            super.visitFieldInsn(opcode, owner, name, descriptor);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            onInstruction();
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrap, Object... argument) {
+            onInstruction();
+            super.visitInvokeDynamicInsn(name, descriptor, bootstrap, argument);
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            onInstruction();
+            super.visitJumpInsn(opcode, label);
+        }
+
+        @Override
+        public void visitLdcInsn(Object constant) {
+            onInstruction();
+            super.visitLdcInsn(constant);
+        }
+
+        @Override
+        public void visitIincInsn(int offset, int increment) {
+            onInstruction();
+            super.visitIincInsn(map(offset), increment);
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int minimum, int maximum, Label defaultLabel, Label... label) {
+            onInstruction();
+            super.visitTableSwitchInsn(minimum, maximum, defaultLabel, label);
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label defaultLabel, int[] key, Label[] label) {
+            onInstruction();
+            super.visitLookupSwitchInsn(defaultLabel, key, label);
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int dimensions) {
+            onInstruction();
+            super.visitMultiANewArrayInsn(descriptor, dimensions);
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int offset) {
+            super.visitLocalVariable(name, descriptor, signature, start, end, map(offset));
+        }
+
+        @Override
+        public void visitMaxs(int maxStack, int maxLocals) {
+            if (methodExit.isAlive()) {
+                closeRange();
+                if (!ranges.isEmpty()) {
+                    Label handler = new Label();
+                    mv.visitLabel(handler);
+                    mv.visitVarInsn(Opcodes.ASTORE, returnValueOffset);
+                    methodExit.apply(mv, instrumentedMethod, binaryRepresentation);
+                    mv.visitVarInsn(Opcodes.ALOAD, returnValueOffset);
+                    mv.visitInsn(Opcodes.ATHROW);
+                    for (int index = 0; index < ranges.size(); index += 2) {
+                        mv.visitTryCatchBlock(ranges.get(index), ranges.get(index + 1), handler, null);
+                    }
+                }
+            }
+            super.visitMaxs(maxStack, maxLocals + padding);
+        }
+
+        @Override
+        public String toString() {
+            return "Advice.AdvisingMethodVisitor{" +
+                    "advice=" + Advice.this +
+                    ", methodVisitor=" + mv +
+                    ", instrumentedMethod=" + instrumentedMethod +
+                    ", parameterLength=" + parameterLength +
+                    ", returnValueOffset=" + returnValueOffset +
+                    ", padding=" + padding +
+                    '}';
+        }
+    }
+
+    /**
+     * Indicates that the annotated method's code is inlined at the beginning of any advised method. The annotated method must be
+     * {@code static} and return {@code void}.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface OnMethodEnter {
+        /* empty */
+    }
+
+    /**
+     * Indicates that the annotated method's code is inlined before any return from an advised method and is applied if an advised
+     * method completes exceptionally. The annotated method must be {@code static} and return {@code void}.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface OnMethodExit {
+        /* empty */
+    }
+
+    /**
+     * Binds a parameter of an advice method to an argument of the advised method. The parameter's type must be equal to the
+     * argument's type. Assigning a value to the parameter assigns the value to the advised method's argument.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    public @interface Argument {
+
+        /**
+         * Returns the index of the bound argument.
+         *
+         * @return The index of the bound argument.
+         */
+        int value();
+    }
+}
@@ -1,5 +1,6 @@
 package net.bytebuddy.asm;
 
+import net.bytebuddy.description.type.TypeDescription;
 import org.objectweb.asm.ClassVisitor;
 
 import java.util.Arrays;
@@ -41,6 +42,54 @@ public interface ClassVisitorWrapper {
      */
     ClassVisitor wrap(ClassVisitor classVisitor);
 
+    /**
+     * A class visitor wrapper that requires a description of the instrumented type for wrapping a class visitor. When such a wrapper
+     * is applied by Byte Buddy, {@link ForInstrumentedType#wrap(TypeDescription, ClassVisitor)} is invoked instead of
+     * {@link ClassVisitorWrapper#wrap(ClassVisitor)}.
+     */
+    interface ForInstrumentedType extends ClassVisitorWrapper {
+
+        /**
+         * Applies a {@code ClassVisitorWrapper} to the creation of a {@link net.bytebuddy.dynamic.DynamicType}.
+         *
+         * @param instrumentedType The instrumented type that is written to the class visitor.
+         * @param classVisitor     A {@code ClassVisitor} to become the new primary class visitor to which the created
+         *                         {@link net.bytebuddy.dynamic.DynamicType} is written to.
+         * @return A new {@code ClassVisitor} that usually delegates to the {@code ClassVisitor} delivered in the argument.
+         */
+        ClassVisitor wrap(TypeDescription instrumentedType, ClassVisitor classVisitor);
+
+        /**
+         * A dispatcher for applying a class visitor wrapper that might require a description of the instrumented type.
+         */
+        enum Dispatcher {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * Applies the given class visitor wrapper, supplying the instrumented type if the wrapper requires it.
+             *
+             * @param classVisitorWrapper The class visitor wrapper to apply.
+             * @param instrumentedType    The instrumented type that is written to the class visitor.
+             * @param classVisitor        The class visitor to wrap.
+             * @return The wrapped class visitor.
+             */
+            public ClassVisitor wrap(ClassVisitorWrapper classVisitorWrapper, TypeDescription instrumentedType, ClassVisitor classVisitor) {
+                return classVisitorWrapper instanceof ForInstrumentedType
+                        ? ((ForInstrumentedType) classVisitorWrapper).wrap(instrumentedType, classVisitor)
+                        : classVisitorWrapper.wrap(classVisitor);
+            }
+
+            @Override
+            public String toString() {
+                return "ClassVisitorWrapper.ForInstrumentedType.Dispatcher." + name();
+            }
+        }
+    }
+
     /**
      * A class visitor wrapper that does not apply any changes.
      */
@@ -73,9 +122,10 @@ public interface ClassVisitorWrapper {
     }
 
     /**
-     * An ordered, immutable chain of {@link net.bytebuddy.asm.ClassVisitorWrapper}s.
+     * An ordered, immutable chain of {@link net.bytebuddy.asm.ClassVisitorWrapper}s. Any wrapper of the chain that requires a
+     * description of the instrumented type can only be applied via {@link ForInstrumentedType#wrap(TypeDescription, ClassVisitor)}.
      */
-    class Compound implements ClassVisitorWrapper {
+    class Compound implements ForInstrumentedType {
 
         /**
          * The class visitor wrappers that are represented by this chain in their order. This list must not be mutated.
@@ -130,6 +180,14 @@ public interface ClassVisitorWrapper {
             return classVisitor;
         }
 
+        @Override
+        public ClassVisitor wrap(TypeDescription instrumentedType, ClassVisitor classVisitor) {
+            for (ClassVisitorWrapper classVisitorWrapper : classVisitorWrappers) {
+                classVisitor = Dispatcher.INSTANCE.wrap(classVisitorWrapper, instrumentedType, classVisitor);
+            }
+            return classVisitor;
+        }
+
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
@@ -8,6 +8,8 @@ import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.utility.PropertyDispatcher;
 
 import java.lang.annotation.*;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.*;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -1075,6 +1077,59 @@ public interface AnnotationDescription {
         S loadSilent(ClassLoader classLoader);
     }
 
+    /**
+     * A cache for an annotation instance that was loaded for an annotation description. As loading an annotation that is not
+     * represented by a loaded annotation requires the creation of a proxy instance, a description that is loaded repeatedly
+     * can use this cache to reuse a previously created instance. The cache only retains the most recently loaded instance
+     * which is referenced softly in order to not prevent the unloading of its class loader. An instance is only reused if it
+     * is an instance of the requested annotation type and if it was loaded by the requested class loader. This cache is safe
+     * for concurrent use.
+     */
+    class InstanceCache {
+
+        /**
+         * A reference to the most recently loaded annotation instance or {@code null} if no annotation was loaded.
+         */
+        private volatile Reference<Annotation> instance;
+
+        /**
+         * Locates a previously loaded annotation instance.
+         *
+         * @param annotationType The requested annotation type.
+         * @param classLoader    The class loader that loaded the requested instance.
+         * @param <S>            The requested annotation type.
+         * @return A previously loaded instance or {@code null} if no such instance is cached.
+         */
+        public <S extends Annotation> S find(Class<S> annotationType, ClassLoader classLoader) {
+            Reference<Annotation> instance = this.instance;
+            Annotation annotation = instance == null
+                    ? null
+                    : instance.get();
+            return annotation != null && annotationType.isInstance(annotation) && annotation.getClass().getClassLoader() == classLoader
+                    ? annotationType.cast(annotation)
+                    : null;
+        }
+
+        /**
+         * Registers a loaded annotation instance with this cache.
+         *
+         * @param annotation The loaded annotation instance.
+         * @param <S>        The type of the loaded annotation.
+         * @return The registered instance.
+         */
+        public <S extends Annotation> S register(S annotation) {
+            instance = new SoftReference<Annotation>(annotation);
+            return annotation;
+        }
+
+        @Override
+        public String toString() {
+            return "AnnotationDescription.InstanceCache{" +
+                    "instance=" + instance +
+                    '}';
+        }
+    }
+
     /**
      * An {@link java.lang.reflect.InvocationHandler} for implementing annotations.
      *
@@ -1578,7 +1633,7 @@ public interface AnnotationDescription {
         public static Object describe(Object value, TypeDescription typeDescription) {
             // Because enums can implement annotation interfaces, the enum property needs to be checked first.
             if (typeDescription.represents(Class.class)) {
-                value = new TypeDescription.ForLoadedType((Class<?>) value);
+                value = TypeDescription.ForLoadedType.of((Class<?>) value);
             } else if (typeDescription.represents(Class[].class)) {
                 value = new TypeList.ForLoadedType((Class<?>[]) value).toArray(new TypeDescription[((Class<?>[]) value).length]);
             } else if (typeDescription.isAssignableTo(Enum.class)) {
@@ -1649,7 +1704,7 @@ public interface AnnotationDescription {
 
         @Override
         public TypeDescription getAnnotationType() {
-            return new TypeDescription.ForLoadedType(annotation.annotationType());
+            return TypeDescription.ForLoadedType.of(annotation.annotationType());
         }
 
 
@@ -1720,6 +1775,11 @@ public interface AnnotationDescription {
          */
         private final Map<String, AnnotationValue<?, ?>> annotationValues;
 
+        /**
+         * A cache for the most recently loaded instance of this annotation.
+         */
+        private final InstanceCache instanceCache;
+
         /**
          * Creates a new latent annotation description.
          *
@@ -1729,6 +1789,7 @@ public interface AnnotationDescription {
         protected Latent(TypeDescription annotationType, Map<String, AnnotationValue<?, ?>> annotationValues) {
             this.annotationType = annotationType;
             this.annotationValues = annotationValues;
+            instanceCache = new InstanceCache();
         }
 
         @Override
@@ -1786,9 +1847,13 @@ public interface AnnotationDescription {
             @Override
             @SuppressWarnings("unchecked")
             public S load(ClassLoader classLoader) throws ClassNotFoundException {
-                return (S) Proxy.newProxyInstance(classLoader,
-                        new Class<?>[]{annotationType},
-                        AnnotationDescription.AnnotationInvocationHandler.of(classLoader, annotationType, annotationValues));
+                S annotation = instanceCache.find(annotationType, classLoader);
+                if (annotation == null) {
+                    annotation = instanceCache.register((S) Proxy.newProxyInstance(classLoader,
+                            new Class<?>[]{annotationType},
+                            AnnotationDescription.AnnotationInvocationHandler.of(classLoader, annotationType, annotationValues)));
+                }
+                return annotation;
             }
 
             @Override
@@ -1841,7 +1906,7 @@ public interface AnnotationDescription {
          * @return A builder for creating an annotation of the given type.
          */
         public static Builder forType(Class<? extends Annotation> annotationType) {
-            return forType(new TypeDescription.ForLoadedType(nonNull(annotationType)));
+            return forType(TypeDescription.ForLoadedType.of(nonNull(annotationType)));
         }
 
         /**
@@ -1944,7 +2009,7 @@ public interface AnnotationDescription {
          * @return A builder with the additional class property.
          */
         public Builder define(String property, Class<?> type) {
-            return define(property, new TypeDescription.ForLoadedType(nonNull(type)));
+            return define(property, TypeDescription.ForLoadedType.of(nonNull(type)));
         }
 
         /**
@@ -1974,7 +2039,7 @@ public interface AnnotationDescription {
             for (T aValue : value) {
                 enumerationDescription[index++] = new EnumerationDescription.ForLoadedEnumeration(nonNull(aValue));
             }
-            return defineEnumerationArray(property, new TypeDescription.ForLoadedType(nonNull(enumerationType)), enumerationDescription);
+            return defineEnumerationArray(property, TypeDescription.ForLoadedType.of(nonNull(enumerationType)), enumerationDescription);
         }
 
         /**
@@ -2020,7 +2085,7 @@ public interface AnnotationDescription {
          */
         public <T extends Annotation> Builder defineAnnotationArray(String property, Class<T> annotationType, T... annotation) {
             return defineAnnotationArray(property,
-                    new TypeDescription.ForLoadedType(nonNull(annotationType)),
+                    TypeDescription.ForLoadedType.of(nonNull(annotationType)),
                     new AnnotationList.ForLoadedAnnotation(nonNull(annotation)).toArray(new AnnotationDescription[annotation.length]));
         }
 
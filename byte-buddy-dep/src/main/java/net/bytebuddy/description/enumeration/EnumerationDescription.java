@@ -97,7 +97,7 @@ public interface EnumerationDescription {
 
         @Override
         public TypeDescription getEnumerationType() {
-            return new TypeDescription.ForLoadedType(value.getDeclaringClass());
+            return TypeDescription.ForLoadedType.of(value.getDeclaringClass());
         }
 
         @Override
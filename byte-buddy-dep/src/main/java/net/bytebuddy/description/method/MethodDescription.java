@@ -695,7 +695,7 @@ public interface MethodDescription extends TypeVariableSource,
 
         @Override
         public TypeDescription getDeclaringType() {
-            return new TypeDescription.ForLoadedType(constructor.getDeclaringClass());
+            return TypeDescription.ForLoadedType.of(constructor.getDeclaringClass());
         }
 
         @Override
@@ -795,7 +795,7 @@ public interface MethodDescription extends TypeVariableSource,
 
         @Override
         public TypeDescription getDeclaringType() {
-            return new TypeDescription.ForLoadedType(method.getDeclaringClass());
+            return TypeDescription.ForLoadedType.of(method.getDeclaringClass());
         }
 
         @Override
@@ -882,7 +882,7 @@ public interface MethodDescription extends TypeVariableSource,
             Object value = method.getDefaultValue();
             return value == null
                     ? NO_DEFAULT_VALUE
-                    : AnnotationDescription.ForLoadedAnnotation.describe(value, new TypeDescription.ForLoadedType(method.getReturnType()));
+                    : AnnotationDescription.ForLoadedAnnotation.describe(value, TypeDescription.ForLoadedType.of(method.getReturnType()));
         }
 
         @Override
@@ -18,11 +18,16 @@ import org.objectweb.asm.Type;
 import org.objectweb.asm.signature.SignatureWriter;
 
 import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.GenericSignatureFormatError;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.utility.ByteBuddyCommons.join;
@@ -359,7 +364,7 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public boolean isAssignableFrom(Class<?> type) {
-            return isAssignableFrom(new ForLoadedType(type));
+            return isAssignableFrom(ForLoadedType.of(type));
         }
 
         @Override
@@ -369,7 +374,7 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public boolean isAssignableTo(Class<?> type) {
-            return isAssignableTo(new ForLoadedType(type));
+            return isAssignableTo(ForLoadedType.of(type));
         }
 
         @Override
@@ -826,15 +831,55 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
     }
 
     /**
+     * <p>
      * A type description implementation that represents a loaded type.
+     * </p>
+     * <p>
+     * A canonical description of a loaded type can be obtained via {@link ForLoadedType#of(Class)}. Such descriptions are
+     * interned per type and memoize their super type, interfaces and member lists such that the reflection API is not queried
+     * repeatedly for the same information. As a description references its type, canonical descriptions are only referenced
+     * weakly such that they do not prevent the unloading of a type and its class loader. A canonical description is therefore
+     * only shared for as long as it is referenced by any of its users.
+     * </p>
      */
     class ForLoadedType extends AbstractBase {
 
+        /**
+         * A cache of canonical descriptions of loaded types. Types are referenced weakly by their storage keys such that a
+         * lookup does not require any locking.
+         */
+        private static final ConcurrentMap<Object, Reference<TypeDescription>> CANONICAL_DESCRIPTIONS = new ConcurrentHashMap<Object, Reference<TypeDescription>>();
+
+        /**
+         * A reference queue that is notified of the storage keys of unloaded types.
+         */
+        private static final ReferenceQueue<Class<?>> UNLOADED = new ReferenceQueue<Class<?>>();
+
         /**
          * The loaded type this instance represents.
          */
         private final Class<?> type;
 
+        /**
+         * The memoized super type of this type or {@code null} if the super type was not yet resolved.
+         */
+        private volatile GenericTypeDescription declaredSuperType;
+
+        /**
+         * The memoized interfaces of this type or {@code null} if the interfaces were not yet resolved.
+         */
+        private volatile GenericTypeList declaredInterfaces;
+
+        /**
+         * The memoized declared fields of this type or {@code null} if the fields were not yet resolved.
+         */
+        private volatile FieldList<FieldDescription.InDefinedShape> declaredFields;
+
+        /**
+         * The memoized declared methods of this type or {@code null} if the methods were not yet resolved.
+         */
+        private volatile MethodList<MethodDescription.InDefinedShape> declaredMethods;
+
         /**
          * Creates a new immutable type description for a loaded type.
          *
@@ -844,6 +889,55 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
             this.type = type;
         }
 
+        /**
+         * Returns a canonical description of the given loaded type. Other than a description that is created via the constructor,
+         * a canonical description is shared by any caller such that its memoized properties are only resolved once.
+         *
+         * @param type The type to describe.
+         * @return A canonical description of the given type.
+         */
+        public static TypeDescription of(Class<?> type) {
+            LookupKey lookupKey = new LookupKey(type);
+            Reference<TypeDescription> reference = CANONICAL_DESCRIPTIONS.get(lookupKey);
+            TypeDescription typeDescription = reference == null
+                    ? null
+                    : reference.get();
+            if (typeDescription != null) {
+                return typeDescription;
+            }
+            expungeStaleEntries();
+            typeDescription = new ForLoadedType(type);
+            Reference<TypeDescription> canonical = new WeakReference<TypeDescription>(typeDescription);
+            while (true) {
+                if (reference == null) {
+                    reference = CANONICAL_DESCRIPTIONS.putIfAbsent(new StorageKey(type, UNLOADED), canonical);
+                    if (reference == null) {
+                        return typeDescription;
+                    }
+                } else if (CANONICAL_DESCRIPTIONS.replace(lookupKey, reference, canonical)) {
+                    return typeDescription;
+                } else {
+                    reference = CANONICAL_DESCRIPTIONS.get(lookupKey);
+                }
+                TypeDescription previous = reference == null
+                        ? null
+                        : reference.get();
+                if (previous != null) {
+                    return previous;
+                }
+            }
+        }
+
+        /**
+         * Removes the canonical descriptions of all types that were garbage collected.
+         */
+        private static void expungeStaleEntries() {
+            Reference<?> reference;
+            while ((reference = UNLOADED.poll()) != null) {
+                CANONICAL_DESCRIPTIONS.remove(reference);
+            }
+        }
+
         @Override
         public boolean isAssignableFrom(Class<?> type) {
             // The JVM conducts more efficient assignability lookups of loaded types what is attempted first.
@@ -867,7 +961,7 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
             Class<?> componentType = type.getComponentType();
             return componentType == null
                     ? TypeDescription.UNDEFINED
-                    : new TypeDescription.ForLoadedType(componentType);
+                    : TypeDescription.ForLoadedType.of(componentType);
         }
 
         @Override
@@ -887,16 +981,28 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public GenericTypeDescription getDeclaredSuperType() {
-            return type.getSuperclass() == null
-                    ? TypeDescription.UNDEFINED
-                    : new LazyProjection.OfLoadedSuperType(type);
+            if (type.getSuperclass() == null) {
+                return TypeDescription.UNDEFINED;
+            }
+            GenericTypeDescription declaredSuperType = this.declaredSuperType;
+            if (declaredSuperType == null) {
+                declaredSuperType = new LazyProjection.OfLoadedSuperType(type);
+                this.declaredSuperType = declaredSuperType;
+            }
+            return declaredSuperType;
         }
 
         @Override
         public GenericTypeList getDeclaredInterfaces() {
-            return isArray()
-                    ? ARRAY_INTERFACES
-                    : new GenericTypeList.OfLoadedInterfaceTypes(type);
+            if (isArray()) {
+                return ARRAY_INTERFACES;
+            }
+            GenericTypeList declaredInterfaces = this.declaredInterfaces;
+            if (declaredInterfaces == null) {
+                declaredInterfaces = new GenericTypeList.OfLoadedInterfaceTypes(type);
+                this.declaredInterfaces = declaredInterfaces;
+            }
+            return declaredInterfaces;
         }
 
         @Override
@@ -904,7 +1010,7 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
             Class<?> declaringType = type.getDeclaringClass();
             return declaringType == null
                     ? TypeDescription.UNDEFINED
-                    : new TypeDescription.ForLoadedType(declaringType);
+                    : TypeDescription.ForLoadedType.of(declaringType);
         }
 
         @Override
@@ -925,7 +1031,7 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
             Class<?> enclosingType = type.getEnclosingClass();
             return enclosingType == null
                     ? TypeDescription.UNDEFINED
-                    : new TypeDescription.ForLoadedType(enclosingType);
+                    : TypeDescription.ForLoadedType.of(enclosingType);
         }
 
         @Override
@@ -955,12 +1061,22 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
 
         @Override
         public FieldList<FieldDescription.InDefinedShape> getDeclaredFields() {
-            return new FieldList.ForLoadedField(type.getDeclaredFields());
+            FieldList<FieldDescription.InDefinedShape> declaredFields = this.declaredFields;
+            if (declaredFields == null) {
+                declaredFields = new FieldList.ForLoadedField(type.getDeclaredFields());
+                this.declaredFields = declaredFields;
+            }
+            return declaredFields;
         }
 
         @Override
         public MethodList<MethodDescription.InDefinedShape> getDeclaredMethods() {
-            return new MethodList.ForLoadedType(type);
+            MethodList<MethodDescription.InDefinedShape> declaredMethods = this.declaredMethods;
+            if (declaredMethods == null) {
+                declaredMethods = new MethodList.ForLoadedType(type);
+                this.declaredMethods = declaredMethods;
+            }
+            return declaredMethods;
         }
 
         @Override
@@ -1005,6 +1121,105 @@ public interface TypeDescription extends GenericTypeDescription, TypeVariableSou
         public AnnotationList getDeclaredAnnotations() {
             return new AnnotationList.ForLoadedAnnotation(type.getDeclaredAnnotations());
         }
+
+        /**
+         * A key for looking up the canonical description of a loaded type without creating a weak reference.
+         */
+        protected static class LookupKey {
+
+            /**
+             * The represented type.
+             */
+            private final Class<?> type;
+
+            /**
+             * The identity hash code of the represented type.
+             */
+            private final int hashCode;
+
+            /**
+             * Creates a new lookup key.
+             *
+             * @param type The represented type.
+             */
+            protected LookupKey(Class<?> type) {
+                this.type = type;
+                hashCode = System.identityHashCode(type);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other instanceof LookupKey) {
+                    return type == ((LookupKey) other).type;
+                } else if (other instanceof StorageKey) {
+                    StorageKey storageKey = (StorageKey) other;
+                    return hashCode == storageKey.hashCode && type == storageKey.get();
+                } else {
+                    return false;
+                }
+            }
+
+            @Override
+            public int hashCode() {
+                return hashCode;
+            }
+
+            @Override
+            public String toString() {
+                return "TypeDescription.ForLoadedType.LookupKey{" +
+                        "type=" + type +
+                        '}';
+            }
+        }
+
+        /**
+         * A key for storing the canonical description of a loaded type that references the type weakly.
+         */
+        protected static class StorageKey extends WeakReference<Class<?>> {
+
+            /**
+             * The identity hash code of the represented type.
+             */
+            private final int hashCode;
+
+            /**
+             * Creates a new storage key.
+             *
+             * @param type           The represented type.
+             * @param referenceQueue The reference queue to notify upon the collection of the type.
+             */
+            protected StorageKey(Class<?> type, ReferenceQueue<? super Class<?>> referenceQueue) {
+                super(type, referenceQueue);
+                hashCode = System.identityHashCode(type);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other instanceof LookupKey) {
+                    LookupKey lookupKey = (LookupKey) other;
+                    return hashCode == lookupKey.hashCode && get() == lookupKey.type;
+                } else if (other instanceof StorageKey) {
+                    StorageKey storageKey = (StorageKey) other;
+                    return hashCode == storageKey.hashCode && get() == storageKey.get();
+                } else {
+                    return false;
+                }
+            }
+
+            @Override
+            public int hashCode() {
+                return hashCode;
+            }
+
+            @Override
+            public String toString() {
+                return "TypeDescription.ForLoadedType.StorageKey{" +
+                        "type=" + get() +
+                        '}';
+            }
+        }
     }
 
     /**
@@ -102,7 +102,7 @@ public interface TypeList extends FilterableList<TypeDescription, TypeList> {
 
         @Override
         public TypeDescription get(int index) {
-            return new TypeDescription.ForLoadedType(types.get(index));
+            return TypeDescription.ForLoadedType.of(types.get(index));
         }
 
         @Override
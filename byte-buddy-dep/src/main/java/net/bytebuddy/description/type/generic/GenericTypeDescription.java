@@ -1275,7 +1275,7 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType(type);
+                return TypeDescription.ForLoadedType.of(type);
             }
         }
 
@@ -1947,7 +1947,7 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType((Class<?>) parameterizedType.getRawType());
+                return TypeDescription.ForLoadedType.of((Class<?>) parameterizedType.getRawType());
             }
         }
 
@@ -2171,7 +2171,7 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
             public TypeVariableSource getVariableSource() {
                 GenericDeclaration genericDeclaration = typeVariable.getGenericDeclaration();
                 if (genericDeclaration instanceof Class) {
-                    return new TypeDescription.ForLoadedType((Class<?>) genericDeclaration);
+                    return TypeDescription.ForLoadedType.of((Class<?>) genericDeclaration);
                 } else if (genericDeclaration instanceof Method) {
                     return new MethodDescription.ForLoadedMethod((Method) genericDeclaration);
                 } else if (genericDeclaration instanceof Constructor) {
@@ -2322,10 +2322,41 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
             return resolve().toString();
         }
 
+        /**
+         * A lazy projection that resolves the represented generic type only once and reuses the resolved type on any subsequent
+         * access. Resolving a generic type of a loaded element requires parsing its generic signature via the reflection API what
+         * is expensive compared to the usually frequent access of a lazy projection. The resolution is not synchronized such that
+         * a generic type might be resolved multiple times when a projection is accessed concurrently.
+         */
+        public abstract static class Memoizing extends LazyProjection {
+
+            /**
+             * The resolved generic type or {@code null} if the type was not yet resolved.
+             */
+            private volatile GenericTypeDescription resolved;
+
+            @Override
+            protected GenericTypeDescription resolve() {
+                GenericTypeDescription resolved = this.resolved;
+                if (resolved == null) {
+                    resolved = doResolve();
+                    this.resolved = resolved;
+                }
+                return resolved;
+            }
+
+            /**
+             * Resolves the actual generic type. This method is only invoked if the generic type was not resolved before.
+             *
+             * @return An actual description of the represented generic type.
+             */
+            protected abstract GenericTypeDescription doResolve();
+        }
+
         /**
          * A lazy projection of a generic super type.
          */
-        public static class OfLoadedSuperType extends LazyProjection {
+        public static class OfLoadedSuperType extends Memoizing {
 
             /**
              * The type of which the super class is represented.
@@ -2342,7 +2373,7 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
             }
 
             @Override
-            protected GenericTypeDescription resolve() {
+            protected GenericTypeDescription doResolve() {
                 Type superClass = type.getGenericSuperclass();
                 return superClass == null
                         ? TypeDescription.UNDEFINED
@@ -2354,14 +2385,14 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
                 Class<?> superClass = type.getSuperclass();
                 return superClass == null
                         ? TypeDescription.UNDEFINED
-                        : new TypeDescription.ForLoadedType(superClass);
+                        : TypeDescription.ForLoadedType.of(superClass);
             }
         }
 
         /**
          * A lazy projection of a field's type.
          */
-        public static class OfLoadedFieldType extends LazyProjection {
+        public static class OfLoadedFieldType extends Memoizing {
 
             /**
              * The field of which the type is represented.
@@ -2378,20 +2409,20 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
             }
 
             @Override
-            protected GenericTypeDescription resolve() {
+            protected GenericTypeDescription doResolve() {
                 return Sort.describe(field.getGenericType());
             }
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType(field.getType());
+                return TypeDescription.ForLoadedType.of(field.getType());
             }
         }
 
         /**
          * A lazy projection of a method's generic return type.
          */
-        public static class OfLoadedReturnType extends LazyProjection {
+        public static class OfLoadedReturnType extends Memoizing {
 
             /**
              * The method which defines the return type.
@@ -2408,20 +2439,20 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
             }
 
             @Override
-            protected GenericTypeDescription resolve() {
+            protected GenericTypeDescription doResolve() {
                 return Sort.describe(method.getGenericReturnType());
             }
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType(method.getReturnType());
+                return TypeDescription.ForLoadedType.of(method.getReturnType());
             }
         }
 
         /**
          * A lazy projection of a loaded parameter.
          */
-        public static class OfLoadedParameter extends LazyProjection {
+        public static class OfLoadedParameter extends Memoizing {
 
             /**
              * A dispatcher for introspecting a parameter's type.
@@ -2459,13 +2490,13 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
             }
 
             @Override
-            protected GenericTypeDescription resolve() {
+            protected GenericTypeDescription doResolve() {
                 return Sort.describe(DISPATCHER.getParameterizedType(parameter));
             }
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType(DISPATCHER.getType(parameter));
+                return TypeDescription.ForLoadedType.of(DISPATCHER.getType(parameter));
             }
 
             /**
@@ -2592,7 +2623,7 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
             /**
              * Represents a constructor's parameter on a JVM that does not know the {@code java.lang.reflect.Parameter} type.
              */
-            public static class OfLegacyVmConstructor extends LazyProjection {
+            public static class OfLegacyVmConstructor extends Memoizing {
 
                 /**
                  * The constructor of which a parameter type is represented.
@@ -2623,20 +2654,20 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
                 }
 
                 @Override
-                protected GenericTypeDescription resolve() {
+                protected GenericTypeDescription doResolve() {
                     return Sort.describe(constructor.getGenericParameterTypes()[index]);
                 }
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType(erasure);
+                    return TypeDescription.ForLoadedType.of(erasure);
                 }
             }
 
             /**
              * Represents a method's parameter on a JVM that does not know the {@code java.lang.reflect.Parameter} type.
              */
-            public static class OfLegacyVmMethod extends LazyProjection {
+            public static class OfLegacyVmMethod extends Memoizing {
 
                 /**
                  * The method of which a parameter type is represented.
@@ -2667,13 +2698,13 @@ public interface GenericTypeDescription extends NamedElement, Iterable<GenericTy
                 }
 
                 @Override
-                protected GenericTypeDescription resolve() {
+                protected GenericTypeDescription doResolve() {
                     return Sort.describe(method.getGenericParameterTypes()[index]);
                 }
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType(erasure);
+                    return TypeDescription.ForLoadedType.of(erasure);
                 }
             }
         }
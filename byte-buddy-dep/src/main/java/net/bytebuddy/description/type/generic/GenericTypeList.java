@@ -408,7 +408,7 @@ public interface GenericTypeList extends FilterableList<GenericTypeDescription,
         /**
          * A type projection of an interface type.
          */
-        private static class TypeProjection extends GenericTypeDescription.LazyProjection {
+        private static class TypeProjection extends GenericTypeDescription.LazyProjection.Memoizing {
 
             /**
              * The type of which an interface type is represented.
@@ -439,13 +439,13 @@ public interface GenericTypeList extends FilterableList<GenericTypeDescription,
             }
 
             @Override
-            protected GenericTypeDescription resolve() {
+            protected GenericTypeDescription doResolve() {
                 return GenericTypeDescription.Sort.describe(type.getGenericInterfaces()[index]);
             }
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType(erasure);
+                return TypeDescription.ForLoadedType.of(erasure);
             }
         }
     }
@@ -487,7 +487,7 @@ public interface GenericTypeList extends FilterableList<GenericTypeDescription,
         /**
          * A projection of a specific exception type.
          */
-        private static class TypeProjection extends GenericTypeDescription.LazyProjection {
+        private static class TypeProjection extends GenericTypeDescription.LazyProjection.Memoizing {
 
             /**
              * The constructor of which the exception types are represented.
@@ -518,13 +518,13 @@ public interface GenericTypeList extends FilterableList<GenericTypeDescription,
             }
 
             @Override
-            protected GenericTypeDescription resolve() {
+            protected GenericTypeDescription doResolve() {
                 return GenericTypeDescription.Sort.describe(constructor.getGenericExceptionTypes()[index]);
             }
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType(erasure);
+                return TypeDescription.ForLoadedType.of(erasure);
             }
         }
     }
@@ -566,7 +566,7 @@ public interface GenericTypeList extends FilterableList<GenericTypeDescription,
         /**
          * A projection of a specific exception type.
          */
-        private static class TypeProjection extends GenericTypeDescription.LazyProjection {
+        private static class TypeProjection extends GenericTypeDescription.LazyProjection.Memoizing {
 
             /**
              * The method of which the exception types are represented.
@@ -597,13 +597,13 @@ public interface GenericTypeList extends FilterableList<GenericTypeDescription,
             }
 
             @Override
-            protected GenericTypeDescription resolve() {
+            protected GenericTypeDescription doResolve() {
                 return GenericTypeDescription.Sort.describe(method.getGenericExceptionTypes()[index]);
             }
 
             @Override
             public TypeDescription asErasure() {
-                return new TypeDescription.ForLoadedType(erasure);
+                return TypeDescription.ForLoadedType.of(erasure);
             }
         }
     }
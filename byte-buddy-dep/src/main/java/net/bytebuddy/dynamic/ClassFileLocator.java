@@ -7,12 +7,15 @@ import java.io.*;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
 import java.lang.instrument.Instrumentation;
+import java.lang.instrument.UnmodifiableClassException;
 import java.lang.reflect.Field;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 
@@ -286,7 +289,7 @@ public interface ClassFileLocator {
             InputStream inputStream = classLoader.getResourceAsStream(typeName.replace('.', '/') + CLASS_FILE_EXTENSION);
             if (inputStream != null) {
                 try {
-                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream));
+                    return new Resolution.Explicit(StreamDrainer.POOLED.drain(inputStream));
                 } finally {
                     inputStream.close();
                 }
@@ -341,7 +344,7 @@ public interface ClassFileLocator {
             } else {
                 InputStream inputStream = jarFile.getInputStream(zipEntry);
                 try {
-                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream));
+                    return new Resolution.Explicit(StreamDrainer.POOLED.drain(inputStream, zipEntry.getSize()));
                 } finally {
                     inputStream.close();
                 }
@@ -397,9 +400,9 @@ public interface ClassFileLocator {
         public Resolution locate(String typeName) throws IOException {
             File file = new File(folder, typeName.replace('.', File.separatorChar) + CLASS_FILE_EXTENSION);
             if (file.exists()) {
-                InputStream inputStream = new BufferedInputStream(new FileInputStream(file));
+                InputStream inputStream = new FileInputStream(file);
                 try {
-                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream));
+                    return new Resolution.Explicit(StreamDrainer.POOLED.drain(inputStream, file.length()));
                 } finally {
                     inputStream.close();
                 }
@@ -1047,6 +1050,295 @@ public interface ClassFileLocator {
                         '}';
             }
         }
+
+        /**
+         * <p>
+         * An agent-based class file locator that extracts the binary representations of several types within a single
+         * retransformation and that caches any extracted binary representation. Retransforming a type requires the JVM
+         * to reach a safepoint such that locating the binary representations of many types one by one is expensive.
+         * By {@link Batched#prefetch(Collection) prefetching} the types of interest, their binary representations are
+         * extracted by a single retransformation. Any subsequent lookup of a cached binary representation does not
+         * require another retransformation.
+         * </p>
+         * <p>
+         * The cache is bounded by the accumulated length of all cached binary representations where the least recently
+         * located binary representations are evicted first. A binary representation that exceeds the cache's capacity by
+         * itself is never cached. This class file locator is safe for concurrent use.
+         * </p>
+         */
+        public static class Batched implements ClassFileLocator {
+
+            /**
+             * The instrumentation instance to use for looking up the binary format of a type.
+             */
+            private final Instrumentation instrumentation;
+
+            /**
+             * The delegate to load a class by its name.
+             */
+            private final ClassLoadingDelegate classLoadingDelegate;
+
+            /**
+             * The maximum accumulated length of all cached binary representations in bytes.
+             */
+            private final long maximumSize;
+
+            /**
+             * The cached binary representations by their type names in the order of their last access. Any access
+             * must be synchronized on this map.
+             */
+            private final LinkedHashMap<String, byte[]> binaryRepresentations;
+
+            /**
+             * The accumulated length of all cached binary representations in bytes.
+             */
+            private long size;
+
+            /**
+             * Creates a batched agent-based class file locator.
+             *
+             * @param instrumentation The instrumentation to be used.
+             * @param classLoader     The class loader to read a class from.
+             * @param maximumSize     The maximum accumulated length of all cached binary representations in bytes.
+             */
+            public Batched(Instrumentation instrumentation, ClassLoader classLoader, long maximumSize) {
+                this(instrumentation, ClassLoadingDelegate.Default.of(classLoader), maximumSize);
+            }
+
+            /**
+             * Creates a batched agent-based class file locator.
+             *
+             * @param instrumentation      The instrumentation to be used.
+             * @param classLoadingDelegate The delegate responsible for class loading.
+             * @param maximumSize          The maximum accumulated length of all cached binary representations in bytes.
+             */
+            public Batched(Instrumentation instrumentation, ClassLoadingDelegate classLoadingDelegate, long maximumSize) {
+                if (!instrumentation.isRetransformClassesSupported()) {
+                    throw new IllegalArgumentException(instrumentation + " does not support retransformation");
+                } else if (maximumSize < 0L) {
+                    throw new IllegalArgumentException("Cache size cannot be negative: " + maximumSize);
+                }
+                this.instrumentation = instrumentation;
+                this.classLoadingDelegate = nonNull(classLoadingDelegate);
+                this.maximumSize = maximumSize;
+                binaryRepresentations = new LinkedHashMap<String, byte[]>(16, 0.75f, true);
+            }
+
+            /**
+             * Extracts the binary representations of all given types within a single retransformation. Types that cannot be
+             * loaded, that cannot be retransformed or of which the binary representation is already cached are skipped.
+             *
+             * @param typeName The names of the types to prefetch.
+             */
+            public void prefetch(String... typeName) {
+                prefetch(Arrays.asList(typeName));
+            }
+
+            /**
+             * Extracts the binary representations of all given types within a single retransformation. Types that cannot be
+             * loaded, that cannot be retransformed or of which the binary representation is already cached are skipped.
+             *
+             * @param typeNames The names of the types to prefetch.
+             */
+            public void prefetch(Collection<String> typeNames) {
+                List<Class<?>> types = new ArrayList<Class<?>>(typeNames.size());
+                for (String typeName : typeNames) {
+                    if (lookup(typeName) == null) {
+                        try {
+                            Class<?> type = classLoadingDelegate.locate(typeName);
+                            if (instrumentation.isModifiableClass(type)) {
+                                types.add(type);
+                            }
+                        } catch (ClassNotFoundException ignored) {
+                            // Skip types that cannot be loaded.
+                        }
+                    }
+                }
+                try {
+                    extract(types);
+                } catch (UnmodifiableClassException exception) {
+                    throw new IllegalStateException("Cannot retransform " + types, exception);
+                }
+            }
+
+            @Override
+            public Resolution locate(String typeName) {
+                byte[] binaryRepresentation = lookup(typeName);
+                if (binaryRepresentation == null) {
+                    try {
+                        binaryRepresentation = extract(Collections.<Class<?>>singletonList(classLoadingDelegate.locate(typeName))).get(typeName);
+                    } catch (RuntimeException exception) {
+                        throw exception;
+                    } catch (Exception ignored) {
+                        return Resolution.Illegal.INSTANCE;
+                    }
+                }
+                return binaryRepresentation == null
+                        ? Resolution.Illegal.INSTANCE
+                        : new Resolution.Explicit(binaryRepresentation);
+            }
+
+            /**
+             * Removes all cached binary representations.
+             */
+            public void clear() {
+                synchronized (binaryRepresentations) {
+                    binaryRepresentations.clear();
+                    size = 0L;
+                }
+            }
+
+            /**
+             * Extracts the binary representations of the given types within a single retransformation and caches them.
+             *
+             * @param types The types to extract.
+             * @return A mapping of the given types' names to their binary representations.
+             * @throws UnmodifiableClassException If any of the given types cannot be retransformed.
+             */
+            protected Map<String, byte[]> extract(List<Class<?>> types) throws UnmodifiableClassException {
+                if (types.isEmpty()) {
+                    return Collections.emptyMap();
+                }
+                BatchExtractionClassFileTransformer classFileTransformer = new BatchExtractionClassFileTransformer(types);
+                try {
+                    instrumentation.addTransformer(classFileTransformer, true);
+                    instrumentation.retransformClasses(types.toArray(new Class<?>[types.size()]));
+                } finally {
+                    instrumentation.removeTransformer(classFileTransformer);
+                }
+                Map<String, byte[]> binaryRepresentations = classFileTransformer.getBinaryRepresentations();
+                for (Map.Entry<String, byte[]> entry : binaryRepresentations.entrySet()) {
+                    register(entry.getKey(), entry.getValue());
+                }
+                return binaryRepresentations;
+            }
+
+            /**
+             * Looks up a cached binary representation.
+             *
+             * @param typeName The name of the type to look up.
+             * @return The cached binary representation or {@code null} if no binary representation is cached.
+             */
+            private byte[] lookup(String typeName) {
+                synchronized (binaryRepresentations) {
+                    return binaryRepresentations.get(typeName);
+                }
+            }
+
+            /**
+             * Caches a binary representation and evicts the least recently located binary representations if the cache
+             * exceeds its maximum size.
+             *
+             * @param typeName             The name of the type.
+             * @param binaryRepresentation The binary representation of the type.
+             */
+            private void register(String typeName, byte[] binaryRepresentation) {
+                if (binaryRepresentation.length > maximumSize) {
+                    return;
+                }
+                synchronized (binaryRepresentations) {
+                    byte[] previous = binaryRepresentations.put(typeName, binaryRepresentation);
+                    size += binaryRepresentation.length - (previous == null ? 0 : previous.length);
+                    Iterator<byte[]> iterator = binaryRepresentations.values().iterator();
+                    while (size > maximumSize && iterator.hasNext()) {
+                        size -= iterator.next().length;
+                        iterator.remove();
+                    }
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Batched batched = (Batched) other;
+                return maximumSize == batched.maximumSize
+                        && instrumentation.equals(batched.instrumentation)
+                        && classLoadingDelegate.equals(batched.classLoadingDelegate);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = instrumentation.hashCode();
+                result = 31 * result + classLoadingDelegate.hashCode();
+                result = 31 * result + (int) (maximumSize ^ (maximumSize >>> 32));
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                synchronized (binaryRepresentations) {
+                    return "ClassFileLocator.AgentBased.Batched{" +
+                            "instrumentation=" + instrumentation +
+                            ", classLoadingDelegate=" + classLoadingDelegate +
+                            ", maximumSize=" + maximumSize +
+                            ", binaryRepresentations=" + binaryRepresentations.keySet() +
+                            ", size=" + size +
+                            '}';
+                }
+            }
+        }
+
+        /**
+         * A non-operational class file transformer that remembers the binary format of any of a given set of types.
+         */
+        protected static class BatchExtractionClassFileTransformer implements ClassFileTransformer {
+
+            /**
+             * An indicator that an attempted class file transformation did not alter the handed class file.
+             */
+            private static final byte[] DO_NOT_TRANSFORM = null;
+
+            /**
+             * The types of which the binary representations are extracted.
+             */
+            private final Set<Class<?>> types;
+
+            /**
+             * The binary representations of the extracted types by their names.
+             */
+            private final ConcurrentMap<String, byte[]> binaryRepresentations;
+
+            /**
+             * Creates a class file transformer for the purpose of extracting several types.
+             *
+             * @param types The types of which the binary representations are extracted.
+             */
+            protected BatchExtractionClassFileTransformer(Collection<? extends Class<?>> types) {
+                this.types = new HashSet<Class<?>>(types);
+                binaryRepresentations = new ConcurrentHashMap<String, byte[]>();
+            }
+
+            @Override
+            @SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"}, justification = "Return value is always null; received value is never modified")
+            public byte[] transform(ClassLoader classLoader,
+                                    String internalName,
+                                    Class<?> redefinedType,
+                                    ProtectionDomain protectionDomain,
+                                    byte[] classFile) throws IllegalClassFormatException {
+                if (redefinedType != null && types.contains(redefinedType)) {
+                    binaryRepresentations.put(redefinedType.getName(), classFile);
+                }
+                return DO_NOT_TRANSFORM;
+            }
+
+            /**
+             * Returns the binary representations of all extracted types by their names. The returned arrays must never be modified.
+             *
+             * @return The binary representations of all extracted types by their names.
+             */
+            protected Map<String, byte[]> getBinaryRepresentations() {
+                return binaryRepresentations;
+            }
+
+            @Override
+            public String toString() {
+                return "ClassFileLocator.AgentBased.BatchExtractionClassFileTransformer{" +
+                        "types=" + types +
+                        ", binaryRepresentations=" + binaryRepresentations.keySet() +
+                        '}';
+            }
+        }
     }
 
     /**
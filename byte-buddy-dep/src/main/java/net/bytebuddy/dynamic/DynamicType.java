@@ -28,6 +28,7 @@ import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.LatentMethodMatcher;
+import net.bytebuddy.utility.PersistentList;
 import org.objectweb.asm.Opcodes;
 
 import java.io.*;
@@ -1275,12 +1276,14 @@ public interface DynamicType {
             protected final MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory;
 
             /**
-             * This builder's currently registered field tokens.
+             * This builder's currently registered field tokens. Tokens are appended to a persistent list such that builders
+             * that are derived from this builder share the registered tokens rather than copying them.
              */
             protected final List<FieldDescription.Token> fieldTokens;
 
             /**
-             * This builder's currently registered method tokens.
+             * This builder's currently registered method tokens. Tokens are appended to a persistent list such that builders
+             * that are derived from this builder share the registered tokens rather than copying them.
              */
             protected final List<MethodDescription.Token> methodTokens;
 
@@ -2257,7 +2260,7 @@ public interface DynamicType {
                             methodGraphCompiler,
                             defaultFieldAttributeAppenderFactory,
                             defaultMethodAttributeAppenderFactory,
-                            join(fieldTokens, fieldToken),
+                            PersistentList.of(fieldTokens).append(fieldToken),
                             methodTokens);
                 }
 
@@ -2602,7 +2605,7 @@ public interface DynamicType {
                  * @return A subclass matched method interception that represents the materialized method.
                  */
                 private DefaultMatchedMethodInterception materialize(MethodDescription.Token methodToken) {
-                    return new DefaultMatchedMethodInterception(new LatentMethodMatcher.ForToken(methodToken), join(methodTokens, methodToken));
+                    return new DefaultMatchedMethodInterception(new LatentMethodMatcher.ForToken(methodToken), PersistentList.of(methodTokens).append(methodToken));
                 }
 
                 @Override
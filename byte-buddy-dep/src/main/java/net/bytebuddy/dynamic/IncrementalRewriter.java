@@ -0,0 +1,874 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.utility.StreamDrainer;
+import org.objectweb.asm.ClassReader;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * An incremental rewriter transforms the class files of a source folder into a target folder as a part of a build. Class files
+ * of types that are matched by a {@link Transformer} are transformed while any other file is copied without modification.
+ * </p>
+ * <p>
+ * For every file of the source folder, the rewriter records a digest of the file's inputs in an index file together with the files
+ * that were written to the target folder. For a class file, the inputs are the class file itself, the class files of all of its
+ * super types, as they are relevant for matching and transforming a type, and the version of the applied transformation. When
+ * rewriting a source folder again, any file with unchanged inputs is skipped if all of its previously written files are still present
+ * in the target folder. Files that were written for a source file that no longer exists are deleted from the target folder.
+ * </p>
+ * <p>
+ * <b>Important</b>: The index cannot detect changes of a transformation. Any change of a transformer's behavior requires
+ * a change of the version that is supplied to this rewriter.
+ * </p>
+ */
+public class IncrementalRewriter {
+
+    /**
+     * The algorithm that is used for computing the digest of a file's inputs.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-1";
+
+    /**
+     * The charset that is used for encoding the index file and for computing digests of strings.
+     */
+    private static final String CHARSET = "UTF-8";
+
+    /**
+     * Represents a super type for which no class file can be located.
+     */
+    private static final String UNRESOLVED = "?";
+
+    /**
+     * The transformer to apply to the types of the source folder.
+     */
+    private final Transformer transformer;
+
+    /**
+     * The class file locator for locating the class files of types that are not contained by the source folder.
+     */
+    private final ClassFileLocator classFileLocator;
+
+    /**
+     * The version of the applied transformation.
+     */
+    private final String version;
+
+    /**
+     * Creates a new incremental rewriter.
+     *
+     * @param transformer      The transformer to apply to the types of the source folder.
+     * @param classFileLocator The class file locator for locating the class files of types that are not contained by the source folder.
+     * @param version          The version of the applied transformation. If the version changes, any type is transformed again.
+     */
+    public IncrementalRewriter(Transformer transformer, ClassFileLocator classFileLocator, String version) {
+        this.transformer = transformer;
+        this.classFileLocator = classFileLocator;
+        this.version = version;
+    }
+
+    /**
+     * Computes a hexadecimal representation of the digest of the supplied message digest.
+     *
+     * @param messageDigest The message digest to complete.
+     * @return A hexadecimal representation of the digest.
+     */
+    private static String toHex(MessageDigest messageDigest) {
+        byte[] digest = messageDigest.digest();
+        StringBuilder stringBuilder = new StringBuilder(digest.length * 2);
+        for (byte value : digest) {
+            stringBuilder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Creates a new message digest.
+     *
+     * @return A new message digest.
+     */
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Every Java platform must support " + DIGEST_ALGORITHM, exception);
+        }
+    }
+
+    /**
+     * Computes a hexadecimal representation of the digest of the given binary data.
+     *
+     * @param binaryRepresentation The binary data to digest.
+     * @return A hexadecimal representation of the digest.
+     */
+    private static String digest(byte[] binaryRepresentation) {
+        MessageDigest messageDigest = newMessageDigest();
+        messageDigest.update(binaryRepresentation);
+        return toHex(messageDigest);
+    }
+
+    /**
+     * Reads the given file.
+     *
+     * @param file The file to read.
+     * @return The content of the file.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static byte[] read(File file) throws IOException {
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            return StreamDrainer.POOLED.drain(inputStream, file.length());
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Writes the given binary data to a file, creating any missing parent folder.
+     *
+     * @param file                 The file to write.
+     * @param binaryRepresentation The binary data to write.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static void write(File file, byte[] binaryRepresentation) throws IOException {
+        if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+            Logger.getAnonymousLogger().info("Writing file to existing folder structure: " + file.getParent());
+        }
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(binaryRepresentation);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Collects the relative paths of all files of a folder, using {@code /} as a separator.
+     *
+     * @param folder The folder to scan.
+     * @param prefix The prefix of the folder's relative path.
+     * @param paths  The collection to which any found path is added.
+     */
+    private static void collect(File folder, String prefix, Collection<String> paths) {
+        File[] file = folder.listFiles();
+        if (file != null) {
+            for (File aFile : file) {
+                if (aFile.isDirectory()) {
+                    collect(aFile, prefix + aFile.getName() + "/", paths);
+                } else {
+                    paths.add(prefix + aFile.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewrites the files of a source folder into a target folder.
+     *
+     * @param source The folder that contains the class files to transform.
+     * @param target The folder to which transformed and copied files are written. The target folder must not be the source folder.
+     * @param index  The index file that records the inputs and outputs of the previous rewrite. This file must not be located
+     *               in the source folder or the target folder.
+     * @return A summary of the rewrite.
+     * @throws IOException If an I/O exception occurs.
+     */
+    public Summary rewrite(File source, File target, File index) throws IOException {
+        if (source.getCanonicalFile().equals(target.getCanonicalFile())) {
+            throw new IllegalArgumentException("Cannot rewrite a folder into itself: " + source);
+        }
+        Index previous = Index.read(index, version);
+        Map<String, Index.Entry> entries = new LinkedHashMap<String, Index.Entry>();
+        ClassFileLocator classFileLocator = new ClassFileLocator.Compound(new ClassFileLocator.ForFolder(source), this.classFileLocator);
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator, TypePool.Default.ReaderMode.FAST);
+        TypeSink typeSink = new TypeSink.ForFolder(target);
+        DependencyResolver dependencyResolver = new DependencyResolver(classFileLocator);
+        SortedSet<String> paths = new TreeSet<String>();
+        collect(source, "", paths);
+        int transformed = 0, copied = 0, unchanged = 0, deleted = 0;
+        for (String path : paths) {
+            byte[] binaryRepresentation = read(new File(source, path));
+            String typeName = path.endsWith(TypeSink.CLASS_FILE_EXTENSION)
+                    ? path.substring(0, path.length() - TypeSink.CLASS_FILE_EXTENSION.length()).replace('/', '.')
+                    : null;
+            String digest = typeName == null
+                    ? digest(binaryRepresentation)
+                    : dependencyResolver.digest(typeName, binaryRepresentation, version);
+            Index.Entry entry = previous.get(path);
+            if (entry != null && entry.getDigest().equals(digest) && entry.isPresent(target)) {
+                entries.put(path, entry);
+                unchanged++;
+                continue;
+            }
+            List<String> outputs;
+            TypeDescription typeDescription = typeName == null
+                    ? TypeDescription.UNDEFINED
+                    : typePool.describe(typeName).resolve();
+            if (typeDescription != null && transformer.matches(typeDescription)) {
+                DynamicType dynamicType = transformer.transform(typeDescription, classFileLocator).make();
+                typeSink.store(dynamicType);
+                outputs = new ArrayList<String>(dynamicType.getAllTypes().size());
+                for (TypeDescription aTypeDescription : dynamicType.getAllTypes().keySet()) {
+                    outputs.add(aTypeDescription.getInternalName() + TypeSink.CLASS_FILE_EXTENSION);
+                }
+                transformed++;
+            } else {
+                write(new File(target, path), binaryRepresentation);
+                outputs = Collections.singletonList(path);
+                copied++;
+            }
+            if (entry != null) {
+                deleted += entry.delete(target, outputs);
+            }
+            entries.put(path, new Index.Entry(digest, outputs));
+        }
+        for (Map.Entry<String, Index.Entry> entry : previous.getEntries().entrySet()) {
+            if (!entries.containsKey(entry.getKey())) {
+                deleted += entry.getValue().delete(target, Collections.<String>emptyList());
+            }
+        }
+        new Index(version, entries).write(index);
+        return new Summary(transformed, copied, unchanged, deleted);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        IncrementalRewriter that = (IncrementalRewriter) other;
+        return transformer.equals(that.transformer)
+                && classFileLocator.equals(that.classFileLocator)
+                && version.equals(that.version);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = transformer.hashCode();
+        result = 31 * result + classFileLocator.hashCode();
+        result = 31 * result + version.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalRewriter{" +
+                "transformer=" + transformer +
+                ", classFileLocator=" + classFileLocator +
+                ", version='" + version + '\'' +
+                '}';
+    }
+
+    /**
+     * A transformer determines what types to transform and how to transform them.
+     */
+    public interface Transformer {
+
+        /**
+         * Determines if a type should be transformed.
+         *
+         * @param typeDescription A description of the type that is contained by the source folder.
+         * @return {@code true} if the type should be transformed.
+         */
+        boolean matches(TypeDescription typeDescription);
+
+        /**
+         * Transforms a type, typically by rebasing or redefining the type using {@link net.bytebuddy.ByteBuddy}.
+         *
+         * @param typeDescription  A description of the type to transform.
+         * @param classFileLocator A class file locator for locating the class file of the transformed type and of any other type.
+         * @return A builder for the transformed type.
+         */
+        DynamicType.Builder<?> transform(TypeDescription typeDescription, ClassFileLocator classFileLocator);
+    }
+
+    /**
+     * A summary of a rewrite.
+     */
+    public static class Summary {
+
+        /**
+         * The number of types that were transformed.
+         */
+        private final int transformed;
+
+        /**
+         * The number of files that were copied without modification.
+         */
+        private final int copied;
+
+        /**
+         * The number of files that were skipped as their inputs did not change.
+         */
+        private final int unchanged;
+
+        /**
+         * The number of files that were deleted from the target folder.
+         */
+        private final int deleted;
+
+        /**
+         * Creates a new summary.
+         *
+         * @param transformed The number of types that were transformed.
+         * @param copied      The number of files that were copied without modification.
+         * @param unchanged   The number of files that were skipped as their inputs did not change.
+         * @param deleted     The number of files that were deleted from the target folder.
+         */
+        protected Summary(int transformed, int copied, int unchanged, int deleted) {
+            this.transformed = transformed;
+            this.copied = copied;
+            this.unchanged = unchanged;
+            this.deleted = deleted;
+        }
+
+        /**
+         * Returns the number of types that were transformed.
+         *
+         * @return The number of types that were transformed.
+         */
+        public int getTransformed() {
+            return transformed;
+        }
+
+        /**
+         * Returns the number of files that were copied without modification.
+         *
+         * @return The number of files that were copied without modification.
+         */
+        public int getCopied() {
+            return copied;
+        }
+
+        /**
+         * Returns the number of files that were skipped as their inputs did not change.
+         *
+         * @return The number of files that were skipped as their inputs did not change.
+         */
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        /**
+         * Returns the number of files that were deleted from the target folder.
+         *
+         * @return The number of files that were deleted from the target folder.
+         */
+        public int getDeleted() {
+            return deleted;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            Summary summary = (Summary) other;
+            return transformed == summary.transformed
+                    && copied == summary.copied
+                    && unchanged == summary.unchanged
+                    && deleted == summary.deleted;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = transformed;
+            result = 31 * result + copied;
+            result = 31 * result + unchanged;
+            result = 31 * result + deleted;
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "IncrementalRewriter.Summary{" +
+                    "transformed=" + transformed +
+                    ", copied=" + copied +
+                    ", unchanged=" + unchanged +
+                    ", deleted=" + deleted +
+                    '}';
+        }
+    }
+
+    /**
+     * <p>
+     * An index of the inputs and outputs of a rewrite. An index is stored as a text file where the first line contains the version
+     * of the transformation and where any other line contains the relative path of a source file, the digest of its inputs and
+     * the relative paths of the files that were written for it, separated by tabs.
+     * </p>
+     * <p>
+     * An index is discarded if its version does not match the version of the current transformation or if it cannot be parsed
+     * such that all files are rewritten. An index is written to a temporary file that replaces the previous index only once it
+     * is complete.
+     * </p>
+     */
+    protected static class Index {
+
+        /**
+         * The separator of the elements of a line of an index file.
+         */
+        private static final String SEPARATOR = "\t";
+
+        /**
+         * The version of the transformation that created this index.
+         */
+        private final String version;
+
+        /**
+         * A mapping of relative paths of source files to their entries.
+         */
+        private final Map<String, Entry> entries;
+
+        /**
+         * Creates a new index.
+         *
+         * @param version The version of the transformation that created this index.
+         * @param entries A mapping of relative paths of source files to their entries.
+         */
+        protected Index(String version, Map<String, Entry> entries) {
+            this.version = version;
+            this.entries = entries;
+        }
+
+        /**
+         * Reads an index file. If the file does not exist, if it was created for another version or if it is corrupt, an empty
+         * index is returned.
+         *
+         * @param file    The index file.
+         * @param version The version of the current transformation.
+         * @return The index that is represented by the file.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected static Index read(File file, String version) throws IOException {
+            Map<String, Entry> entries = new HashMap<String, Entry>();
+            if (file.isFile()) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), CHARSET));
+                try {
+                    if (version.equals(reader.readLine())) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            String[] element = line.split(SEPARATOR);
+                            if (element.length < 2) {
+                                Logger.getAnonymousLogger().warning("Discarding corrupt index " + file + " with line: " + line);
+                                return new Index(version, new HashMap<String, Entry>());
+                            }
+                            entries.put(element[0], new Entry(element[1], Arrays.asList(element).subList(2, element.length)));
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+            return new Index(version, entries);
+        }
+
+        /**
+         * Returns the entry of a source file.
+         *
+         * @param path The relative path of the source file.
+         * @return The source file's entry or {@code null} if no such entry exists.
+         */
+        protected Entry get(String path) {
+            return entries.get(path);
+        }
+
+        /**
+         * Returns a mapping of relative paths of source files to their entries.
+         *
+         * @return A mapping of relative paths of source files to their entries.
+         */
+        protected Map<String, Entry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * Writes this index to a file.
+         *
+         * @param file The file to write.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected void write(File file) throws IOException {
+            if (file.getParentFile() != null && !file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+                Logger.getAnonymousLogger().info("Writing file to existing folder structure: " + file.getParent());
+            }
+            File temporary = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+            try {
+                write(temporary, version, entries);
+                if (!temporary.renameTo(file) && !(file.delete() && temporary.renameTo(file))) {
+                    throw new IOException("Could not replace " + file + " by " + temporary);
+                }
+            } finally {
+                if (temporary.exists() && !temporary.delete()) {
+                    Logger.getAnonymousLogger().info("Could not delete temporary index " + temporary);
+                }
+            }
+        }
+
+        /**
+         * Writes the entries of an index to a file.
+         *
+         * @param file    The file to write.
+         * @param version The version of the transformation that created the index.
+         * @param entries A mapping of relative paths of source files to their entries.
+         * @throws IOException If an I/O exception occurs.
+         */
+        private static void write(File file, String version, Map<String, Entry> entries) throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), CHARSET));
+            try {
+                writer.write(version);
+                writer.write('\n');
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write(SEPARATOR);
+                    writer.write(entry.getValue().getDigest());
+                    for (String output : entry.getValue().getOutputs()) {
+                        writer.write(SEPARATOR);
+                        writer.write(output);
+                    }
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            Index index = (Index) other;
+            return version.equals(index.version)
+                    && entries.equals(index.entries);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = version.hashCode();
+            result = 31 * result + entries.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "IncrementalRewriter.Index{" +
+                    "version='" + version + '\'' +
+                    ", entries=" + entries +
+                    '}';
+        }
+
+        /**
+         * An entry of an index that represents a single source file.
+         */
+        protected static class Entry {
+
+            /**
+             * The digest of the source file's inputs.
+             */
+            private final String digest;
+
+            /**
+             * The relative paths of the files that were written to the target folder for the source file.
+             */
+            private final List<String> outputs;
+
+            /**
+             * Creates a new entry.
+             *
+             * @param digest  The digest of the source file's inputs.
+             * @param outputs The relative paths of the files that were written to the target folder for the source file.
+             */
+            protected Entry(String digest, List<String> outputs) {
+                this.digest = digest;
+                this.outputs = outputs;
+            }
+
+            /**
+             * Returns the digest of the source file's inputs.
+             *
+             * @return The digest of the source file's inputs.
+             */
+            protected String getDigest() {
+                return digest;
+            }
+
+            /**
+             * Returns the relative paths of the files that were written to the target folder for the source file.
+             *
+             * @return The relative paths of the files that were written to the target folder for the source file.
+             */
+            protected List<String> getOutputs() {
+                return outputs;
+            }
+
+            /**
+             * Determines if all files that were written for the source file are still present in the target folder.
+             *
+             * @param target The target folder.
+             * @return {@code true} if all files that were written for the source file are present.
+             */
+            protected boolean isPresent(File target) {
+                for (String output : outputs) {
+                    if (!new File(target, output).isFile()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            /**
+             * Deletes all files that were written for the source file and that were not written again.
+             *
+             * @param target   The target folder.
+             * @param retained The relative paths of the files that were written again.
+             * @return The number of deleted files.
+             */
+            protected int delete(File target, Collection<String> retained) {
+                int deleted = 0;
+                for (String output : outputs) {
+                    if (!retained.contains(output) && new File(target, output).delete()) {
+                        deleted++;
+                    }
+                }
+                return deleted;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Entry entry = (Entry) other;
+                return digest.equals(entry.digest)
+                        && outputs.equals(entry.outputs);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = digest.hashCode();
+                result = 31 * result + outputs.hashCode();
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "IncrementalRewriter.Index.Entry{" +
+                        "digest='" + digest + '\'' +
+                        ", outputs=" + outputs +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A resolver for the super types of a type and the digests of their class files. The resolved super types are cached
+     * such that any super type's class file is only read once per rewrite.
+     */
+    protected static class DependencyResolver {
+
+        /**
+         * The class file locator for locating the class files of super types.
+         */
+        private final ClassFileLocator classFileLocator;
+
+        /**
+         * A cache of resolved types by their names.
+         */
+        private final Map<String, Dependency> dependencies;
+
+        /**
+         * Creates a new dependency resolver.
+         *
+         * @param classFileLocator The class file locator for locating the class files of super types.
+         */
+        protected DependencyResolver(ClassFileLocator classFileLocator) {
+            this.classFileLocator = classFileLocator;
+            dependencies = new HashMap<String, Dependency>();
+        }
+
+        /**
+         * Computes a digest of a type's class file, the class files of all of the type's super types and the transformation's version.
+         *
+         * @param typeName             The name of the type.
+         * @param binaryRepresentation The type's class file.
+         * @param version              The version of the transformation.
+         * @return A hexadecimal representation of the digest.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected String digest(String typeName, byte[] binaryRepresentation, String version) throws IOException {
+            MessageDigest messageDigest = newMessageDigest();
+            messageDigest.update(version.getBytes(CHARSET));
+            Dependency dependency = toDependency(binaryRepresentation);
+            dependencies.put(typeName, dependency);
+            Set<String> resolved = new HashSet<String>(Collections.singleton(typeName));
+            Queue<String> unresolved = new LinkedList<String>();
+            while (dependency != null) {
+                messageDigest.update(('\n' + typeName + '=' + dependency.getDigest()).getBytes(CHARSET));
+                for (String superTypeName : dependency.getSuperTypeNames()) {
+                    if (resolved.add(superTypeName)) {
+                        unresolved.add(superTypeName);
+                    }
+                }
+                typeName = unresolved.poll();
+                dependency = typeName == null
+                        ? null
+                        : resolve(typeName);
+            }
+            return toHex(messageDigest);
+        }
+
+        /**
+         * Creates a dependency for a type's class file.
+         *
+         * @param binaryRepresentation The type's class file.
+         * @return A dependency that represents the class file.
+         */
+        private static Dependency toDependency(byte[] binaryRepresentation) {
+            ClassReader classReader = new ClassReader(binaryRepresentation);
+            String[] interfaceName = classReader.getInterfaces();
+            List<String> superTypeNames = new ArrayList<String>(interfaceName.length + 1);
+            if (classReader.getSuperName() != null) {
+                superTypeNames.add(classReader.getSuperName().replace('/', '.'));
+            }
+            for (String anInterfaceName : interfaceName) {
+                superTypeNames.add(anInterfaceName.replace('/', '.'));
+            }
+            return new Dependency.Resolved(IncrementalRewriter.digest(binaryRepresentation), superTypeNames);
+        }
+
+        /**
+         * Resolves a super type.
+         *
+         * @param typeName The name of the super type.
+         * @return A dependency that represents the super type.
+         * @throws IOException If an I/O exception occurs.
+         */
+        private Dependency resolve(String typeName) throws IOException {
+            Dependency dependency = dependencies.get(typeName);
+            if (dependency == null) {
+                ClassFileLocator.Resolution resolution = classFileLocator.locate(typeName);
+                dependency = resolution.isResolved()
+                        ? toDependency(resolution.resolve())
+                        : Dependency.Unresolved.INSTANCE;
+                dependencies.put(typeName, dependency);
+            }
+            return dependency;
+        }
+
+        @Override
+        public String toString() {
+            return "IncrementalRewriter.DependencyResolver{" +
+                    "classFileLocator=" + classFileLocator +
+                    ", dependencies=" + dependencies +
+                    '}';
+        }
+
+        /**
+         * A dependency represents a type's class file by its digest and the names of the type's direct super types.
+         */
+        protected interface Dependency {
+
+            /**
+             * Returns a hexadecimal representation of the digest of the type's class file.
+             *
+             * @return A hexadecimal representation of the digest of the type's class file.
+             */
+            String getDigest();
+
+            /**
+             * Returns the names of the type's direct super class and its directly implemented interfaces.
+             *
+             * @return The names of the type's direct super types.
+             */
+            List<String> getSuperTypeNames();
+
+            /**
+             * A dependency for a type of which no class file can be located.
+             */
+            enum Unresolved implements Dependency {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public String getDigest() {
+                    return UNRESOLVED;
+                }
+
+                @Override
+                public List<String> getSuperTypeNames() {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public String toString() {
+                    return "IncrementalRewriter.DependencyResolver.Dependency.Unresolved." + name();
+                }
+            }
+
+            /**
+             * A dependency for a type of which a class file was located.
+             */
+            class Resolved implements Dependency {
+
+                /**
+                 * A hexadecimal representation of the digest of the type's class file.
+                 */
+                private final String digest;
+
+                /**
+                 * The names of the type's direct super types.
+                 */
+                private final List<String> superTypeNames;
+
+                /**
+                 * Creates a new resolved dependency.
+                 *
+                 * @param digest         A hexadecimal representation of the digest of the type's class file.
+                 * @param superTypeNames The names of the type's direct super types.
+                 */
+                protected Resolved(String digest, List<String> superTypeNames) {
+                    this.digest = digest;
+                    this.superTypeNames = superTypeNames;
+                }
+
+                @Override
+                public String getDigest() {
+                    return digest;
+                }
+
+                @Override
+                public List<String> getSuperTypeNames() {
+                    return superTypeNames;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    Resolved resolved = (Resolved) other;
+                    return digest.equals(resolved.digest)
+                            && superTypeNames.equals(resolved.superTypeNames);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = digest.hashCode();
+                    result = 31 * result + superTypeNames.hashCode();
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "IncrementalRewriter.DependencyResolver.Dependency.Resolved{" +
+                            "digest='" + digest + '\'' +
+                            ", superTypeNames=" + superTypeNames +
+                            '}';
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * A type batch creates the dynamic types of several independent {@link DynamicType.Builder}s concurrently by submitting each
+ * builder's {@link DynamicType.Builder#make()} invocation to an {@link ExecutorService}. The created types are returned in the
+ * order of their builders.
+ * </p>
+ * <p>
+ * Builders that are made in a batch should share any thread-safe cache, such as a
+ * {@link net.bytebuddy.dynamic.scaffold.MethodGraph.Compiler.Default.Caching} method graph compiler, a
+ * {@link net.bytebuddy.pool.TypePool} with a {@link net.bytebuddy.pool.TypePool.CacheProvider.Simple} cache or a
+ * {@link ClassFileLocator}, in order to avoid the repeated analysis of types that are common to several builders.
+ * </p>
+ * <p>
+ * When creating a large number of types that are not loaded, the types can be stored in a {@link TypeSink} as they are created
+ * such that no created type is retained by the batch.
+ * </p>
+ */
+public class TypeBatch {
+
+    /**
+     * The executor service to which the creation of types is submitted.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Creates a new type batch.
+     *
+     * @param executorService The executor service to which the creation of types is submitted.
+     */
+    public TypeBatch(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Loads the given types, including their auxiliary types, by a single application of the supplied class loading strategy. After all
+     * types are loaded, the loaded type initializers of all types are executed. The names of all types, including any auxiliary type,
+     * must be unique as types of the same name cannot be loaded by a single class loader.
+     *
+     * @param classLoader          The class loader to use for loading the types.
+     * @param classLoadingStrategy The class loading strategy to apply.
+     * @param unloadedTypes        The types to load.
+     * @return A list of the loaded types in the order of the supplied unloaded types.
+     */
+    public static List<DynamicType.Loaded<?>> load(ClassLoader classLoader,
+                                                   ClassLoadingStrategy classLoadingStrategy,
+                                                   List<? extends DynamicType.Unloaded<?>> unloadedTypes) {
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        for (DynamicType.Unloaded<?> unloadedType : unloadedTypes) {
+            for (Map.Entry<TypeDescription, byte[]> entry : unloadedType.getAllTypes().entrySet()) {
+                if (types.put(entry.getKey(), entry.getValue()) != null) {
+                    throw new IllegalArgumentException("Type is defined more than once in batch: " + entry.getKey().getName());
+                }
+            }
+        }
+        ClassLoadingStrategy loadedTypes = new ForLoadedTypes(classLoadingStrategy.load(classLoader, types));
+        List<DynamicType.Loaded<?>> loaded = new ArrayList<DynamicType.Loaded<?>>(unloadedTypes.size());
+        for (DynamicType.Unloaded<?> unloadedType : unloadedTypes) {
+            loaded.add(unloadedType.load(classLoader, loadedTypes));
+        }
+        return loaded;
+    }
+
+    /**
+     * Creates the types of the given builders.
+     *
+     * @param builder The builders of which the types are created.
+     * @return A list of the created types in the order of the supplied builders.
+     */
+    public List<DynamicType.Unloaded<?>> make(DynamicType.Builder<?>... builder) {
+        return make(Arrays.asList(builder));
+    }
+
+    /**
+     * Creates the types of the given builders.
+     *
+     * @param builders The builders of which the types are created.
+     * @return A list of the created types in the order of the supplied builders.
+     */
+    public List<DynamicType.Unloaded<?>> make(List<? extends DynamicType.Builder<?>> builders) {
+        List<Future<DynamicType.Unloaded<?>>> futures = new ArrayList<Future<DynamicType.Unloaded<?>>>(builders.size());
+        try {
+            for (DynamicType.Builder<?> builder : builders) {
+                futures.add(executorService.submit(new Creation(builder)));
+            }
+            List<DynamicType.Unloaded<?>> unloadedTypes = new ArrayList<DynamicType.Unloaded<?>>(builders.size());
+            for (Future<DynamicType.Unloaded<?>> future : futures) {
+                unloadedTypes.add(future.get());
+            }
+            return unloadedTypes;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating types", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException("Could not create type", cause);
+            }
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Creates the types of the given builders and stores each type in the supplied type sink as soon as it is created. The
+     * storage is executed by the thread that created the type such that the sink must be thread-safe. The sink is not closed
+     * by this method.
+     *
+     * @param builders The builders of which the types are created.
+     * @param typeSink The type sink in which the created types are stored.
+     * @return A list of descriptions of the created types in the order of the supplied builders.
+     * @throws IOException If a type cannot be stored.
+     */
+    public List<TypeDescription> make(List<? extends DynamicType.Builder<?>> builders, TypeSink typeSink) throws IOException {
+        List<Future<TypeDescription>> futures = new ArrayList<Future<TypeDescription>>(builders.size());
+        try {
+            for (DynamicType.Builder<?> builder : builders) {
+                futures.add(executorService.submit(new Storage(builder, typeSink)));
+            }
+            List<TypeDescription> typeDescriptions = new ArrayList<TypeDescription>(builders.size());
+            for (Future<TypeDescription> future : futures) {
+                typeDescriptions.add(future.get());
+            }
+            return typeDescriptions;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating types", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException("Could not create type", cause);
+            }
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Creates and loads the types of the given builders where all types are loaded by a single application of the supplied
+     * class loading strategy.
+     *
+     * @param classLoader          The class loader to use for loading the types.
+     * @param classLoadingStrategy The class loading strategy to apply.
+     * @param builders             The builders of which the types are created.
+     * @return A list of the loaded types in the order of the supplied builders.
+     */
+    public List<DynamicType.Loaded<?>> makeAndLoad(ClassLoader classLoader,
+                                                   ClassLoadingStrategy classLoadingStrategy,
+                                                   List<? extends DynamicType.Builder<?>> builders) {
+        return load(classLoader, classLoadingStrategy, make(builders));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && executorService.equals(((TypeBatch) other).executorService);
+    }
+
+    @Override
+    public int hashCode() {
+        return executorService.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeBatch{" +
+                "executorService=" + executorService +
+                '}';
+    }
+
+    /**
+     * A task for creating the type of a single builder.
+     */
+    protected static class Creation implements Callable<DynamicType.Unloaded<?>> {
+
+        /**
+         * The builder of which the type is created.
+         */
+        private final DynamicType.Builder<?> builder;
+
+        /**
+         * Creates a new creation task.
+         *
+         * @param builder The builder of which the type is created.
+         */
+        protected Creation(DynamicType.Builder<?> builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public DynamicType.Unloaded<?> call() {
+            return builder.make();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && builder.equals(((Creation) other).builder);
+        }
+
+        @Override
+        public int hashCode() {
+            return builder.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeBatch.Creation{" +
+                    "builder=" + builder +
+                    '}';
+        }
+    }
+
+    /**
+     * A task for creating the type of a single builder and for storing it in a type sink.
+     */
+    protected static class Storage implements Callable<TypeDescription> {
+
+        /**
+         * The builder of which the type is created.
+         */
+        private final DynamicType.Builder<?> builder;
+
+        /**
+         * The type sink in which the created type is stored.
+         */
+        private final TypeSink typeSink;
+
+        /**
+         * Creates a new storage task.
+         *
+         * @param builder  The builder of which the type is created.
+         * @param typeSink The type sink in which the created type is stored.
+         */
+        protected Storage(DynamicType.Builder<?> builder, TypeSink typeSink) {
+            this.builder = builder;
+            this.typeSink = typeSink;
+        }
+
+        @Override
+        public TypeDescription call() throws IOException {
+            DynamicType dynamicType = builder.make();
+            typeSink.store(dynamicType);
+            return dynamicType.getTypeDescription();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            Storage storage = (Storage) other;
+            return builder.equals(storage.builder) && typeSink.equals(storage.typeSink);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = builder.hashCode();
+            result = 31 * result + typeSink.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeBatch.Storage{" +
+                    "builder=" + builder +
+                    ", typeSink=" + typeSink +
+                    '}';
+        }
+    }
+
+    /**
+     * A class loading strategy that resolves types from a map of previously loaded types.
+     */
+    protected static class ForLoadedTypes implements ClassLoadingStrategy {
+
+        /**
+         * The previously loaded types mapped by their descriptions.
+         */
+        private final Map<TypeDescription, Class<?>> loadedTypes;
+
+        /**
+         * Creates a new class loading strategy for previously loaded types.
+         *
+         * @param loadedTypes The previously loaded types mapped by their descriptions.
+         */
+        protected ForLoadedTypes(Map<TypeDescription, Class<?>> loadedTypes) {
+            this.loadedTypes = loadedTypes;
+        }
+
+        @Override
+        public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+            Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>(types.size());
+            for (TypeDescription typeDescription : types.keySet()) {
+                Class<?> type = this.loadedTypes.get(typeDescription);
+                if (type == null) {
+                    throw new IllegalArgumentException("Type was not loaded: " + typeDescription);
+                }
+                loadedTypes.put(typeDescription, type);
+            }
+            return loadedTypes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && loadedTypes.equals(((ForLoadedTypes) other).loadedTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return loadedTypes.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeBatch.ForLoadedTypes{" +
+                    "loadedTypes=" + loadedTypes +
+                    '}';
+        }
+    }
+}
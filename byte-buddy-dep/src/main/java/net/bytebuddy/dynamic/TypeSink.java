@@ -0,0 +1,409 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.io.*;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ * A type sink stores dynamic types as they are created. Other than {@link DynamicType#saveIn(File)} or
+ * {@link DynamicType#toJar(File)} which write the types of a single dynamic type, a sink allows to write a large number of
+ * dynamic types into the same destination without retaining any of them. A dynamic type's class files can therefore be
+ * garbage collected as soon as the type was stored.
+ * </p>
+ * <p>
+ * Any type sink must be thread-safe. A sink must be closed after all types were stored.
+ * </p>
+ */
+public interface TypeSink extends Closeable {
+
+    /**
+     * The file extension for Java class files.
+     */
+    String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * Stores the given dynamic type including its auxiliary types.
+     *
+     * @param dynamicType The dynamic type to store.
+     * @throws IOException If an I/O exception occurs.
+     */
+    void store(DynamicType dynamicType) throws IOException;
+
+    /**
+     * A type sink that stores class files in a folder where each class file is stored in the folder structure that represents
+     * the type's package.
+     */
+    class ForFolder implements TypeSink {
+
+        /**
+         * The folder in which class files are stored.
+         */
+        private final File folder;
+
+        /**
+         * Creates a new type sink for a folder.
+         *
+         * @param folder The folder in which class files are stored.
+         */
+        public ForFolder(File folder) {
+            this.folder = folder;
+        }
+
+        @Override
+        public void store(DynamicType dynamicType) throws IOException {
+            for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getAllTypes().entrySet()) {
+                File target = new File(folder, entry.getKey().getName().replace('.', File.separatorChar) + CLASS_FILE_EXTENSION);
+                if (target.getParentFile() != null && !target.getParentFile().isDirectory() && !target.getParentFile().mkdirs()) {
+                    Logger.getAnonymousLogger().info("Writing file to existing folder structure: " + target.getParent());
+                }
+                OutputStream outputStream = new FileOutputStream(target);
+                try {
+                    outputStream.write(entry.getValue());
+                } finally {
+                    outputStream.close();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            /* do nothing */
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && folder.equals(((ForFolder) other).folder);
+        }
+
+        @Override
+        public int hashCode() {
+            return folder.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeSink.ForFolder{" +
+                    "folder=" + folder +
+                    '}';
+        }
+    }
+
+    /**
+     * A type sink that stores class files in a jar file. Class files are written to the jar file in the order in which the
+     * dynamic types are stored. Closing this sink completes the jar file.
+     */
+    class ForJarFile implements TypeSink {
+
+        /**
+         * The default version of a jar file manifest.
+         */
+        private static final String MANIFEST_VERSION = "1.0";
+
+        /**
+         * The output stream of the jar file. Any access must be synchronized on this stream.
+         */
+        private final JarOutputStream outputStream;
+
+        /**
+         * Creates a new type sink for a jar file.
+         *
+         * @param outputStream The output stream of the jar file.
+         */
+        protected ForJarFile(JarOutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        /**
+         * Opens a type sink for a jar file with a default manifest. An existing file is overwritten.
+         *
+         * @param file The jar file to write.
+         * @return A type sink for the given jar file.
+         * @throws IOException If the file cannot be opened.
+         */
+        public static TypeSink open(File file) throws IOException {
+            Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, MANIFEST_VERSION);
+            return open(file, manifest);
+        }
+
+        /**
+         * Opens a type sink for a jar file. An existing file is overwritten.
+         *
+         * @param file     The jar file to write.
+         * @param manifest The manifest of the jar file.
+         * @return A type sink for the given jar file.
+         * @throws IOException If the file cannot be opened.
+         */
+        public static TypeSink open(File file, Manifest manifest) throws IOException {
+            if (!file.createNewFile()) {
+                Logger.getAnonymousLogger().info("Overwriting existing file: " + file);
+            }
+            return new ForJarFile(new JarOutputStream(new BufferedOutputStream(new FileOutputStream(file)), manifest));
+        }
+
+        @Override
+        public void store(DynamicType dynamicType) throws IOException {
+            synchronized (outputStream) {
+                for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getAllTypes().entrySet()) {
+                    outputStream.putNextEntry(new JarEntry(entry.getKey().getInternalName() + CLASS_FILE_EXTENSION));
+                    outputStream.write(entry.getValue());
+                    outputStream.closeEntry();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized (outputStream) {
+                outputStream.close();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && outputStream.equals(((ForJarFile) other).outputStream);
+        }
+
+        @Override
+        public int hashCode() {
+            return outputStream.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeSink.ForJarFile{" +
+                    "outputStream=" + outputStream +
+                    '}';
+        }
+    }
+
+    /**
+     * <p>
+     * A type sink that stores dynamic types asynchronously by submitting the storage to an executor service. If the executor
+     * service applies several threads, types are written in parallel if the delegate sink allows for it.
+     * </p>
+     * <p>
+     * In order to bound the memory that is retained by types that are not yet written, this sink blocks the storage of a type
+     * as long as the class files of the types that are not yet written exceed a given size. An exception that occurs during
+     * an asynchronous storage is thrown by the next storage or when this sink is closed. Closing this sink awaits all pending
+     * storages before closing the delegate sink.
+     * </p>
+     */
+    class Asynchronous implements TypeSink {
+
+        /**
+         * The sink to which types are stored.
+         */
+        private final TypeSink delegate;
+
+        /**
+         * The executor service to which storages are submitted.
+         */
+        private final ExecutorService executorService;
+
+        /**
+         * The maximum number of bytes of class files that are pending for being written.
+         */
+        private final int maximumPendingBytes;
+
+        /**
+         * A semaphore that issues a permit for every byte of a class file that is pending for being written.
+         */
+        private final Semaphore pendingBytes;
+
+        /**
+         * The first exception that occurred during an asynchronous storage or {@code null} if no exception occurred.
+         */
+        private final AtomicReference<Throwable> failure;
+
+        /**
+         * Creates a new asynchronous type sink.
+         *
+         * @param delegate            The sink to which types are stored.
+         * @param executorService     The executor service to which storages are submitted.
+         * @param maximumPendingBytes The maximum number of bytes of class files that are pending for being written. A single
+         *                            type that exceeds this size is still stored but only if no other type is pending.
+         */
+        public Asynchronous(TypeSink delegate, ExecutorService executorService, int maximumPendingBytes) {
+            if (maximumPendingBytes < 1) {
+                throw new IllegalArgumentException("Maximum pending bytes must be positive: " + maximumPendingBytes);
+            }
+            this.delegate = delegate;
+            this.executorService = executorService;
+            this.maximumPendingBytes = maximumPendingBytes;
+            pendingBytes = new Semaphore(maximumPendingBytes, true);
+            failure = new AtomicReference<Throwable>();
+        }
+
+        @Override
+        public void store(DynamicType dynamicType) throws IOException {
+            assertNoFailure();
+            long size = 0L;
+            for (byte[] binaryRepresentation : dynamicType.getAllTypes().values()) {
+                size += binaryRepresentation.length;
+            }
+            int permits = (int) Math.max(1L, Math.min(size, maximumPendingBytes));
+            try {
+                pendingBytes.acquire(permits);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for pending types to be written");
+            }
+            try {
+                executorService.execute(new Storage(dynamicType, permits));
+            } catch (RuntimeException exception) {
+                pendingBytes.release(permits);
+                throw exception;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                pendingBytes.acquire(maximumPendingBytes);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for pending types to be written");
+            }
+            try {
+                delegate.close();
+            } finally {
+                pendingBytes.release(maximumPendingBytes);
+            }
+            assertNoFailure();
+        }
+
+        /**
+         * Throws an exception if an asynchronous storage failed.
+         *
+         * @throws IOException If an asynchronous storage failed with an I/O exception.
+         */
+        private void assertNoFailure() throws IOException {
+            Throwable throwable = failure.get();
+            if (throwable instanceof IOException) {
+                throw (IOException) throwable;
+            } else if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            } else if (throwable instanceof Error) {
+                throw (Error) throwable;
+            } else if (throwable != null) {
+                throw new IllegalStateException("Could not store type", throwable);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            Asynchronous that = (Asynchronous) other;
+            return maximumPendingBytes == that.maximumPendingBytes
+                    && delegate.equals(that.delegate)
+                    && executorService.equals(that.executorService);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = delegate.hashCode();
+            result = 31 * result + executorService.hashCode();
+            result = 31 * result + maximumPendingBytes;
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeSink.Asynchronous{" +
+                    "delegate=" + delegate +
+                    ", executorService=" + executorService +
+                    ", maximumPendingBytes=" + maximumPendingBytes +
+                    ", pendingBytes=" + pendingBytes +
+                    ", failure=" + failure +
+                    '}';
+        }
+
+        /**
+         * A task that stores a dynamic type in the delegate sink and that releases the type's pending bytes afterwards.
+         */
+        protected class Storage implements Runnable {
+
+            /**
+             * The dynamic type to store.
+             */
+            private final DynamicType dynamicType;
+
+            /**
+             * The number of permits that were acquired for the dynamic type.
+             */
+            private final int permits;
+
+            /**
+             * Creates a new storage task.
+             *
+             * @param dynamicType The dynamic type to store.
+             * @param permits     The number of permits that were acquired for the dynamic type.
+             */
+            protected Storage(DynamicType dynamicType, int permits) {
+                this.dynamicType = dynamicType;
+                this.permits = permits;
+            }
+
+            @Override
+            public void run() {
+                try {
+                    delegate.store(dynamicType);
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                } finally {
+                    pendingBytes.release(permits);
+                }
+            }
+
+            /**
+             * Returns the outer instance.
+             *
+             * @return The outer instance.
+             */
+            private Asynchronous getOuter() {
+                return Asynchronous.this;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Storage storage = (Storage) other;
+                return permits == storage.permits
+                        && dynamicType.equals(storage.dynamicType)
+                        && Asynchronous.this.equals(storage.getOuter());
+            }
+
+            @Override
+            public int hashCode() {
+                int result = dynamicType.hashCode();
+                result = 31 * result + permits;
+                result = 31 * result + Asynchronous.this.hashCode();
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "TypeSink.Asynchronous.Storage{" +
+                        "asynchronous=" + Asynchronous.this +
+                        ", dynamicType=" + dynamicType +
+                        ", permits=" + permits +
+                        '}';
+            }
+        }
+    }
+}
@@ -15,8 +15,12 @@ import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
@@ -584,34 +588,64 @@ public interface ClassInjector {
             this.randomString = randomString;
         }
 
-        @Override
-        public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
+        /**
+         * Writes the given types to a new jar file within the given folder and appends this jar file to the given target.
+         *
+         * @param folder          The folder to be used for storing jar files.
+         * @param target          A representation of the target path to which classes are to be appended.
+         * @param instrumentation The instrumentation to use for appending to the class path or the boot path.
+         * @param randomString    The random string generator to use.
+         * @param types           The types to append.
+         * @throws IOException If the jar file cannot be written.
+         */
+        private static void append(File folder,
+                                   Target target,
+                                   Instrumentation instrumentation,
+                                   RandomString randomString,
+                                   Map<? extends TypeDescription, byte[]> types) throws IOException {
             File jarFile = new File(folder, String.format("%s%s.jar", PREFIX, randomString.nextString()));
+            if (!jarFile.createNewFile()) {
+                throw new IllegalStateException("Cannot create file " + jarFile);
+            }
+            JarOutputStream jarOutputStream = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(jarFile)));
             try {
-                if (!jarFile.createNewFile()) {
-                    throw new IllegalStateException("Cannot create file " + jarFile);
-                }
-                JarOutputStream jarOutputStream = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(jarFile)));
-                try {
-                    for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
-                        jarOutputStream.putNextEntry(new JarEntry(entry.getKey().getInternalName() + CLASS_FILE_EXTENSION));
-                        jarOutputStream.write(entry.getValue());
-                    }
-                } finally {
-                    jarOutputStream.close();
+                for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
+                    jarOutputStream.putNextEntry(new JarEntry(entry.getKey().getInternalName() + CLASS_FILE_EXTENSION));
+                    jarOutputStream.write(entry.getValue());
                 }
-                target.inject(instrumentation, new JarFile(jarFile));
-                Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>();
-                ClassLoader classLoader = ClassLoader.getSystemClassLoader();
-                for (TypeDescription typeDescription : types.keySet()) {
+            } finally {
+                jarOutputStream.close();
+            }
+            target.inject(instrumentation, new JarFile(jarFile));
+        }
+
+        /**
+         * Loads the given types after they were appended to a class path.
+         *
+         * @param types The types to load.
+         * @return A mapping of the given types to their loaded classes.
+         */
+        private static Map<TypeDescription, Class<?>> load(Collection<? extends TypeDescription> types) {
+            Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>();
+            ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+            try {
+                for (TypeDescription typeDescription : types) {
                     loaded.put(typeDescription, classLoader.loadClass(typeDescription.getName()));
                 }
-                return loaded;
-            } catch (IOException exception) {
-                throw new IllegalStateException("Cannot write jar file to disk", exception);
             } catch (ClassNotFoundException exception) {
                 throw new IllegalStateException("Cannot load injected class", exception);
             }
+            return loaded;
+        }
+
+        @Override
+        public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
+            try {
+                append(folder, target, instrumentation, randomString, types);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Cannot write jar file to disk", exception);
+            }
+            return load(types.keySet());
         }
 
         @Override
@@ -644,6 +678,413 @@ public interface ClassInjector {
                     '}';
         }
 
+        /**
+         * <p>
+         * An instrumentation-based class injector that coalesces concurrent injections into a single jar file. Every jar file
+         * that is appended to the boot path or the system class path is scanned by any later class lookup of the respective
+         * class loader such that appending a jar file per injection degrades class loading over time.
+         * </p>
+         * <p>
+         * As injected classes must be loadable when an injection returns, injections are not deferred beyond the injecting call.
+         * Instead, an injection opens a batch that collects the types of any injection that is requested until the batch is
+         * written. A batch is written once the configured window has elapsed, once the collected types exceed the configured
+         * size or once no other injection is in flight, and not before any previously opened batch was written. As a consequence,
+         * a lone injection is written without waiting for the window while concurrent injections are coalesced even without a
+         * window. For monitoring purposes, this injector exposes the number of appended jar files and the accumulated time that
+         * was spent for injections.
+         * </p>
+         */
+        public static class Coalescing implements ClassInjector {
+
+            /**
+             * The instrumentation to use for appending to the class path or the boot path.
+             */
+            private final Instrumentation instrumentation;
+
+            /**
+             * A representation of the target path to which classes are to be appended.
+             */
+            private final Target target;
+
+            /**
+             * The folder to be used for storing jar files.
+             */
+            private final File folder;
+
+            /**
+             * A random string generator for creating file names.
+             */
+            private final RandomString randomString;
+
+            /**
+             * The time in milliseconds to wait for further injections before a batch is written.
+             */
+            private final long window;
+
+            /**
+             * The accumulated size of all class files of a batch in bytes which causes the batch to be written without
+             * waiting for the window to elapse.
+             */
+            private final long maximumBatchSize;
+
+            /**
+             * The batch that currently accepts types or {@code null} if no batch is open. Any access must be synchronized
+             * on this injector's monitor.
+             */
+            private Batch pending;
+
+            /**
+             * {@code true} if a batch is currently written. Any access must be synchronized on this injector's monitor.
+             */
+            private boolean writing;
+
+            /**
+             * The number of injections that are currently in flight. Any access must be synchronized on this injector's monitor.
+             */
+            private int inFlight;
+
+            /**
+             * The number of jar files that were appended by this injector.
+             */
+            private final AtomicLong appendedJars;
+
+            /**
+             * The accumulated time in nanoseconds that was spent for injections by this injector.
+             */
+            private final AtomicLong injectionNanos;
+
+            /**
+             * Creates a coalescing instrumentation-based class injector.
+             *
+             * @param folder           The folder to be used for storing jar files.
+             * @param target           A representation of the target path to which classes are to be appended.
+             * @param instrumentation  The instrumentation to use for appending to the class path or the boot path.
+             * @param window           The time to wait for further injections before a batch is written.
+             * @param timeUnit         The time unit of the window.
+             * @param maximumBatchSize The accumulated size of all class files of a batch in bytes which causes the batch to be written
+             *                         without waiting for the window to elapse.
+             * @return An appropriate class injector that applies instrumentation.
+             */
+            public static Coalescing of(File folder, Target target, Instrumentation instrumentation, long window, TimeUnit timeUnit, long maximumBatchSize) {
+                if (window < 0L) {
+                    throw new IllegalArgumentException("Window cannot be negative: " + window);
+                }
+                return new Coalescing(folder, target, instrumentation, new RandomString(), timeUnit.toMillis(window), maximumBatchSize);
+            }
+
+            /**
+             * Creates a coalescing instrumentation-based class injector.
+             *
+             * @param folder           The folder to be used for storing jar files.
+             * @param target           A representation of the target path to which classes are to be appended.
+             * @param instrumentation  The instrumentation to use for appending to the class path or the boot path.
+             * @param randomString     The random string generator to use.
+             * @param window           The time in milliseconds to wait for further injections before a batch is written.
+             * @param maximumBatchSize The accumulated size of all class files of a batch in bytes which causes the batch to be written
+             *                         without waiting for the window to elapse.
+             */
+            protected Coalescing(File folder,
+                                 Target target,
+                                 Instrumentation instrumentation,
+                                 RandomString randomString,
+                                 long window,
+                                 long maximumBatchSize) {
+                this.folder = folder;
+                this.target = target;
+                this.instrumentation = instrumentation;
+                this.randomString = randomString;
+                this.window = window;
+                this.maximumBatchSize = maximumBatchSize;
+                appendedJars = new AtomicLong();
+                injectionNanos = new AtomicLong();
+            }
+
+            @Override
+            public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
+                long start = System.nanoTime();
+                try {
+                    if (!types.isEmpty()) {
+                        Batch batch;
+                        boolean leader;
+                        synchronized (this) {
+                            inFlight++;
+                            if (pending == null) {
+                                pending = new Batch();
+                                leader = true;
+                            } else {
+                                leader = false;
+                            }
+                            batch = pending;
+                            if (batch.add(types) >= maximumBatchSize) {
+                                notifyAll();
+                            }
+                        }
+                        try {
+                            if (leader) {
+                                write(batch);
+                            } else {
+                                await(batch);
+                            }
+                        } finally {
+                            synchronized (this) {
+                                inFlight--;
+                                notifyAll();
+                            }
+                        }
+                    }
+                    return load(types.keySet());
+                } finally {
+                    injectionNanos.addAndGet(System.nanoTime() - start);
+                }
+            }
+
+            /**
+             * Writes a batch for which the current thread is responsible once the window elapsed, once the batch exceeds its
+             * maximum size or once no other injection is in flight and once no other batch is currently written. If the current
+             * thread is interrupted while waiting or if the batch cannot be written, the batch is completed with this failure
+             * such that no other thread is blocked by it.
+             *
+             * @param batch The batch to write.
+             */
+            private void write(Batch batch) {
+                Throwable failure = null;
+                boolean appending = false;
+                try {
+                    synchronized (this) {
+                        long deadline = System.currentTimeMillis() + window;
+                        long remaining = window;
+                        while (remaining > 0L && batch.getSize() < maximumBatchSize && inFlight > 1) {
+                            waitInterruptibly(remaining);
+                            remaining = deadline - System.currentTimeMillis();
+                        }
+                        while (writing) {
+                            waitInterruptibly(0L);
+                        }
+                        pending = null;
+                        writing = true;
+                        appending = true;
+                    }
+                    append(folder, target, instrumentation, randomString, batch.getTypes());
+                    appendedJars.incrementAndGet();
+                } catch (IOException exception) {
+                    failure = exception;
+                } catch (RuntimeException exception) {
+                    failure = exception;
+                    throw exception;
+                } catch (Error error) {
+                    failure = error;
+                    throw error;
+                } finally {
+                    synchronized (this) {
+                        if (pending == batch) {
+                            pending = null;
+                        }
+                        if (appending) {
+                            writing = false;
+                        }
+                        batch.complete(failure);
+                        notifyAll();
+                    }
+                }
+                batch.assertSuccess();
+            }
+
+            /**
+             * Waits for a batch to be written by another thread.
+             *
+             * @param batch The batch to wait for.
+             */
+            private void await(Batch batch) {
+                synchronized (this) {
+                    while (!batch.isComplete()) {
+                        waitInterruptibly(0L);
+                    }
+                }
+                batch.assertSuccess();
+            }
+
+            /**
+             * Waits on this instance's monitor where the current thread must own this monitor. If the current thread is
+             * interrupted, the interruption is preserved and a runtime exception is thrown.
+             *
+             * @param timeout The maximum time to wait in milliseconds or {@code 0} for waiting until being notified.
+             */
+            private void waitInterruptibly(long timeout) {
+                try {
+                    wait(timeout);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a class injection", exception);
+                }
+            }
+
+            /**
+             * Returns the number of jar files that were appended by this injector.
+             *
+             * @return The number of appended jar files.
+             */
+            public long getAppendedJarCount() {
+                return appendedJars.get();
+            }
+
+            /**
+             * Returns the accumulated time in nanoseconds that was spent for injections by this injector including
+             * the time that injections waited for being coalesced.
+             *
+             * @return The accumulated injection time in nanoseconds.
+             */
+            public long getInjectionNanos() {
+                return injectionNanos.get();
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Coalescing that = (Coalescing) other;
+                return window == that.window
+                        && maximumBatchSize == that.maximumBatchSize
+                        && folder.equals(that.folder)
+                        && instrumentation.equals(that.instrumentation)
+                        && target == that.target
+                        && randomString.equals(that.randomString);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = instrumentation.hashCode();
+                result = 31 * result + target.hashCode();
+                result = 31 * result + folder.hashCode();
+                result = 31 * result + randomString.hashCode();
+                result = 31 * result + (int) (window ^ (window >>> 32));
+                result = 31 * result + (int) (maximumBatchSize ^ (maximumBatchSize >>> 32));
+                return result;
+            }
+
+            @Override
+            public synchronized String toString() {
+                return "ClassInjector.UsingInstrumentation.Coalescing{" +
+                        "instrumentation=" + instrumentation +
+                        ", target=" + target +
+                        ", folder=" + folder +
+                        ", randomString=" + randomString +
+                        ", window=" + window +
+                        ", maximumBatchSize=" + maximumBatchSize +
+                        ", pending=" + pending +
+                        ", writing=" + writing +
+                        ", inFlight=" + inFlight +
+                        ", appendedJars=" + appendedJars +
+                        ", injectionNanos=" + injectionNanos +
+                        '}';
+            }
+
+            /**
+             * A batch of types that are written to a single jar file. Any access must be synchronized on the monitor of the
+             * coalescing injector that created this batch, except for reading the types of a batch that is no longer pending.
+             */
+            protected static class Batch {
+
+                /**
+                 * The types of this batch mapped to their class files.
+                 */
+                private final Map<TypeDescription, byte[]> types;
+
+                /**
+                 * The accumulated size of all class files of this batch in bytes.
+                 */
+                private long size;
+
+                /**
+                 * {@code true} if this batch was written or if writing this batch failed.
+                 */
+                private boolean complete;
+
+                /**
+                 * The exception that prevented this batch from being written or {@code null} if no exception occurred.
+                 */
+                private Throwable failure;
+
+                /**
+                 * Creates a new empty batch.
+                 */
+                protected Batch() {
+                    types = new LinkedHashMap<TypeDescription, byte[]>();
+                }
+
+                /**
+                 * Adds types to this batch.
+                 *
+                 * @param types The types to add mapped to their class files.
+                 * @return The accumulated size of all class files of this batch in bytes.
+                 */
+                protected long add(Map<? extends TypeDescription, byte[]> types) {
+                    for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
+                        byte[] previous = this.types.put(entry.getKey(), entry.getValue());
+                        size += entry.getValue().length - (previous == null ? 0 : previous.length);
+                    }
+                    return size;
+                }
+
+                /**
+                 * Returns the types of this batch mapped to their class files.
+                 *
+                 * @return The types of this batch mapped to their class files.
+                 */
+                protected Map<TypeDescription, byte[]> getTypes() {
+                    return types;
+                }
+
+                /**
+                 * Returns the accumulated size of all class files of this batch in bytes.
+                 *
+                 * @return The accumulated size of all class files of this batch in bytes.
+                 */
+                protected long getSize() {
+                    return size;
+                }
+
+                /**
+                 * Marks this batch as written or as failed.
+                 *
+                 * @param failure The exception that prevented this batch from being written or {@code null} if no exception occurred.
+                 */
+                protected void complete(Throwable failure) {
+                    this.failure = failure;
+                    complete = true;
+                }
+
+                /**
+                 * Returns {@code true} if this batch was written or if writing this batch failed.
+                 *
+                 * @return {@code true} if this batch was written or if writing this batch failed.
+                 */
+                protected boolean isComplete() {
+                    return complete;
+                }
+
+                /**
+                 * Asserts that this batch was written successfully.
+                 */
+                protected void assertSuccess() {
+                    if (failure instanceof IOException) {
+                        throw new IllegalStateException("Cannot write jar file to disk", failure);
+                    } else if (failure != null) {
+                        throw new IllegalStateException("The thread that was responsible for writing this batch failed", failure);
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassInjector.UsingInstrumentation.Coalescing.Batch{" +
+                            "types=" + types.keySet() +
+                            ", size=" + size +
+                            ", complete=" + complete +
+                            ", failure=" + failure +
+                            '}';
+                }
+            }
+        }
+
         /**
          * A representation of the target to which Java classes should be appended to.
          */
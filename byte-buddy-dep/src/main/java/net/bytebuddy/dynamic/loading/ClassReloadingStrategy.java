@@ -3,13 +3,17 @@ package net.bytebuddy.dynamic.loading;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.lang.instrument.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.ProtectionDomain;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * <p>
@@ -57,6 +61,11 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
      */
     private final BootstrapInjection bootstrapInjection;
 
+    /**
+     * The snapshot store that tracks the class files of redefined types.
+     */
+    private final SnapshotStore snapshotStore;
+
     /**
      * Creates a class reloading strategy for the given instrumentation. The given instrumentation must either
      * support {@link java.lang.instrument.Instrumentation#isRedefineClassesSupported()} or
@@ -75,6 +84,7 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
             throw new IllegalArgumentException("Instrumentation does not support manipulation of loaded classes: " + instrumentation);
         }
         bootstrapInjection = BootstrapInjection.Disabled.INSTANCE;
+        snapshotStore = SnapshotStore.Disabled.INSTANCE;
     }
 
     /**
@@ -88,6 +98,7 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
         this.instrumentation = instrumentation;
         this.engine = engine;
         bootstrapInjection = BootstrapInjection.Disabled.INSTANCE;
+        snapshotStore = SnapshotStore.Disabled.INSTANCE;
     }
 
     /**
@@ -96,11 +107,16 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
      * @param instrumentation    The instrumentation to be used by this reloading strategy.
      * @param engine             An engine which performs the actual redefinition of a {@link java.lang.Class}.
      * @param bootstrapInjection The bootstrap class loader injection strategy to use.
+     * @param snapshotStore      The snapshot store that tracks the class files of redefined types.
      */
-    protected ClassReloadingStrategy(Instrumentation instrumentation, Engine engine, BootstrapInjection bootstrapInjection) {
+    protected ClassReloadingStrategy(Instrumentation instrumentation,
+                                     Engine engine,
+                                     BootstrapInjection bootstrapInjection,
+                                     SnapshotStore snapshotStore) {
         this.instrumentation = instrumentation;
         this.engine = engine;
         this.bootstrapInjection = bootstrapInjection;
+        this.snapshotStore = snapshotStore;
     }
 
     /**
@@ -150,7 +166,7 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
             }
         }
         try {
-            engine.apply(instrumentation, classDefinitions);
+            apply(classDefinitions);
             ClassInjector classInjector = classLoader == null
                     ? bootstrapInjection.make(instrumentation)
                     : new ClassInjector.UsingReflection(classLoader);
@@ -175,10 +191,10 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
         }
         Map<Class<?>, ClassDefinition> classDefinitions = new ConcurrentHashMap<Class<?>, ClassDefinition>(type.length);
         for (Class<?> aType : type) {
-            classDefinitions.put(aType, new ClassDefinition(aType, ClassFileLocator.ForClassLoader.read(aType).resolve()));
+            classDefinitions.put(aType, new ClassDefinition(aType, snapshotStore.locateOriginal(aType).resolve()));
         }
         try {
-            engine.apply(instrumentation, classDefinitions);
+            apply(classDefinitions);
         } catch (ClassNotFoundException exception) {
             throw new IllegalArgumentException("Cannot locate types " + Arrays.toString(type), exception);
         } catch (UnmodifiableClassException exception) {
@@ -187,6 +203,22 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
         return this;
     }
 
+    /**
+     * Applies the given class definitions after removing any definition that the snapshot store considers as already applied.
+     * All remaining definitions are applied within a single invocation of this strategy's engine.
+     *
+     * @param classDefinitions A mapping of the classes to be redefined to their redefinition.
+     * @throws UnmodifiableClassException If a class is not modifiable.
+     * @throws ClassNotFoundException     If a class was not found.
+     */
+    private void apply(Map<Class<?>, ClassDefinition> classDefinitions) throws UnmodifiableClassException, ClassNotFoundException {
+        SnapshotStore.Preparation preparation = snapshotStore.prepare(classDefinitions);
+        if (!preparation.getClassDefinitions().isEmpty()) {
+            engine.apply(instrumentation, new ConcurrentHashMap<Class<?>, ClassDefinition>(preparation.getClassDefinitions()));
+            preparation.register();
+        }
+    }
+
     /**
      * Enables bootstrap injection for this class reloading strategy.
      *
@@ -194,7 +226,35 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
      * @return A class reloading strategy with bootstrap injection enabled.
      */
     public ClassReloadingStrategy enableBootstrapInjection(File folder) {
-        return new ClassReloadingStrategy(instrumentation, engine, new BootstrapInjection.Enabled(folder));
+        return new ClassReloadingStrategy(instrumentation, engine, new BootstrapInjection.Enabled(folder), snapshotStore);
+    }
+
+    /**
+     * <p>
+     * Enables snapshots for this class reloading strategy. With snapshots enabled, the original class file of any type is recorded
+     * before the type is redefined by the returned strategy for the first time. When {@link ClassReloadingStrategy#reset(Class[])}
+     * is invoked, a type is reset to this snapshot rather than to the class file that its class loader currently exposes.
+     * Furthermore, the strategy records a digest of the class file that it applied most recently for any type and does not redefine
+     * a type if the class file of a redefinition is identical to the class file that was applied previously.
+     * </p>
+     * <p>
+     * <b>Note</b>: The snapshots of the returned strategy are only aware of redefinitions that are applied by this strategy. If the
+     * instrumentation supports retransformation, an original class file is extracted from the virtual machine such that a snapshot
+     * reflects the class file that was defined by the type's class loader, even if this class file differs from the one that the
+     * class loader exposes as a resource. Transformations that are applied by retransformation-capable class file transformers are
+     * however not reflected by such a snapshot. Without retransformation support, the original class file is read from the class
+     * loader what does not reflect any transformation that was applied when the type was loaded.
+     * </p>
+     * <p>
+     * <b>Important</b>: Extracting an original class file retransforms the type. The virtual machine applies any registered
+     * retransformation-capable class file transformer during this retransformation, including the transformers of other agents,
+     * such that these transformers are triggered once for every type that is redefined by the returned strategy for the first time.
+     * </p>
+     *
+     * @return A class reloading strategy with snapshots enabled.
+     */
+    public ClassReloadingStrategy enableSnapshots() {
+        return new ClassReloadingStrategy(instrumentation, engine, bootstrapInjection, new SnapshotStore.Enabled(instrumentation));
     }
 
     @Override
@@ -202,12 +262,17 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
         return this == other || !(other == null || getClass() != other.getClass())
                 && engine == ((ClassReloadingStrategy) other).engine
                 && instrumentation.equals(((ClassReloadingStrategy) other).instrumentation)
-                && bootstrapInjection.equals(((ClassReloadingStrategy) other).bootstrapInjection);
+                && bootstrapInjection.equals(((ClassReloadingStrategy) other).bootstrapInjection)
+                && snapshotStore.equals(((ClassReloadingStrategy) other).snapshotStore);
     }
 
     @Override
     public int hashCode() {
-        return 31 * 31 * instrumentation.hashCode() + 31 * engine.hashCode() + bootstrapInjection.hashCode();
+        int result = instrumentation.hashCode();
+        result = 31 * result + engine.hashCode();
+        result = 31 * result + bootstrapInjection.hashCode();
+        result = 31 * result + snapshotStore.hashCode();
+        return result;
     }
 
     @Override
@@ -216,6 +281,7 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
                 "instrumentation=" + instrumentation +
                 ", engine=" + engine +
                 ", bootstrapInjection=" + bootstrapInjection +
+                ", snapshotStore=" + snapshotStore +
                 '}';
     }
 
@@ -428,4 +494,550 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy {
             }
         }
     }
+
+    /**
+     * A store that tracks the class files of types that are redefined by a class reloading strategy.
+     */
+    protected interface SnapshotStore {
+
+        /**
+         * Prepares the given class definitions for their application. Any class definition that does not need to be applied is not
+         * included in the returned preparation.
+         *
+         * @param classDefinitions A mapping of the classes to be redefined to their redefinition.
+         * @return A preparation of the class definitions that need to be applied.
+         * @throws UnmodifiableClassException If a class is not modifiable such that its original class file cannot be extracted.
+         */
+        Preparation prepare(Map<Class<?>, ClassDefinition> classDefinitions) throws UnmodifiableClassException;
+
+        /**
+         * Locates the original class file of the given type.
+         *
+         * @param type The type for which to locate the original class file.
+         * @return A resolution of the original class file of the given type.
+         */
+        ClassFileLocator.Resolution locateOriginal(Class<?> type);
+
+        /**
+         * A preparation of class definitions that are to be applied.
+         */
+        interface Preparation {
+
+            /**
+             * Returns the class definitions that need to be applied.
+             *
+             * @return A mapping of the classes to be redefined to their redefinition.
+             */
+            Map<Class<?>, ClassDefinition> getClassDefinitions();
+
+            /**
+             * Registers the class definitions of this preparation as applied.
+             */
+            void register();
+
+            /**
+             * A simple preparation that applies all class definitions and that does not register them.
+             */
+            class Simple implements Preparation {
+
+                /**
+                 * A mapping of the classes to be redefined to their redefinition.
+                 */
+                private final Map<Class<?>, ClassDefinition> classDefinitions;
+
+                /**
+                 * Creates a new simple preparation.
+                 *
+                 * @param classDefinitions A mapping of the classes to be redefined to their redefinition.
+                 */
+                protected Simple(Map<Class<?>, ClassDefinition> classDefinitions) {
+                    this.classDefinitions = classDefinitions;
+                }
+
+                @Override
+                public Map<Class<?>, ClassDefinition> getClassDefinitions() {
+                    return classDefinitions;
+                }
+
+                @Override
+                public void register() {
+                    /* do nothing */
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && classDefinitions.equals(((Simple) other).classDefinitions);
+                }
+
+                @Override
+                public int hashCode() {
+                    return classDefinitions.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassReloadingStrategy.SnapshotStore.Preparation.Simple{" +
+                            "classDefinitions=" + classDefinitions +
+                            '}';
+                }
+            }
+        }
+
+        /**
+         * A disabled snapshot store that applies all class definitions and that reads original class files from a type's class loader.
+         */
+        enum Disabled implements SnapshotStore {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public Preparation prepare(Map<Class<?>, ClassDefinition> classDefinitions) {
+                return new Preparation.Simple(classDefinitions);
+            }
+
+            @Override
+            public ClassFileLocator.Resolution locateOriginal(Class<?> type) {
+                return ClassFileLocator.ForClassLoader.read(type);
+            }
+
+            @Override
+            public String toString() {
+                return "ClassReloadingStrategy.SnapshotStore.Disabled." + name();
+            }
+        }
+
+        /**
+         * An enabled snapshot store that retains a compressed version of each type's original class file and a digest of the class file
+         * that was applied most recently. Types are referenced weakly such that they can be unloaded. If retransformation is supported,
+         * original class files are extracted from the virtual machine rather than being read from a type's class loader. Such an
+         * extraction retransforms the type what also triggers any other retransformation-capable class file transformer that is
+         * registered with the virtual machine.
+         */
+        class Enabled implements SnapshotStore {
+
+            /**
+             * The algorithm that is used for computing class file digests.
+             */
+            private static final String DIGEST_ALGORITHM = "SHA-1";
+
+            /**
+             * Indicates that a class file transformer is capable of retransformation.
+             */
+            private static final boolean CAN_RETRANSFORM = true;
+
+            /**
+             * The instrumentation that is used for extracting original class files.
+             */
+            private final Instrumentation instrumentation;
+
+            /**
+             * A mapping of weakly referenced types to their snapshots.
+             */
+            private final Map<Class<?>, Snapshot> snapshots;
+
+            /**
+             * Creates a new enabled snapshot store.
+             *
+             * @param instrumentation The instrumentation that is used for extracting original class files.
+             */
+            protected Enabled(Instrumentation instrumentation) {
+                this.instrumentation = instrumentation;
+                snapshots = Collections.synchronizedMap(new WeakHashMap<Class<?>, Snapshot>());
+            }
+
+            /**
+             * Computes the digest of a class file.
+             *
+             * @param binaryRepresentation The class file to digest.
+             * @return The digest of the given class file.
+             */
+            private static byte[] digest(byte[] binaryRepresentation) {
+                try {
+                    return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(binaryRepresentation);
+                } catch (NoSuchAlgorithmException exception) {
+                    throw new IllegalStateException("Cannot compute class file digest", exception);
+                }
+            }
+
+            /**
+             * Extracts the class files of the given types as they are currently defined by the virtual machine. This is only possible
+             * if the instrumentation supports retransformation.
+             *
+             * @param types The types for which to extract the class files.
+             * @return A mapping of the given types to their class files for all types for which a class file could be extracted.
+             * @throws UnmodifiableClassException If a type is not modifiable.
+             */
+            private Map<Class<?>, byte[]> extract(Set<Class<?>> types) throws UnmodifiableClassException {
+                if (types.isEmpty() || !instrumentation.isRetransformClassesSupported()) {
+                    return Collections.emptyMap();
+                }
+                ClassFileExtractor classFileExtractor = new ClassFileExtractor(types);
+                synchronized (instrumentation) {
+                    instrumentation.addTransformer(classFileExtractor, CAN_RETRANSFORM);
+                    try {
+                        instrumentation.retransformClasses(types.toArray(new Class<?>[types.size()]));
+                    } finally {
+                        instrumentation.removeTransformer(classFileExtractor);
+                    }
+                }
+                return classFileExtractor.getBinaryRepresentations();
+            }
+
+            @Override
+            public Preparation prepare(Map<Class<?>, ClassDefinition> classDefinitions) throws UnmodifiableClassException {
+                Map<Class<?>, ClassDefinition> changedDefinitions = new HashMap<Class<?>, ClassDefinition>(classDefinitions.size());
+                Map<Class<?>, byte[]> digests = new HashMap<Class<?>, byte[]>(classDefinitions.size());
+                Set<Class<?>> unknownTypes = new HashSet<Class<?>>();
+                for (Map.Entry<Class<?>, ClassDefinition> entry : classDefinitions.entrySet()) {
+                    Snapshot snapshot = snapshots.get(entry.getKey());
+                    byte[] digest = digest(entry.getValue().getDefinitionClassFile());
+                    if (snapshot == null) {
+                        unknownTypes.add(entry.getKey());
+                        changedDefinitions.put(entry.getKey(), entry.getValue());
+                        digests.put(entry.getKey(), digest);
+                    } else if (!snapshot.isCurrent(digest)) {
+                        changedDefinitions.put(entry.getKey(), entry.getValue());
+                        digests.put(entry.getKey(), digest);
+                    }
+                }
+                Map<Class<?>, byte[]> binaryRepresentations = extract(unknownTypes);
+                for (Class<?> type : unknownTypes) {
+                    byte[] binaryRepresentation = binaryRepresentations.get(type);
+                    if (binaryRepresentation == null) {
+                        ClassFileLocator.Resolution resolution = ClassFileLocator.ForClassLoader.read(type);
+                        if (resolution.isResolved()) {
+                            binaryRepresentation = resolution.resolve();
+                        }
+                    }
+                    if (binaryRepresentation != null) {
+                        snapshots.put(type, new Snapshot(binaryRepresentation, digest(binaryRepresentation)));
+                    }
+                }
+                return new Prepared(changedDefinitions, digests);
+            }
+
+            @Override
+            public ClassFileLocator.Resolution locateOriginal(Class<?> type) {
+                Snapshot snapshot = snapshots.get(type);
+                return snapshot == null
+                        ? ClassFileLocator.ForClassLoader.read(type)
+                        : new ClassFileLocator.Resolution.Explicit(snapshot.getOriginal());
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                Enabled enabled = (Enabled) other;
+                return instrumentation.equals(enabled.instrumentation)
+                        && snapshots.equals(enabled.snapshots);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = instrumentation.hashCode();
+                result = 31 * result + snapshots.hashCode();
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "ClassReloadingStrategy.SnapshotStore.Enabled{" +
+                        "instrumentation=" + instrumentation +
+                        ", snapshots=" + snapshots +
+                        '}';
+            }
+
+            /**
+             * A preparation of an enabled snapshot store that registers the digests of its class definitions as applied.
+             */
+            protected class Prepared implements Preparation {
+
+                /**
+                 * A mapping of the classes to be redefined to their redefinition.
+                 */
+                private final Map<Class<?>, ClassDefinition> classDefinitions;
+
+                /**
+                 * A mapping of the classes to be redefined to the digest of their redefinition.
+                 */
+                private final Map<Class<?>, byte[]> digests;
+
+                /**
+                 * Creates a new preparation.
+                 *
+                 * @param classDefinitions A mapping of the classes to be redefined to their redefinition.
+                 * @param digests          A mapping of the classes to be redefined to the digest of their redefinition.
+                 */
+                protected Prepared(Map<Class<?>, ClassDefinition> classDefinitions, Map<Class<?>, byte[]> digests) {
+                    this.classDefinitions = classDefinitions;
+                    this.digests = digests;
+                }
+
+                @Override
+                public Map<Class<?>, ClassDefinition> getClassDefinitions() {
+                    return classDefinitions;
+                }
+
+                @Override
+                public void register() {
+                    for (Map.Entry<Class<?>, byte[]> entry : digests.entrySet()) {
+                        Snapshot snapshot = snapshots.get(entry.getKey());
+                        if (snapshot != null) {
+                            snapshots.put(entry.getKey(), snapshot.update(entry.getValue()));
+                        }
+                    }
+                }
+
+                /**
+                 * Returns the outer instance.
+                 *
+                 * @return The outer instance.
+                 */
+                private Enabled getEnabled() {
+                    return Enabled.this;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    Prepared prepared = (Prepared) other;
+                    return Enabled.this.equals(prepared.getEnabled())
+                            && classDefinitions.equals(prepared.classDefinitions)
+                            && digests.equals(prepared.digests);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = Enabled.this.hashCode();
+                    result = 31 * result + classDefinitions.hashCode();
+                    result = 31 * result + digests.hashCode();
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassReloadingStrategy.SnapshotStore.Enabled.Prepared{" +
+                            "enabled=" + Enabled.this +
+                            ", classDefinitions=" + classDefinitions +
+                            ", digests=" + digests.keySet() +
+                            '}';
+                }
+            }
+
+            /**
+             * A class file transformer that records the class files of retransformed types without altering them. As the transformer is
+             * capable of retransformation, it receives a type's class file as it was defined by the type's class loader or by its most
+             * recent redefinition.
+             */
+            protected static class ClassFileExtractor implements ClassFileTransformer {
+
+                /**
+                 * Indicates that a class file is not transformed.
+                 */
+                private static final byte[] NO_TRANSFORMATION = null;
+
+                /**
+                 * The types for which class files are extracted.
+                 */
+                private final Set<Class<?>> types;
+
+                /**
+                 * A mapping of types to their extracted class files.
+                 */
+                private final Map<Class<?>, byte[]> binaryRepresentations;
+
+                /**
+                 * Creates a new class file extractor.
+                 *
+                 * @param types The types for which class files are extracted.
+                 */
+                protected ClassFileExtractor(Set<Class<?>> types) {
+                    this.types = types;
+                    binaryRepresentations = new ConcurrentHashMap<Class<?>, byte[]>();
+                }
+
+                @Override
+                public byte[] transform(ClassLoader classLoader,
+                                        String internalName,
+                                        Class<?> classBeingRedefined,
+                                        ProtectionDomain protectionDomain,
+                                        byte[] binaryRepresentation) {
+                    if (classBeingRedefined != null && types.contains(classBeingRedefined)) {
+                        binaryRepresentations.put(classBeingRedefined, binaryRepresentation.clone());
+                    }
+                    return NO_TRANSFORMATION;
+                }
+
+                /**
+                 * Returns the class files that were extracted.
+                 *
+                 * @return A mapping of types to their extracted class files.
+                 */
+                protected Map<Class<?>, byte[]> getBinaryRepresentations() {
+                    return binaryRepresentations;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    ClassFileExtractor that = (ClassFileExtractor) other;
+                    return types.equals(that.types)
+                            && binaryRepresentations.equals(that.binaryRepresentations);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = types.hashCode();
+                    result = 31 * result + binaryRepresentations.hashCode();
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassReloadingStrategy.SnapshotStore.Enabled.ClassFileExtractor{" +
+                            "types=" + types +
+                            ", binaryRepresentations=" + binaryRepresentations.keySet() +
+                            '}';
+                }
+            }
+
+            /**
+             * A snapshot of a type's original class file and of the digest of the class file that was applied most recently.
+             */
+            protected static class Snapshot {
+
+                /**
+                 * The deflated original class file.
+                 */
+                private final byte[] compressedOriginal;
+
+                /**
+                 * The length of the original class file.
+                 */
+                private final int length;
+
+                /**
+                 * The digest of the class file that was applied most recently.
+                 */
+                private final byte[] currentDigest;
+
+                /**
+                 * Creates a new snapshot of an original class file.
+                 *
+                 * @param original       The original class file.
+                 * @param originalDigest The digest of the original class file.
+                 */
+                protected Snapshot(byte[] original, byte[] originalDigest) {
+                    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                    try {
+                        deflater.setInput(original);
+                        deflater.finish();
+                        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(original.length / 2 + 1);
+                        byte[] buffer = new byte[original.length + 1];
+                        while (!deflater.finished()) {
+                            outputStream.write(buffer, 0, deflater.deflate(buffer));
+                        }
+                        compressedOriginal = outputStream.toByteArray();
+                    } finally {
+                        deflater.end();
+                    }
+                    length = original.length;
+                    currentDigest = originalDigest;
+                }
+
+                /**
+                 * Creates a new snapshot.
+                 *
+                 * @param compressedOriginal The deflated original class file.
+                 * @param length             The length of the original class file.
+                 * @param currentDigest      The digest of the class file that was applied most recently.
+                 */
+                private Snapshot(byte[] compressedOriginal, int length, byte[] currentDigest) {
+                    this.compressedOriginal = compressedOriginal;
+                    this.length = length;
+                    this.currentDigest = currentDigest;
+                }
+
+                /**
+                 * Checks if the given digest represents the class file that was applied most recently.
+                 *
+                 * @param digest The digest to compare.
+                 * @return {@code true} if the given digest represents the class file that was applied most recently.
+                 */
+                protected boolean isCurrent(byte[] digest) {
+                    return MessageDigest.isEqual(currentDigest, digest);
+                }
+
+                /**
+                 * Returns a snapshot that represents the given digest as the class file that was applied most recently.
+                 *
+                 * @param digest The digest of the class file that was applied most recently.
+                 * @return A snapshot that represents the given digest as the class file that was applied most recently.
+                 */
+                protected Snapshot update(byte[] digest) {
+                    return new Snapshot(compressedOriginal, length, digest);
+                }
+
+                /**
+                 * Returns the original class file.
+                 *
+                 * @return The original class file.
+                 */
+                protected byte[] getOriginal() {
+                    Inflater inflater = new Inflater();
+                    try {
+                        inflater.setInput(compressedOriginal);
+                        byte[] original = new byte[length];
+                        int offset = 0;
+                        while (offset < length) {
+                            int read = inflater.inflate(original, offset, length - offset);
+                            if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                                throw new IllegalStateException("Snapshot is truncated");
+                            }
+                            offset += read;
+                        }
+                        return original;
+                    } catch (DataFormatException exception) {
+                        throw new IllegalStateException("Snapshot is corrupted", exception);
+                    } finally {
+                        inflater.end();
+                    }
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    Snapshot snapshot = (Snapshot) other;
+                    return length == snapshot.length
+                            && Arrays.equals(compressedOriginal, snapshot.compressedOriginal)
+                            && Arrays.equals(currentDigest, snapshot.currentDigest);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = Arrays.hashCode(compressedOriginal);
+                    result = 31 * result + length;
+                    result = 31 * result + Arrays.hashCode(currentDigest);
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassReloadingStrategy.SnapshotStore.Enabled.Snapshot{" +
+                            "compressedOriginal=<" + compressedOriginal.length + " bytes>" +
+                            ", length=" + length +
+                            ", currentDigest=<" + currentDigest.length + " bytes>" +
+                            '}';
+                }
+            }
+        }
+    }
 }
@@ -6,8 +6,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
@@ -470,6 +474,12 @@ public interface PackageDefinitionStrategy {
          */
         private final SealBaseLocator sealBaseLocator;
 
+        /**
+         * A cache of the relevant manifest attributes of any class loader for which a package was defined. The class loaders are
+         * referenced weakly. This cache is considered an implementation detail and does not contribute to this instance's identity.
+         */
+        private final Map<ClassLoader, ManifestAttributes> cache;
+
         /**
          * Creates a manifest reading package definition strategy that attempts to extract sealing information from a defined class's URL.
          */
@@ -484,49 +494,17 @@ public interface PackageDefinitionStrategy {
          */
         public ManifestReading(SealBaseLocator sealBaseLocator) {
             this.sealBaseLocator = sealBaseLocator;
+            cache = Collections.synchronizedMap(new WeakHashMap<ClassLoader, ManifestAttributes>());
         }
 
         @Override
         public Definition define(ClassLoader classLoader, String packageName, String typeName) {
-            InputStream inputStream = classLoader.getResourceAsStream(MANIFEST_FILE);
-            if (inputStream != null) {
-                try {
-                    try {
-                        Manifest manifest = new Manifest(inputStream);
-                        Map<Attributes.Name, String> values = new HashMap<Attributes.Name, String>();
-                        Attributes mainAttributes = manifest.getMainAttributes();
-                        if (mainAttributes != null) {
-                            for (Attributes.Name attributeName : ATTRIBUTE_NAMES) {
-                                values.put(attributeName, mainAttributes.getValue(attributeName));
-                            }
-                        }
-                        Attributes attributes = manifest.getAttributes(packageName.replace('.', '/').concat("/"));
-                        if (attributes != null) {
-                            for (Attributes.Name attributeName : ATTRIBUTE_NAMES) {
-                                String value = attributes.getValue(attributeName);
-                                if (value != null) {
-                                    values.put(attributeName, value);
-                                }
-                            }
-                        }
-                        return new Definition.Simple(values.get(Attributes.Name.SPECIFICATION_TITLE),
-                                values.get(Attributes.Name.SPECIFICATION_VERSION),
-                                values.get(Attributes.Name.SPECIFICATION_VENDOR),
-                                values.get(Attributes.Name.IMPLEMENTATION_TITLE),
-                                values.get(Attributes.Name.IMPLEMENTATION_VERSION),
-                                values.get(Attributes.Name.IMPLEMENTATION_VENDOR),
-                                Boolean.parseBoolean(values.get(Attributes.Name.SEALED))
-                                        ? sealBaseLocator.findSealBase(classLoader, typeName)
-                                        : NOT_SEALED);
-                    } finally {
-                        inputStream.close();
-                    }
-                } catch (IOException exception) {
-                    throw new IllegalStateException("Error while reading manifest file", exception);
-                }
-            } else {
-                return Definition.Trivial.INSTANCE;
+            ManifestAttributes manifestAttributes = cache.get(classLoader);
+            if (manifestAttributes == null) {
+                manifestAttributes = ManifestAttributes.of(classLoader);
+                cache.put(classLoader, manifestAttributes);
             }
+            return manifestAttributes.define(classLoader, packageName, typeName, sealBaseLocator);
         }
 
         @Override
@@ -542,7 +520,120 @@ public interface PackageDefinitionStrategy {
 
         @Override
         public String toString() {
-            return "PackageDefinitionStrategy.ManifestReading{sealBaseLocator=" + sealBaseLocator + '}';
+            return "PackageDefinitionStrategy.ManifestReading{sealBaseLocator=" + sealBaseLocator + ", cache=" + cache + '}';
+        }
+
+        /**
+         * Represents the attributes of a class loader's manifest file that are relevant for defining a package. Once a package's
+         * attributes are resolved, they are retained for any further definition of the same package.
+         */
+        protected static class ManifestAttributes {
+
+            /**
+             * The manifest of the represented class loader or {@code null} if the class loader does not expose a manifest.
+             */
+            private final Manifest manifest;
+
+            /**
+             * A mapping of package names to their resolved attribute values.
+             */
+            private final ConcurrentMap<String, Map<Attributes.Name, String>> packages;
+
+            /**
+             * Creates a new representation of a manifest's attributes.
+             *
+             * @param manifest The manifest of the represented class loader or {@code null} if the class loader does not expose a manifest.
+             */
+            protected ManifestAttributes(Manifest manifest) {
+                this.manifest = manifest;
+                packages = new ConcurrentHashMap<String, Map<Attributes.Name, String>>();
+            }
+
+            /**
+             * Reads the manifest of the given class loader.
+             *
+             * @param classLoader The class loader for which to read the manifest.
+             * @return A representation of the class loader's manifest attributes.
+             */
+            protected static ManifestAttributes of(ClassLoader classLoader) {
+                InputStream inputStream = classLoader.getResourceAsStream(MANIFEST_FILE);
+                if (inputStream != null) {
+                    try {
+                        try {
+                            return new ManifestAttributes(new Manifest(inputStream));
+                        } finally {
+                            inputStream.close();
+                        }
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Error while reading manifest file", exception);
+                    }
+                } else {
+                    return new ManifestAttributes(null);
+                }
+            }
+
+            /**
+             * Defines a package.
+             *
+             * @param classLoader     The class loader for which this package is being defined.
+             * @param packageName     The name of the package.
+             * @param typeName        The name of the type being loaded that triggered the package definition.
+             * @param sealBaseLocator A locator for a sealed package's URL.
+             * @return A definition of the package.
+             */
+            protected Definition define(ClassLoader classLoader, String packageName, String typeName, SealBaseLocator sealBaseLocator) {
+                if (manifest == null) {
+                    return Definition.Trivial.INSTANCE;
+                }
+                Map<Attributes.Name, String> values = packages.get(packageName);
+                if (values == null) {
+                    values = resolve(packageName);
+                    packages.put(packageName, values);
+                }
+                return new Definition.Simple(values.get(Attributes.Name.SPECIFICATION_TITLE),
+                        values.get(Attributes.Name.SPECIFICATION_VERSION),
+                        values.get(Attributes.Name.SPECIFICATION_VENDOR),
+                        values.get(Attributes.Name.IMPLEMENTATION_TITLE),
+                        values.get(Attributes.Name.IMPLEMENTATION_VERSION),
+                        values.get(Attributes.Name.IMPLEMENTATION_VENDOR),
+                        Boolean.parseBoolean(values.get(Attributes.Name.SEALED))
+                                ? sealBaseLocator.findSealBase(classLoader, typeName)
+                                : NOT_SEALED);
+            }
+
+            /**
+             * Resolves the attribute values of a package where package-specific values override the manifest's main attributes.
+             *
+             * @param packageName The name of the package.
+             * @return A mapping of the package's attribute names to their values.
+             */
+            private Map<Attributes.Name, String> resolve(String packageName) {
+                Map<Attributes.Name, String> values = new HashMap<Attributes.Name, String>();
+                Attributes mainAttributes = manifest.getMainAttributes();
+                if (mainAttributes != null) {
+                    for (Attributes.Name attributeName : ATTRIBUTE_NAMES) {
+                        values.put(attributeName, mainAttributes.getValue(attributeName));
+                    }
+                }
+                Attributes attributes = manifest.getAttributes(packageName.replace('.', '/').concat("/"));
+                if (attributes != null) {
+                    for (Attributes.Name attributeName : ATTRIBUTE_NAMES) {
+                        String value = attributes.getValue(attributeName);
+                        if (value != null) {
+                            values.put(attributeName, value);
+                        }
+                    }
+                }
+                return values;
+            }
+
+            @Override
+            public String toString() {
+                return "PackageDefinitionStrategy.ManifestReading.ManifestAttributes{" +
+                        "manifest=" + manifest +
+                        ", packages=" + packages +
+                        '}';
+            }
         }
 
         /**
@@ -0,0 +1,379 @@
+package net.bytebuddy.dynamic.loading;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * A cache for storing types that were created for a given class loader and a user-defined key, typically a representation of
+ * the configuration that was used for creating a type. Class loaders are referenced weakly such that a class loader and its
+ * types can be garbage collected. The cached types are referenced either weakly or softly, as determined by a {@link Sort}.
+ * </p>
+ * <p>
+ * Using {@link TypeCache#findOrInsert(ClassLoader, Object, Callable)}, a type is created at most once per class loader and key,
+ * even if several threads look up the same type concurrently. For this purpose, this cache synchronizes type creation on a
+ * fixed set of locks, such that type creation for different keys is typically not blocked by one another.
+ * </p>
+ * <p>
+ * <b>Important</b>: A cached type must not reference its key, neither directly nor indirectly, as such a reference would
+ * prevent the collection of the cached type's class loader.
+ * </p>
+ *
+ * @param <T> The type of the user-defined key of this cache.
+ */
+public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
+
+    /**
+     * The default number of locks that are used for synchronizing type creation.
+     */
+    private static final int DEFAULT_CONCURRENCY = 64;
+
+    /**
+     * Indicates that a type was not found in this cache.
+     */
+    private static final Class<?> NOT_FOUND = null;
+
+    /**
+     * The reference type to use for referencing cached types.
+     */
+    private final Sort sort;
+
+    /**
+     * The locks on which type creation is synchronized.
+     */
+    private final Object[] locks;
+
+    /**
+     * A mapping of weakly referenced class loaders to the types that are cached for this class loader.
+     */
+    private final ConcurrentMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>> cache;
+
+    /**
+     * A counter for the number of lookups that were answered from this cache.
+     */
+    private final AtomicLong hitCount;
+
+    /**
+     * A counter for the number of lookups that were not answered from this cache.
+     */
+    private final AtomicLong missCount;
+
+    /**
+     * Creates a new type cache with a default number of locks.
+     *
+     * @param sort The reference type to use for referencing cached types.
+     */
+    public TypeCache(Sort sort) {
+        this(sort, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Creates a new type cache.
+     *
+     * @param sort        The reference type to use for referencing cached types.
+     * @param concurrency The number of locks on which type creation is synchronized. Must be a positive number.
+     */
+    public TypeCache(Sort sort, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency level must be positive: " + concurrency);
+        }
+        this.sort = sort;
+        locks = new Object[concurrency];
+        for (int index = 0; index < concurrency; index++) {
+            locks[index] = new Object();
+        }
+        cache = new ConcurrentHashMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>>();
+        hitCount = new AtomicLong();
+        missCount = new AtomicLong();
+    }
+
+    /**
+     * Finds a cached type for the given class loader and key.
+     *
+     * @param classLoader The class loader for which the type was stored or {@code null} for the bootstrap class loader.
+     * @param key         The key for which the type was stored.
+     * @return The stored type or {@code null} if no type is stored for the given class loader and key.
+     */
+    public Class<?> find(ClassLoader classLoader, T key) {
+        Class<?> type = doFind(classLoader, key);
+        (type == NOT_FOUND
+                ? missCount
+                : hitCount).incrementAndGet();
+        return type;
+    }
+
+    /**
+     * Inserts a type into this cache if no type is stored for the given class loader and key.
+     *
+     * @param classLoader The class loader for which the type is stored or {@code null} for the bootstrap class loader.
+     * @param key         The key for which the type is stored.
+     * @param type        The type to store.
+     * @return The type that is stored after this insertion, either the given type or a previously stored type.
+     */
+    public Class<?> insert(ClassLoader classLoader, T key, Class<?> type) {
+        expungeStaleEntries();
+        ConcurrentMap<T, Reference<Class<?>>> types = cache.get(new LookupKey(classLoader));
+        if (types == null) {
+            types = new ConcurrentHashMap<T, Reference<Class<?>>>();
+            ConcurrentMap<T, Reference<Class<?>>> previous = cache.putIfAbsent(new StorageKey(classLoader, this), types);
+            if (previous != null) {
+                types = previous;
+            }
+        }
+        Reference<Class<?>> reference = sort.wrap(type);
+        Reference<Class<?>> previous = types.putIfAbsent(key, reference);
+        while (previous != null) {
+            Class<?> previousType = previous.get();
+            if (previousType != null) {
+                return previousType;
+            } else if (types.replace(key, previous, reference)) {
+                return type;
+            }
+            previous = types.putIfAbsent(key, reference);
+        }
+        return type;
+    }
+
+    /**
+     * Finds a cached type for the given class loader and key or creates and inserts a type by invoking the supplied callable if no such
+     * type is cached. For each class loader and key, a type is created at most once as long as it is retained by this cache.
+     *
+     * @param classLoader The class loader for which the type is stored or {@code null} for the bootstrap class loader.
+     * @param key         The key for which the type is stored.
+     * @param lazy        A callable that creates the type if no type is stored.
+     * @return The type that is stored for the given class loader and key.
+     */
+    public Class<?> findOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
+        Class<?> type = doFind(classLoader, key);
+        if (type != NOT_FOUND) {
+            hitCount.incrementAndGet();
+            return type;
+        }
+        synchronized (locks[((System.identityHashCode(classLoader) * 31 + key.hashCode()) & Integer.MAX_VALUE) % locks.length]) {
+            type = doFind(classLoader, key);
+            if (type != NOT_FOUND) {
+                hitCount.incrementAndGet();
+                return type;
+            }
+            missCount.incrementAndGet();
+            try {
+                type = lazy.call();
+            } catch (RuntimeException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new IllegalStateException("Could not create type for " + key, exception);
+            }
+            return insert(classLoader, key, type);
+        }
+    }
+
+    /**
+     * Looks up a type without recording a hit or a miss.
+     *
+     * @param classLoader The class loader for which the type was stored or {@code null} for the bootstrap class loader.
+     * @param key         The key for which the type was stored.
+     * @return The stored type or {@code null} if no type is stored for the given class loader and key.
+     */
+    private Class<?> doFind(ClassLoader classLoader, T key) {
+        ConcurrentMap<T, Reference<Class<?>>> types = cache.get(new LookupKey(classLoader));
+        if (types == null) {
+            return NOT_FOUND;
+        }
+        Reference<Class<?>> reference = types.get(key);
+        return reference == null
+                ? NOT_FOUND
+                : reference.get();
+    }
+
+    /**
+     * Removes all entries of class loaders that were garbage collected.
+     */
+    public void expungeStaleEntries() {
+        Reference<?> reference;
+        while ((reference = poll()) != null) {
+            cache.remove(reference);
+        }
+    }
+
+    /**
+     * Removes all entries of this cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of lookups that were answered by a cached type.
+     *
+     * @return The number of lookups that were answered by a cached type.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of lookups that could not be answered by a cached type.
+     *
+     * @return The number of lookups that could not be answered by a cached type.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeCache{" +
+                "sort=" + sort +
+                ", concurrency=" + locks.length +
+                ", cache=" + cache +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                '}';
+    }
+
+    /**
+     * Determines the reference type that is used for referencing cached types.
+     */
+    public enum Sort {
+
+        /**
+         * Creates a cache where cached types are referenced weakly such that a type can be collected once it is no longer
+         * referenced otherwise.
+         */
+        WEAK {
+            @Override
+            protected Reference<Class<?>> wrap(Class<?> type) {
+                return new WeakReference<Class<?>>(type);
+            }
+        },
+
+        /**
+         * Creates a cache where cached types are referenced softly such that a type is only collected if the virtual
+         * machine is low on memory.
+         */
+        SOFT {
+            @Override
+            protected Reference<Class<?>> wrap(Class<?> type) {
+                return new SoftReference<Class<?>>(type);
+            }
+        };
+
+        /**
+         * Wraps a type in a reference of this sort.
+         *
+         * @param type The type to wrap.
+         * @return A reference to the given type.
+         */
+        protected abstract Reference<Class<?>> wrap(Class<?> type);
+
+        @Override
+        public String toString() {
+            return "TypeCache.Sort." + name();
+        }
+    }
+
+    /**
+     * A key for looking up the types of a class loader without creating a weak reference.
+     */
+    protected static class LookupKey {
+
+        /**
+         * The represented class loader or {@code null} for the bootstrap class loader.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The identity hash code of the represented class loader.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new lookup key.
+         *
+         * @param classLoader The represented class loader or {@code null} for the bootstrap class loader.
+         */
+        protected LookupKey(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                return classLoader == ((LookupKey) other).classLoader;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                return hashCode == storageKey.hashCode && classLoader == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.LookupKey{" +
+                    "classLoader=" + classLoader +
+                    '}';
+        }
+    }
+
+    /**
+     * A key for storing the types of a class loader that references the class loader weakly.
+     */
+    protected static class StorageKey extends WeakReference<ClassLoader> {
+
+        /**
+         * The identity hash code of the represented class loader.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new storage key.
+         *
+         * @param classLoader    The represented class loader or {@code null} for the bootstrap class loader.
+         * @param referenceQueue The reference queue to notify upon the collection of the class loader.
+         */
+        protected StorageKey(ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue) {
+            super(classLoader, referenceQueue);
+            hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                LookupKey lookupKey = (LookupKey) other;
+                return hashCode == lookupKey.hashCode && get() == lookupKey.classLoader;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                return hashCode == storageKey.hashCode && get() == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.StorageKey{" +
+                    "classLoader=" + get() +
+                    '}';
+        }
+    }
+}
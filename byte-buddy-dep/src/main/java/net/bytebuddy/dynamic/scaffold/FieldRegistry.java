@@ -4,8 +4,11 @@ import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.attribute.FieldAttributeAppender;
 
-import java.util.Collections;
+import net.bytebuddy.utility.PersistentList;
+import net.bytebuddy.utility.PersistentSet;
+
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -66,51 +69,60 @@ public interface FieldRegistry {
     }
 
     /**
-     * An immutable default implementation of a field registry.
+     * An immutable default implementation of a field registry. Registrations are recorded in a persistent list such that
+     * registering a field does not copy the previously registered fields. Duplicate registrations are detected by a persistent
+     * set of the registered field tokens that is shared in the same manner.
      */
     class Default implements FieldRegistry {
 
         /**
-         * Contains all non-prepared field registry entries mapped by the field name. This map should never be mutated.
+         * Contains all non-prepared field registry entries in their registration order. This list should never be mutated.
+         */
+        private final List<Entry> entries;
+
+        /**
+         * The tokens of all registered fields.
          */
-        private final Map<FieldDescription.Token, Entry> entries;
+        private final PersistentSet<FieldDescription.Token> fieldTokens;
 
         /**
          * Creates a new field registry without any registered fields.
          */
         public Default() {
-            entries = Collections.emptyMap();
+            entries = PersistentList.empty();
+            fieldTokens = PersistentSet.empty();
         }
 
         /**
          * Creates a new field registry.
          *
-         * @param entries The non-prepared entries of this field registry.
+         * @param entries     The non-prepared entries of this field registry.
+         * @param fieldTokens The tokens of all registered fields.
          */
-        private Default(Map<FieldDescription.Token, Entry> entries) {
+        private Default(List<Entry> entries, PersistentSet<FieldDescription.Token> fieldTokens) {
             this.entries = entries;
+            this.fieldTokens = fieldTokens;
         }
 
         @Override
         public FieldRegistry include(FieldDescription.Token fieldToken, FieldAttributeAppender.Factory attributeAppenderFactory, Object defaultValue) {
-            Map<FieldDescription.Token, Entry> entries = new HashMap<FieldDescription.Token, Entry>(this.entries);
-            if (entries.put(fieldToken, new Entry(attributeAppenderFactory, defaultValue)) != null) {
+            if (fieldTokens.contains(fieldToken)) {
                 throw new IllegalArgumentException(fieldToken + " is already registered");
             }
-            return new Default(entries);
+            return new Default(PersistentList.of(entries).append(new Entry(fieldToken, attributeAppenderFactory, defaultValue)), fieldTokens.with(fieldToken));
         }
 
         @Override
         public FieldRegistry.Compiled compile(TypeDescription instrumentedType) {
             Map<FieldDescription.Token, Compiled.Entry> entries = new HashMap<FieldDescription.Token, Compiled.Entry>();
             Map<FieldAttributeAppender.Factory, FieldAttributeAppender> attributeAppenders = new HashMap<FieldAttributeAppender.Factory, FieldAttributeAppender>();
-            for (Map.Entry<FieldDescription.Token, Entry> entry : this.entries.entrySet()) {
-                FieldAttributeAppender attributeAppender = attributeAppenders.get(entry.getValue().getAttributeAppenderFactory());
+            for (Entry entry : this.entries) {
+                FieldAttributeAppender attributeAppender = attributeAppenders.get(entry.getAttributeAppenderFactory());
                 if (attributeAppender == null) {
-                    attributeAppender = entry.getValue().getAttributeAppenderFactory().make(instrumentedType);
-                    attributeAppenders.put(entry.getValue().getAttributeAppenderFactory(), attributeAppender);
+                    attributeAppender = entry.getAttributeAppenderFactory().make(instrumentedType);
+                    attributeAppenders.put(entry.getAttributeAppenderFactory(), attributeAppender);
                 }
-                entries.put(entry.getKey(), new Compiled.Entry(attributeAppender, entry.getValue().getDefaultValue()));
+                entries.put(entry.getFieldToken(), new Compiled.Entry(attributeAppender, entry.getDefaultValue()));
             }
             return new Compiled(entries);
         }
@@ -118,17 +130,21 @@ public interface FieldRegistry {
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
-                    && entries.equals(((Default) other).entries);
+                    && entries.equals(((Default) other).entries)
+                    && fieldTokens.equals(((Default) other).fieldTokens);
         }
 
         @Override
         public int hashCode() {
-            return entries.hashCode();
+            return 31 * entries.hashCode() + fieldTokens.hashCode();
         }
 
         @Override
         public String toString() {
-            return "FieldRegistry.Default{entries=" + entries + '}';
+            return "FieldRegistry.Default{" +
+                    "entries=" + entries +
+                    ", fieldTokens=" + fieldTokens +
+                    '}';
         }
 
         /**
@@ -136,6 +152,11 @@ public interface FieldRegistry {
          */
         protected static class Entry {
 
+            /**
+             * A token identifying the field that is represented by this entry.
+             */
+            private final FieldDescription.Token fieldToken;
+
             /**
              * The field attribute appender factory that is represented by this entry.
              */
@@ -149,14 +170,25 @@ public interface FieldRegistry {
             /**
              * Creates a new entry.
              *
+             * @param fieldToken               A token identifying the field that is represented by this entry.
              * @param attributeAppenderFactory The field attribute appender factory that is represented by this entry.
              * @param defaultValue             The field's default value for this entry.
              */
-            protected Entry(FieldAttributeAppender.Factory attributeAppenderFactory, Object defaultValue) {
+            protected Entry(FieldDescription.Token fieldToken, FieldAttributeAppender.Factory attributeAppenderFactory, Object defaultValue) {
+                this.fieldToken = fieldToken;
                 this.attributeAppenderFactory = attributeAppenderFactory;
                 this.defaultValue = defaultValue;
             }
 
+            /**
+             * Returns the token identifying the field that is represented by this entry.
+             *
+             * @return The token identifying the field that is represented by this entry.
+             */
+            public FieldDescription.Token getFieldToken() {
+                return fieldToken;
+            }
+
             /**
              * Returns the field attribute appender factory.
              *
@@ -180,13 +212,15 @@ public interface FieldRegistry {
                 if (this == other) return true;
                 if (other == null || getClass() != other.getClass()) return false;
                 Entry entry = (Entry) other;
-                return attributeAppenderFactory.equals(entry.attributeAppenderFactory)
+                return fieldToken.equals(entry.fieldToken)
+                        && attributeAppenderFactory.equals(entry.attributeAppenderFactory)
                         && !(defaultValue != null ? !defaultValue.equals(entry.defaultValue) : entry.defaultValue != null);
             }
 
             @Override
             public int hashCode() {
-                int result = attributeAppenderFactory.hashCode();
+                int result = fieldToken.hashCode();
+                result = 31 * result + attributeAppenderFactory.hashCode();
                 result = 31 * result + (defaultValue != null ? defaultValue.hashCode() : 0);
                 return result;
             }
@@ -194,7 +228,8 @@ public interface FieldRegistry {
             @Override
             public String toString() {
                 return "FieldRegistry.Default.Entry{" +
-                        "attributeAppenderFactory=" + attributeAppenderFactory +
+                        "fieldToken=" + fieldToken +
+                        ", attributeAppenderFactory=" + attributeAppenderFactory +
                         ", defaultValue=" + defaultValue +
                         '}';
             }
@@ -3,12 +3,15 @@ package net.bytebuddy.dynamic.scaffold;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
+import net.bytebuddy.description.type.PackageDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.FilterableList;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.isVirtual;
 import static net.bytebuddy.matcher.ElementMatchers.isVisibleTo;
@@ -498,7 +501,20 @@ public interface MethodGraph {
 
             @Override
             public MethodGraph.Linked compile(TypeDescription typeDescription, TypeDescription viewPoint) {
-                Map<GenericTypeDescription, Key.Store<T>> snapshots = new HashMap<GenericTypeDescription, Key.Store<T>>();
+                return compile(typeDescription, viewPoint, new HashMap<GenericTypeDescription, Key.Store<T>>());
+            }
+
+            /**
+             * Compiles the given type into a method graph.
+             *
+             * @param typeDescription The type to be compiled.
+             * @param viewPoint       The view point that determines the method's visibility.
+             * @param snapshots       A map containing snapshots of key stores for previously analyzed types.
+             * @return A linked method graph representing the given type.
+             */
+            protected MethodGraph.Linked compile(TypeDescription typeDescription,
+                                                 TypeDescription viewPoint,
+                                                 Map<GenericTypeDescription, Key.Store<T>> snapshots) {
                 Key.Store<?> rootStore = doAnalyze(typeDescription, snapshots, isVirtual().and(isVisibleTo(viewPoint)));
                 GenericTypeDescription superType = typeDescription.getSuperType();
                 List<GenericTypeDescription> interfaceTypes = typeDescription.getInterfaces();
@@ -591,6 +607,243 @@ public interface MethodGraph {
                         '}';
             }
 
+            /**
+             * <p>
+             * A default method graph compiler that retains the analysis of any super type of a type that is compiled from its own
+             * view point. When many types share a common super type, as it is typical when creating subclasses of a set of types
+             * with an identical configuration, the super type's hierarchy is only analyzed once per package of the compiled type.
+             * </p>
+             * <p>
+             * A cached analysis is only reused for a super type that is represented by the very type description that was analyzed.
+             * This way, a type of the same name that is defined by another class loader or that was redefined is never resolved to
+             * a stale analysis. For this reason, the cache is only effective if type descriptions are reused what is the case for
+             * loaded types and for types that are described by a caching {@link net.bytebuddy.pool.TypePool}.
+             * </p>
+             * <p>
+             * <b>Important</b>: The cache references the analyzed type descriptions strongly. A compiler of this type should therefore
+             * only be retained for as long as the described types are in use or be {@link Caching#clear()}ed explicitly.
+             * </p>
+             *
+             * @param <T> The type of the harmonizer token to be used for linking methods of different types.
+             */
+            public static class Caching<T> extends Default<T> {
+
+                /**
+                 * A placeholder for the package name of a type that is not declared in a package.
+                 */
+                private static final String NO_PACKAGE = "";
+
+                /**
+                 * A mapping of package names to snapshots of key stores of any previously analyzed super type.
+                 */
+                private final ConcurrentMap<String, ConcurrentMap<GenericTypeDescription, Snapshot<T>>> cache;
+
+                /**
+                 * Creates a new caching method graph compiler.
+                 *
+                 * @param harmonizer The harmonizer to be used.
+                 * @param merger     The merger to be used.
+                 */
+                protected Caching(Harmonizer<T> harmonizer, Merger merger) {
+                    super(harmonizer, merger);
+                    cache = new ConcurrentHashMap<String, ConcurrentMap<GenericTypeDescription, Snapshot<T>>>();
+                }
+
+                /**
+                 * Creates a caching compiler using the given harmonizer and merger.
+                 *
+                 * @param harmonizer The harmonizer to be used for creating tokens that uniquely identify a method hierarchy.
+                 * @param merger     The merger to be used for identifying a method to represent an ambiguous method resolution.
+                 * @param <S>        The type of the harmonizer token.
+                 * @return A caching compiler for the given harmonizer and merger.
+                 */
+                public static <S> Caching<S> of(Harmonizer<S> harmonizer, Merger merger) {
+                    return new Caching<S>(harmonizer, merger);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java programming language.
+                 *
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java programming language.
+                 * @see Default#forJavaHierarchy()
+                 */
+                public static Caching<?> forJavaHierarchy() {
+                    return of(Harmonizer.ForJavaMethod.INSTANCE, Merger.Directional.LEFT);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java virtual machine.
+                 *
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java virtual machine.
+                 * @see Default#forJVMHierarchy()
+                 */
+                public static Caching<?> forJVMHierarchy() {
+                    return of(Harmonizer.ForJVMMethod.INSTANCE, Merger.Directional.LEFT);
+                }
+
+                @Override
+                public MethodGraph.Linked compile(TypeDescription typeDescription, TypeDescription viewPoint) {
+                    // Only for a type that is viewed from its own perspective, the visibility of the methods of any super type
+                    // is fully determined by the view point's package such that the analysis of the super types can be shared.
+                    if (!typeDescription.equals(viewPoint)) {
+                        return super.compile(typeDescription, viewPoint);
+                    }
+                    PackageDescription packageDescription = viewPoint.getPackage();
+                    String packageName = packageDescription == null
+                            ? NO_PACKAGE
+                            : packageDescription.getName();
+                    ConcurrentMap<GenericTypeDescription, Snapshot<T>> snapshots = cache.get(packageName);
+                    if (snapshots == null) {
+                        snapshots = new ConcurrentHashMap<GenericTypeDescription, Snapshot<T>>();
+                        ConcurrentMap<GenericTypeDescription, Snapshot<T>> previous = cache.putIfAbsent(packageName, snapshots);
+                        if (previous != null) {
+                            snapshots = previous;
+                        }
+                    }
+                    return compile(typeDescription, viewPoint, new SnapshotView<T>(snapshots));
+                }
+
+                /**
+                 * Removes all cached analyses of super types from this compiler.
+                 */
+                public void clear() {
+                    cache.clear();
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other;
+                }
+
+                @Override
+                public int hashCode() {
+                    return System.identityHashCode(this);
+                }
+
+                @Override
+                public String toString() {
+                    return "MethodGraph.Compiler.Default.Caching{" +
+                            "harmonizer=" + super.harmonizer +
+                            ", merger=" + super.merger +
+                            ", cache=" + cache +
+                            '}';
+                }
+
+                /**
+                 * A snapshot of a key store that was created for a specific type description.
+                 *
+                 * @param <S> The type of the harmonizer token to be used for linking methods of different types.
+                 */
+                protected static class Snapshot<S> {
+
+                    /**
+                     * The erasure of the type description that was analyzed.
+                     */
+                    private final TypeDescription typeDescription;
+
+                    /**
+                     * The key store that resulted from the analysis.
+                     */
+                    private final Key.Store<S> store;
+
+                    /**
+                     * Creates a new snapshot.
+                     *
+                     * @param typeDescription The erasure of the type description that was analyzed.
+                     * @param store           The key store that resulted from the analysis.
+                     */
+                    protected Snapshot(TypeDescription typeDescription, Key.Store<S> store) {
+                        this.typeDescription = typeDescription;
+                        this.store = store;
+                    }
+
+                    /**
+                     * Resolves this snapshot's key store if it was created for the given type description.
+                     *
+                     * @param typeDescription The type description for which a key store is requested.
+                     * @return The key store of this snapshot or {@code null} if the snapshot was created for another type description.
+                     */
+                    protected Key.Store<S> resolve(GenericTypeDescription typeDescription) {
+                        // Type descriptions are compared by identity as equal type descriptions might represent types
+                        // of the same name that are however defined by different class loaders or in different versions.
+                        return this.typeDescription == typeDescription.asErasure()
+                                ? store
+                                : null;
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && typeDescription.equals(((Snapshot<?>) other).typeDescription)
+                                && store.equals(((Snapshot<?>) other).store);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return typeDescription.hashCode() + 31 * store.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "MethodGraph.Compiler.Default.Caching.Snapshot{" +
+                                "typeDescription=" + typeDescription +
+                                ", store=" + store +
+                                '}';
+                    }
+                }
+
+                /**
+                 * A view of the snapshots of a caching compiler for a single compilation. Any snapshot that is created during
+                 * the compilation is retained by the view such that it is resolved consistently, even if a type description
+                 * is represented by several instances. Any snapshot is furthermore published to the compiler's cache.
+                 *
+                 * @param <S> The type of the harmonizer token to be used for linking methods of different types.
+                 */
+                @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "A view is never serialized")
+                protected static class SnapshotView<S> extends HashMap<GenericTypeDescription, Key.Store<S>> {
+
+                    /**
+                     * The serial version UID of this class.
+                     */
+                    private static final long serialVersionUID = 1L;
+
+                    /**
+                     * The shared snapshots of the compiler's cache.
+                     */
+                    private final ConcurrentMap<GenericTypeDescription, Snapshot<S>> snapshots;
+
+                    /**
+                     * Creates a new snapshot view.
+                     *
+                     * @param snapshots The shared snapshots of the compiler's cache.
+                     */
+                    protected SnapshotView(ConcurrentMap<GenericTypeDescription, Snapshot<S>> snapshots) {
+                        this.snapshots = snapshots;
+                    }
+
+                    @Override
+                    public Key.Store<S> get(Object key) {
+                        Key.Store<S> store = super.get(key);
+                        if (store == null && key instanceof GenericTypeDescription) {
+                            Snapshot<S> snapshot = snapshots.get(key);
+                            store = snapshot == null
+                                    ? null
+                                    : snapshot.resolve((GenericTypeDescription) key);
+                            if (store != null) {
+                                super.put((GenericTypeDescription) key, store);
+                            }
+                        }
+                        return store;
+                    }
+
+                    @Override
+                    public Key.Store<S> put(GenericTypeDescription key, Key.Store<S> store) {
+                        snapshots.put(key, new Snapshot<S>(key.asErasure(), store));
+                        return super.put(key, store);
+                    }
+                }
+            }
+
             /**
              * A harmonizer is responsible for creating a token that identifies a method's relevant attributes for considering
              * two methods of being equal or not.
@@ -11,6 +11,7 @@ import net.bytebuddy.implementation.attribute.MethodAttributeAppender;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.LatentMethodMatcher;
+import net.bytebuddy.utility.PersistentList;
 
 import java.util.*;
 
@@ -432,7 +433,8 @@ public interface MethodRegistry {
     }
 
     /**
-     * A default implementation of a method registry.
+     * A default implementation of a method registry. Entries are recorded in a persistent list such that registering a
+     * method does not copy the previously registered entries.
      */
     class Default implements MethodRegistry {
 
@@ -445,7 +447,7 @@ public interface MethodRegistry {
          * Creates a new default method registry without entries.
          */
         public Default() {
-            entries = Collections.emptyList();
+            entries = PersistentList.empty();
         }
 
         /**
@@ -462,7 +464,7 @@ public interface MethodRegistry {
                                       Handler handler,
                                       MethodAttributeAppender.Factory attributeAppenderFactory,
                                       MethodTransformer methodTransformer) {
-            return new Default(join(new Entry(methodMatcher, handler, attributeAppenderFactory, methodTransformer), entries));
+            return new Default(PersistentList.of(entries).prepend(new Entry(methodMatcher, handler, attributeAppenderFactory, methodTransformer)));
         }
 
         @Override
@@ -470,7 +472,7 @@ public interface MethodRegistry {
                                      Handler handler,
                                      MethodAttributeAppender.Factory attributeAppenderFactory,
                                      MethodTransformer methodTransformer) {
-            return new Default(join(entries, new Entry(methodMatcher, handler, attributeAppenderFactory, methodTransformer)));
+            return new Default(PersistentList.of(entries).append(new Entry(methodMatcher, handler, attributeAppenderFactory, methodTransformer)));
         }
 
         @Override
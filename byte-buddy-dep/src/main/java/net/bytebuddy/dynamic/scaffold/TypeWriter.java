@@ -1363,6 +1363,7 @@ public interface TypeWriter<T> {
          * @param classVisitorWrapper          The class visitor wrapper to apply when creating the type.
          * @param attributeAppender            The attribute appender to use.
          * @param classFileVersion             The class file version of the created type.
+         * @param classFileLocator             The class file locator to use for resolving types when computing stack map frames.
          * @param <U>                          The best known loaded type for the dynamically created type.
          * @return An appropriate type writer.
          */
@@ -1372,7 +1373,8 @@ public interface TypeWriter<T> {
                                                     Implementation.Context.Factory implementationContextFactory,
                                                     ClassVisitorWrapper classVisitorWrapper,
                                                     TypeAttributeAppender attributeAppender,
-                                                    ClassFileVersion classFileVersion) {
+                                                    ClassFileVersion classFileVersion,
+                                                    ClassFileLocator classFileLocator) {
             return new ForCreation<U>(methodRegistry.getInstrumentedType(),
                     methodRegistry.getLoadedTypeInitializer(),
                     methodRegistry.getTypeInitializer(),
@@ -1384,7 +1386,8 @@ public interface TypeWriter<T> {
                     attributeAppender,
                     fieldPool,
                     methodRegistry,
-                    methodRegistry.getInstrumentedMethods());
+                    methodRegistry.getInstrumentedMethods(),
+                    classFileLocator);
         }
 
         /**
@@ -2366,8 +2369,10 @@ public interface TypeWriter<T> {
         }
 
         /**
-         * A class writer that piggy-backs on Byte Buddy's {@link ClassFileLocator} to avoid class loading or look-up errors when redefining a class.
-         * This is not available when creating a new class where automatic frame computation is however not normally a requirement.
+         * A class writer that piggy-backs on Byte Buddy's {@link ClassFileLocator} to avoid class loading or look-up errors when computing
+         * stack map frames. The instrumented type and its super types are resolved from the instrumented type's description such that
+         * the written type is never looked up. Any other type is resolved from a type pool over the type writer's class file locator
+         * without loading it.
          */
         protected static class FrameComputingClassWriter extends ClassWriter {
 
@@ -2376,34 +2381,86 @@ public interface TypeWriter<T> {
              */
             private final TypePool typePool;
 
+            /**
+             * The instrumented type that is written by this class writer.
+             */
+            private final TypeDescription instrumentedType;
+
             /**
              * Creates a new frame computing class writer.
              *
-             * @param classReader The class reader from which the original class is read.
-             * @param flags       The flags to be handed to the writer.
-             * @param typePool    The type pool to use.
+             * @param classReader      The class reader from which the original class is read.
+             * @param flags            The flags to be handed to the writer.
+             * @param typePool         The type pool to use.
+             * @param instrumentedType The instrumented type that is written by this class writer.
              */
-            protected FrameComputingClassWriter(ClassReader classReader, int flags, TypePool typePool) {
+            protected FrameComputingClassWriter(ClassReader classReader, int flags, TypePool typePool, TypeDescription instrumentedType) {
                 super(classReader, flags);
                 this.typePool = typePool;
+                this.instrumentedType = instrumentedType;
+            }
+
+            /**
+             * Creates a new frame computing class writer for a type that is not based on an existing class file.
+             *
+             * @param flags            The flags to be handed to the writer.
+             * @param typePool         The type pool to use.
+             * @param instrumentedType The instrumented type that is written by this class writer.
+             */
+            protected FrameComputingClassWriter(int flags, TypePool typePool, TypeDescription instrumentedType) {
+                super(flags);
+                this.typePool = typePool;
+                this.instrumentedType = instrumentedType;
             }
 
             /**
              * @param classReader      The class reader from which the original class is read.
              * @param flags            The flags to be handed to the writer.
              * @param classFileLocator The class file locator to use.
+             * @param instrumentedType The instrumented type that is written by the class writer.
              * @return An appropriate class writer.
              */
-            protected static ClassWriter of(ClassReader classReader, int flags, ClassFileLocator classFileLocator) {
+            protected static ClassWriter of(ClassReader classReader, int flags, ClassFileLocator classFileLocator, TypeDescription instrumentedType) {
                 return (flags & ClassWriter.COMPUTE_FRAMES) != 0
-                        ? new FrameComputingClassWriter(classReader, flags, TypePool.Default.of(classFileLocator))
+                        ? new FrameComputingClassWriter(classReader, flags, TypePool.Default.of(classFileLocator), instrumentedType)
                         : new ClassWriter(classReader, flags);
             }
 
+            /**
+             * Creates a class writer for a type that is not based on an existing class file.
+             *
+             * @param flags            The flags to be handed to the writer.
+             * @param classFileLocator The class file locator to use.
+             * @param instrumentedType The instrumented type that is written by the class writer.
+             * @return An appropriate class writer.
+             */
+            protected static ClassWriter of(int flags, ClassFileLocator classFileLocator, TypeDescription instrumentedType) {
+                return (flags & ClassWriter.COMPUTE_FRAMES) != 0
+                        ? new FrameComputingClassWriter(flags, TypePool.Default.of(classFileLocator), instrumentedType)
+                        : new ClassWriter(flags);
+            }
+
+            /**
+             * Describes the type of the given internal name.
+             *
+             * @param internalName The internal name of the type to describe.
+             * @return A description of the given type.
+             */
+            private TypeDescription describe(String internalName) {
+                GenericTypeDescription typeDescription = instrumentedType;
+                while (typeDescription != null) {
+                    if (typeDescription.asErasure().getInternalName().equals(internalName)) {
+                        return typeDescription.asErasure();
+                    }
+                    typeDescription = typeDescription.getSuperType();
+                }
+                return typePool.describe(internalName.replace('/', '.')).resolve();
+            }
+
             @Override
             protected String getCommonSuperClass(String leftTypeName, String rightTypeName) {
-                TypeDescription leftType = typePool.describe(leftTypeName.replace('/', '.')).resolve();
-                TypeDescription rightType = typePool.describe(rightTypeName.replace('/', '.')).resolve();
+                TypeDescription leftType = describe(leftTypeName);
+                TypeDescription rightType = describe(rightTypeName);
                 if (leftType.isAssignableFrom(rightType)) {
                     return leftType.getInternalName();
                 } else if (leftType.isAssignableTo(rightType)) {
@@ -2422,6 +2479,7 @@ public interface TypeWriter<T> {
             public String toString() {
                 return "TypeWriter.Default.FrameComputingClassWriter{" +
                         "typePool=" + typePool +
+                        ", instrumentedType=" + instrumentedType +
                         '}';
             }
         }
@@ -2541,8 +2599,8 @@ public interface TypeWriter<T> {
              */
             private byte[] doCreate(Implementation.Context.ExtractableView implementationContext, byte[] binaryRepresentation) {
                 ClassReader classReader = new ClassReader(binaryRepresentation);
-                ClassWriter classWriter = FrameComputingClassWriter.of(classReader, classVisitorWrapper.mergeWriter(ASM_NO_FLAGS), classFileLocator);
-                classReader.accept(writeTo(classVisitorWrapper.wrap(new ValidatingClassVisitor(classWriter)), implementationContext), classVisitorWrapper.mergeReader(ASM_NO_FLAGS));
+                ClassWriter classWriter = FrameComputingClassWriter.of(classReader, classVisitorWrapper.mergeWriter(ASM_NO_FLAGS), classFileLocator, instrumentedType);
+                classReader.accept(writeTo(ClassVisitorWrapper.ForInstrumentedType.Dispatcher.INSTANCE.wrap(classVisitorWrapper, instrumentedType, new ValidatingClassVisitor(classWriter)), implementationContext), classVisitorWrapper.mergeReader(ASM_NO_FLAGS));
                 return classWriter.toByteArray();
             }
 
@@ -3131,6 +3189,11 @@ public interface TypeWriter<T> {
          */
         public static class ForCreation<U> extends Default<U> {
 
+            /**
+             * The class file locator to use for resolving types when computing stack map frames.
+             */
+            private final ClassFileLocator classFileLocator;
+
             /**
              * Creates a new type writer for creating a new type.
              *
@@ -3146,6 +3209,7 @@ public interface TypeWriter<T> {
              * @param fieldPool                    The field pool to be used for instrumenting fields.
              * @param methodPool                   The method pool to be used for instrumenting methods.
              * @param instrumentedMethods          A list of all instrumented methods.
+             * @param classFileLocator             The class file locator to use for resolving types when computing stack map frames.
              */
             protected ForCreation(TypeDescription instrumentedType,
                                   LoadedTypeInitializer loadedTypeInitializer,
@@ -3158,7 +3222,8 @@ public interface TypeWriter<T> {
                                   TypeAttributeAppender attributeAppender,
                                   FieldPool fieldPool,
                                   MethodPool methodPool,
-                                  MethodList instrumentedMethods) {
+                                  MethodList instrumentedMethods,
+                                  ClassFileLocator classFileLocator) {
                 super(instrumentedType,
                         loadedTypeInitializer,
                         typeInitializer,
@@ -3171,12 +3236,13 @@ public interface TypeWriter<T> {
                         fieldPool,
                         methodPool,
                         instrumentedMethods);
+                this.classFileLocator = classFileLocator;
             }
 
             @Override
             public byte[] create(Implementation.Context.ExtractableView implementationContext) {
-                ClassWriter classWriter = new ClassWriter(classVisitorWrapper.mergeWriter(ASM_NO_FLAGS));
-                ClassVisitor classVisitor = classVisitorWrapper.wrap(new ValidatingClassVisitor(classWriter));
+                ClassWriter classWriter = FrameComputingClassWriter.of(classVisitorWrapper.mergeWriter(ASM_NO_FLAGS), classFileLocator, instrumentedType);
+                ClassVisitor classVisitor = ClassVisitorWrapper.ForInstrumentedType.Dispatcher.INSTANCE.wrap(classVisitorWrapper, instrumentedType, new ValidatingClassVisitor(classWriter));
                 classVisitor.visit(classFileVersion.getMinorMajorVersion(),
                         instrumentedType.getActualModifiers(!instrumentedType.isInterface()),
                         instrumentedType.getInternalName(),
@@ -3197,6 +3263,18 @@ public interface TypeWriter<T> {
                 return classWriter.toByteArray();
             }
 
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && super.equals(other)
+                        && classFileLocator.equals(((ForCreation<?>) other).classFileLocator);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * super.hashCode() + classFileLocator.hashCode();
+            }
+
             @Override
             public String toString() {
                 return "TypeWriter.Default.ForCreation{" +
@@ -3212,6 +3290,7 @@ public interface TypeWriter<T> {
                         ", fieldPool=" + fieldPool +
                         ", methodPool=" + methodPool +
                         ", instrumentedMethods=" + instrumentedMethods +
+                        ", classFileLocator=" + classFileLocator +
                         "}";
             }
         }
@@ -8,6 +8,7 @@ import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.*;
 import net.bytebuddy.implementation.Implementation;
@@ -37,6 +38,11 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      */
     private final ConstructorStrategy constructorStrategy;
 
+    /**
+     * The class file locator to use for resolving types when computing stack map frames.
+     */
+    private final ClassFileLocator classFileLocator;
+
     /**
      * Creates a new immutable type builder for a subclassing a given class.
      *
@@ -58,7 +64,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
      *                                              if no specific appender was specified for a given method.
      * @param constructorStrategy                   The strategy for creating constructors during the final definition
-     *                                              phase of this dynamic type.
+     *                                              phase of this dynamic type. Types that are not the created type or one of
+     *                                              its super types are located on the class path when computing stack map frames.
      */
     public SubclassDynamicTypeBuilder(ClassFileVersion classFileVersion,
                                       NamingStrategy namingStrategy,
@@ -76,6 +83,67 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                       FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                       MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                       ConstructorStrategy constructorStrategy) {
+        this(classFileVersion,
+                namingStrategy,
+                auxiliaryTypeNamingStrategy,
+                implementationContextFactory,
+                superType,
+                interfaceTypes,
+                modifiers,
+                attributeAppender,
+                ignoredMethods,
+                classVisitorWrapper,
+                fieldRegistry,
+                methodRegistry,
+                methodGraphCompiler,
+                defaultFieldAttributeAppenderFactory,
+                defaultMethodAttributeAppenderFactory,
+                constructorStrategy,
+                ClassFileLocator.ForClassLoader.ofClassPath());
+    }
+
+    /**
+     * Creates a new immutable type builder for a subclassing a given class.
+     *
+     * @param classFileVersion                      The class file version for the created dynamic type.
+     * @param namingStrategy                        The naming strategy for naming the dynamic type.
+     * @param auxiliaryTypeNamingStrategy           The naming strategy to apply to auxiliary types.
+     * @param implementationContextFactory          The implementation context factory to use.
+     * @param superType                             The super class that the dynamic type should extend.
+     * @param interfaceTypes                        A list of interfaces that should be implemented by the created dynamic type.
+     * @param modifiers                             The modifiers to be represented by the dynamic type.
+     * @param attributeAppender                     The attribute appender to apply onto the dynamic type that is created.
+     * @param ignoredMethods                        A matcher for determining methods that are to be ignored for instrumentation.
+     * @param classVisitorWrapper                   An ASM class visitors to apply to the writing process.
+     * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
+     * @param methodRegistry                        The method registry to apply to the dynamic type creation.
+     * @param methodGraphCompiler                   The method graph compiler to be used.
+     * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
+     *                                              no specific appender was specified for a given field.
+     * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
+     *                                              if no specific appender was specified for a given method.
+     * @param constructorStrategy                   The strategy for creating constructors during the final definition
+     *                                              phase of this dynamic type.
+     * @param classFileLocator                      The class file locator to use for resolving types when computing
+     *                                              stack map frames.
+     */
+    public SubclassDynamicTypeBuilder(ClassFileVersion classFileVersion,
+                                      NamingStrategy namingStrategy,
+                                      AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                                      Implementation.Context.Factory implementationContextFactory,
+                                      TypeDescription superType,
+                                      List<TypeDescription> interfaceTypes,
+                                      int modifiers,
+                                      TypeAttributeAppender attributeAppender,
+                                      ElementMatcher<? super MethodDescription> ignoredMethods,
+                                      ClassVisitorWrapper classVisitorWrapper,
+                                      FieldRegistry fieldRegistry,
+                                      MethodRegistry methodRegistry,
+                                      MethodGraph.Compiler methodGraphCompiler,
+                                      FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
+                                      MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
+                                      ConstructorStrategy constructorStrategy,
+                                      ClassFileLocator classFileLocator) {
         this(classFileVersion,
                 namingStrategy,
                 auxiliaryTypeNamingStrategy,
@@ -94,7 +162,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 defaultMethodAttributeAppenderFactory,
                 Collections.<FieldDescription.Token>emptyList(),
                 Collections.<MethodDescription.Token>emptyList(),
-                constructorStrategy);
+                constructorStrategy,
+                classFileLocator);
     }
 
     /**
@@ -124,6 +193,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      *                                              dynamic type.
      * @param constructorStrategy                   The strategy for creating constructors during the final definition
      *                                              phase of this dynamic type.
+     * @param classFileLocator                      The class file locator to use for resolving types when computing
+     *                                              stack map frames.
      */
     protected SubclassDynamicTypeBuilder(ClassFileVersion classFileVersion,
                                          NamingStrategy namingStrategy,
@@ -143,7 +214,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                          MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                          List<FieldDescription.Token> fieldTokens,
                                          List<MethodDescription.Token> methodTokens,
-                                         ConstructorStrategy constructorStrategy) {
+                                         ConstructorStrategy constructorStrategy,
+                                         ClassFileLocator classFileLocator) {
         super(classFileVersion,
                 namingStrategy,
                 auxiliaryTypeNamingStrategy,
@@ -163,6 +235,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 fieldTokens,
                 methodTokens);
         this.constructorStrategy = constructorStrategy;
+        this.classFileLocator = classFileLocator;
     }
 
     @Override
@@ -202,7 +275,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 defaultMethodAttributeAppenderFactory,
                 fieldTokens,
                 methodTokens,
-                constructorStrategy);
+                constructorStrategy,
+                classFileLocator);
     }
 
     @Override
@@ -231,7 +305,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 implementationContextFactory,
                 classVisitorWrapper,
                 attributeAppender,
-                classFileVersion).make();
+                classFileVersion,
+                classFileLocator).make();
     }
 
     /**
@@ -254,12 +329,14 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
                 && super.equals(other)
-                && constructorStrategy.equals(((SubclassDynamicTypeBuilder<?>) other).constructorStrategy);
+                && constructorStrategy.equals(((SubclassDynamicTypeBuilder<?>) other).constructorStrategy)
+                && classFileLocator.equals(((SubclassDynamicTypeBuilder<?>) other).classFileLocator);
     }
 
     @Override
     public int hashCode() {
-        return 31 * super.hashCode() + constructorStrategy.hashCode();
+        int result = 31 * super.hashCode() + constructorStrategy.hashCode();
+        return 31 * result + classFileLocator.hashCode();
     }
 
     @Override
@@ -284,6 +361,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 ", fieldTokens=" + fieldTokens +
                 ", methodTokens=" + methodTokens +
                 ", constructorStrategy=" + constructorStrategy +
+                ", classFileLocator=" + classFileLocator +
                 '}';
     }
 
@@ -690,7 +690,7 @@ public interface Implementation {
             private final Map<FieldCacheEntry, FieldDescription> registeredFieldCacheEntries;
 
             /**
-             * A random suffix to append to the names of accessor methods.
+             * A suffix to append to the names of accessor methods and cache fields.
              */
             private final String suffix;
 
@@ -717,6 +717,23 @@ public interface Implementation {
                               AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
                               InstrumentedType.TypeInitializer typeInitializer,
                               ClassFileVersion classFileVersion) {
+                this(instrumentedType, auxiliaryTypeNamingStrategy, typeInitializer, classFileVersion, RandomString.make());
+            }
+
+            /**
+             * Creates a new default implementation context.
+             *
+             * @param instrumentedType            The description of the type that is currently subject of creation.
+             * @param auxiliaryTypeNamingStrategy The naming strategy for naming an auxiliary type.
+             * @param typeInitializer             The type initializer of the created instrumented type.
+             * @param classFileVersion            The class file version of the created class.
+             * @param suffix                      The suffix to append to the names of accessor methods and cache fields.
+             */
+            protected Default(TypeDescription instrumentedType,
+                              AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                              InstrumentedType.TypeInitializer typeInitializer,
+                              ClassFileVersion classFileVersion,
+                              String suffix) {
                 this.instrumentedType = instrumentedType;
                 this.auxiliaryTypeNamingStrategy = auxiliaryTypeNamingStrategy;
                 this.typeInitializer = typeInitializer;
@@ -727,7 +744,7 @@ public interface Implementation {
                 accessorMethods = new LinkedList<TypeWriter.MethodPool.Record>();
                 auxiliaryTypes = new HashMap<AuxiliaryType, DynamicType>();
                 registeredFieldCacheEntries = new HashMap<FieldCacheEntry, FieldDescription>();
-                suffix = RandomString.make();
+                this.suffix = suffix;
                 fieldCacheCanAppendEntries = true;
                 prohibitTypeInitiailzer = false;
             }
@@ -1504,6 +1521,36 @@ public interface Implementation {
                     return "Implementation.Context.Default.Factory." + name();
                 }
             }
+
+            /**
+             * A factory for creating a {@link net.bytebuddy.implementation.Implementation.Context.Default} that derives the suffix of
+             * accessor methods and cache fields from the instrumented type's name instead of using a random value. This way, repeatedly
+             * creating the same type yields the same member names.
+             */
+            public enum HashingFactory implements ExtractableView.Factory {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public ExtractableView make(TypeDescription instrumentedType,
+                                            AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                                            InstrumentedType.TypeInitializer typeInitializer,
+                                            ClassFileVersion classFileVersion) {
+                    return new Default(instrumentedType,
+                            auxiliaryTypeNamingStrategy,
+                            typeInitializer,
+                            classFileVersion,
+                            RandomString.hashOf(instrumentedType.getName().hashCode()));
+                }
+
+                @Override
+                public String toString() {
+                    return "Implementation.Context.Default.HashingFactory." + name();
+                }
+            }
         }
     }
 
@@ -31,16 +31,6 @@ import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
  */
 public abstract class InvocationHandlerAdapter implements Implementation {
 
-    /**
-     * Indicates that a value should not be cached.
-     */
-    private static final boolean NO_CACHING = false;
-
-    /**
-     * Indicates that a {@link java.lang.reflect.Method} should be cached.
-     */
-    protected static final boolean CACHING = true;
-
     /**
      * The prefix for field that are created for storing the instrumented value.
      */
@@ -63,22 +53,22 @@ public abstract class InvocationHandlerAdapter implements Implementation {
     protected final Assigner assigner;
 
     /**
-     * Determines if the {@link java.lang.reflect.Method} instances that are handed to the intercepted methods are
-     * cached in {@code static} fields.
+     * Determines if and how the {@link java.lang.reflect.Method} instances that are handed to the intercepted methods
+     * are cached.
      */
-    protected final boolean cacheMethods;
+    protected final MethodCache methodCache;
 
     /**
      * Creates a new invocation handler for a given field.
      *
-     * @param fieldName    The name of the field.
-     * @param cacheMethods Determines if the {@link java.lang.reflect.Method} instances that are handed to the
-     *                     intercepted methods are cached in {@code static} fields.
-     * @param assigner     The assigner to apply when defining this implementation.
+     * @param fieldName   The name of the field.
+     * @param methodCache Determines if and how the {@link java.lang.reflect.Method} instances that are handed to the
+     *                    intercepted methods are cached.
+     * @param assigner    The assigner to apply when defining this implementation.
      */
-    protected InvocationHandlerAdapter(String fieldName, boolean cacheMethods, Assigner assigner) {
+    protected InvocationHandlerAdapter(String fieldName, MethodCache methodCache, Assigner assigner) {
         this.fieldName = fieldName;
-        this.cacheMethods = cacheMethods;
+        this.methodCache = methodCache;
         this.assigner = assigner;
     }
 
@@ -102,7 +92,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      * @return An implementation that delegates all method interceptions to the given invocation handler.
      */
     public static InvocationHandlerAdapter of(InvocationHandler invocationHandler, String fieldName) {
-        return new ForStaticDelegation(isValidIdentifier(fieldName), NO_CACHING, Assigner.DEFAULT, nonNull(invocationHandler));
+        return new ForStaticDelegation(isValidIdentifier(fieldName), MethodCache.DISABLED, Assigner.DEFAULT, nonNull(invocationHandler));
     }
 
     /**
@@ -115,7 +105,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      * @return An implementation that delegates all method interceptions to an instance field of the given name.
      */
     public static InvocationHandlerAdapter toInstanceField(String fieldName) {
-        return new ForInstanceDelegation(isValidIdentifier(fieldName), NO_CACHING, Assigner.DEFAULT);
+        return new ForInstanceDelegation(isValidIdentifier(fieldName), MethodCache.DISABLED, Assigner.DEFAULT);
     }
 
     /**
@@ -154,6 +144,18 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      */
     public abstract AssignerConfigurable withMethodCache();
 
+    /**
+     * Enables a method cache similar to {@link InvocationHandlerAdapter#withMethodCache()} where any
+     * {@link java.lang.reflect.Method} instance is however only looked up when the intercepted method is invoked for
+     * the first time. Rather than storing the instance in a {@code static} field of the instrumented type that is
+     * assigned by the instrumented type's type initializer, every instance is stored in an auxiliary holder type which
+     * is only initialized on its first use. This way, the initialization of an instrumented type does not require to
+     * look up {@link java.lang.reflect.Method} instances for methods that are never invoked.
+     *
+     * @return A similar invocation handler adapter which lazily caches any {@link java.lang.reflect.Method} instance.
+     */
+    public abstract AssignerConfigurable withLazyMethodCache();
+
     /**
      * Applies an implementation that delegates to a invocation handler.
      *
@@ -174,9 +176,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
                 FieldAccess.forField(instrumentedType.getDeclaredFields()
                         .filter((named(fieldName))).getOnly()).getter(),
                 MethodVariableAccess.forType(TypeDescription.OBJECT).loadOffset(0),
-                cacheMethods
-                        ? MethodConstant.forMethod(instrumentedMethod.asDefined()).cached()
-                        : MethodConstant.forMethod(instrumentedMethod.asDefined()),
+                methodCache.resolve(MethodConstant.forMethod(instrumentedMethod.asDefined())),
                 ArrayFactory.forType(TypeDescription.OBJECT).withValues(argumentValuesOf(instrumentedMethod)),
                 MethodInvocation.invoke(INVOCATION_HANDLER_TYPE.getDeclaredMethods().getOnly()),
                 assigner.assign(TypeDescription.OBJECT, instrumentedMethod.getReturnType().asErasure(), Assigner.Typing.DYNAMIC),
@@ -190,7 +190,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
         if (this == other) return true;
         if (other == null || getClass() != other.getClass()) return false;
         InvocationHandlerAdapter that = (InvocationHandlerAdapter) other;
-        return cacheMethods == that.cacheMethods
+        return methodCache == that.methodCache
                 && assigner.equals(that.assigner)
                 && fieldName.equals(that.fieldName);
     }
@@ -199,10 +199,61 @@ public abstract class InvocationHandlerAdapter implements Implementation {
     public int hashCode() {
         int result = fieldName.hashCode();
         result = 31 * result + assigner.hashCode();
-        result = 31 * result + (cacheMethods ? 1 : 0);
+        result = 31 * result + methodCache.hashCode();
         return result;
     }
 
+    /**
+     * Determines if and how {@link java.lang.reflect.Method} instances that are handed to an invocation handler are cached.
+     */
+    protected enum MethodCache {
+
+        /**
+         * Looks up a {@link java.lang.reflect.Method} instance on every invocation of an intercepted method.
+         */
+        DISABLED {
+            @Override
+            protected StackManipulation resolve(MethodConstant.CanCache methodConstant) {
+                return methodConstant;
+            }
+        },
+
+        /**
+         * Caches a {@link java.lang.reflect.Method} instance in a {@code static} field of the instrumented type which is
+         * assigned when the instrumented type is initialized.
+         */
+        EAGER {
+            @Override
+            protected StackManipulation resolve(MethodConstant.CanCache methodConstant) {
+                return methodConstant.cached();
+            }
+        },
+
+        /**
+         * Caches a {@link java.lang.reflect.Method} instance in an auxiliary holder type which is initialized when the
+         * intercepted method is invoked for the first time.
+         */
+        LAZY {
+            @Override
+            protected StackManipulation resolve(MethodConstant.CanCache methodConstant) {
+                return methodConstant.cachedLazily();
+            }
+        };
+
+        /**
+         * Resolves the stack manipulation for loading a {@link java.lang.reflect.Method} instance onto the operand stack.
+         *
+         * @param methodConstant The method constant to load.
+         * @return A stack manipulation that loads the method constant according to this cache.
+         */
+        protected abstract StackManipulation resolve(MethodConstant.CanCache methodConstant);
+
+        @Override
+        public String toString() {
+            return "InvocationHandlerAdapter.MethodCache." + name();
+        }
+    }
+
     /**
      * Allows for the configuration of an {@link net.bytebuddy.implementation.bytecode.assign.Assigner}
      * of an {@link net.bytebuddy.implementation.InvocationHandlerAdapter}.
@@ -234,24 +285,29 @@ public abstract class InvocationHandlerAdapter implements Implementation {
          * in a static field.
          *
          * @param fieldName         The name of the field.
-         * @param cacheMethods      Determines if the {@link java.lang.reflect.Method} instances that are handed to the
-         *                          intercepted methods are cached in {@code static} fields.
+         * @param methodCache       Determines if and how the {@link java.lang.reflect.Method} instances that are handed
+         *                          to the intercepted methods are cached.
          * @param assigner          The assigner to apply when defining this implementation.
          * @param invocationHandler The invocation handler to which all method calls are delegated.
          */
-        protected ForStaticDelegation(String fieldName, boolean cacheMethods, Assigner assigner, InvocationHandler invocationHandler) {
-            super(fieldName, cacheMethods, assigner);
+        protected ForStaticDelegation(String fieldName, MethodCache methodCache, Assigner assigner, InvocationHandler invocationHandler) {
+            super(fieldName, methodCache, assigner);
             this.invocationHandler = invocationHandler;
         }
 
         @Override
         public AssignerConfigurable withMethodCache() {
-            return new ForStaticDelegation(fieldName, CACHING, assigner, invocationHandler);
+            return new ForStaticDelegation(fieldName, MethodCache.EAGER, assigner, invocationHandler);
+        }
+
+        @Override
+        public AssignerConfigurable withLazyMethodCache() {
+            return new ForStaticDelegation(fieldName, MethodCache.LAZY, assigner, invocationHandler);
         }
 
         @Override
         public Implementation withAssigner(Assigner assigner) {
-            return new ForStaticDelegation(fieldName, cacheMethods, nonNull(assigner), invocationHandler);
+            return new ForStaticDelegation(fieldName, methodCache, nonNull(assigner), invocationHandler);
         }
 
         @Override
@@ -282,7 +338,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
         public String toString() {
             return "InvocationHandlerAdapter.ForStaticDelegation{" +
                     "fieldName=" + fieldName +
-                    ", cacheMethods=" + cacheMethods +
+                    ", methodCache=" + methodCache +
                     ", invocationHandler=" + invocationHandler +
                     '}';
         }
@@ -356,23 +412,28 @@ public abstract class InvocationHandlerAdapter implements Implementation {
          * Creates a new invocation handler adapter for delegating invocations to an invocation handler that is stored
          * in an instance field.
          *
-         * @param fieldName    The name of the field.
-         * @param cacheMethods Determines if the {@link java.lang.reflect.Method} instances that are handed to the
-         *                     intercepted methods are cached in {@code static} fields.
-         * @param assigner     The assigner to apply when defining this implementation.
+         * @param fieldName   The name of the field.
+         * @param methodCache Determines if and how the {@link java.lang.reflect.Method} instances that are handed to the
+         *                    intercepted methods are cached.
+         * @param assigner    The assigner to apply when defining this implementation.
          */
-        protected ForInstanceDelegation(String fieldName, boolean cacheMethods, Assigner assigner) {
-            super(fieldName, cacheMethods, assigner);
+        protected ForInstanceDelegation(String fieldName, MethodCache methodCache, Assigner assigner) {
+            super(fieldName, methodCache, assigner);
         }
 
         @Override
         public AssignerConfigurable withMethodCache() {
-            return new ForInstanceDelegation(fieldName, CACHING, assigner);
+            return new ForInstanceDelegation(fieldName, MethodCache.EAGER, assigner);
+        }
+
+        @Override
+        public AssignerConfigurable withLazyMethodCache() {
+            return new ForInstanceDelegation(fieldName, MethodCache.LAZY, assigner);
         }
 
         @Override
         public Implementation withAssigner(Assigner assigner) {
-            return new ForInstanceDelegation(fieldName, cacheMethods, nonNull(assigner));
+            return new ForInstanceDelegation(fieldName, methodCache, nonNull(assigner));
         }
 
         @Override
@@ -389,7 +450,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
         public String toString() {
             return "InvocationHandlerAdapter.ForInstanceDelegation{" +
                     "fieldName=" + fieldName +
-                    "cacheMethods=" + cacheMethods +
+                    ", methodCache=" + methodCache +
                     '}';
         }
 
@@ -8,6 +8,7 @@ import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.dynamic.scaffold.MethodGraph;
 import net.bytebuddy.implementation.bind.MethodDelegationBinder;
 import net.bytebuddy.implementation.bind.annotation.Argument;
+import net.bytebuddy.implementation.bind.annotation.Super;
 import net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.implementation.bytecode.Duplication;
@@ -43,6 +44,9 @@ import static net.bytebuddy.utility.ByteBuddyCommons.*;
  * <li>{@link net.bytebuddy.implementation.bind.annotation.AllArguments}:
  * This annotation will assign a collection of all parameters of {@code Foo#bar} to that parameter of {@code Qux#baz}
  * that is annotated with {@code AllArguments}.</li>
+ * <li>{@link net.bytebuddy.implementation.bind.annotation.ArgumentCarrier}:
+ * This annotation will assign a carrier of all parameters of {@code Foo#bar} to that parameter of {@code Qux#baz}
+ * that is annotated with {@code ArgumentCarrier} where primitive parameters are read without boxing.</li>
  * <li>{@link net.bytebuddy.implementation.bind.annotation.This}: A parameter
  * of {@code Qux#baz} that is annotated with {@code This} will be assigned the instance that is instrumented for
  * a non-static method.</li>
@@ -675,6 +679,9 @@ public class MethodDelegation implements Implementation.Composable {
 
     @Override
     public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        if (parameterBinders.contains(Super.Binder.INSTANCE)) {
+            instrumentedType = Super.Binder.INSTANCE.prepare(instrumentedType, methodContainer.resolve(instrumentedType));
+        }
         return implementationDelegate.prepare(instrumentedType);
     }
 
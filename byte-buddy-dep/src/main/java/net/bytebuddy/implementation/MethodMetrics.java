@@ -0,0 +1,783 @@
+package net.bytebuddy.implementation;
+
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.Removal;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.StackSize;
+import net.bytebuddy.implementation.bytecode.constant.ClassConstant;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * <p>
+ * An implementation that invokes the super method of an instrumented method, similarly to {@link SuperMethodCall}, and records
+ * metrics of this invocation. A {@link Sort#COUNTING} implementation increments a {@link Counter} for every invocation and a
+ * {@link Sort#TIMING} implementation records the duration of the super method invocation in a {@link Histogram}.
+ * </p>
+ * <p>
+ * The counter or histogram of an instrumented method is retrieved from the {@link Registry} of the instrumented type's class loader
+ * when the instrumented type is initialized and is stored in a synthetic {@code static} field by
+ * {@link Implementation.Context#cache(StackManipulation, TypeDescription)}. An invocation of an instrumented method therefore only
+ * reads this field and updates the counter or histogram without any lookup. Both counters and histograms are lock-free and
+ * striped over several threads. Durations are not recorded if the super method completes exceptionally.
+ * </p>
+ * <p>
+ * <b>Important</b>: The instrumented type must be able to see the {@link MethodMetrics} class, i.e. Byte Buddy must be available
+ * to the instrumented type's class loader.
+ * </p>
+ */
+public class MethodMetrics implements Implementation.Composable {
+
+    /**
+     * The sort of metrics that are recorded.
+     */
+    private final Sort sort;
+
+    /**
+     * Creates a new method metrics implementation.
+     *
+     * @param sort The sort of metrics that are recorded.
+     */
+    protected MethodMetrics(Sort sort) {
+        this.sort = sort;
+    }
+
+    /**
+     * Creates an implementation that counts the invocations of an instrumented method before invoking its super method.
+     *
+     * @return An implementation that counts the invocations of an instrumented method.
+     */
+    public static Implementation.Composable counting() {
+        return new MethodMetrics(Sort.COUNTING);
+    }
+
+    /**
+     * Creates an implementation that records the duration of invoking the super method of an instrumented method.
+     *
+     * @return An implementation that records the duration of invoking the super method of an instrumented method.
+     */
+    public static Implementation.Composable timing() {
+        return new MethodMetrics(Sort.TIMING);
+    }
+
+    /**
+     * Returns the key of an instrumented method within the {@link Registry} of its class loader.
+     *
+     * @param instrumentedType   The instrumented type.
+     * @param instrumentedMethod The instrumented method.
+     * @return The key of the instrumented method.
+     */
+    protected static String keyOf(TypeDescription instrumentedType, MethodDescription instrumentedMethod) {
+        return instrumentedType.getName() + "#" + instrumentedMethod.getInternalName() + instrumentedMethod.getDescriptor();
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return new Appender(implementationTarget, sort, Appender.TerminationHandler.RETURNING);
+    }
+
+    @Override
+    public Implementation andThen(Implementation implementation) {
+        return new Compound(new WithoutReturn(sort), nonNull(implementation));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && sort == ((MethodMetrics) other).sort;
+    }
+
+    @Override
+    public int hashCode() {
+        return sort.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MethodMetrics{" +
+                "sort=" + sort +
+                '}';
+    }
+
+    /**
+     * Describes the sort of metrics that are recorded for an instrumented method.
+     */
+    public enum Sort {
+
+        /**
+         * Counts the invocations of an instrumented method in a {@link Counter}.
+         */
+        COUNTING(Counter.class, "counterOf", "increment") {
+            @Override
+            protected StackManipulation before(FieldDescription metricField, int offset) {
+                return new StackManipulation.Compound(FieldAccess.forField(metricField).getter(), MethodInvocation.invoke(recordMethod));
+            }
+
+            @Override
+            protected StackManipulation after(FieldDescription metricField, int offset) {
+                return StackManipulation.Trivial.INSTANCE;
+            }
+        },
+
+        /**
+         * Records the duration of invoking the super method of an instrumented method in a {@link Histogram}.
+         */
+        TIMING(Histogram.class, "histogramOf", "recordSince") {
+            @Override
+            protected StackManipulation before(FieldDescription metricField, int offset) {
+                return new StackManipulation.Compound(MethodInvocation.invoke(NANO_TIME), new LongStore(offset));
+            }
+
+            @Override
+            protected StackManipulation after(FieldDescription metricField, int offset) {
+                return new StackManipulation.Compound(FieldAccess.forField(metricField).getter(),
+                        MethodVariableAccess.LONG.loadOffset(offset),
+                        MethodInvocation.invoke(recordMethod));
+            }
+        };
+
+        /**
+         * The {@link System#nanoTime()} method.
+         */
+        private static final MethodDescription.InDefinedShape NANO_TIME = TypeDescription.ForLoadedType.of(System.class)
+                .getDeclaredMethods()
+                .filter(named("nanoTime"))
+                .getOnly();
+
+        /**
+         * The type of the metric that is stored in a cached field.
+         */
+        private final TypeDescription metricType;
+
+        /**
+         * The registry method that creates or locates a metric by its instrumented type and key.
+         */
+        private final MethodDescription.InDefinedShape factoryMethod;
+
+        /**
+         * The metric's method for recording an invocation.
+         */
+        protected final MethodDescription.InDefinedShape recordMethod;
+
+        /**
+         * Creates a new sort.
+         *
+         * @param metricType    The type of the metric that is stored in a cached field.
+         * @param factoryMethod The name of the registry method that creates or locates a metric by its instrumented type and key.
+         * @param recordMethod  The name of the metric's method for recording an invocation.
+         */
+        Sort(Class<?> metricType, String factoryMethod, String recordMethod) {
+            this.metricType = TypeDescription.ForLoadedType.of(metricType);
+            this.factoryMethod = TypeDescription.ForLoadedType.of(Registry.class).getDeclaredMethods().filter(named(factoryMethod)).getOnly();
+            this.recordMethod = this.metricType.getDeclaredMethods().filter(named(recordMethod)).getOnly();
+        }
+
+        /**
+         * Caches the metric of an instrumented method in a field of the instrumented type.
+         *
+         * @param implementationContext The implementation context to use.
+         * @param instrumentedType      The instrumented type whose class loader's {@link Registry} provides the metric.
+         * @param key                   The key of the instrumented method within the {@link Registry}.
+         * @return A description of the field that stores the metric.
+         */
+        protected FieldDescription cache(Implementation.Context implementationContext, TypeDescription instrumentedType, String key) {
+            return implementationContext.cache(new StackManipulation.Compound(ClassConstant.of(instrumentedType),
+                    new TextConstant(key),
+                    MethodInvocation.invoke(factoryMethod)), metricType);
+        }
+
+        /**
+         * Returns a stack manipulation that is applied before invoking the super method.
+         *
+         * @param metricField The field storing the metric.
+         * @param offset      The offset of a local variable of size two that can be used by this sort.
+         * @return A stack manipulation that is applied before invoking the super method.
+         */
+        protected abstract StackManipulation before(FieldDescription metricField, int offset);
+
+        /**
+         * Returns a stack manipulation that is applied after invoking the super method.
+         *
+         * @param metricField The field storing the metric.
+         * @param offset      The offset of a local variable of size two that can be used by this sort.
+         * @return A stack manipulation that is applied after invoking the super method.
+         */
+        protected abstract StackManipulation after(FieldDescription metricField, int offset);
+
+        @Override
+        public String toString() {
+            return "MethodMetrics.Sort." + name();
+        }
+    }
+
+    /**
+     * A method metrics implementation where the return value of the super method is dropped instead of returning from the method.
+     */
+    protected static class WithoutReturn implements Implementation {
+
+        /**
+         * The sort of metrics that are recorded.
+         */
+        private final Sort sort;
+
+        /**
+         * Creates a new method metrics implementation that drops the super method's return value.
+         *
+         * @param sort The sort of metrics that are recorded.
+         */
+        protected WithoutReturn(Sort sort) {
+            this.sort = sort;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Target implementationTarget) {
+            return new Appender(implementationTarget, sort, Appender.TerminationHandler.DROPPING);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && sort == ((WithoutReturn) other).sort;
+        }
+
+        @Override
+        public int hashCode() {
+            return sort.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics.WithoutReturn{" +
+                    "sort=" + sort +
+                    '}';
+        }
+    }
+
+    /**
+     * An appender for implementing a {@link MethodMetrics} implementation.
+     */
+    protected static class Appender implements ByteCodeAppender {
+
+        /**
+         * The implementation target of the instrumented type.
+         */
+        private final Target implementationTarget;
+
+        /**
+         * The sort of metrics that are recorded.
+         */
+        private final Sort sort;
+
+        /**
+         * The termination handler to apply after invoking the super method.
+         */
+        private final TerminationHandler terminationHandler;
+
+        /**
+         * Creates a new appender.
+         *
+         * @param implementationTarget The implementation target of the instrumented type.
+         * @param sort                 The sort of metrics that are recorded.
+         * @param terminationHandler   The termination handler to apply after invoking the super method.
+         */
+        protected Appender(Target implementationTarget, Sort sort, TerminationHandler terminationHandler) {
+            this.implementationTarget = implementationTarget;
+            this.sort = sort;
+            this.terminationHandler = terminationHandler;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext, MethodDescription instrumentedMethod) {
+            StackManipulation superMethodCall = implementationTarget.invokeDominant(instrumentedMethod.asToken());
+            if (!superMethodCall.isValid()) {
+                throw new IllegalStateException("Cannot call super (or default) method for " + instrumentedMethod);
+            }
+            FieldDescription metricField = sort.cache(implementationContext,
+                    implementationTarget.getTypeDescription(),
+                    keyOf(implementationTarget.getTypeDescription(), instrumentedMethod));
+            int offset = instrumentedMethod.getStackSize();
+            StackManipulation.Size stackSize = new StackManipulation.Compound(
+                    sort.before(metricField, offset),
+                    MethodVariableAccess.allArgumentsOf(instrumentedMethod).prependThisReference(),
+                    superMethodCall,
+                    sort.after(metricField, offset),
+                    terminationHandler.of(instrumentedMethod)
+            ).apply(methodVisitor, implementationContext);
+            return new Size(stackSize.getMaximalSize(), offset + StackSize.DOUBLE.getSize());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && implementationTarget.equals(((Appender) other).implementationTarget)
+                    && sort == ((Appender) other).sort
+                    && terminationHandler == ((Appender) other).terminationHandler;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * implementationTarget.hashCode() + sort.hashCode()) + terminationHandler.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics.Appender{" +
+                    "implementationTarget=" + implementationTarget +
+                    ", sort=" + sort +
+                    ", terminationHandler=" + terminationHandler +
+                    '}';
+        }
+
+        /**
+         * A termination handler is responsible for completing the instrumented method after the super method was invoked.
+         */
+        protected enum TerminationHandler {
+
+            /**
+             * Returns the super method's return value.
+             */
+            RETURNING {
+                @Override
+                protected StackManipulation of(MethodDescription methodDescription) {
+                    return MethodReturn.returning(methodDescription.getReturnType().asErasure());
+                }
+            },
+
+            /**
+             * Drops the super method's return value.
+             */
+            DROPPING {
+                @Override
+                protected StackManipulation of(MethodDescription methodDescription) {
+                    return Removal.pop(methodDescription.getReturnType().asErasure());
+                }
+            };
+
+            /**
+             * Creates a stack manipulation that completes the instrumented method.
+             *
+             * @param methodDescription The instrumented method.
+             * @return A stack manipulation that completes the instrumented method.
+             */
+            protected abstract StackManipulation of(MethodDescription methodDescription);
+
+            @Override
+            public String toString() {
+                return "MethodMetrics.Appender.TerminationHandler." + name();
+            }
+        }
+    }
+
+    /**
+     * A stack manipulation that stores a {@code long} value in a local variable.
+     */
+    protected static class LongStore implements StackManipulation {
+
+        /**
+         * The offset of the local variable.
+         */
+        private final int offset;
+
+        /**
+         * Creates a new long store.
+         *
+         * @param offset The offset of the local variable.
+         */
+        protected LongStore(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            methodVisitor.visitVarInsn(Opcodes.LSTORE, offset);
+            return StackSize.DOUBLE.toDecreasingSize();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && offset == ((LongStore) other).offset;
+        }
+
+        @Override
+        public int hashCode() {
+            return offset;
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics.LongStore{" +
+                    "offset=" + offset +
+                    '}';
+        }
+    }
+
+    /**
+     * A registry of all counters and histograms that are recorded for the instrumented methods of a class loader. Metrics are
+     * registered by their instrumented method's key which is the instrumented type's name, followed by a {@code #} character, the
+     * method's internal name and descriptor. As each class loader is assigned its own registry, types of the same name that are
+     * loaded by different class loaders do not share their metrics. A registry is referenced by its class loader only weakly
+     * such that it is discarded together with the class loader.
+     */
+    public static class Registry {
+
+        /**
+         * The registries of all class loaders where the bootstrap class loader is represented by {@code null}.
+         */
+        private static final Map<ClassLoader, Registry> REGISTRIES = Collections.synchronizedMap(new WeakHashMap<ClassLoader, Registry>());
+
+        /**
+         * All registered counters by their method keys.
+         */
+        private final ConcurrentMap<String, Counter> counters;
+
+        /**
+         * All registered histograms by their method keys.
+         */
+        private final ConcurrentMap<String, Histogram> histograms;
+
+        /**
+         * Creates a new, empty registry.
+         */
+        protected Registry() {
+            counters = new ConcurrentHashMap<String, Counter>();
+            histograms = new ConcurrentHashMap<String, Histogram>();
+        }
+
+        /**
+         * Returns the registry of the given class loader and creates a registry if no such registry exists.
+         *
+         * @param classLoader The class loader for which to locate a registry or {@code null} for the bootstrap class loader.
+         * @return The registry of the given class loader.
+         */
+        public static Registry of(ClassLoader classLoader) {
+            synchronized (REGISTRIES) {
+                Registry registry = REGISTRIES.get(classLoader);
+                if (registry == null) {
+                    registry = new Registry();
+                    REGISTRIES.put(classLoader, registry);
+                }
+                return registry;
+            }
+        }
+
+        /**
+         * Returns the counter that is registered for the given key within the registry of the given type's class loader. This
+         * method is invoked from the type initializer of an instrumented type.
+         *
+         * @param type The instrumented type.
+         * @param key  The key of an instrumented method.
+         * @return The counter of the instrumented method.
+         */
+        public static Counter counterOf(Class<?> type, String key) {
+            return of(type.getClassLoader()).counter(key);
+        }
+
+        /**
+         * Returns the histogram that is registered for the given key within the registry of the given type's class loader. This
+         * method is invoked from the type initializer of an instrumented type.
+         *
+         * @param type The instrumented type.
+         * @param key  The key of an instrumented method.
+         * @return The histogram of the instrumented method.
+         */
+        public static Histogram histogramOf(Class<?> type, String key) {
+            return of(type.getClassLoader()).histogram(key);
+        }
+
+        /**
+         * Returns the counter that is registered for the given key and registers a new counter if no such counter exists.
+         *
+         * @param key The key of an instrumented method.
+         * @return The counter of the instrumented method.
+         */
+        public Counter counter(String key) {
+            Counter counter = counters.get(key);
+            if (counter == null) {
+                counter = new Counter();
+                Counter previous = counters.putIfAbsent(key, counter);
+                if (previous != null) {
+                    counter = previous;
+                }
+            }
+            return counter;
+        }
+
+        /**
+         * Returns the histogram that is registered for the given key and registers a new histogram if no such histogram exists.
+         *
+         * @param key The key of an instrumented method.
+         * @return The histogram of the instrumented method.
+         */
+        public Histogram histogram(String key) {
+            Histogram histogram = histograms.get(key);
+            if (histogram == null) {
+                histogram = new Histogram();
+                Histogram previous = histograms.putIfAbsent(key, histogram);
+                if (previous != null) {
+                    histogram = previous;
+                }
+            }
+            return histogram;
+        }
+
+        /**
+         * Returns all registered counters by their method keys.
+         *
+         * @return An unmodifiable view of all registered counters.
+         */
+        public Map<String, Counter> getCounters() {
+            return Collections.unmodifiableMap(counters);
+        }
+
+        /**
+         * Returns all registered histograms by their method keys.
+         *
+         * @return An unmodifiable view of all registered histograms.
+         */
+        public Map<String, Histogram> getHistograms() {
+            return Collections.unmodifiableMap(histograms);
+        }
+
+        /**
+         * Resets all registered counters and histograms. The metrics remain registered as they are referenced by instrumented types.
+         */
+        public void reset() {
+            for (Counter counter : counters.values()) {
+                counter.reset();
+            }
+            for (Histogram histogram : histograms.values()) {
+                histogram.reset();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics.Registry{" +
+                    "counters=" + counters +
+                    ", histograms=" + histograms +
+                    '}';
+        }
+    }
+
+    /**
+     * A counter that distributes its increments over several stripes in order to avoid contention between threads. Each stripe
+     * is padded in order to avoid false sharing.
+     */
+    public static class Counter {
+
+        /**
+         * The number of stripes which must be a power of two.
+         */
+        private static final int STRIPES = 16;
+
+        /**
+         * The distance between two stripes within the underlying array, padding each stripe to a cache line.
+         */
+        private static final int PADDING = 8;
+
+        /**
+         * The underlying array of the stripes.
+         */
+        private final AtomicLongArray stripes;
+
+        /**
+         * Creates a new counter.
+         */
+        protected Counter() {
+            stripes = new AtomicLongArray(STRIPES * PADDING);
+        }
+
+        /**
+         * Increments this counter.
+         */
+        public void increment() {
+            stripes.incrementAndGet(((int) Thread.currentThread().getId() & (STRIPES - 1)) * PADDING);
+        }
+
+        /**
+         * Returns the current value of this counter.
+         *
+         * @return The current value of this counter.
+         */
+        public long get() {
+            long value = 0L;
+            for (int index = 0; index < STRIPES; index++) {
+                value += stripes.get(index * PADDING);
+            }
+            return value;
+        }
+
+        /**
+         * Resets this counter.
+         */
+        protected void reset() {
+            for (int index = 0; index < STRIPES; index++) {
+                stripes.set(index * PADDING, 0L);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics.Counter{" +
+                    "value=" + get() +
+                    '}';
+        }
+    }
+
+    /**
+     * A lock-free histogram of durations where each bucket counts the durations within a power of two of nanoseconds. The
+     * bucket with index {@code i} counts durations {@code d} with {@code 2^i <= d < 2^(i + 1)} where the first bucket also
+     * counts durations of zero nanoseconds. Similarly to a {@link Counter}, the buckets are distributed over several stripes
+     * in order to avoid contention between threads.
+     */
+    public static class Histogram {
+
+        /**
+         * The number of buckets of a histogram.
+         */
+        public static final int BUCKETS = 64;
+
+        /**
+         * The number of stripes which must be a power of two.
+         */
+        private static final int STRIPES = 16;
+
+        /**
+         * The counts of all buckets of all stripes where the buckets of each stripe are stored consecutively.
+         */
+        private final AtomicLongArray buckets;
+
+        /**
+         * The sums of the durations that were recorded per bucket of all stripes where the buckets of each stripe are stored consecutively.
+         */
+        private final AtomicLongArray durations;
+
+        /**
+         * Creates a new histogram.
+         */
+        protected Histogram() {
+            buckets = new AtomicLongArray(STRIPES * BUCKETS);
+            durations = new AtomicLongArray(STRIPES * BUCKETS);
+        }
+
+        /**
+         * Records the duration since the given start time.
+         *
+         * @param startTime The start time as returned by {@link System#nanoTime()}.
+         */
+        public void recordSince(long startTime) {
+            record(System.nanoTime() - startTime);
+        }
+
+        /**
+         * Records a duration.
+         *
+         * @param duration The duration in nanoseconds. Negative values are recorded as zero.
+         */
+        public void record(long duration) {
+            if (duration < 0L) {
+                duration = 0L;
+            }
+            int index = ((int) Thread.currentThread().getId() & (STRIPES - 1)) * BUCKETS
+                    + Math.max(0, (Long.SIZE - 1) - Long.numberOfLeadingZeros(duration));
+            buckets.incrementAndGet(index);
+            durations.addAndGet(index, duration);
+        }
+
+        /**
+         * Returns the number of durations that were recorded in the given bucket.
+         *
+         * @param bucket The index of the bucket.
+         * @return The number of durations that were recorded in the given bucket.
+         */
+        public long getCount(int bucket) {
+            if (bucket < 0 || bucket >= BUCKETS) {
+                throw new IndexOutOfBoundsException("Not a bucket: " + bucket);
+            }
+            long count = 0L;
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                count += buckets.get(stripe * BUCKETS + bucket);
+            }
+            return count;
+        }
+
+        /**
+         * Returns the number of recorded durations.
+         *
+         * @return The number of recorded durations.
+         */
+        public long getCount() {
+            long count = 0L;
+            for (int index = 0; index < STRIPES * BUCKETS; index++) {
+                count += buckets.get(index);
+            }
+            return count;
+        }
+
+        /**
+         * Returns the sum of all recorded durations in nanoseconds.
+         *
+         * @return The sum of all recorded durations in nanoseconds.
+         */
+        public long getTotalDuration() {
+            long duration = 0L;
+            for (int index = 0; index < STRIPES * BUCKETS; index++) {
+                duration += durations.get(index);
+            }
+            return duration;
+        }
+
+        /**
+         * Resets this histogram.
+         */
+        protected void reset() {
+            for (int index = 0; index < STRIPES * BUCKETS; index++) {
+                buckets.set(index, 0L);
+                durations.set(index, 0L);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics.Histogram{" +
+                    "count=" + getCount() +
+                    ", totalDuration=" + getTotalDuration() +
+                    '}';
+        }
+    }
+}
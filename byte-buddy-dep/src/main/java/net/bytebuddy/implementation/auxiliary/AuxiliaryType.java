@@ -11,6 +11,10 @@ import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.utility.RandomString;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * An auxiliary type that provides services to the instrumentation of another type. Implementations should provide
  * meaningful {@code equals(Object)} and {@code hashCode()} implementations in order to avoid multiple creations
@@ -169,5 +173,101 @@ public interface AuxiliaryType {
                 return "Instrumentation.Context.Default.AuxiliaryTypeNamingStrategySuffixingRandom{suffix='" + suffix + '\'' + '}';
             }
         }
+
+        /**
+         * A naming strategy for an auxiliary type which returns the instrumented type's name with a fixed extension
+         * and a running index as a suffix where the index is counted per instrumented type. As a result, the names of
+         * auxiliary types are reproducible as long as auxiliary types are registered in the same order. All generated
+         * names will be in the same package as the instrumented type. An index is only counted for a bounded number of
+         * instrumented types. Once this bound is reached, the auxiliary types of any other instrumented type are named with
+         * a random suffix instead. This naming strategy is safe for concurrent use.
+         */
+        class Enumerating implements NamingStrategy {
+
+            /**
+             * The default maximum number of instrumented types for which an index is counted.
+             */
+            public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+            /**
+             * The suffix to append to the instrumented type for creating names for the auxiliary types.
+             */
+            private final String suffix;
+
+            /**
+             * A mapping of instrumented type names to the number of auxiliary types that were named for them.
+             */
+            private final ConcurrentMap<String, AtomicInteger> indices;
+
+            /**
+             * The maximum number of instrumented types for which an index is counted.
+             */
+            private final int maximumSize;
+
+            /**
+             * A generator for the suffixes of auxiliary types of instrumented types for which no index is counted.
+             */
+            private final RandomString randomString;
+
+            /**
+             * Creates a new enumerating naming strategy that counts an index for up to {@link Enumerating#DEFAULT_MAXIMUM_SIZE}
+             * instrumented types.
+             *
+             * @param suffix The suffix to extend to the instrumented type.
+             */
+            public Enumerating(String suffix) {
+                this(suffix, DEFAULT_MAXIMUM_SIZE);
+            }
+
+            /**
+             * Creates a new enumerating naming strategy.
+             *
+             * @param suffix      The suffix to extend to the instrumented type.
+             * @param maximumSize The maximum number of instrumented types for which an index is counted.
+             */
+            public Enumerating(String suffix, int maximumSize) {
+                this.suffix = suffix;
+                this.maximumSize = maximumSize;
+                indices = new ConcurrentHashMap<String, AtomicInteger>();
+                randomString = new RandomString();
+            }
+
+            @Override
+            public String name(TypeDescription instrumentedType) {
+                AtomicInteger index = indices.get(instrumentedType.getName());
+                if (index == null) {
+                    if (indices.size() >= maximumSize) {
+                        return String.format("%s$%s$%s", instrumentedType.getName(), suffix, randomString.nextString());
+                    }
+                    AtomicInteger previous = indices.putIfAbsent(instrumentedType.getName(), index = new AtomicInteger());
+                    if (previous != null) {
+                        index = previous;
+                    }
+                }
+                return String.format("%s$%s$%d", instrumentedType.getName(), suffix, index.getAndIncrement());
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && suffix.equals(((Enumerating) other).suffix)
+                        && maximumSize == ((Enumerating) other).maximumSize;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * suffix.hashCode() + maximumSize;
+            }
+
+            @Override
+            public String toString() {
+                return "AuxiliaryType.NamingStrategy.Enumerating{" +
+                        "suffix='" + suffix + '\'' +
+                        ", indices=" + indices +
+                        ", maximumSize=" + maximumSize +
+                        ", randomString=" + randomString +
+                        '}';
+            }
+        }
     }
 }
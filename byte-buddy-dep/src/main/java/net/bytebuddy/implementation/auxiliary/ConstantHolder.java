@@ -0,0 +1,219 @@
+package net.bytebuddy.implementation.auxiliary;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * <p>
+ * A constant holder is an auxiliary type that stores a single value in a {@code static} field which is assigned within
+ * the holder's type initializer. As the JVM only initializes a type on its first active use, the value is not computed
+ * before it is read for the first time. This way, an expensive value such as a {@link java.lang.reflect.Method} lookup
+ * is resolved lazily while the JVM's class initialization guarantees that the value is computed exactly once and
+ * safely published to all threads, without requiring any branching code within the method that reads the value.
+ * </p>
+ * <p>
+ * Two constant holders are equal if they represent the same value of the same type such that an
+ * {@link Implementation.Context} only creates a single holder for any value.
+ * </p>
+ */
+public class ConstantHolder implements AuxiliaryType {
+
+    /**
+     * The name of the field that stores the held value.
+     */
+    public static final String FIELD_NAME = "value";
+
+    /**
+     * The modifiers of the field that stores the held value.
+     */
+    private static final int FIELD_MODIFIERS = Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC;
+
+    /**
+     * The stack manipulation that loads the held value onto the operand stack.
+     */
+    private final StackManipulation value;
+
+    /**
+     * The type of the held value.
+     */
+    private final TypeDescription valueType;
+
+    /**
+     * Creates a new constant holder.
+     *
+     * @param value     The stack manipulation that loads the held value onto the operand stack.
+     * @param valueType The type of the held value.
+     */
+    public ConstantHolder(StackManipulation value, TypeDescription valueType) {
+        this.value = value;
+        this.valueType = valueType;
+    }
+
+    /**
+     * Locates the field that stores the held value of a holder type.
+     *
+     * @param holderType A description of a holder type that was created by a constant holder.
+     * @return The field that stores the held value.
+     */
+    protected static FieldDescription fieldOf(TypeDescription holderType) {
+        return holderType.getDeclaredFields().filter(named(FIELD_NAME)).getOnly();
+    }
+
+    @Override
+    public DynamicType make(String auxiliaryTypeName,
+                            ClassFileVersion classFileVersion,
+                            MethodAccessorFactory methodAccessorFactory) {
+        return new ByteBuddy(classFileVersion)
+                .subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                .methodGraphCompiler(MethodGraph.Empty.INSTANCE)
+                .name(auxiliaryTypeName)
+                .modifiers(DEFAULT_TYPE_MODIFIER)
+                .defineField(FIELD_NAME, valueType, FIELD_MODIFIERS)
+                .initialize(new Initializer(value))
+                .make();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        ConstantHolder that = (ConstantHolder) other;
+        return value.equals(that.value) && valueType.equals(that.valueType);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = value.hashCode();
+        result = 31 * result + valueType.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ConstantHolder{" +
+                "value=" + value +
+                ", valueType=" + valueType +
+                '}';
+    }
+
+    /**
+     * A stack manipulation that reads the value of a constant holder which is registered with the implementation context
+     * that applies this stack manipulation. Reading the value triggers the initialization of the holder type if the holder
+     * was not yet initialized.
+     */
+    public static class Read implements StackManipulation {
+
+        /**
+         * The constant holder to read from.
+         */
+        private final ConstantHolder constantHolder;
+
+        /**
+         * Creates a new read of a constant holder's value.
+         *
+         * @param value     The stack manipulation that loads the held value onto the operand stack.
+         * @param valueType The type of the held value.
+         */
+        public Read(StackManipulation value, TypeDescription valueType) {
+            this(new ConstantHolder(value, valueType));
+        }
+
+        /**
+         * Creates a new read of a constant holder's value.
+         *
+         * @param constantHolder The constant holder to read from.
+         */
+        protected Read(ConstantHolder constantHolder) {
+            this.constantHolder = constantHolder;
+        }
+
+        @Override
+        public boolean isValid() {
+            return constantHolder.value.isValid();
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            return FieldAccess.forField(fieldOf(implementationContext.register(constantHolder))).getter()
+                    .apply(methodVisitor, implementationContext);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && constantHolder.equals(((Read) other).constantHolder);
+        }
+
+        @Override
+        public int hashCode() {
+            return constantHolder.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ConstantHolder.Read{" +
+                    "constantHolder=" + constantHolder +
+                    '}';
+        }
+    }
+
+    /**
+     * A byte code appender for the type initializer of a holder type that assigns the held value.
+     */
+    protected static class Initializer implements ByteCodeAppender {
+
+        /**
+         * The stack manipulation that loads the held value onto the operand stack.
+         */
+        private final StackManipulation value;
+
+        /**
+         * Creates a new initializer.
+         *
+         * @param value The stack manipulation that loads the held value onto the operand stack.
+         */
+        protected Initializer(StackManipulation value) {
+            this.value = value;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext, MethodDescription instrumentedMethod) {
+            return new ByteCodeAppender.Simple(new StackManipulation.Compound(
+                    value,
+                    FieldAccess.forField(fieldOf(instrumentedMethod.getDeclaringType().asErasure())).putter()
+            )).apply(methodVisitor, implementationContext, instrumentedMethod);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && value.equals(((Initializer) other).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ConstantHolder.Initializer{" +
+                    "value=" + value +
+                    '}';
+        }
+    }
+}
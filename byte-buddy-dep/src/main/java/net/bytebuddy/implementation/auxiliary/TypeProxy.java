@@ -18,6 +18,7 @@ import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
 import net.bytebuddy.matcher.ElementMatchers;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -45,6 +46,12 @@ public class TypeProxy implements AuxiliaryType {
      */
     public static final String INSTANCE_FIELD = "target";
 
+    /**
+     * The name of the {@code static} method that is added to this auxiliary type for lazily creating a single instance per
+     * instance of the instrumented type when the proxy is cached.
+     */
+    public static final String CACHED_METHOD = "cached";
+
     /**
      * The type that is proxied, i.e. the original instrumented type this proxy is created for.
      */
@@ -70,6 +77,11 @@ public class TypeProxy implements AuxiliaryType {
      */
     private final boolean serializableProxy;
 
+    /**
+     * The instance cache to apply to the proxy.
+     */
+    private final InstanceCache instanceCache;
+
     /**
      * Creates a new type proxy.
      *
@@ -84,18 +96,38 @@ public class TypeProxy implements AuxiliaryType {
                      InvocationFactory invocationFactory,
                      boolean ignoreFinalizer,
                      boolean serializableProxy) {
+        this(proxiedType, implementationTarget, invocationFactory, ignoreFinalizer, serializableProxy, InstanceCache.Disabled.INSTANCE);
+    }
+
+    /**
+     * Creates a new type proxy.
+     *
+     * @param proxiedType          The type this proxy should implement which can either be a non-final class or an interface.
+     * @param implementationTarget The implementation target this type proxy is created for.
+     * @param invocationFactory    The invocation factory for creating special method invocations.
+     * @param ignoreFinalizer      {@code true} if any finalizer methods should be ignored for proxying.
+     * @param serializableProxy    Determines if the proxy should be serializable.
+     * @param instanceCache        The instance cache to apply to the proxy.
+     */
+    public TypeProxy(TypeDescription proxiedType,
+                     Implementation.Target implementationTarget,
+                     InvocationFactory invocationFactory,
+                     boolean ignoreFinalizer,
+                     boolean serializableProxy,
+                     InstanceCache instanceCache) {
         this.proxiedType = proxiedType;
         this.implementationTarget = implementationTarget;
         this.invocationFactory = invocationFactory;
         this.ignoreFinalizer = ignoreFinalizer;
         this.serializableProxy = serializableProxy;
+        this.instanceCache = instanceCache;
     }
 
     @Override
     public DynamicType make(String auxiliaryTypeName,
                             ClassFileVersion classFileVersion,
                             MethodAccessorFactory methodAccessorFactory) {
-        return new ByteBuddy(classFileVersion)
+        return instanceCache.apply(new ByteBuddy(classFileVersion)
                 .withIgnoredMethods(ignoreFinalizer ? isFinalizer() : ElementMatchers.<MethodDescription>none())
                 .subclass(proxiedType)
                 .name(auxiliaryTypeName)
@@ -104,7 +136,7 @@ public class TypeProxy implements AuxiliaryType {
                 .method(any())
                 .intercept(new MethodCall(methodAccessorFactory))
                 .defineMethod(REFLECTION_METHOD, TargetType.DESCRIPTION, Collections.<TypeDescription>emptyList(), Ownership.STATIC)
-                .intercept(SilentConstruction.INSTANCE)
+                .intercept(SilentConstruction.INSTANCE), implementationTarget.getTypeDescription(), classFileVersion, methodAccessorFactory)
                 .make();
     }
 
@@ -117,7 +149,8 @@ public class TypeProxy implements AuxiliaryType {
                 && serializableProxy == typeProxy.serializableProxy
                 && implementationTarget.equals(typeProxy.implementationTarget)
                 && invocationFactory.equals(typeProxy.invocationFactory)
-                && proxiedType.equals(typeProxy.proxiedType);
+                && proxiedType.equals(typeProxy.proxiedType)
+                && instanceCache.equals(typeProxy.instanceCache);
     }
 
     @Override
@@ -127,6 +160,7 @@ public class TypeProxy implements AuxiliaryType {
         result = 31 * result + invocationFactory.hashCode();
         result = 31 * result + (ignoreFinalizer ? 1 : 0);
         result = 31 * result + (serializableProxy ? 1 : 0);
+        result = 31 * result + instanceCache.hashCode();
         return result;
     }
 
@@ -138,6 +172,7 @@ public class TypeProxy implements AuxiliaryType {
                 ", invocationFactory=" + invocationFactory +
                 ", ignoreFinalizer=" + ignoreFinalizer +
                 ", serializableProxy=" + serializableProxy +
+                ", instanceCache=" + instanceCache +
                 '}';
     }
 
@@ -408,6 +443,310 @@ public class TypeProxy implements AuxiliaryType {
         }
     }
 
+    /**
+     * An instance cache determines if a type proxy exposes a factory method that lazily creates a single proxy instance for each
+     * instance of the instrumented type. Such a proxy instance is stored in a field of the instrumented type such that it is
+     * only created on the first invocation of an intercepted method.
+     */
+    public interface InstanceCache {
+
+        /**
+         * Applies this instance cache to the builder of a type proxy.
+         *
+         * @param builder               The builder of the type proxy.
+         * @param instrumentedType      The instrumented type the type proxy is created for.
+         * @param classFileVersion      The class file version of the type proxy.
+         * @param methodAccessorFactory The method accessor factory of the instrumented type.
+         * @return The builder for the type proxy with this instance cache applied.
+         */
+        DynamicType.Builder<?> apply(DynamicType.Builder<?> builder,
+                                     TypeDescription instrumentedType,
+                                     ClassFileVersion classFileVersion,
+                                     MethodAccessorFactory methodAccessorFactory);
+
+        /**
+         * A disabled instance cache where a type proxy does not define any caching factory method.
+         */
+        enum Disabled implements InstanceCache {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder,
+                                                TypeDescription instrumentedType,
+                                                ClassFileVersion classFileVersion,
+                                                MethodAccessorFactory methodAccessorFactory) {
+                return builder;
+            }
+
+            @Override
+            public String toString() {
+                return "TypeProxy.InstanceCache.Disabled." + name();
+            }
+        }
+
+        /**
+         * An instance cache that stores a type proxy instance in a field of the instrumented type. The field must be of type
+         * {@link Object}. As the field might not be visible to the type proxy, it is read and written via accessor methods that are
+         * registered on the instrumented type. The proxy instance is created by calling one of its constructors where all constructor
+         * parameters are assigned their default values.
+         */
+        class ForField implements InstanceCache {
+
+            /**
+             * The field of the instrumented type in which the proxy instance is stored.
+             */
+            private final FieldDescription cacheField;
+
+            /**
+             * The parameter types of the constructor that should be called.
+             */
+            private final List<TypeDescription> constructorParameters;
+
+            /**
+             * Creates a new instance cache for a field.
+             *
+             * @param cacheField            The field of the instrumented type in which the proxy instance is stored.
+             * @param constructorParameters The parameter types of the constructor that should be called.
+             */
+            public ForField(FieldDescription cacheField, List<TypeDescription> constructorParameters) {
+                this.cacheField = cacheField;
+                this.constructorParameters = constructorParameters;
+            }
+
+            @Override
+            public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder,
+                                                TypeDescription instrumentedType,
+                                                ClassFileVersion classFileVersion,
+                                                MethodAccessorFactory methodAccessorFactory) {
+                return builder.defineMethod(CACHED_METHOD, TargetType.DESCRIPTION, Collections.singletonList(instrumentedType), Ownership.STATIC)
+                        .intercept(new Factory(instrumentedType,
+                                classFileVersion,
+                                methodAccessorFactory.registerGetterFor(cacheField),
+                                methodAccessorFactory.registerSetterFor(cacheField)));
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                ForField forField = (ForField) other;
+                return cacheField.equals(forField.cacheField)
+                        && constructorParameters.equals(forField.constructorParameters);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * cacheField.hashCode() + constructorParameters.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypeProxy.InstanceCache.ForField{" +
+                        "cacheField=" + cacheField +
+                        ", constructorParameters=" + constructorParameters +
+                        '}';
+            }
+
+            /**
+             * An implementation of the caching factory method of a type proxy.
+             */
+            protected class Factory implements Implementation {
+
+                /**
+                 * The instrumented type the type proxy is created for.
+                 */
+                private final TypeDescription instrumentedType;
+
+                /**
+                 * The class file version of the type proxy.
+                 */
+                private final ClassFileVersion classFileVersion;
+
+                /**
+                 * The accessor method of the instrumented type for reading the cache field.
+                 */
+                private final MethodDescription getter;
+
+                /**
+                 * The accessor method of the instrumented type for writing the cache field.
+                 */
+                private final MethodDescription setter;
+
+                /**
+                 * Creates a new implementation of a caching factory method.
+                 *
+                 * @param instrumentedType The instrumented type the type proxy is created for.
+                 * @param classFileVersion The class file version of the type proxy.
+                 * @param getter           The accessor method of the instrumented type for reading the cache field.
+                 * @param setter           The accessor method of the instrumented type for writing the cache field.
+                 */
+                protected Factory(TypeDescription instrumentedType, ClassFileVersion classFileVersion, MethodDescription getter, MethodDescription setter) {
+                    this.instrumentedType = instrumentedType;
+                    this.classFileVersion = classFileVersion;
+                    this.getter = getter;
+                    this.setter = setter;
+                }
+
+                @Override
+                public InstrumentedType prepare(InstrumentedType instrumentedType) {
+                    return instrumentedType;
+                }
+
+                @Override
+                public ByteCodeAppender appender(Target implementationTarget) {
+                    return new Appender(implementationTarget.getTypeDescription());
+                }
+
+                /**
+                 * Returns the outer instance.
+                 *
+                 * @return The outer instance.
+                 */
+                private ForField getForField() {
+                    return ForField.this;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    Factory factory = (Factory) other;
+                    return instrumentedType.equals(factory.instrumentedType)
+                            && classFileVersion.equals(factory.classFileVersion)
+                            && getter.equals(factory.getter)
+                            && setter.equals(factory.setter)
+                            && ForField.this.equals(factory.getForField());
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = instrumentedType.hashCode();
+                    result = 31 * result + classFileVersion.hashCode();
+                    result = 31 * result + getter.hashCode();
+                    result = 31 * result + setter.hashCode();
+                    result = 31 * result + ForField.this.hashCode();
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "TypeProxy.InstanceCache.ForField.Factory{" +
+                            "forField=" + ForField.this +
+                            ", instrumentedType=" + instrumentedType +
+                            ", classFileVersion=" + classFileVersion +
+                            ", getter=" + getter +
+                            ", setter=" + setter +
+                            '}';
+                }
+
+                /**
+                 * An appender for the caching factory method which reads the cache field of the instrumented type via its getter and creates
+                 * and stores a new proxy instance if this field is not yet set. Concurrent invocations might create more than
+                 * one proxy instance what is harmless as proxy instances are stateless apart from their target. A cached proxy
+                 * is only reused if its target is the given instance. Otherwise, the cache field was copied from another instance,
+                 * for example by {@link Object#clone()}, and a new proxy instance is created and stored for the given instance.
+                 */
+                protected class Appender implements ByteCodeAppender {
+
+                    /**
+                     * The type proxy that is created.
+                     */
+                    private final TypeDescription proxyType;
+
+                    /**
+                     * Creates a new appender.
+                     *
+                     * @param proxyType The type proxy that is created.
+                     */
+                    protected Appender(TypeDescription proxyType) {
+                        this.proxyType = proxyType;
+                    }
+
+                    @Override
+                    public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+                        StackManipulation[] constructorValue = new StackManipulation[constructorParameters.size()];
+                        int index = 0;
+                        for (TypeDescription parameterType : constructorParameters) {
+                            constructorValue[index++] = DefaultValue.of(parameterType);
+                        }
+                        FieldDescription instanceField = proxyType.getDeclaredFields().filter(named(INSTANCE_FIELD)).getOnly();
+                        Label create = new Label();
+                        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                        MethodInvocation.invoke(getter).apply(methodVisitor, implementationContext);
+                        methodVisitor.visitInsn(Opcodes.DUP);
+                        methodVisitor.visitJumpInsn(Opcodes.IFNULL, create);
+                        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, proxyType.getInternalName());
+                        methodVisitor.visitInsn(Opcodes.DUP);
+                        methodVisitor.visitFieldInsn(Opcodes.GETFIELD,
+                                proxyType.getInternalName(),
+                                instanceField.getInternalName(),
+                                instanceField.getDescriptor());
+                        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                        methodVisitor.visitJumpInsn(Opcodes.IF_ACMPNE, create);
+                        methodVisitor.visitInsn(Opcodes.ARETURN);
+                        methodVisitor.visitLabel(create);
+                        if (classFileVersion.isAtLeast(ClassFileVersion.JAVA_V6)) {
+                            methodVisitor.visitFrame(Opcodes.F_FULL,
+                                    1,
+                                    new Object[]{instrumentedType.getInternalName()},
+                                    1,
+                                    new Object[]{TypeDescription.OBJECT.getInternalName()});
+                        }
+                        methodVisitor.visitInsn(Opcodes.POP);
+                        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                        StackManipulation.Size size = new StackManipulation.Compound(
+                                TypeCreation.forType(proxyType),
+                                Duplication.SINGLE,
+                                new StackManipulation.Compound(constructorValue),
+                                MethodInvocation.invoke(proxyType.getDeclaredMethods()
+                                        .filter(isConstructor().and(takesArguments(constructorParameters))).getOnly()),
+                                Duplication.SINGLE,
+                                MethodVariableAccess.REFERENCE.loadOffset(0),
+                                FieldAccess.forField(instanceField).putter()
+                        ).apply(methodVisitor, implementationContext);
+                        methodVisitor.visitInsn(Opcodes.DUP_X1);
+                        MethodInvocation.invoke(setter).apply(methodVisitor, implementationContext);
+                        methodVisitor.visitInsn(Opcodes.ARETURN);
+                        return new Size(Math.max(3, size.getMaximalSize() + 1), instrumentedMethod.getStackSize());
+                    }
+
+                    /**
+                     * Returns the outer instance.
+                     *
+                     * @return The outer instance.
+                     */
+                    private Factory getFactory() {
+                        return Factory.this;
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && proxyType.equals(((Appender) other).proxyType)
+                                && Factory.this.equals(((Appender) other).getFactory());
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return 31 * Factory.this.hashCode() + proxyType.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "TypeProxy.InstanceCache.ForField.Factory.Appender{" +
+                                "factory=" + Factory.this +
+                                ", proxyType=" + proxyType +
+                                '}';
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Loads a type proxy onto the operand stack which is created by calling one of its constructors. When this
      * stack manipulation is applied, an instance of the instrumented type must lie on top of the operand stack.
@@ -526,6 +865,126 @@ public class TypeProxy implements AuxiliaryType {
         }
     }
 
+    /**
+     * Loads a type proxy onto the operand stack which is created by calling one of its constructors only once per instance
+     * of the instrumented type. The proxy instance is stored in a field of the instrumented type from which it is read on any
+     * subsequent application of this stack manipulation, such that no instance is allocated for most method calls. All
+     * constructor parameters will be assigned their default values when the proxy instance is created.
+     */
+    public static class ForSuperMethodByCachedConstructor implements StackManipulation {
+
+        /**
+         * The type for the type proxy to subclass or implement.
+         */
+        private final TypeDescription proxiedType;
+
+        /**
+         * The implementation target this type proxy is created for.
+         */
+        private final Implementation.Target implementationTarget;
+
+        /**
+         * The parameter types of the constructor that should be called.
+         */
+        private final List<TypeDescription> constructorParameters;
+
+        /**
+         * {@code true} if any finalizers should be ignored for the delegation.
+         */
+        private final boolean ignoreFinalizer;
+
+        /**
+         * Determines if the proxy should be serializable.
+         */
+        private final boolean serializableProxy;
+
+        /**
+         * The field of the instrumented type in which the proxy instance is stored.
+         */
+        private final FieldDescription cacheField;
+
+        /**
+         * Creates a new stack operation for loading a cached type proxy that is created by calling one of its constructors.
+         *
+         * @param proxiedType           The type for the type proxy to subclass or implement.
+         * @param implementationTarget  The implementation target this type proxy is created for.
+         * @param constructorParameters The parameter types of the constructor that should be called.
+         * @param ignoreFinalizer       {@code true} if any finalizers should be ignored for the delegation.
+         * @param serializableProxy     Determines if the proxy should be serializable.
+         * @param cacheField            The field of the instrumented type in which the proxy instance is stored.
+         */
+        public ForSuperMethodByCachedConstructor(TypeDescription proxiedType,
+                                                 Implementation.Target implementationTarget,
+                                                 List<TypeDescription> constructorParameters,
+                                                 boolean ignoreFinalizer,
+                                                 boolean serializableProxy,
+                                                 FieldDescription cacheField) {
+            this.proxiedType = proxiedType;
+            this.implementationTarget = implementationTarget;
+            this.constructorParameters = constructorParameters;
+            this.ignoreFinalizer = ignoreFinalizer;
+            this.serializableProxy = serializableProxy;
+            this.cacheField = cacheField;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            TypeDescription proxyType = implementationContext
+                    .register(new TypeProxy(proxiedType,
+                            implementationTarget,
+                            InvocationFactory.Default.SUPER_METHOD,
+                            ignoreFinalizer,
+                            serializableProxy,
+                            new InstanceCache.ForField(cacheField, constructorParameters)));
+            return new Compound(
+                    MethodVariableAccess.forType(implementationTarget.getTypeDescription()).loadOffset(0),
+                    MethodInvocation.invoke(proxyType.getDeclaredMethods()
+                            .filter(named(CACHED_METHOD).and(takesArguments(1))).getOnly())
+            ).apply(methodVisitor, implementationContext);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            ForSuperMethodByCachedConstructor that = (ForSuperMethodByCachedConstructor) other;
+            return ignoreFinalizer == that.ignoreFinalizer
+                    && serializableProxy == that.serializableProxy
+                    && constructorParameters.equals(that.constructorParameters)
+                    && implementationTarget.equals(that.implementationTarget)
+                    && proxiedType.equals(that.proxiedType)
+                    && cacheField.equals(that.cacheField);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = proxiedType.hashCode();
+            result = 31 * result + implementationTarget.hashCode();
+            result = 31 * result + constructorParameters.hashCode();
+            result = 31 * result + (ignoreFinalizer ? 1 : 0);
+            result = 31 * result + (serializableProxy ? 1 : 0);
+            result = 31 * result + cacheField.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeProxy.ForSuperMethodByCachedConstructor{" +
+                    "proxiedType=" + proxiedType +
+                    ", implementationTarget=" + implementationTarget +
+                    ", constructorParameters=" + constructorParameters +
+                    ", ignoreFinalizer=" + ignoreFinalizer +
+                    ", serializableProxy=" + serializableProxy +
+                    ", cacheField=" + cacheField +
+                    '}';
+        }
+    }
+
     /**
      * Loads a type proxy onto the operand stack which is created by constructing a serialization constructor using
      * the Oracle JDK's {@link sun.reflect.ReflectionFactory#newConstructorForSerialization(Class, java.lang.reflect.Constructor)}
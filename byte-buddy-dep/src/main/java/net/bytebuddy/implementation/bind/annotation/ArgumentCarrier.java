@@ -0,0 +1,552 @@
+package net.bytebuddy.implementation.bind.annotation;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.field.FieldList;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.TypeList;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+import net.bytebuddy.implementation.bind.MethodDelegationBinder;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.Duplication;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.Throw;
+import net.bytebuddy.implementation.bytecode.TypeCreation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveBoxingDelegate;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.annotation.*;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+/**
+ * <p>
+ * Parameters that are annotated with this annotation are assigned an instance of an auxiliary carrier type that holds all
+ * arguments of the intercepted method. Other than an array that is bound by {@link AllArguments}, a carrier stores any argument
+ * in a field of the argument's type such that primitive arguments are not boxed. The arguments can be read by the typed getters
+ * of the {@link ArgumentCarrier.Arguments} interface which is implemented by any carrier. The annotated parameter must therefore
+ * be of a type to which this interface is assignable.
+ * </p>
+ * <p>
+ * A carrier type is only created once for any signature of intercepted methods of an instrumented type, i.e. all intercepted
+ * methods that declare identical parameter types share a single carrier type.
+ * </p>
+ * <p>
+ * <b>Important</b>: As a carrier type implements {@link ArgumentCarrier.Arguments}, this interface must be visible to the class
+ * loader of the instrumented type. This is not the case for types that are loaded by the bootstrap class loader or for types of
+ * class loaders that do not see Byte Buddy's classes, as for example when Byte Buddy is loaded by an isolated agent class loader.
+ * Instrumenting such types with a delegation that binds this annotation causes a {@link NoClassDefFoundError} when the carrier
+ * type is loaded. For such types, {@link AllArguments} can be used instead.
+ * </p>
+ *
+ * @see net.bytebuddy.implementation.MethodDelegation
+ * @see net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ArgumentCarrier {
+
+    /**
+     * Represents the arguments of an intercepted method. Any typed getter only returns an argument if the argument's parameter
+     * type is equal to the getter's return type and throws an {@link IllegalArgumentException} otherwise.
+     */
+    interface Arguments {
+
+        /**
+         * Returns the number of arguments.
+         *
+         * @return The number of arguments.
+         */
+        int size();
+
+        /**
+         * Returns the argument at the given index where primitive arguments are boxed.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        Object get(int index);
+
+        /**
+         * Returns the {@code boolean} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        boolean getBoolean(int index);
+
+        /**
+         * Returns the {@code byte} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        byte getByte(int index);
+
+        /**
+         * Returns the {@code short} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        short getShort(int index);
+
+        /**
+         * Returns the {@code char} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        char getChar(int index);
+
+        /**
+         * Returns the {@code int} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        int getInt(int index);
+
+        /**
+         * Returns the {@code long} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        long getLong(int index);
+
+        /**
+         * Returns the {@code float} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        float getFloat(int index);
+
+        /**
+         * Returns the {@code double} argument at the given index.
+         *
+         * @param index The index of the argument.
+         * @return The argument at the given index.
+         */
+        double getDouble(int index);
+    }
+
+    /**
+     * A binder for handling the
+     * {@link net.bytebuddy.implementation.bind.annotation.ArgumentCarrier}
+     * annotation.
+     *
+     * @see TargetMethodAnnotationDrivenBinder
+     */
+    enum Binder implements TargetMethodAnnotationDrivenBinder.ParameterBinder<ArgumentCarrier> {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public Class<ArgumentCarrier> getHandledType() {
+            return ArgumentCarrier.class;
+        }
+
+        @Override
+        public MethodDelegationBinder.ParameterBinding<?> bind(AnnotationDescription.Loadable<ArgumentCarrier> annotation,
+                                                               MethodDescription source,
+                                                               ParameterDescription target,
+                                                               Implementation.Target implementationTarget,
+                                                               Assigner assigner) {
+            if (!target.getType().asErasure().isAssignableFrom(Arguments.class)) {
+                throw new IllegalStateException("Cannot assign an argument carrier to " + target);
+            }
+            return new MethodDelegationBinder.ParameterBinding.Anonymous(new Creation(source));
+        }
+
+        @Override
+        public String toString() {
+            return "ArgumentCarrier.Binder." + name();
+        }
+
+        /**
+         * A stack manipulation that creates an instance of a carrier type for the arguments of a given method.
+         */
+        protected static class Creation implements StackManipulation {
+
+            /**
+             * The method whose arguments are carried.
+             */
+            private final MethodDescription sourceMethod;
+
+            /**
+             * Creates a new carrier creation.
+             *
+             * @param sourceMethod The method whose arguments are carried.
+             */
+            protected Creation(MethodDescription sourceMethod) {
+                this.sourceMethod = sourceMethod;
+            }
+
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+                TypeDescription carrierType = implementationContext.register(new CarrierType(sourceMethod.getParameters().asTypeList().asErasures()));
+                return new Compound(
+                        TypeCreation.forType(carrierType),
+                        Duplication.SINGLE,
+                        MethodVariableAccess.allArgumentsOf(sourceMethod),
+                        MethodInvocation.invoke(carrierType.getDeclaredMethods().filter(isConstructor()).getOnly())
+                ).apply(methodVisitor, implementationContext);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && sourceMethod.equals(((Creation) other).sourceMethod);
+            }
+
+            @Override
+            public int hashCode() {
+                return sourceMethod.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "ArgumentCarrier.Binder.Creation{sourceMethod=" + sourceMethod + '}';
+            }
+        }
+
+        /**
+         * An auxiliary type that stores the arguments of a method with the given parameter types in typed fields and that
+         * implements the {@link ArgumentCarrier.Arguments} interface for reading these fields.
+         */
+        protected static class CarrierType implements AuxiliaryType {
+
+            /**
+             * The prefix for naming fields to store method arguments.
+             */
+            private static final String FIELD_NAME_PREFIX = "argument";
+
+            /**
+             * The parameter types of the carried arguments.
+             */
+            private final TypeList parameterTypes;
+
+            /**
+             * Creates a new carrier type.
+             *
+             * @param parameterTypes The parameter types of the carried arguments.
+             */
+            protected CarrierType(TypeList parameterTypes) {
+                this.parameterTypes = parameterTypes;
+            }
+
+            @Override
+            public DynamicType make(String auxiliaryTypeName,
+                                    ClassFileVersion classFileVersion,
+                                    MethodAccessorFactory methodAccessorFactory) {
+                DynamicType.Builder<?> builder = new ByteBuddy(classFileVersion)
+                        .subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                        .name(auxiliaryTypeName)
+                        .modifiers(DEFAULT_TYPE_MODIFIER)
+                        .implement(Arguments.class)
+                        .intercept(new ArgumentAccess(classFileVersion))
+                        .defineConstructor(parameterTypes)
+                        .intercept(ConstructorCall.INSTANCE);
+                int index = 0;
+                for (TypeDescription parameterType : parameterTypes) {
+                    builder = builder.defineField(FIELD_NAME_PREFIX + index++, parameterType, Visibility.PRIVATE, FieldManifestation.FINAL);
+                }
+                return builder.make();
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && parameterTypes.equals(((CarrierType) other).parameterTypes);
+            }
+
+            @Override
+            public int hashCode() {
+                return parameterTypes.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "ArgumentCarrier.Binder.CarrierType{parameterTypes=" + parameterTypes + '}';
+            }
+
+            /**
+             * The implementation of a carrier type's constructor which stores any argument in the corresponding field.
+             */
+            protected enum ConstructorCall implements Implementation {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * A reference of the {@link Object} type default constructor.
+                 */
+                private final MethodDescription objectTypeDefaultConstructor;
+
+                /**
+                 * Creates the constructor call singleton.
+                 */
+                ConstructorCall() {
+                    objectTypeDefaultConstructor = TypeDescription.OBJECT.getDeclaredMethods().filter(isConstructor()).getOnly();
+                }
+
+                @Override
+                public InstrumentedType prepare(InstrumentedType instrumentedType) {
+                    return instrumentedType;
+                }
+
+                @Override
+                public ByteCodeAppender appender(Target implementationTarget) {
+                    return new Appender(implementationTarget.getTypeDescription());
+                }
+
+                @Override
+                public String toString() {
+                    return "ArgumentCarrier.Binder.CarrierType.ConstructorCall." + name();
+                }
+
+                /**
+                 * The appender for implementing the
+                 * {@link net.bytebuddy.implementation.bind.annotation.ArgumentCarrier.Binder.CarrierType.ConstructorCall}.
+                 */
+                protected static class Appender implements ByteCodeAppender {
+
+                    /**
+                     * The instrumented type being created.
+                     */
+                    private final TypeDescription instrumentedType;
+
+                    /**
+                     * Creates a new appender.
+                     *
+                     * @param instrumentedType The instrumented type that is being created.
+                     */
+                    protected Appender(TypeDescription instrumentedType) {
+                        this.instrumentedType = instrumentedType;
+                    }
+
+                    @Override
+                    public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+                        StackManipulation thisReference = MethodVariableAccess.REFERENCE.loadOffset(0);
+                        FieldList<?> fieldList = instrumentedType.getDeclaredFields();
+                        StackManipulation[] fieldLoading = new StackManipulation[fieldList.size()];
+                        int index = 0;
+                        for (FieldDescription fieldDescription : fieldList) {
+                            fieldLoading[index] = new StackManipulation.Compound(
+                                    thisReference,
+                                    MethodVariableAccess.forType(fieldDescription.getType().asErasure())
+                                            .loadOffset(instrumentedMethod.getParameters().get(index).getOffset()),
+                                    FieldAccess.forField(fieldDescription).putter()
+                            );
+                            index++;
+                        }
+                        StackManipulation.Size stackSize = new StackManipulation.Compound(
+                                thisReference,
+                                MethodInvocation.invoke(ConstructorCall.INSTANCE.objectTypeDefaultConstructor),
+                                new StackManipulation.Compound(fieldLoading),
+                                MethodReturn.VOID
+                        ).apply(methodVisitor, implementationContext);
+                        return new Size(stackSize.getMaximalSize(), instrumentedMethod.getStackSize());
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && instrumentedType.equals(((Appender) other).instrumentedType);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return instrumentedType.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "ArgumentCarrier.Binder.CarrierType.ConstructorCall.Appender{instrumentedType=" + instrumentedType + '}';
+                    }
+                }
+            }
+
+            /**
+             * The implementation of the methods of the {@link ArgumentCarrier.Arguments} interface. A typed getter compares
+             * the requested index to the index of any field of the getter's type and returns the matching field's value. If no
+             * field matches, an {@link IllegalArgumentException} is thrown.
+             */
+            protected static class ArgumentAccess implements Implementation {
+
+                /**
+                 * The name of the {@link ArgumentCarrier.Arguments#size()} method.
+                 */
+                private static final String SIZE_METHOD = "size";
+
+                /**
+                 * The class file version of the carrier type.
+                 */
+                private final ClassFileVersion classFileVersion;
+
+                /**
+                 * Creates a new implementation of the argument access.
+                 *
+                 * @param classFileVersion The class file version of the carrier type.
+                 */
+                protected ArgumentAccess(ClassFileVersion classFileVersion) {
+                    this.classFileVersion = classFileVersion;
+                }
+
+                @Override
+                public InstrumentedType prepare(InstrumentedType instrumentedType) {
+                    return instrumentedType;
+                }
+
+                @Override
+                public ByteCodeAppender appender(Target implementationTarget) {
+                    return new Appender(implementationTarget.getTypeDescription());
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && classFileVersion.equals(((ArgumentAccess) other).classFileVersion);
+                }
+
+                @Override
+                public int hashCode() {
+                    return classFileVersion.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "ArgumentCarrier.Binder.CarrierType.ArgumentAccess{classFileVersion=" + classFileVersion + '}';
+                }
+
+                /**
+                 * The appender for implementing the
+                 * {@link net.bytebuddy.implementation.bind.annotation.ArgumentCarrier.Binder.CarrierType.ArgumentAccess}.
+                 */
+                protected class Appender implements ByteCodeAppender {
+
+                    /**
+                     * The instrumented type being created.
+                     */
+                    private final TypeDescription instrumentedType;
+
+                    /**
+                     * Creates a new appender.
+                     *
+                     * @param instrumentedType The instrumented type that is being created.
+                     */
+                    protected Appender(TypeDescription instrumentedType) {
+                        this.instrumentedType = instrumentedType;
+                    }
+
+                    @Override
+                    public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+                        FieldList<?> fieldList = instrumentedType.getDeclaredFields();
+                        if (instrumentedMethod.getInternalName().equals(SIZE_METHOD)) {
+                            StackManipulation.Size stackSize = new StackManipulation.Compound(
+                                    IntegerConstant.forValue(fieldList.size()),
+                                    MethodReturn.INTEGER
+                            ).apply(methodVisitor, implementationContext);
+                            return new Size(stackSize.getMaximalSize(), instrumentedMethod.getStackSize());
+                        }
+                        TypeDescription returnType = instrumentedMethod.getReturnType().asErasure();
+                        int maximalSize = 2, index = 0;
+                        for (FieldDescription fieldDescription : fieldList) {
+                            TypeDescription fieldType = fieldDescription.getType().asErasure();
+                            if (!returnType.isPrimitive() || fieldType.equals(returnType)) {
+                                Label next = new Label();
+                                methodVisitor.visitVarInsn(Opcodes.ILOAD, 1);
+                                IntegerConstant.forValue(index).apply(methodVisitor, implementationContext);
+                                methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, next);
+                                maximalSize = Math.max(maximalSize, new StackManipulation.Compound(
+                                        MethodVariableAccess.REFERENCE.loadOffset(0),
+                                        FieldAccess.forField(fieldDescription).getter(),
+                                        fieldType.isPrimitive() && !returnType.isPrimitive()
+                                                ? PrimitiveBoxingDelegate.forPrimitive(fieldType).assignBoxedTo(returnType, Assigner.DEFAULT, Assigner.Typing.STATIC)
+                                                : StackManipulation.Trivial.INSTANCE,
+                                        MethodReturn.returning(returnType)
+                                ).apply(methodVisitor, implementationContext).getMaximalSize());
+                                methodVisitor.visitLabel(next);
+                                if (classFileVersion.isAtLeast(ClassFileVersion.JAVA_V6)) {
+                                    methodVisitor.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+                                }
+                            }
+                            index++;
+                        }
+                        TypeDescription exceptionType = new TypeDescription.ForLoadedType(IllegalArgumentException.class);
+                        maximalSize = Math.max(maximalSize, new StackManipulation.Compound(
+                                TypeCreation.forType(exceptionType),
+                                Duplication.SINGLE,
+                                new TextConstant("No argument of type " + returnType.getSourceCodeName() + " at the given index"),
+                                MethodInvocation.invoke(exceptionType.getDeclaredMethods()
+                                        .filter(isConstructor().and(takesArguments(String.class))).getOnly()),
+                                Throw.INSTANCE
+                        ).apply(methodVisitor, implementationContext).getMaximalSize());
+                        return new Size(maximalSize, instrumentedMethod.getStackSize());
+                    }
+
+                    /**
+                     * Returns the outer instance.
+                     *
+                     * @return The outer instance.
+                     */
+                    private ArgumentAccess getArgumentAccess() {
+                        return ArgumentAccess.this;
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && instrumentedType.equals(((Appender) other).instrumentedType)
+                                && ArgumentAccess.this.equals(((Appender) other).getArgumentAccess());
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return 31 * ArgumentAccess.this.hashCode() + instrumentedType.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "ArgumentCarrier.Binder.CarrierType.ArgumentAccess.Appender{" +
+                                "argumentAccess=" + ArgumentAccess.this +
+                                ", instrumentedType=" + instrumentedType +
+                                '}';
+                    }
+                }
+            }
+        }
+    }
+}
@@ -51,6 +51,17 @@ public @interface Origin {
      */
     boolean cache() default true;
 
+    /**
+     * Determines if a cached value is only resolved when the intercepted method is invoked for the first time. By default,
+     * a cached value is resolved when the instrumented type is initialized such that the initialization of a type that
+     * intercepts many methods requires a look-up of every intercepted method. A lazily cached value is instead stored
+     * in an auxiliary holder type which is only initialized on the value's first use. This value is ignored if the
+     * value is not cached.
+     *
+     * @return {@code true} if a cached value should only be resolved on its first use.
+     */
+    boolean lazy() default false;
+
     /**
      * A binder for binding parameters that are annotated with
      * {@link net.bytebuddy.implementation.bind.annotation.Origin}.
@@ -79,9 +90,11 @@ public @interface Origin {
             if (parameterType.represents(Class.class)) {
                 return new MethodDelegationBinder.ParameterBinding.Anonymous(ClassConstant.of(implementationTarget.getOriginType()));
             } else if (parameterType.represents(Method.class)) {
-                return new MethodDelegationBinder.ParameterBinding.Anonymous(annotation.loadSilent().cache()
-                        ? MethodConstant.forMethod(source.asDefined()).cached()
-                        : MethodConstant.forMethod(source.asDefined()));
+                Origin origin = annotation.loadSilent();
+                MethodConstant.CanCache methodConstant = MethodConstant.forMethod(source.asDefined());
+                return new MethodDelegationBinder.ParameterBinding.Anonymous(origin.cache()
+                        ? (origin.lazy() ? methodConstant.cachedLazily() : methodConstant.cached())
+                        : methodConstant);
             } else if (parameterType.represents(String.class)) {
                 return new MethodDelegationBinder.ParameterBinding.Anonymous(new TextConstant(source.toString()));
             } else if (parameterType.represents(int.class)) {
@@ -2,17 +2,21 @@ package net.bytebuddy.implementation.bind.annotation;
 
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.enumeration.EnumerationDescription;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.field.FieldList;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.method.ParameterDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
 import net.bytebuddy.dynamic.TargetType;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.auxiliary.TypeProxy;
 import net.bytebuddy.implementation.bind.MethodDelegationBinder;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import org.objectweb.asm.Opcodes;
 
 import java.lang.annotation.*;
 import java.util.Arrays;
@@ -49,6 +53,15 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
  * <p>&nbsp;</p>
  * If a method parameter is not a super type of the instrumented type, the method with the parameter that is annoted by
  * #{@code Super} is not considered a possible delegation target.
+ * <p>&nbsp;</p>
+ * By setting {@link Super#cached()} to {@code true}, a proxy that is created by a constructor call is only created once per
+ * instance of the instrumented type and is stored in a synthetic field of this instance. This avoids the allocation of a proxy
+ * instance for any intercepted method call at the cost of this additional field. A {@link net.bytebuddy.implementation.MethodDelegation} defines such a field
+ * for any cached parameter of its delegation targets. As the field is copied when an instance is cloned, a cached proxy is only
+ * reused if it targets the intercepted instance and is otherwise replaced by a new proxy.
+ * As adding a field changes the instrumented type's shape, a cached proxy cannot be used when rebasing or redefining a type that
+ * is already loaded, for example by a {@link net.bytebuddy.agent.builder.AgentBuilder} that retransforms classes, as the JVM does not
+ * permit the addition of fields to a loaded class.
  *
  * @see net.bytebuddy.implementation.MethodDelegation
  * @see net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder
@@ -97,6 +110,17 @@ public @interface Super {
      */
     Class<?> proxyType() default void.class;
 
+    /**
+     * Determines if the proxy instance should be created only once per instance of the instrumented type and be stored in a
+     * synthetic field of this instance. This option is only available for proxies that are instantiated by a constructor call and
+     * is ignored if the instrumented type does not declare such a field, for example if the instrumented type is an interface.
+     * As this option adds a private field to the instrumented type, it cannot be used for a type that is redefined or retransformed
+     * after it was loaded.
+     *
+     * @return {@code true} if the proxy instance should be cached.
+     */
+    boolean cached() default false;
+
     /**
      * Determines the instantiation of the proxy type.
      *
@@ -119,6 +143,19 @@ public @interface Super {
                         annotation.getValue(IGNORE_FINALIZER, Boolean.class),
                         annotation.getValue(SERIALIZABLE_PROXY, Boolean.class));
             }
+
+            @Override
+            protected StackManipulation cachedProxyFor(TypeDescription parameterType,
+                                                       Implementation.Target implementationTarget,
+                                                       AnnotationDescription.Loadable<Super> annotation,
+                                                       FieldDescription cacheField) {
+                return new TypeProxy.ForSuperMethodByCachedConstructor(parameterType,
+                        implementationTarget,
+                        Arrays.asList(annotation.getValue(CONSTRUCTOR_PARAMETERS, TypeDescription[].class)),
+                        annotation.getValue(IGNORE_FINALIZER, Boolean.class),
+                        annotation.getValue(SERIALIZABLE_PROXY, Boolean.class),
+                        cacheField);
+            }
         },
 
         /**
@@ -135,6 +172,14 @@ public @interface Super {
                         annotation.getValue(IGNORE_FINALIZER, Boolean.class),
                         annotation.getValue(SERIALIZABLE_PROXY, Boolean.class));
             }
+
+            @Override
+            protected StackManipulation cachedProxyFor(TypeDescription parameterType,
+                                                       Implementation.Target implementationTarget,
+                                                       AnnotationDescription.Loadable<Super> annotation,
+                                                       FieldDescription cacheField) {
+                throw new IllegalStateException("Cannot cache a proxy that is not instantiated by a constructor: " + parameterType);
+            }
         };
 
         /**
@@ -175,6 +220,22 @@ public @interface Super {
                                                       Implementation.Target implementationTarget,
                                                       AnnotationDescription.Loadable<Super> annotation);
 
+        /**
+         * Creates a stack manipulation which loads a {@code super}-call proxy onto the stack that is only created once per instance
+         * of the instrumented type.
+         *
+         * @param parameterType        The type of the parameter that was annotated with
+         *                             {@link net.bytebuddy.implementation.bind.annotation.Super}
+         * @param implementationTarget The implementation target for the currently created type.
+         * @param annotation           The annotation that caused this method call.
+         * @param cacheField           The field of the instrumented type in which the proxy instance is stored.
+         * @return A stack manipulation representing this instance's instantiation strategy.
+         */
+        protected abstract StackManipulation cachedProxyFor(TypeDescription parameterType,
+                                                            Implementation.Target implementationTarget,
+                                                            AnnotationDescription.Loadable<Super> annotation,
+                                                            FieldDescription cacheField);
+
         @Override
         public String toString() {
             return "Super.Instantiation." + name();
@@ -205,6 +266,21 @@ public @interface Super {
          */
         private static final MethodDescription.InDefinedShape PROXY_TYPE;
 
+        /**
+         * A reference to the cached method.
+         */
+        private static final MethodDescription.InDefinedShape CACHED;
+
+        /**
+         * The prefix of the names of the fields in which cached proxy instances are stored.
+         */
+        private static final String CACHE_FIELD_PREFIX = "cachedSuper";
+
+        /**
+         * The modifiers of the fields in which cached proxy instances are stored.
+         */
+        private static final int CACHE_FIELD_MODIFIERS = Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC | Opcodes.ACC_VOLATILE | Opcodes.ACC_TRANSIENT;
+
         /*
          * Extracts method references of the super annotation.
          */
@@ -212,6 +288,48 @@ public @interface Super {
             MethodList<MethodDescription.InDefinedShape> annotationProperties = new TypeDescription.ForLoadedType(Super.class).getDeclaredMethods();
             STRATEGY = annotationProperties.filter(named("strategy")).getOnly();
             PROXY_TYPE = annotationProperties.filter(named("proxyType")).getOnly();
+            CACHED = annotationProperties.filter(named("cached")).getOnly();
+        }
+
+        /**
+         * Returns the name of the field in which a cached proxy instance is stored for the given target parameter.
+         *
+         * @param target The target parameter that is annotated with {@link Super}.
+         * @return The name of the field in which a cached proxy instance is stored.
+         */
+        private static String cacheFieldName(ParameterDescription target) {
+            MethodDescription targetMethod = target.getDeclaringMethod();
+            return CACHE_FIELD_PREFIX
+                    + "$" + target.getIndex()
+                    + "$" + Integer.toHexString((targetMethod.getDeclaringType().asErasure().getName()
+                    + "." + targetMethod.getInternalName()
+                    + targetMethod.getDescriptor()).hashCode());
+        }
+
+        /**
+         * Prepares an instrumented type by defining a cache field for any parameter of the given target methods that is
+         * annotated by {@link Super} with caching enabled.
+         *
+         * @param instrumentedType The instrumented type to prepare.
+         * @param targetMethods    The delegation target methods.
+         * @return The prepared instrumented type.
+         */
+        public InstrumentedType prepare(InstrumentedType instrumentedType, MethodList<?> targetMethods) {
+            if (instrumentedType.isInterface()) {
+                return instrumentedType;
+            }
+            for (MethodDescription targetMethod : targetMethods) {
+                for (ParameterDescription target : targetMethod.getParameters()) {
+                    AnnotationDescription.Loadable<Super> annotation = target.getDeclaredAnnotations().ofType(Super.class);
+                    if (annotation != null && annotation.getValue(CACHED, Boolean.class)) {
+                        String name = cacheFieldName(target);
+                        if (instrumentedType.getDeclaredFields().filter(named(name)).isEmpty()) {
+                            instrumentedType = instrumentedType.withField(new FieldDescription.Token(name, CACHE_FIELD_MODIFIERS, TypeDescription.OBJECT));
+                        }
+                    }
+                }
+            }
+            return instrumentedType;
         }
 
         @Override
@@ -235,11 +353,16 @@ public @interface Super {
                 throw new IllegalStateException("Cannot extend final type as @Super proxy: " + proxyType);
             } else if (source.isStatic() || !implementationTarget.getTypeDescription().isAssignableTo(proxyType)) {
                 return MethodDelegationBinder.ParameterBinding.Illegal.INSTANCE;
-            } else {
-                return new MethodDelegationBinder.ParameterBinding.Anonymous(annotation
-                        .getValue(STRATEGY, EnumerationDescription.class).load(Instantiation.class)
-                        .proxyFor(proxyType, implementationTarget, annotation));
             }
+            Instantiation instantiation = annotation.getValue(STRATEGY, EnumerationDescription.class).load(Instantiation.class);
+            if (annotation.getValue(CACHED, Boolean.class)) {
+                FieldList<?> cacheFields = implementationTarget.getTypeDescription().getDeclaredFields().filter(named(cacheFieldName(target)));
+                if (!cacheFields.isEmpty()) {
+                    return new MethodDelegationBinder.ParameterBinding.Anonymous(instantiation
+                            .cachedProxyFor(proxyType, implementationTarget, annotation, cacheFields.getOnly()));
+                }
+            }
+            return new MethodDelegationBinder.ParameterBinding.Anonymous(instantiation.proxyFor(proxyType, implementationTarget, annotation));
         }
 
         @Override
@@ -145,6 +145,7 @@ public class TargetMethodAnnotationDrivenBinder implements MethodDelegationBinde
         List<ParameterBinder<?>> DEFAULTS = Collections.unmodifiableList(Arrays.<TargetMethodAnnotationDrivenBinder.ParameterBinder<?>>asList(
                 Argument.Binder.INSTANCE,
                 AllArguments.Binder.INSTANCE,
+                ArgumentCarrier.Binder.INSTANCE,
                 Origin.Binder.INSTANCE,
                 This.Binder.INSTANCE,
                 Super.Binder.INSTANCE,
@@ -3,6 +3,7 @@ package net.bytebuddy.implementation.bytecode.constant;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.auxiliary.ConstantHolder;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
 import net.bytebuddy.implementation.bytecode.member.FieldAccess;
@@ -10,6 +11,7 @@ import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +27,16 @@ public abstract class MethodConstant implements StackManipulation {
      */
     private static final String CLASS_TYPE_INTERNAL_NAME = "java/lang/Class";
 
+    /**
+     * A description of the {@link java.lang.reflect.Method} type.
+     */
+    private static final TypeDescription METHOD_TYPE = TypeDescription.ForLoadedType.of(Method.class);
+
+    /**
+     * A description of the {@link java.lang.reflect.Constructor} type.
+     */
+    private static final TypeDescription CONSTRUCTOR_TYPE = TypeDescription.ForLoadedType.of(Constructor.class);
+
     /**
      * A description of the method to be loaded onto the stack.
      */
@@ -122,6 +134,18 @@ public abstract class MethodConstant implements StackManipulation {
         return new Cached(this);
     }
 
+    /**
+     * Returns a lazily cached version of this method constant where the represented method is only looked up when the
+     * constant is loaded for the first time. The looked up value is stored in an auxiliary
+     * {@link net.bytebuddy.implementation.auxiliary.ConstantHolder} instead of a field of the instrumented type such
+     * that the initialization of the instrumented type does not require the method's lookup.
+     *
+     * @return A lazily cached version of this method constant.
+     */
+    public StackManipulation cachedLazily() {
+        return new ConstantHolder.Read(this, methodDescription.isConstructor() ? CONSTRUCTOR_TYPE : METHOD_TYPE);
+    }
+
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
@@ -148,6 +172,11 @@ public abstract class MethodConstant implements StackManipulation {
             return Illegal.INSTANCE;
         }
 
+        @Override
+        public StackManipulation cachedLazily() {
+            return Illegal.INSTANCE;
+        }
+
         @Override
         public boolean isValid() {
             return false;
@@ -179,6 +208,13 @@ public abstract class MethodConstant implements StackManipulation {
          * @return A cached version of the method constant that is represented by this instance.
          */
         StackManipulation cached();
+
+        /**
+         * Returns this method constant as a lazily cached version where the value is only looked up on its first use.
+         *
+         * @return A lazily cached version of the method constant that is represented by this instance.
+         */
+        StackManipulation cachedLazily();
     }
 
     /**
@@ -285,11 +321,6 @@ public abstract class MethodConstant implements StackManipulation {
      */
     protected static class Cached implements StackManipulation {
 
-        /**
-         * A description of the {@link java.lang.reflect.Method} type.
-         */
-        private static final TypeDescription METHOD_TYPE = new TypeDescription.ForLoadedType(Method.class);
-
         /**
          * The stack manipulation that is represented by this caching wrapper.
          */
@@ -699,7 +699,7 @@ public final class ElementMatchers {
      * @return A matcher for byte code elements being declared by the given {@code type}.
      */
     public static <T extends ByteCodeElement> ElementMatcher.Junction<T> isDeclaredBy(Class<?> type) {
-        return isDeclaredBy(new TypeDescription.ForLoadedType(nonNull(type)));
+        return isDeclaredBy(TypeDescription.ForLoadedType.of(nonNull(type)));
     }
 
     /**
@@ -768,7 +768,7 @@ public final class ElementMatchers {
      * @return A matcher for a byte code element to be visible to a given {@code type}.
      */
     public static <T extends ByteCodeElement> ElementMatcher.Junction<T> isVisibleTo(Class<?> type) {
-        return isVisibleTo(new TypeDescription.ForLoadedType(nonNull(type)));
+        return isVisibleTo(TypeDescription.ForLoadedType.of(nonNull(type)));
     }
 
     /**
@@ -803,7 +803,7 @@ public final class ElementMatchers {
      * @return A matcher that validates that an annotated element is annotated with an annotation of {@code type}.
      */
     public static <T extends AnnotatedCodeElement> ElementMatcher.Junction<T> isAnnotatedWith(Class<? extends Annotation> type) {
-        return isAnnotatedWith(new TypeDescription.ForLoadedType(nonNull(type)));
+        return isAnnotatedWith(TypeDescription.ForLoadedType.of(nonNull(type)));
     }
 
     /**
@@ -1157,7 +1157,7 @@ public final class ElementMatchers {
      * @return A matcher that matches a method description by its declaration of throwing a checked exception.
      */
     public static <T extends MethodDescription> ElementMatcher.Junction<T> canThrow(Class<? extends Throwable> exceptionType) {
-        return canThrow(new TypeDescription.ForLoadedType(nonNull(exceptionType)));
+        return canThrow(TypeDescription.ForLoadedType.of(nonNull(exceptionType)));
     }
 
     /**
@@ -1210,7 +1210,7 @@ public final class ElementMatchers {
      * @return A matcher that matches any method that exactly matches the provided exception.
      */
     public static <T extends MethodDescription> ElementMatcher.Junction<T> declaresException(Class<? extends Throwable> exceptionType) {
-        return declaresException(new TypeDescription.ForLoadedType(exceptionType));
+        return declaresException(TypeDescription.ForLoadedType.of(exceptionType));
     }
 
     /**
@@ -1480,7 +1480,7 @@ public final class ElementMatchers {
      * @return A matcher that matches any type description that represents a sub type of the given type.
      */
     public static <T extends TypeDescription> ElementMatcher.Junction<T> isSubTypeOf(Class<?> type) {
-        return isSubTypeOf(new TypeDescription.ForLoadedType(nonNull(type)));
+        return isSubTypeOf(TypeDescription.ForLoadedType.of(nonNull(type)));
     }
 
     /**
@@ -1494,6 +1494,32 @@ public final class ElementMatchers {
         return new SubTypeMatcher<T>(nonNull(typeDescription));
     }
 
+    /**
+     * Matches any type description that is a subtype of the given type where the type hierarchy is resolved from a hierarchy index.
+     *
+     * @param type           The type to be checked being a super type of the matched type.
+     * @param hierarchyIndex The hierarchy index to query which must only be used for types of a single class loader. For an
+     *                       agent, see {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher.ForHierarchyIndex}.
+     * @param <T>            The type of the matched object.
+     * @return A matcher that matches any type description that represents a sub type of the given type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> isSubTypeOf(Class<?> type, HierarchyIndex hierarchyIndex) {
+        return isSubTypeOf(TypeDescription.ForLoadedType.of(nonNull(type)), hierarchyIndex);
+    }
+
+    /**
+     * Matches any type description that is a subtype of the given type where the type hierarchy is resolved from a hierarchy index.
+     *
+     * @param typeDescription The type to be checked being a super type of the matched type.
+     * @param hierarchyIndex  The hierarchy index to query which must only be used for types of a single class loader. For an
+     *                       agent, see {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher.ForHierarchyIndex}.
+     * @param <T>             The type of the matched object.
+     * @return A matcher that matches any type description that represents a sub type of the given type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> isSubTypeOf(TypeDescription typeDescription, HierarchyIndex hierarchyIndex) {
+        return new IndexedSubTypeMatcher<T>(nonNull(typeDescription), nonNull(hierarchyIndex));
+    }
+
     /**
      * Matches any type description that is a super type of the given type.
      *
@@ -1502,7 +1528,7 @@ public final class ElementMatchers {
      * @return A matcher that matches any type description that represents a super type of the given type.
      */
     public static <T extends TypeDescription> ElementMatcher.Junction<T> isSuperTypeOf(Class<?> type) {
-        return isSuperTypeOf(new TypeDescription.ForLoadedType(nonNull(type)));
+        return isSuperTypeOf(TypeDescription.ForLoadedType.of(nonNull(type)));
     }
 
     /**
@@ -1525,7 +1551,7 @@ public final class ElementMatchers {
      * @return A matcher that matches any inherited annotation by their type.
      */
     public static <T extends TypeDescription> ElementMatcher.Junction<T> inheritsAnnotation(Class<?> type) {
-        return inheritsAnnotation(new TypeDescription.ForLoadedType(nonNull(type)));
+        return inheritsAnnotation(TypeDescription.ForLoadedType.of(nonNull(type)));
     }
 
     /**
@@ -1540,6 +1566,34 @@ public final class ElementMatchers {
         return inheritsAnnotation(is(nonNull(typeDescription)));
     }
 
+    /**
+     * Matches any annotations by their type on a type that declared these annotations or inherited them from its
+     * super classes where the type hierarchy is resolved from a hierarchy index.
+     *
+     * @param type           The annotation type to be matched.
+     * @param hierarchyIndex The hierarchy index to query which must only be used for types of a single class loader. For an
+     *                       agent, see {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher.ForHierarchyIndex}.
+     * @param <T>            The type of the matched object.
+     * @return A matcher that matches any inherited annotation by their type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> inheritsAnnotation(Class<?> type, HierarchyIndex hierarchyIndex) {
+        return inheritsAnnotation(TypeDescription.ForLoadedType.of(nonNull(type)), hierarchyIndex);
+    }
+
+    /**
+     * Matches any annotations by their type on a type that declared these annotations or inherited them from its
+     * super classes where the type hierarchy is resolved from a hierarchy index.
+     *
+     * @param typeDescription The annotation type to be matched.
+     * @param hierarchyIndex  The hierarchy index to query which must only be used for types of a single class loader. For an
+     *                       agent, see {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher.ForHierarchyIndex}.
+     * @param <T>             The type of the matched object.
+     * @return A matcher that matches any inherited annotation by their type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> inheritsAnnotation(TypeDescription typeDescription, HierarchyIndex hierarchyIndex) {
+        return new IndexedInheritedAnnotationMatcher<T>(nonNull(typeDescription), nonNull(hierarchyIndex));
+    }
+
     /**
      * Matches any annotations by a given matcher on a type that declared these annotations or inherited them from its
      * super classes.
@@ -1649,7 +1703,7 @@ public final class ElementMatchers {
      * @return A matcher matching the provided field type.
      */
     public static <T extends FieldDescription> ElementMatcher.Junction<T> fieldType(Class<?> fieldType) {
-        return fieldType(new TypeDescription.ForLoadedType(nonNull(fieldType)));
+        return fieldType(TypeDescription.ForLoadedType.of(nonNull(fieldType)));
     }
 
     /**
@@ -0,0 +1,306 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.generic.GenericTypeDescription;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * A hierarchy index records the super types, interfaces and inherited annotations of any type it is queried for and answers
+ * assignability and annotation queries from this record. For this purpose, any type name is mapped to a compact integer id and
+ * the transitive closure of a type's super types and inherited annotation types is stored as a {@link BitSet} of such ids. The
+ * closure of a type is computed from the closures of its direct super type and interfaces such that types sharing ancestors
+ * require each ancestor to be analyzed only once, avoiding repeated lookups of the ancestor's description, for example from a
+ * {@link net.bytebuddy.pool.TypePool}.
+ * </p>
+ * <p>
+ * As types are identified by their names, a hierarchy index must only be used for types of a single class loader namespace. A
+ * {@link PerClassLoader} registry maintains an index for each class loader. Within an agent, the index of the instrumented type's
+ * class loader is queried by {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher.ForHierarchyIndex}. Array types and
+ * primitive types are not indexed but
+ * are evaluated by their type descriptions. A hierarchy index is thread-safe.
+ * </p>
+ */
+public class HierarchyIndex {
+
+    /**
+     * The id of the {@link Object} type which is assigned upon creation of any index.
+     */
+    private static final int OBJECT_ID = 0;
+
+    /**
+     * A mapping of type names to their ids.
+     */
+    private final ConcurrentMap<String, Integer> ids;
+
+    /**
+     * The next id to assign.
+     */
+    private final AtomicInteger nextId;
+
+    /**
+     * A mapping of type names to their recorded entries.
+     */
+    private final ConcurrentMap<String, Entry> entries;
+
+    /**
+     * Creates a new, empty hierarchy index.
+     */
+    public HierarchyIndex() {
+        ids = new ConcurrentHashMap<String, Integer>();
+        nextId = new AtomicInteger();
+        entries = new ConcurrentHashMap<String, Entry>();
+        ids.put(TypeDescription.OBJECT.getName(), nextId.getAndIncrement());
+    }
+
+    /**
+     * Checks if the given type is a sub type of the given super type, i.e. if the type is assignable to the super type.
+     *
+     * @param typeDescription The type to check.
+     * @param superType       The potential super type.
+     * @return {@code true} if the given type is a sub type of the super type.
+     */
+    public boolean isSubTypeOf(TypeDescription typeDescription, TypeDescription superType) {
+        if (typeDescription.isArray() || typeDescription.isPrimitive() || superType.isArray() || superType.isPrimitive()) {
+            return typeDescription.isAssignableTo(superType);
+        }
+        return contains(locate(typeDescription).superTypes, superType.getName());
+    }
+
+    /**
+     * Checks if the given type declares or inherits an annotation of the given annotation type.
+     *
+     * @param typeDescription The type to check.
+     * @param annotationType  The annotation type to look for.
+     * @return {@code true} if the given type declares or inherits an annotation of the given annotation type.
+     */
+    public boolean inheritsAnnotation(TypeDescription typeDescription, TypeDescription annotationType) {
+        if (typeDescription.isArray() || typeDescription.isPrimitive()) {
+            return typeDescription.getInheritedAnnotations().isAnnotationPresent(annotationType);
+        }
+        return contains(locate(typeDescription).annotationTypes, annotationType.getName());
+    }
+
+    /**
+     * Returns the number of types that were recorded by this index.
+     *
+     * @return The number of types that were recorded by this index.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all recorded types from this index.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Checks if the given set of ids contains the id of the given type name. A type name without an id is not contained in any
+     * recorded set such that no id is assigned to a type name that is only queried for.
+     *
+     * @param ids  The set of ids to check.
+     * @param name The name of the type.
+     * @return {@code true} if the given set contains the id of the given type name.
+     */
+    private boolean contains(BitSet ids, String name) {
+        Integer id = this.ids.get(name);
+        return id != null && ids.get(id);
+    }
+
+    /**
+     * Returns the id of the given type name and assigns an id if no id was assigned yet.
+     *
+     * @param name The name of the type.
+     * @return The id of the type.
+     */
+    private int idOf(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            Integer assigned = nextId.getAndIncrement();
+            id = ids.putIfAbsent(name, assigned);
+            if (id == null) {
+                id = assigned;
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Locates the recorded entry of a non-array, non-primitive type or records such an entry if the type was not yet recorded.
+     *
+     * @param typeDescription The type to locate.
+     * @return The entry for the given type.
+     */
+    private Entry locate(TypeDescription typeDescription) {
+        Entry entry = entries.get(typeDescription.getName());
+        if (entry == null) {
+            entry = record(typeDescription);
+            Entry previous = entries.putIfAbsent(typeDescription.getName(), entry);
+            if (previous != null) {
+                entry = previous;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Computes the entry of a non-array, non-primitive type from the entries of its direct super type and interfaces.
+     *
+     * @param typeDescription The type to record.
+     * @return An entry for the given type.
+     */
+    private Entry record(TypeDescription typeDescription) {
+        BitSet superTypes = new BitSet(), annotationTypes = new BitSet(), inheritableTypes = new BitSet();
+        superTypes.set(idOf(typeDescription.getName()));
+        superTypes.set(OBJECT_ID);
+        GenericTypeDescription superType = typeDescription.getSuperType();
+        if (superType != null) {
+            Entry superEntry = locate(superType.asErasure());
+            superTypes.or(superEntry.superTypes);
+            annotationTypes.or(superEntry.inheritableTypes);
+            inheritableTypes.or(superEntry.inheritableTypes);
+        }
+        for (TypeDescription interfaceType : typeDescription.getInterfaces().asErasures()) {
+            superTypes.or(locate(interfaceType).superTypes);
+        }
+        for (AnnotationDescription annotationDescription : typeDescription.getDeclaredAnnotations()) {
+            int id = idOf(annotationDescription.getAnnotationType().getName());
+            annotationTypes.set(id);
+            if (annotationDescription.isInherited()) {
+                inheritableTypes.set(id);
+            }
+        }
+        return new Entry(superTypes, annotationTypes, inheritableTypes);
+    }
+
+    @Override
+    public String toString() {
+        return "HierarchyIndex{" +
+                "ids=" + ids +
+                ", nextId=" + nextId +
+                ", entries=" + entries +
+                '}';
+    }
+
+    /**
+     * A recorded entry of a type. An entry is never altered after its creation.
+     */
+    protected static class Entry {
+
+        /**
+         * The ids of all super types and interfaces of the type, including the type itself.
+         */
+        private final BitSet superTypes;
+
+        /**
+         * The ids of all annotation types that the type declares or inherits.
+         */
+        private final BitSet annotationTypes;
+
+        /**
+         * The ids of all annotation types that sub classes of the type inherit.
+         */
+        private final BitSet inheritableTypes;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param superTypes       The ids of all super types and interfaces of the type, including the type itself.
+         * @param annotationTypes  The ids of all annotation types that the type declares or inherits.
+         * @param inheritableTypes The ids of all annotation types that sub classes of the type inherit.
+         */
+        protected Entry(BitSet superTypes, BitSet annotationTypes, BitSet inheritableTypes) {
+            this.superTypes = superTypes;
+            this.annotationTypes = annotationTypes;
+            this.inheritableTypes = inheritableTypes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            Entry entry = (Entry) other;
+            return superTypes.equals(entry.superTypes)
+                    && annotationTypes.equals(entry.annotationTypes)
+                    && inheritableTypes.equals(entry.inheritableTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = superTypes.hashCode();
+            result = 31 * result + annotationTypes.hashCode();
+            result = 31 * result + inheritableTypes.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "HierarchyIndex.Entry{" +
+                    "superTypes=" + superTypes +
+                    ", annotationTypes=" + annotationTypes +
+                    ", inheritableTypes=" + inheritableTypes +
+                    '}';
+        }
+    }
+
+    /**
+     * A registry of hierarchy indices where each class loader is assigned its own index. Class loaders are referenced weakly such
+     * that an index is discarded together with its class loader.
+     */
+    public static class PerClassLoader {
+
+        /**
+         * A mapping of class loaders to their indices where the bootstrap class loader is represented by {@code null}.
+         */
+        private final Map<ClassLoader, HierarchyIndex> indices;
+
+        /**
+         * Creates a new, empty registry.
+         */
+        public PerClassLoader() {
+            indices = Collections.synchronizedMap(new WeakHashMap<ClassLoader, HierarchyIndex>());
+        }
+
+        /**
+         * Returns the hierarchy index of the given class loader and creates an index if no such index exists.
+         *
+         * @param classLoader The class loader for which to locate an index or {@code null} for the bootstrap class loader.
+         * @return The hierarchy index of the given class loader.
+         */
+        public HierarchyIndex locate(ClassLoader classLoader) {
+            synchronized (indices) {
+                HierarchyIndex hierarchyIndex = indices.get(classLoader);
+                if (hierarchyIndex == null) {
+                    hierarchyIndex = new HierarchyIndex();
+                    indices.put(classLoader, hierarchyIndex);
+                }
+                return hierarchyIndex;
+            }
+        }
+
+        /**
+         * Removes all indices from this registry.
+         */
+        public void clear() {
+            indices.clear();
+        }
+
+        @Override
+        public String toString() {
+            return "HierarchyIndex.PerClassLoader{" +
+                    "indices=" + indices +
+                    '}';
+        }
+    }
+}
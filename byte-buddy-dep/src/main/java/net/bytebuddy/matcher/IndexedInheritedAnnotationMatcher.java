@@ -0,0 +1,55 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+/**
+ * An element matcher that matches a type for declaring or inheriting an annotation of a given type by querying a
+ * {@link HierarchyIndex}.
+ *
+ * @param <T> The type of the matched entity.
+ */
+public class IndexedInheritedAnnotationMatcher<T extends TypeDescription> extends ElementMatcher.Junction.AbstractBase<T> {
+
+    /**
+     * The annotation type to be matched.
+     */
+    private final TypeDescription annotationType;
+
+    /**
+     * The hierarchy index to query.
+     */
+    private final HierarchyIndex hierarchyIndex;
+
+    /**
+     * Creates a new matcher for matching its input for declaring or inheriting an annotation of the given type.
+     *
+     * @param annotationType The annotation type to be matched.
+     * @param hierarchyIndex The hierarchy index to query.
+     */
+    public IndexedInheritedAnnotationMatcher(TypeDescription annotationType, HierarchyIndex hierarchyIndex) {
+        this.annotationType = annotationType;
+        this.hierarchyIndex = hierarchyIndex;
+    }
+
+    @Override
+    public boolean matches(T target) {
+        return hierarchyIndex.inheritsAnnotation(target, annotationType);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && annotationType.equals(((IndexedInheritedAnnotationMatcher) other).annotationType)
+                && hierarchyIndex.equals(((IndexedInheritedAnnotationMatcher) other).hierarchyIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return annotationType.hashCode() + 31 * hierarchyIndex.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "inheritsAnnotation(" + annotationType + ')';
+    }
+}
@@ -0,0 +1,54 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+/**
+ * An element matcher that matches its argument for being another type's subtype by querying a {@link HierarchyIndex}.
+ *
+ * @param <T> The type of the matched entity.
+ */
+public class IndexedSubTypeMatcher<T extends TypeDescription> extends ElementMatcher.Junction.AbstractBase<T> {
+
+    /**
+     * The type to be matched being a super type of the matched type.
+     */
+    private final TypeDescription typeDescription;
+
+    /**
+     * The hierarchy index to query.
+     */
+    private final HierarchyIndex hierarchyIndex;
+
+    /**
+     * Creates a new matcher for matching its input for being a sub type of the given {@code typeDescription}.
+     *
+     * @param typeDescription The type to be matched being a super type of the matched type.
+     * @param hierarchyIndex  The hierarchy index to query.
+     */
+    public IndexedSubTypeMatcher(TypeDescription typeDescription, HierarchyIndex hierarchyIndex) {
+        this.typeDescription = typeDescription;
+        this.hierarchyIndex = hierarchyIndex;
+    }
+
+    @Override
+    public boolean matches(T target) {
+        return hierarchyIndex.isSubTypeOf(target, typeDescription);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && typeDescription.equals(((IndexedSubTypeMatcher) other).typeDescription)
+                && hierarchyIndex.equals(((IndexedSubTypeMatcher) other).hierarchyIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return typeDescription.hashCode() + 31 * hierarchyIndex.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "isSubTypeOf(" + typeDescription + ')';
+    }
+}
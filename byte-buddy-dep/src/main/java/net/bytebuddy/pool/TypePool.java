@@ -25,12 +25,16 @@ import org.objectweb.asm.signature.SignatureVisitor;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericSignatureFormatError;
 import java.lang.reflect.Proxy;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -277,11 +281,78 @@ public interface TypePool {
                 return "TypePool.CacheProvider.Simple{cache=" + cache + '}';
             }
         }
+
+        /**
+         * A thread-safe type cache that references its resolutions softly such that cached type descriptions can be
+         * reclaimed by the garbage collector when memory runs short. A reclaimed resolution is treated as a cache-miss.
+         */
+        class Soft implements CacheProvider {
+
+            /**
+             * A map containing soft references to all cached resolutions by their names.
+             */
+            private final ConcurrentMap<String, SoftReference<Resolution>> cache;
+
+            /**
+             * Creates a new soft cache.
+             */
+            public Soft() {
+                cache = new ConcurrentHashMap<String, SoftReference<Resolution>>();
+            }
+
+            @Override
+            public Resolution find(String name) {
+                SoftReference<Resolution> reference = cache.get(name);
+                if (reference == null) {
+                    return UNRESOLVED;
+                }
+                Resolution resolution = reference.get();
+                if (resolution == null) {
+                    cache.remove(name, reference);
+                }
+                return resolution;
+            }
+
+            @Override
+            public Resolution register(String name, Resolution resolution) {
+                SoftReference<Resolution> reference = new SoftReference<Resolution>(resolution);
+                while (true) {
+                    SoftReference<Resolution> previous = cache.putIfAbsent(name, reference);
+                    if (previous == null) {
+                        return resolution;
+                    }
+                    Resolution cached = previous.get();
+                    if (cached != null) {
+                        return cached;
+                    } else if (cache.replace(name, previous, reference)) {
+                        return resolution;
+                    }
+                }
+            }
+
+            @Override
+            public void clear() {
+                cache.clear();
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.CacheProvider.Soft{cache=" + cache + '}';
+            }
+        }
     }
 
     /**
+     * <p>
      * A base implementation of a {@link net.bytebuddy.pool.TypePool} that is managing a cache provider and
      * that handles the description of array and primitive types.
+     * </p>
+     * <p>
+     * Concurrent requests for a type that is not cached are coalesced such that only a single thread describes the type
+     * while any other thread awaits this description. For verifying this coalescence, the number of requests that awaited
+     * another thread's description and the number of descriptions that were discarded in favor of a previously cached
+     * description are exposed.
+     * </p>
      */
     abstract class AbstractBase implements TypePool {
 
@@ -327,6 +398,21 @@ public interface TypePool {
          */
         protected final CacheProvider cacheProvider;
 
+        /**
+         * A map of types that are currently described by any thread by their names.
+         */
+        private final ConcurrentMap<String, InFlightDescription> inFlightDescriptions;
+
+        /**
+         * The number of requests that awaited the description of a type by another thread.
+         */
+        private final AtomicLong coalescedDescriptions;
+
+        /**
+         * The number of descriptions that were discarded as another description of the same type was cached before.
+         */
+        private final AtomicLong duplicateDescriptions;
+
         /**
          * Creates a new instance.
          *
@@ -334,6 +420,9 @@ public interface TypePool {
          */
         protected AbstractBase(CacheProvider cacheProvider) {
             this.cacheProvider = cacheProvider;
+            inFlightDescriptions = new ConcurrentHashMap<String, InFlightDescription>();
+            coalescedDescriptions = new AtomicLong();
+            duplicateDescriptions = new AtomicLong();
         }
 
         @Override
@@ -355,11 +444,91 @@ public interface TypePool {
                     ? cacheProvider.find(name)
                     : new Resolution.Simple(typeDescription);
             if (resolution == null) {
-                resolution = cacheProvider.register(name, doDescribe(name));
+                resolution = isCoalescing()
+                        ? describeCoalesced(name)
+                        : register(name, doDescribe(name));
             }
             return ArrayTypeResolution.of(resolution, arity);
         }
 
+        /**
+         * Determines if concurrent descriptions of the same type are coalesced such that only one thread describes the type while
+         * other threads await this description. Coalescing is only meaningful if the resolution is cached such that it is not
+         * applied if this pool does not cache any resolution. A subclass must not coalesce descriptions if describing a type
+         * might require a lock that is held by another thread that describes the same type, for example a class loading lock.
+         *
+         * @return {@code true} if concurrent descriptions of the same type are coalesced.
+         */
+        protected boolean isCoalescing() {
+            return cacheProvider != CacheProvider.NoOp.INSTANCE;
+        }
+
+        /**
+         * Describes a non-primitive, non-array type that was not found in the cache. If another thread is currently describing
+         * the same type, its description is awaited instead. If the current thread is already describing the type, the type is
+         * described again in order to avoid a dead lock. A thread that misses the cache only after another thread completed
+         * its description describes the type again where the cache provider decides on the registered resolution.
+         *
+         * @param name The name of the type to describe.
+         * @return A resolution to the type to describe.
+         */
+        private Resolution describeCoalesced(String name) {
+            InFlightDescription inFlightDescription = new InFlightDescription(), previous = inFlightDescriptions.putIfAbsent(name, inFlightDescription);
+            if (previous != null) {
+                if (previous.isDescribedByCurrentThread()) {
+                    return register(name, doDescribe(name));
+                }
+                coalescedDescriptions.incrementAndGet();
+                return previous.await(name);
+            }
+            try {
+                Resolution resolution = register(name, doDescribe(name));
+                inFlightDescription.complete(resolution);
+                return resolution;
+            } catch (RuntimeException exception) {
+                inFlightDescription.fail(exception);
+                throw exception;
+            } catch (Error error) {
+                inFlightDescription.fail(error);
+                throw error;
+            } finally {
+                inFlightDescriptions.remove(name, inFlightDescription);
+            }
+        }
+
+        /**
+         * Registers a resolution with this pool's cache provider.
+         *
+         * @param name       The name of the described type.
+         * @param resolution The resolution to register.
+         * @return The resolution that is registered by the cache provider.
+         */
+        private Resolution register(String name, Resolution resolution) {
+            Resolution registered = cacheProvider.register(name, resolution);
+            if (registered != resolution) {
+                duplicateDescriptions.incrementAndGet();
+            }
+            return registered;
+        }
+
+        /**
+         * Returns the number of requests that awaited the description of a type by another thread instead of describing the type.
+         *
+         * @return The number of coalesced descriptions.
+         */
+        public long getCoalescedDescriptionCount() {
+            return coalescedDescriptions.get();
+        }
+
+        /**
+         * Returns the number of descriptions that were discarded as another description of the same type was cached before.
+         *
+         * @return The number of duplicate descriptions.
+         */
+        public long getDuplicateDescriptionCount() {
+            return duplicateDescriptions.get();
+        }
+
         @Override
         public void clear() {
             cacheProvider.clear();
@@ -384,6 +553,98 @@ public interface TypePool {
             return cacheProvider.hashCode();
         }
 
+        /**
+         * A description of a type that is currently in progress. Threads that request the same type await the completion
+         * of this description.
+         */
+        protected static class InFlightDescription {
+
+            /**
+             * The thread that describes the type.
+             */
+            private final Thread thread;
+
+            /**
+             * A latch that is released once the description is complete.
+             */
+            private final CountDownLatch latch;
+
+            /**
+             * The resolution of the described type or {@code null} if the description is not complete or failed.
+             */
+            private volatile Resolution resolution;
+
+            /**
+             * The throwable that was thrown when describing the type or {@code null} if no throwable was thrown.
+             */
+            private volatile Throwable throwable;
+
+            /**
+             * Creates a new description in progress by the current thread.
+             */
+            protected InFlightDescription() {
+                thread = Thread.currentThread();
+                latch = new CountDownLatch(1);
+            }
+
+            /**
+             * Checks if the type is described by the current thread.
+             *
+             * @return {@code true} if the type is described by the current thread.
+             */
+            protected boolean isDescribedByCurrentThread() {
+                return thread == Thread.currentThread();
+            }
+
+            /**
+             * Completes this description.
+             *
+             * @param resolution The resolution of the described type.
+             */
+            protected void complete(Resolution resolution) {
+                this.resolution = resolution;
+                latch.countDown();
+            }
+
+            /**
+             * Completes this description exceptionally.
+             *
+             * @param throwable The throwable that was thrown when describing the type.
+             */
+            protected void fail(Throwable throwable) {
+                this.throwable = throwable;
+                latch.countDown();
+            }
+
+            /**
+             * Awaits the completion of this description.
+             *
+             * @param name The name of the described type.
+             * @return The resolution of the described type.
+             */
+            protected Resolution await(String name) {
+                try {
+                    latch.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while awaiting the description of " + name, exception);
+                }
+                if (throwable != null) {
+                    throw new IllegalStateException("Could not describe " + name, throwable);
+                }
+                return resolution;
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.AbstractBase.InFlightDescription{" +
+                        "thread=" + thread +
+                        ", resolution=" + resolution +
+                        ", throwable=" + throwable +
+                        '}';
+            }
+        }
+
         /**
          * A resolution for a type that, if resolved, represents an array type.
          */
@@ -497,11 +758,7 @@ public interface TypePool {
                         .substring(1, annotationToken.getDescriptor().length() - 1)
                         .replace('/', '.'));
                 if (type.isAnnotation()) {
-                    return new ForAnnotation.Loaded<Annotation>((Annotation) Proxy.newProxyInstance(classLoader,
-                            new Class<?>[]{type},
-                            AnnotationDescription.AnnotationInvocationHandler.of(classLoader,
-                                    (Class<? extends Annotation>) type,
-                                    annotationToken.getValues())));
+                    return new ForAnnotation.Loaded<Annotation>(annotationToken.load(classLoader, (Class<? extends Annotation>) type));
                 } else {
                     return new ForAnnotation.IncompatibleRuntimeType(type);
                 }
@@ -944,6 +1201,11 @@ public interface TypePool {
          */
         protected final ReaderMode readerMode;
 
+        /**
+         * A table of names and descriptors that are shared by all type descriptions of this type pool.
+         */
+        protected final StringTable stringTable;
+
         /**
          * Creates a new default type pool.
          *
@@ -955,6 +1217,7 @@ public interface TypePool {
             super(cacheProvider);
             this.classFileLocator = classFileLocator;
             this.readerMode = readerMode;
+            stringTable = new StringTable();
         }
 
         /**
@@ -1003,6 +1266,12 @@ public interface TypePool {
             return typeExtractor.toTypeDescription();
         }
 
+        @Override
+        public void clear() {
+            super.clear();
+            stringTable.clear();
+        }
+
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
@@ -1022,9 +1291,106 @@ public interface TypePool {
                     "classFileLocator=" + classFileLocator +
                     ", cacheProvider=" + cacheProvider +
                     ", readerMode=" + readerMode +
+                    ", stringTable=" + stringTable +
                     '}';
         }
 
+        /**
+         * <p>
+         * A table of strings that are shared by all type descriptions of a type pool. The class files of a class path repeat
+         * the same names and descriptors, such as {@code Ljava/lang/String;} or {@code <init>}, many times. By retaining only
+         * a single instance of each such string, the retained size of a type pool is reduced significantly.
+         * </p>
+         * <p>
+         * Other than {@link String#intern()}, the strings of this table are only referenced weakly such that a string is
+         * retained only as long as any type description that was created by the type pool references it. This way, the table
+         * never outlives the type descriptions whose strings it shares, independently of the type pool's cache provider. In
+         * order to reduce contention between threads that parse class files concurrently, the table is split into segments
+         * that are locked independently.
+         * </p>
+         */
+        protected static class StringTable {
+
+            /**
+             * The number of segments of a string table which must be a power of two.
+             */
+            private static final int SEGMENTS = 16;
+
+            /**
+             * The segments of this table, each containing a map of strings to a weak reference of their shared instance.
+             */
+            private final Map<String, WeakReference<String>>[] segments;
+
+            /**
+             * Creates a new, empty string table.
+             */
+            @SuppressWarnings("unchecked")
+            protected StringTable() {
+                segments = new Map[SEGMENTS];
+                for (int index = 0; index < SEGMENTS; index++) {
+                    segments[index] = new WeakHashMap<String, WeakReference<String>>();
+                }
+            }
+
+            /**
+             * Returns the shared instance of the given string.
+             *
+             * @param value The string to intern or {@code null}.
+             * @return The shared instance of the given string or {@code null} if the given value is {@code null}.
+             */
+            protected String intern(String value) {
+                if (value == null) {
+                    return null;
+                }
+                int hashCode = value.hashCode();
+                Map<String, WeakReference<String>> segment = segments[(hashCode ^ (hashCode >>> 16)) & (SEGMENTS - 1)];
+                synchronized (segment) {
+                    WeakReference<String> reference = segment.get(value);
+                    String interned = reference == null
+                            ? null
+                            : reference.get();
+                    if (interned == null) {
+                        segment.put(value, new WeakReference<String>(value));
+                        interned = value;
+                    }
+                    return interned;
+                }
+            }
+
+            /**
+             * Returns the number of strings of this table that are still referenced.
+             *
+             * @return The number of strings of this table.
+             */
+            protected int size() {
+                int size = 0;
+                for (Map<String, WeakReference<String>> segment : segments) {
+                    synchronized (segment) {
+                        size += segment.size();
+                    }
+                }
+                return size;
+            }
+
+            /**
+             * Removes all strings from this table.
+             */
+            protected void clear() {
+                for (Map<String, WeakReference<String>> segment : segments) {
+                    synchronized (segment) {
+                        segment.clear();
+                    }
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.Default.StringTable{" +
+                        "size=" + size() +
+                        '}';
+            }
+        }
+
         /**
          * An annotation registrant implements a visitor pattern for reading an unknown amount of values of annotations.
          */
@@ -1453,6 +1819,19 @@ public interface TypePool {
                 this.genericTypeRegistrant = genericTypeRegistrant;
             }
 
+            /**
+             * Copies a list of collected generic type tokens into a list of fixed size. Tokens are retained by a type pool
+             * for as long as a type description is cached such that the spare capacity of a growing list is avoided.
+             *
+             * @param genericTypeTokens The collected generic type tokens.
+             * @return A list of fixed size that contains the supplied tokens.
+             */
+            protected static List<LazyTypeDescription.GenericTypeToken> compact(List<LazyTypeDescription.GenericTypeToken> genericTypeTokens) {
+                return genericTypeTokens.isEmpty()
+                        ? Collections.<LazyTypeDescription.GenericTypeToken>emptyList()
+                        : Arrays.asList(genericTypeTokens.toArray(new LazyTypeDescription.GenericTypeToken[genericTypeTokens.size()]));
+            }
+
             @Override
             public void visitBaseType(char descriptor) {
                 genericTypeRegistrant.register(LazyTypeDescription.GenericTypeToken.ForPrimitiveType.of(descriptor));
@@ -1675,7 +2054,7 @@ public interface TypePool {
                     @Override
                     public LazyTypeDescription.GenericTypeToken toToken() {
                         return isParameterized()
-                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType(getName(), parameters)
+                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType(getName(), compact(parameters))
                                 : new LazyTypeDescription.GenericTypeToken.ForRawType(getName());
                     }
 
@@ -1742,7 +2121,7 @@ public interface TypePool {
                     @Override
                     public LazyTypeDescription.GenericTypeToken toToken() {
                         return isParameterized() || outerTypeToken.isParameterized()
-                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType.Nested(getName(), parameters, outerTypeToken.toToken())
+                                ? new LazyTypeDescription.GenericTypeToken.ForParameterizedType.Nested(getName(), compact(parameters), outerTypeToken.toToken())
                                 : new LazyTypeDescription.GenericTypeToken.ForRawType(getName());
                     }
 
@@ -1853,7 +2232,7 @@ public interface TypePool {
                  */
                 protected void collectTypeParameter() {
                     if (currentTypeParameter != null) {
-                        typeVariableTokens.add(new LazyTypeDescription.GenericTypeToken.ForTypeVariable.Formal(currentTypeParameter, currentBounds));
+                        typeVariableTokens.add(new LazyTypeDescription.GenericTypeToken.ForTypeVariable.Formal(currentTypeParameter, compact(currentBounds)));
                     }
                 }
 
@@ -1915,7 +2294,7 @@ public interface TypePool {
 
                     @Override
                     public LazyTypeDescription.GenericTypeToken.Resolution.ForType resolve() {
-                        return new LazyTypeDescription.GenericTypeToken.Resolution.ForType.Tokenized(superTypeToken, interfaceTypeTokens, typeVariableTokens);
+                        return new LazyTypeDescription.GenericTypeToken.Resolution.ForType.Tokenized(superTypeToken, compact(interfaceTypeTokens), compact(typeVariableTokens));
                     }
 
                     @Override
@@ -2067,9 +2446,9 @@ public interface TypePool {
                     @Override
                     public LazyTypeDescription.GenericTypeToken.Resolution.ForMethod resolve() {
                         return new LazyTypeDescription.GenericTypeToken.Resolution.ForMethod.Tokenized(returnTypeToken,
-                                parameterTypeTokens,
-                                exceptionTypeTokens,
-                                typeVariableTokens);
+                                compact(parameterTypeTokens),
+                                compact(exceptionTypeTokens),
+                                compact(typeVariableTokens));
                     }
 
                     @Override
@@ -2391,6 +2770,7 @@ public interface TypePool {
              */
             protected TypeDescription toTypeDescription() {
                 return new LazyTypeDescription(Default.this,
+                        stringTable,
                         modifiers,
                         internalName,
                         superTypeName,
@@ -2453,7 +2833,7 @@ public interface TypePool {
 
                 @Override
                 public void onComplete() {
-                    annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                    annotationTokens.add(new LazyTypeDescription.AnnotationToken(stringTable.intern(descriptor), values));
                 }
 
                 @Override
@@ -2701,9 +3081,9 @@ public interface TypePool {
 
                 @Override
                 public void visitEnd() {
-                    fieldTokens.add(new LazyTypeDescription.FieldToken(internalName,
+                    fieldTokens.add(new LazyTypeDescription.FieldToken(stringTable.intern(internalName),
                             modifiers,
-                            descriptor,
+                            stringTable.intern(descriptor),
                             GenericTypeExtractor.ForSignature.OfField.extract(genericSignature),
                             annotationTokens));
                 }
@@ -2752,7 +3132,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(stringTable.intern(descriptor), values));
                     }
 
                     @Override
@@ -2910,9 +3290,9 @@ public interface TypePool {
 
                 @Override
                 public void visitEnd() {
-                    methodTokens.add(new LazyTypeDescription.MethodToken(internalName,
+                    methodTokens.add(new LazyTypeDescription.MethodToken(stringTable.intern(internalName),
                             modifiers,
-                            descriptor,
+                            stringTable.intern(descriptor),
                             GenericTypeExtractor.ForSignature.OfMethod.extract(genericSignature),
                             exceptionName,
                             annotationTokens,
@@ -2973,7 +3353,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(stringTable.intern(descriptor), values));
                     }
 
                     @Override
@@ -3025,7 +3405,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        parameterAnnotationTokens.get(index).add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                        parameterAnnotationTokens.get(index).add(new LazyTypeDescription.AnnotationToken(stringTable.intern(descriptor), values));
                     }
 
                     @Override
@@ -3141,6 +3521,11 @@ public interface TypePool {
                 return new ClassLoading(new CacheProvider.Simple(), classFileLocator, classLoader);
             }
 
+            @Override
+            protected boolean isCoalescing() {
+                return false;
+            }
+
             @Override
             public Resolution doDescribe(String name) {
                 Resolution resolution = super.doDescribe(name);
@@ -3148,7 +3533,7 @@ public interface TypePool {
                     return resolution;
                 }
                 try {
-                    return new Resolution.Simple(new TypeDescription.ForLoadedType(Class.forName(name, false, classLoader)));
+                    return new Resolution.Simple(TypeDescription.ForLoadedType.of(Class.forName(name, false, classLoader)));
                 } catch (ClassNotFoundException ignored) {
                     return new Resolution.Illegal(name);
                 }
@@ -3496,6 +3881,11 @@ public interface TypePool {
          */
         private static final String NO_SUPER_TYPE = null;
 
+        /**
+         * Represents an empty array of type descriptors, for example for a method without parameters.
+         */
+        private static final String[] NO_TYPE_DESCRIPTORS = new String[0];
+
         /**
          * The type pool to be used for looking up linked types.
          */
@@ -3560,6 +3950,7 @@ public interface TypePool {
          * Creates a new lazy type description.
          *
          * @param typePool              The type pool to be used for looking up linked types.
+         * @param stringTable           The string table of the type pool that is used for sharing names and descriptors.
          * @param modifiers             The modifiers of this type.
          * @param name                  The binary name of this type.
          * @param superTypeInternalName The internal name of this type's super type or {@code null} if no such super type is defined.
@@ -3573,6 +3964,7 @@ public interface TypePool {
          * @param methodTokens          A list of method tokens describing the method's of this type.
          */
         protected LazyTypeDescription(TypePool typePool,
+                                      Default.StringTable stringTable,
                                       int modifiers,
                                       String name,
                                       String superTypeInternalName,
@@ -3589,31 +3981,51 @@ public interface TypePool {
             this.name = Type.getObjectType(name).getClassName();
             this.superTypeDescriptor = superTypeInternalName == null
                     ? NO_SUPER_TYPE
-                    : Type.getObjectType(superTypeInternalName).getDescriptor();
+                    : stringTable.intern(Type.getObjectType(superTypeInternalName).getDescriptor());
             this.signatureResolution = signatureResolution;
-            if (interfaceInternalName == null) {
-                interfaceTypeDescriptors = Collections.<String>emptyList();
+            if (interfaceInternalName == null || interfaceInternalName.length == 0) {
+                interfaceTypeDescriptors = Collections.emptyList();
             } else {
-                interfaceTypeDescriptors = new ArrayList<String>(interfaceInternalName.length);
-                for (String internalName : interfaceInternalName) {
-                    interfaceTypeDescriptors.add(Type.getObjectType(internalName).getDescriptor());
+                String[] interfaceTypeDescriptor = new String[interfaceInternalName.length];
+                for (int index = 0; index < interfaceInternalName.length; index++) {
+                    interfaceTypeDescriptor[index] = stringTable.intern(Type.getObjectType(interfaceInternalName[index]).getDescriptor());
                 }
+                interfaceTypeDescriptors = Arrays.asList(interfaceTypeDescriptor);
             }
             this.declarationContext = declarationContext;
-            this.declaredTypes = declaredTypes;
+            this.declaredTypes = declaredTypes.isEmpty()
+                    ? Collections.<String>emptyList()
+                    : Arrays.asList(declaredTypes.toArray(new String[declaredTypes.size()]));
             this.anonymousType = anonymousType;
-            declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-            for (AnnotationToken annotationToken : annotationTokens) {
-                declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-            }
+            declaredAnnotations = toAnnotationDescriptions(typePool, annotationTokens);
             declaredFields = new ArrayList<FieldDescription.InDefinedShape>(fieldTokens.size());
             for (FieldToken fieldToken : fieldTokens) {
                 declaredFields.add(fieldToken.toFieldDescription(this));
             }
             declaredMethods = new ArrayList<MethodDescription.InDefinedShape>(methodTokens.size());
             for (MethodToken methodToken : methodTokens) {
-                declaredMethods.add(methodToken.toMethodDescription(this));
+                declaredMethods.add(methodToken.toMethodDescription(this, stringTable));
+            }
+        }
+
+        /**
+         * Transforms a list of annotation tokens into a list of annotation descriptions. If no tokens are provided,
+         * a shared empty list is returned as most types and members do not declare any annotations.
+         *
+         * @param typePool         The type pool to be used for looking up linked types.
+         * @param annotationTokens The annotation tokens to transform.
+         * @return A list of annotation descriptions that represent the supplied tokens.
+         */
+        private static List<AnnotationDescription> toAnnotationDescriptions(TypePool typePool, List<AnnotationToken> annotationTokens) {
+            if (annotationTokens.isEmpty()) {
+                return Collections.emptyList();
             }
+            AnnotationDescription[] annotationDescription = new AnnotationDescription[annotationTokens.size()];
+            int index = 0;
+            for (AnnotationToken annotationToken : annotationTokens) {
+                annotationDescription[index++] = annotationToken.toAnnotationDescription(typePool);
+            }
+            return Arrays.asList(annotationDescription);
         }
 
         @Override
@@ -4023,7 +4435,7 @@ public interface TypePool {
                  * @param type The loaded type representing this primitive.
                  */
                 ForPrimitiveType(Class<?> type) {
-                    typeDescription = new TypeDescription.ForLoadedType(type);
+                    typeDescription = TypeDescription.ForLoadedType.of(type);
                 }
 
                 /**
@@ -5093,6 +5505,11 @@ public interface TypePool {
              */
             private final Map<String, AnnotationDescription.AnnotationValue<?, ?>> values;
 
+            /**
+             * A cache for the most recently loaded instance of the represented annotation.
+             */
+            private final AnnotationDescription.InstanceCache instanceCache;
+
             /**
              * Creates a new annotation token.
              *
@@ -5102,6 +5519,7 @@ public interface TypePool {
             protected AnnotationToken(String descriptor, Map<String, AnnotationDescription.AnnotationValue<?, ?>> values) {
                 this.descriptor = descriptor;
                 this.values = values;
+                instanceCache = new AnnotationDescription.InstanceCache();
             }
 
             /**
@@ -5122,6 +5540,27 @@ public interface TypePool {
                 return values;
             }
 
+            /**
+             * Loads the represented annotation. If this annotation was loaded for the given class loader before, the previously loaded
+             * instance is reused.
+             *
+             * @param classLoader    The class loader to load the annotation with.
+             * @param annotationType The loaded annotation type.
+             * @param <S>            The annotation type.
+             * @return A loaded instance of the represented annotation.
+             * @throws ClassNotFoundException If a type that is referenced by an annotation value cannot be loaded.
+             */
+            @SuppressWarnings("unchecked")
+            protected <S extends Annotation> S load(ClassLoader classLoader, Class<S> annotationType) throws ClassNotFoundException {
+                S annotation = instanceCache.find(annotationType, classLoader);
+                if (annotation == null) {
+                    annotation = instanceCache.register((S) Proxy.newProxyInstance(classLoader,
+                            new Class<?>[]{annotationType},
+                            AnnotationDescription.AnnotationInvocationHandler.of(classLoader, annotationType, values)));
+                }
+                return annotation;
+            }
+
             /**
              * Transforms this token into an annotation description.
              *
@@ -5129,7 +5568,7 @@ public interface TypePool {
              * @return An annotation description that resembles this token.
              */
             private AnnotationDescription toAnnotationDescription(TypePool typePool) {
-                return new LazyAnnotationDescription(typePool, descriptor, values);
+                return new LazyAnnotationDescription(typePool, this);
             }
 
             @Override
@@ -5153,6 +5592,7 @@ public interface TypePool {
                 return "TypePool.LazyTypeDescription.AnnotationToken{" +
                         "descriptor='" + descriptor + '\'' +
                         ", values=" + values +
+                        ", instanceCache=" + instanceCache +
                         '}';
             }
         }
@@ -5472,10 +5912,12 @@ public interface TypePool {
              * Transforms this method token to a method description that is attached to a lazy type description.
              *
              * @param lazyTypeDescription The lazy type description to attach this method description to.
+             * @param stringTable         The string table that is used for sharing descriptors and parameter names.
              * @return A method description representing this field token.
              */
-            private MethodDescription.InDefinedShape toMethodDescription(LazyTypeDescription lazyTypeDescription) {
-                return lazyTypeDescription.new LazyMethodDescription(getName(),
+            private MethodDescription.InDefinedShape toMethodDescription(LazyTypeDescription lazyTypeDescription, Default.StringTable stringTable) {
+                return lazyTypeDescription.new LazyMethodDescription(stringTable,
+                        getName(),
                         getModifiers(),
                         getDescriptor(),
                         getSignatureResolution(),
@@ -5647,19 +6089,22 @@ public interface TypePool {
              */
             private final String descriptor;
 
+            /**
+             * The token that represents this annotation.
+             */
+            protected final AnnotationToken annotationToken;
+
             /**
              * Creates a new lazy annotation description.
              *
-             * @param typePool   The type pool to be used for looking up linked types.
-             * @param descriptor The descriptor of the annotation type.
-             * @param values     A map of annotation value names to their value representations.
+             * @param typePool        The type pool to be used for looking up linked types.
+             * @param annotationToken The token that represents this annotation.
              */
-            private LazyAnnotationDescription(TypePool typePool,
-                                              String descriptor,
-                                              Map<String, AnnotationValue<?, ?>> values) {
+            private LazyAnnotationDescription(TypePool typePool, AnnotationToken annotationToken) {
                 this.typePool = typePool;
-                this.descriptor = descriptor;
-                this.values = values;
+                this.annotationToken = annotationToken;
+                descriptor = annotationToken.getDescriptor();
+                values = annotationToken.getValues();
             }
 
             @Override
@@ -5684,7 +6129,7 @@ public interface TypePool {
 
             @Override
             public <T extends Annotation> Loadable<T> prepare(Class<T> annotationType) {
-                return new Loadable<T>(typePool, descriptor, values, annotationType);
+                return new Loadable<T>(typePool, annotationToken, annotationType);
             }
 
             /**
@@ -5702,18 +6147,14 @@ public interface TypePool {
                 /**
                  * Creates a new loadable version of a lazy annotation.
                  *
-                 * @param typePool       The type pool to be used for looking up linked types.
-                 * @param descriptor     The descriptor of the represented annotation.
-                 * @param values         A map of annotation value names to their value representations.
-                 * @param annotationType The loaded annotation type.
+                 * @param typePool        The type pool to be used for looking up linked types.
+                 * @param annotationToken The token that represents the annotation.
+                 * @param annotationType  The loaded annotation type.
                  */
-                private Loadable(TypePool typePool,
-                                 String descriptor,
-                                 Map<String, AnnotationValue<?, ?>> values,
-                                 Class<S> annotationType) {
-                    super(typePool, descriptor, values);
-                    if (!Type.getDescriptor(annotationType).equals(descriptor)) {
-                        throw new IllegalArgumentException(annotationType + " does not correspond to " + descriptor);
+                private Loadable(TypePool typePool, AnnotationToken annotationToken, Class<S> annotationType) {
+                    super(typePool, annotationToken);
+                    if (!Type.getDescriptor(annotationType).equals(annotationToken.getDescriptor())) {
+                        throw new IllegalArgumentException(annotationType + " does not correspond to " + annotationToken.getDescriptor());
                     }
                     this.annotationType = annotationType;
                 }
@@ -5724,11 +6165,8 @@ public interface TypePool {
                 }
 
                 @Override
-                @SuppressWarnings("unchecked")
                 public S load(ClassLoader classLoader) throws ClassNotFoundException {
-                    return (S) Proxy.newProxyInstance(classLoader,
-                            new Class<?>[]{annotationType},
-                            AnnotationInvocationHandler.of(classLoader, annotationType, values));
+                    return annotationToken.load(classLoader, annotationType);
                 }
 
                 @Override
@@ -6180,10 +6618,7 @@ public interface TypePool {
                 this.name = name;
                 fieldTypeDescriptor = descriptor;
                 this.signatureResolution = signatureResolution;
-                declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-                for (AnnotationToken annotationToken : annotationTokens) {
-                    declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-                }
+                declaredAnnotations = toAnnotationDescriptions(typePool, annotationTokens);
             }
 
             @Override
@@ -6238,14 +6673,14 @@ public interface TypePool {
             private final GenericTypeToken.Resolution.ForMethod signatureResolution;
 
             /**
-             * A list of type descriptions of this method's parameters.
+             * An array of descriptors of this method's parameter types.
              */
-            private final List<String> parameterTypeDescriptors;
+            private final String[] parameterTypeDescriptor;
 
             /**
-             * A list of type descriptions of this method's exception types.
+             * An array of descriptors of this method's exception types.
              */
-            private final List<String> exceptionTypeDescriptors;
+            private final String[] exceptionTypeDescriptor;
 
             /**
              * A list of annotation descriptions that are declared by this method.
@@ -6254,17 +6689,19 @@ public interface TypePool {
 
             /**
              * A nested list of annotation descriptions that are declared by the parameters of this
-             * method in their oder.
+             * method in their oder or an empty list if no parameter declares an annotation.
              */
             private final List<List<AnnotationDescription>> declaredParameterAnnotations;
 
             /**
-             * An array of parameter names which may be {@code null} if no explicit name is known for a parameter.
+             * An array of parameter names which may be {@code null} if no explicit name is known for a parameter or
+             * {@code null} if no explicit name is known for any parameter.
              */
             private final String[] parameterNames;
 
             /**
-             * An array of parameter modifiers which may be {@code null} if no modifiers is known.
+             * An array of parameter modifiers which may be {@code null} if no modifiers is known for a parameter or
+             * {@code null} if no modifiers are known for any parameter.
              */
             private final Integer[] parameterModifiers;
 
@@ -6276,6 +6713,7 @@ public interface TypePool {
             /**
              * Creates a new lazy method description.
              *
+             * @param stringTable               The string table that is used for sharing descriptors and parameter names.
              * @param internalName              The internal name of this method.
              * @param modifiers                 The modifiers of the represented method.
              * @param methodDescriptor          The method descriptor of this method.
@@ -6293,7 +6731,8 @@ public interface TypePool {
              * @param defaultValue              The default value of this method or {@code null} if there is no
              *                                  such value.
              */
-            private LazyMethodDescription(String internalName,
+            private LazyMethodDescription(Default.StringTable stringTable,
+                                          String internalName,
                                           int modifiers,
                                           String methodDescriptor,
                                           GenericTypeToken.Resolution.ForMethod signatureResolution,
@@ -6305,46 +6744,62 @@ public interface TypePool {
                 this.modifiers = modifiers;
                 this.internalName = internalName;
                 Type methodType = Type.getMethodType(methodDescriptor);
-                Type returnType = methodType.getReturnType();
                 Type[] parameterType = methodType.getArgumentTypes();
-                returnTypeDescriptor = returnType.getDescriptor();
-                parameterTypeDescriptors = new ArrayList<String>(parameterType.length);
-                for (Type type : parameterType) {
-                    parameterTypeDescriptors.add(type.getDescriptor());
+                returnTypeDescriptor = stringTable.intern(methodType.getReturnType().getDescriptor());
+                parameterTypeDescriptor = parameterType.length == 0
+                        ? NO_TYPE_DESCRIPTORS
+                        : new String[parameterType.length];
+                for (int index = 0; index < parameterType.length; index++) {
+                    parameterTypeDescriptor[index] = stringTable.intern(parameterType[index].getDescriptor());
                 }
                 this.signatureResolution = signatureResolution;
-                if (exceptionTypeInternalName == null) {
-                    exceptionTypeDescriptors = Collections.emptyList();
+                if (exceptionTypeInternalName == null || exceptionTypeInternalName.length == 0) {
+                    exceptionTypeDescriptor = NO_TYPE_DESCRIPTORS;
                 } else {
-                    exceptionTypeDescriptors = new ArrayList<String>(exceptionTypeInternalName.length);
-                    for (String anExceptionTypeInternalName : exceptionTypeInternalName) {
-                        exceptionTypeDescriptors.add(Type.getObjectType(anExceptionTypeInternalName).getDescriptor());
+                    exceptionTypeDescriptor = new String[exceptionTypeInternalName.length];
+                    for (int index = 0; index < exceptionTypeInternalName.length; index++) {
+                        exceptionTypeDescriptor[index] = stringTable.intern(Type.getObjectType(exceptionTypeInternalName[index]).getDescriptor());
                     }
                 }
-                declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-                for (AnnotationToken annotationToken : annotationTokens) {
-                    declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-                }
-                declaredParameterAnnotations = new ArrayList<List<AnnotationDescription>>(parameterType.length);
+                declaredAnnotations = toAnnotationDescriptions(typePool, annotationTokens);
+                List<List<AnnotationDescription>> declaredParameterAnnotations = Collections.emptyList();
                 for (int index = 0; index < parameterType.length; index++) {
                     List<AnnotationToken> tokens = parameterAnnotationTokens.get(index);
-                    List<AnnotationDescription> annotationDescriptions;
-                    annotationDescriptions = new ArrayList<AnnotationDescription>(tokens.size());
-                    for (AnnotationToken annotationToken : tokens) {
-                        annotationDescriptions.add(annotationToken.toAnnotationDescription(typePool));
+                    if (!tokens.isEmpty()) {
+                        if (declaredParameterAnnotations.isEmpty()) {
+                            declaredParameterAnnotations = new ArrayList<List<AnnotationDescription>>(parameterType.length);
+                            for (int previous = 0; previous < index; previous++) {
+                                declaredParameterAnnotations.add(Collections.<AnnotationDescription>emptyList());
+                            }
+                        }
+                        declaredParameterAnnotations.add(toAnnotationDescriptions(typePool, tokens));
+                    } else if (!declaredParameterAnnotations.isEmpty()) {
+                        declaredParameterAnnotations.add(Collections.<AnnotationDescription>emptyList());
                     }
-                    declaredParameterAnnotations.add(annotationDescriptions);
                 }
-                parameterNames = new String[parameterType.length];
-                parameterModifiers = new Integer[parameterType.length];
+                this.declaredParameterAnnotations = declaredParameterAnnotations;
+                String[] parameterNames = null;
+                Integer[] parameterModifiers = null;
                 if (parameterTokens.size() == parameterType.length) {
                     int index = 0;
                     for (MethodToken.ParameterToken parameterToken : parameterTokens) {
-                        parameterNames[index] = parameterToken.getName();
-                        parameterModifiers[index] = parameterToken.getModifiers();
+                        if (parameterToken.getName() != null) {
+                            if (parameterNames == null) {
+                                parameterNames = new String[parameterType.length];
+                            }
+                            parameterNames[index] = stringTable.intern(parameterToken.getName());
+                        }
+                        if (parameterToken.getModifiers() != null) {
+                            if (parameterModifiers == null) {
+                                parameterModifiers = new Integer[parameterType.length];
+                            }
+                            parameterModifiers[index] = parameterToken.getModifiers();
+                        }
                         index++;
                     }
                 }
+                this.parameterNames = parameterNames;
+                this.parameterModifiers = parameterModifiers;
                 this.defaultValue = defaultValue;
             }
 
@@ -6355,7 +6810,7 @@ public interface TypePool {
 
             @Override
             public GenericTypeList getExceptionTypes() {
-                return signatureResolution.resolveExceptionTypes(exceptionTypeDescriptors, typePool, this);
+                return signatureResolution.resolveExceptionTypes(Arrays.asList(exceptionTypeDescriptor), typePool, this);
             }
 
             @Override
@@ -6407,8 +6862,11 @@ public interface TypePool {
 
                 @Override
                 public boolean hasExplicitMetaData() {
-                    for (int i = 0; i < size(); i++) {
-                        if (parameterNames[i] == null || parameterModifiers[i] == null) {
+                    for (int index = 0; index < size(); index++) {
+                        if (parameterNames == null
+                                || parameterNames[index] == null
+                                || parameterModifiers == null
+                                || parameterModifiers[index] == null) {
                             return false;
                         }
                     }
@@ -6417,12 +6875,12 @@ public interface TypePool {
 
                 @Override
                 public int size() {
-                    return parameterTypeDescriptors.size();
+                    return parameterTypeDescriptor.length;
                 }
 
                 @Override
                 public GenericTypeList asTypeList() {
-                    return signatureResolution.resolveParameterTypes(parameterTypeDescriptors, typePool, LazyMethodDescription.this);
+                    return signatureResolution.resolveParameterTypes(Arrays.asList(parameterTypeDescriptor), typePool, LazyMethodDescription.this);
                 }
             }
 
@@ -6457,12 +6915,12 @@ public interface TypePool {
 
                 @Override
                 public boolean isNamed() {
-                    return parameterNames[index] != null;
+                    return parameterNames != null && parameterNames[index] != null;
                 }
 
                 @Override
                 public boolean hasModifiers() {
-                    return parameterModifiers[index] != null;
+                    return parameterModifiers != null && parameterModifiers[index] != null;
                 }
 
                 @Override
@@ -6481,12 +6939,14 @@ public interface TypePool {
 
                 @Override
                 public GenericTypeDescription getType() {
-                    return signatureResolution.resolveParameterTypes(parameterTypeDescriptors, typePool, LazyMethodDescription.this).get(index);
+                    return signatureResolution.resolveParameterTypes(Arrays.asList(parameterTypeDescriptor), typePool, LazyMethodDescription.this).get(index);
                 }
 
                 @Override
                 public AnnotationList getDeclaredAnnotations() {
-                    return new AnnotationList.Explicit(declaredParameterAnnotations.get(index));
+                    return new AnnotationList.Explicit(declaredParameterAnnotations.isEmpty()
+                            ? Collections.<AnnotationDescription>emptyList()
+                            : declaredParameterAnnotations.get(index));
                 }
             }
         }
@@ -0,0 +1,194 @@
+package net.bytebuddy.utility;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * An immutable list that shares its elements with the lists it was derived from. Appending or prepending an element returns a
+ * new list while the original list remains unchanged. As long as a list is derived from the most recently derived list of a
+ * lineage, the new list reuses its predecessor's array such that building a list of {@code n} elements in a chain of single
+ * steps has an amortized cost of {@code O(n)} rather than {@code O(n²)}. Only if an element is added to a list that was already
+ * extended before, i.e. if a lineage branches, the elements of the extended list are copied.
+ * </p>
+ * <p>
+ * This list is meant as a representation for the configuration of immutable builders where every step creates a new builder
+ * instance. Any mutating method of the {@link java.util.List} interface throws an {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * @param <T> The type of the list's elements.
+ */
+public class PersistentList<T> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * The minimal capacity of an array that is allocated for a list.
+     */
+    private static final int MINIMUM_CAPACITY = 8;
+
+    /**
+     * The array containing this list's elements which might be shared with other lists. An element within the range of
+     * this list is never altered.
+     */
+    private final Object[] elements;
+
+    /**
+     * The index of this list's first element within the shared array.
+     */
+    private final int offset;
+
+    /**
+     * The number of elements of this list.
+     */
+    private final int size;
+
+    /**
+     * The claim on the shared array that records which slots were already assigned by any list sharing the array.
+     */
+    private final Claim claim;
+
+    /**
+     * Creates a new persistent list.
+     *
+     * @param elements The array containing this list's elements which might be shared with other lists.
+     * @param offset   The index of this list's first element within the shared array.
+     * @param size     The number of elements of this list.
+     * @param claim    The claim on the shared array.
+     */
+    protected PersistentList(Object[] elements, int offset, int size, Claim claim) {
+        this.elements = elements;
+        this.offset = offset;
+        this.size = size;
+        this.claim = claim;
+    }
+
+    /**
+     * Returns an empty persistent list.
+     *
+     * @param <S> The type of the list's elements.
+     * @return An empty persistent list.
+     */
+    public static <S> PersistentList<S> empty() {
+        return new PersistentList<S>(new Object[0], 0, 0, new Claim(0, 0));
+    }
+
+    /**
+     * Returns a persistent list of the given list's elements. If the given list is already a persistent list, it is returned as it is.
+     *
+     * @param list The list to represent as a persistent list.
+     * @param <S>  The type of the list's elements.
+     * @return A persistent list of the given list's elements.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> PersistentList<S> of(List<? extends S> list) {
+        if (list instanceof PersistentList) {
+            return (PersistentList<S>) list;
+        }
+        Object[] elements = list.toArray(new Object[list.size()]);
+        return new PersistentList<S>(elements, 0, elements.length, new Claim(0, elements.length));
+    }
+
+    /**
+     * Returns a list that contains all elements of this list with an additional element at its end.
+     *
+     * @param element The element to append.
+     * @return A list that contains all elements of this list and the appended element.
+     */
+    public PersistentList<T> append(T element) {
+        int end = offset + size;
+        synchronized (claim) {
+            if (claim.tail == end && end < elements.length) {
+                elements[end] = element;
+                claim.tail++;
+                return new PersistentList<T>(elements, offset, size + 1, claim);
+            }
+        }
+        int capacity = capacityFor(size + 1), offset = (capacity - size - 1) / 4;
+        Object[] elements = new Object[capacity];
+        System.arraycopy(this.elements, this.offset, elements, offset, size);
+        elements[offset + size] = element;
+        return new PersistentList<T>(elements, offset, size + 1, new Claim(offset, offset + size + 1));
+    }
+
+    /**
+     * Returns a list that contains all elements of this list with an additional element at its beginning.
+     *
+     * @param element The element to prepend.
+     * @return A list that contains the prepended element and all elements of this list.
+     */
+    public PersistentList<T> prepend(T element) {
+        synchronized (claim) {
+            if (claim.head == offset && offset > 0) {
+                elements[offset - 1] = element;
+                claim.head--;
+                return new PersistentList<T>(elements, offset - 1, size + 1, claim);
+            }
+        }
+        int capacity = capacityFor(size + 1), offset = capacity - size - 1 - (capacity - size - 1) / 4;
+        Object[] elements = new Object[capacity];
+        System.arraycopy(this.elements, this.offset, elements, offset, size);
+        elements[offset - 1] = element;
+        return new PersistentList<T>(elements, offset - 1, size + 1, new Claim(offset - 1, offset + size));
+    }
+
+    /**
+     * Computes the capacity of a new array that is allocated for a list of the given size.
+     *
+     * @param size The size of the list for which an array is allocated.
+     * @return The capacity of the array to allocate.
+     */
+    private static int capacityFor(int size) {
+        return Math.max(MINIMUM_CAPACITY, size * 2);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return (T) elements[offset + index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A claim on an array that is shared among persistent lists. A claim records the range of the array that was assigned
+     * by any list. A list can only assign a slot adjacent to this range if its own elements span to the range's boundary.
+     * Any access must be synchronized on the claim's monitor.
+     */
+    protected static class Claim {
+
+        /**
+         * The index of the first assigned slot of the shared array.
+         */
+        private int head;
+
+        /**
+         * The index after the last assigned slot of the shared array.
+         */
+        private int tail;
+
+        /**
+         * Creates a new claim.
+         *
+         * @param head The index of the first assigned slot of the shared array.
+         * @param tail The index after the last assigned slot of the shared array.
+         */
+        protected Claim(int head, int tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "PersistentList.Claim{" +
+                    "head=" + head +
+                    ", tail=" + tail +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package net.bytebuddy.utility;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <p>
+ * An immutable set that shares its elements with the sets it was derived from. Adding an element returns a new set while
+ * the original set remains unchanged. Similarly to a {@link PersistentList}, a set that is derived from the most recently
+ * derived set of a lineage reuses its predecessor's index such that building a set of {@code n} elements in a chain of single
+ * steps has an amortized cost of {@code O(n)} rather than {@code O(n²)} while any lookup remains a hash lookup. Only if an
+ * element is added to a set that was already extended before, i.e. if a lineage branches, the index is copied.
+ * </p>
+ * <p>
+ * Any mutating method of the {@link java.util.Set} interface throws an {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * @param <T> The type of the set's elements.
+ */
+public class PersistentSet<T> extends AbstractSet<T> {
+
+    /**
+     * The elements of this set in their insertion order.
+     */
+    private final PersistentList<T> elements;
+
+    /**
+     * The index of the elements' positions which might be shared with other sets.
+     */
+    private final Index<T> index;
+
+    /**
+     * Creates a new persistent set.
+     *
+     * @param elements The elements of this set in their insertion order.
+     * @param index    The index of the elements' positions which might be shared with other sets.
+     */
+    protected PersistentSet(PersistentList<T> elements, Index<T> index) {
+        this.elements = elements;
+        this.index = index;
+    }
+
+    /**
+     * Returns an empty persistent set.
+     *
+     * @param <S> The type of the set's elements.
+     * @return An empty persistent set.
+     */
+    public static <S> PersistentSet<S> empty() {
+        return new PersistentSet<S>(PersistentList.<S>empty(), new Index<S>(new HashMap<S, Integer>()));
+    }
+
+    /**
+     * Returns a set that contains all elements of this set and the given element. If this set already contains the element,
+     * this set is returned.
+     *
+     * @param element The element to add.
+     * @return A set that contains all elements of this set and the given element.
+     */
+    public PersistentSet<T> with(T element) {
+        int size = elements.size();
+        synchronized (index) {
+            Integer position = index.positions.get(element);
+            if (position != null && position < size) {
+                return this;
+            } else if (index.size == size) {
+                index.positions.put(element, size);
+                index.size++;
+                return new PersistentSet<T>(elements.append(element), index);
+            }
+        }
+        PersistentList<T> elements = this.elements.append(element);
+        Map<T, Integer> positions = new HashMap<T, Integer>();
+        for (int position = 0; position < elements.size(); position++) {
+            positions.put(elements.get(position), position);
+        }
+        return new PersistentSet<T>(elements, new Index<T>(positions));
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        Integer position;
+        synchronized (index) {
+            position = index.positions.get(element);
+        }
+        return position != null && position < elements.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * An index of the positions of elements that is shared among persistent sets of a lineage. A set can only extend the
+     * index if it represents all elements that were indexed. Any access must be synchronized on the index's monitor.
+     *
+     * @param <S> The type of the indexed elements.
+     */
+    protected static class Index<S> {
+
+        /**
+         * A mapping of every indexed element to its position in the order of insertion.
+         */
+        private final Map<S, Integer> positions;
+
+        /**
+         * The number of indexed elements.
+         */
+        private int size;
+
+        /**
+         * Creates a new index.
+         *
+         * @param positions A mapping of every indexed element to its position in the order of insertion.
+         */
+        protected Index(Map<S, Integer> positions) {
+            this.positions = positions;
+            size = positions.size();
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "PersistentSet.Index{" +
+                    "positions=" + positions +
+                    ", size=" + size +
+                    '}';
+        }
+    }
+}
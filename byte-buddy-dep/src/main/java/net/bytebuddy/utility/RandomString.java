@@ -3,7 +3,7 @@ package net.bytebuddy.utility;
 import java.util.Random;
 
 /**
- * A provider of randomized {@link java.lang.String} values.
+ * A provider of randomized {@link java.lang.String} values and of stable {@link java.lang.String} representations of hash values.
  */
 public class RandomString {
 
@@ -84,6 +84,24 @@ public class RandomString {
         return new RandomString(length).nextString();
     }
 
+    /**
+     * Represents the given value as a {@link java.lang.String} of {@link RandomString#DEFAULT_LENGTH} characters
+     * using the same symbols as a random {@link java.lang.String}. Other than a random value, the returned value is
+     * stable such that equal values always yield the same {@link java.lang.String}.
+     *
+     * @param value The value to represent.
+     * @return A {@link java.lang.String} representing the given value.
+     */
+    public static String hashOf(int value) {
+        char[] buffer = new char[DEFAULT_LENGTH];
+        long remainder = value & 0xFFFFFFFFL;
+        for (int index = DEFAULT_LENGTH - 1; index >= 0; index--) {
+            buffer[index] = SYMBOL[(int) (remainder % SYMBOL.length)];
+            remainder /= SYMBOL.length;
+        }
+        return new String(buffer);
+    }
+
     /**
      * Creates a new random {@link java.lang.String}.
      *
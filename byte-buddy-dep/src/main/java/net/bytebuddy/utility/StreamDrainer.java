@@ -2,11 +2,20 @@ package net.bytebuddy.utility;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.LinkedList;
-import java.util.List;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
 
 /**
+ * <p>
  * A utility for draining the contents of an {@link java.io.InputStream} into a {@code byte} array.
+ * </p>
+ * <p>
+ * If the size of a stream's content is known, for example for a file or a jar file entry, the content is read into an array
+ * of this size without any intermediate buffer. Otherwise, the content is read into a buffer that grows as needed and
+ * that is copied into an array of the exact size once the stream is drained. A pooled stream drainer reuses this buffer for
+ * any later drainage on the same thread such that draining a large number of streams only allocates the resulting arrays.
+ * </p>
  */
 public class StreamDrainer {
 
@@ -20,21 +29,37 @@ public class StreamDrainer {
      */
     public static final StreamDrainer DEFAULT = new StreamDrainer();
 
+    /**
+     * A pooled instance using the {@link StreamDrainer#DEFAULT_BUFFER_SIZE} as the initial size of its pooled buffers.
+     */
+    public static final StreamDrainer POOLED = new StreamDrainer(DEFAULT_BUFFER_SIZE, true);
+
+    /**
+     * The maximum size of a buffer that is retained by a pooled stream drainer.
+     */
+    private static final int MAXIMUM_POOLED_BUFFER_SIZE = 1024 * 1024;
+
     /**
      * A convenience constant referring to the value representing the end of a stream.
      */
     private static final int END_OF_STREAM = -1;
 
     /**
-     * A convenience constant referring to the value representing the start of a stream.
+     * The buffers of pooled stream drainers per thread. A buffer is softly referenced in order to release it if memory is low.
+     * A buffer is removed while it is in use such that a nested drainage on the same thread does not use the same buffer.
      */
-    private static final int FROM_BEGINNING = 0;
+    private static final ThreadLocal<Reference<byte[]>> POOLED_BUFFER = new ThreadLocal<Reference<byte[]>>();
 
     /**
      * The buffer size for reading from a given stream.
      */
     private final int bufferSize;
 
+    /**
+     * {@code true} if this stream drainer reuses its buffer for later drainages on the same thread.
+     */
+    private final boolean pooled;
+
     /**
      * Creates a stream drainer with the default buffer size.
      */
@@ -48,7 +73,21 @@ public class StreamDrainer {
      * @param bufferSize The buffer size for reading from a given stream.
      */
     public StreamDrainer(int bufferSize) {
+        this(bufferSize, false);
+    }
+
+    /**
+     * Creates a stream drainer with the given buffer size.
+     *
+     * @param bufferSize The initial buffer size for reading from a given stream.
+     * @param pooled     {@code true} if this stream drainer reuses its buffer for later drainages on the same thread.
+     */
+    public StreamDrainer(int bufferSize, boolean pooled) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
         this.bufferSize = bufferSize;
+        this.pooled = pooled;
     }
 
     /**
@@ -59,41 +98,96 @@ public class StreamDrainer {
      * @throws IOException If the stream reading causes an error.
      */
     public byte[] drain(InputStream inputStream) throws IOException {
-        List<byte[]> previousBytes = new LinkedList<byte[]>();
-        byte[] currentArray = new byte[bufferSize];
-        int currentIndex = 0;
-        int currentRead;
-        do {
-            currentRead = inputStream.read(currentArray, currentIndex, bufferSize - currentIndex);
-            currentIndex += currentRead > 0 ? currentRead : 0;
-            if (currentIndex == bufferSize) {
-                previousBytes.add(currentArray);
-                currentArray = new byte[bufferSize];
-                currentIndex = 0;
+        byte[] buffer = null;
+        if (pooled) {
+            Reference<byte[]> reference = POOLED_BUFFER.get();
+            if (reference != null) {
+                buffer = reference.get();
+                POOLED_BUFFER.remove();
+            }
+        }
+        if (buffer == null) {
+            buffer = new byte[bufferSize];
+        }
+        int length = 0, read;
+        while ((read = inputStream.read(buffer, length, buffer.length - length)) != END_OF_STREAM) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = grow(buffer);
             }
-        } while (currentRead != END_OF_STREAM);
-        byte[] result = new byte[previousBytes.size() * bufferSize + currentIndex];
-        int arrayIndex = 0;
-        for (byte[] previousByte : previousBytes) {
-            System.arraycopy(previousByte, FROM_BEGINNING, result, arrayIndex++ * bufferSize, bufferSize);
         }
-        System.arraycopy(currentArray, FROM_BEGINNING, result, arrayIndex * bufferSize, currentIndex);
+        byte[] result = Arrays.copyOf(buffer, length);
+        if (pooled && buffer.length <= MAXIMUM_POOLED_BUFFER_SIZE) {
+            POOLED_BUFFER.set(new SoftReference<byte[]>(buffer));
+        }
         return result;
     }
 
+    /**
+     * Drains an input stream of a known size into a byte array. The content is read directly into an array of the given size.
+     * If the stream's content turns out to be shorter or longer than the given size, the stream is still drained entirely.
+     * The given input stream is not closed.
+     *
+     * @param inputStream The input stream to drain.
+     * @param size        The expected size of the stream's content or a negative value if the size is unknown.
+     * @return A byte array containing the content of the input stream.
+     * @throws IOException If the stream reading causes an error.
+     */
+    public byte[] drain(InputStream inputStream, long size) throws IOException {
+        if (size < 0L || size >= Integer.MAX_VALUE) {
+            return drain(inputStream);
+        }
+        byte[] result = new byte[(int) size];
+        int length = 0, read;
+        while (length < result.length && (read = inputStream.read(result, length, result.length - length)) != END_OF_STREAM) {
+            length += read;
+        }
+        if (length < result.length) {
+            return Arrays.copyOf(result, length);
+        }
+        int next = inputStream.read();
+        if (next == END_OF_STREAM) {
+            return result;
+        }
+        byte[] remainder = drain(inputStream);
+        byte[] combined = new byte[result.length + 1 + remainder.length];
+        System.arraycopy(result, 0, combined, 0, result.length);
+        combined[result.length] = (byte) next;
+        System.arraycopy(remainder, 0, combined, result.length + 1, remainder.length);
+        return combined;
+    }
+
+    /**
+     * Grows a buffer by copying its content into a buffer of twice its size.
+     *
+     * @param buffer The buffer to grow.
+     * @return A buffer of twice the size that contains the given buffer's content.
+     */
+    private static byte[] grow(byte[] buffer) {
+        if (buffer.length == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Stream content exceeds maximum array size");
+        }
+        return Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE, buffer.length * 2L));
+    }
+
     @Override
     public boolean equals(Object other) {
-        return this == other || !(other == null || getClass() != other.getClass())
-                && bufferSize == ((StreamDrainer) other).bufferSize;
+        if (this == other) return true;
+        if (other == null || getClass() != other.getClass()) return false;
+        StreamDrainer that = (StreamDrainer) other;
+        return bufferSize == that.bufferSize && pooled == that.pooled;
     }
 
     @Override
     public int hashCode() {
-        return bufferSize;
+        return 31 * bufferSize + (pooled ? 1 : 0);
     }
 
     @Override
     public String toString() {
-        return "StreamDrainer{bufferSize=" + bufferSize + '}';
+        return "StreamDrainer{" +
+                "bufferSize=" + bufferSize +
+                ", pooled=" + pooled +
+                '}';
     }
 }
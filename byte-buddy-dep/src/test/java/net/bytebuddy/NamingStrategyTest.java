@@ -1,15 +1,23 @@
 package net.bytebuddy;
 
+import net.bytebuddy.description.modifier.EnumerationState;
+import net.bytebuddy.description.modifier.SyntheticState;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.StringStartsWith.startsWith;
@@ -101,4 +109,67 @@ public class NamingStrategyTest {
     public void testPrefixingRandomEqualsHashCode() throws Exception {
         ObjectPropertyAssertion.of(NamingStrategy.PrefixingRandom.class).apply();
     }
+
+    @Test
+    public void testSuffixingHashIsStable() throws Exception {
+        mockHashedProperties();
+        String name = new NamingStrategy.SuffixingHash(BAR).name(unnamedType);
+        assertThat(name, startsWith(FOO + "$" + BAR + "$"));
+        assertThat(name.length(), is((FOO + "$" + BAR + "$").length() + RandomString.DEFAULT_LENGTH));
+        assertThat(new NamingStrategy.SuffixingHash(BAR).name(unnamedType), is(name));
+    }
+
+    @Test
+    public void testSuffixingHashEnumeratesRepeatedNames() throws Exception {
+        mockHashedProperties();
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingHash(BAR);
+        String name = namingStrategy.name(unnamedType);
+        assertThat(namingStrategy.name(unnamedType), is(name + "$1"));
+        assertThat(namingStrategy.name(unnamedType), is(name + "$2"));
+    }
+
+    @Test
+    public void testSuffixingHashRegistryIsBounded() throws Exception {
+        NamingStrategy.SuffixingHash.Registry registry = new NamingStrategy.SuffixingHash.Registry(1);
+        assertThat(registry.issue(FOO), is(FOO));
+        assertThat(registry.issue(FOO), is(FOO + "$1"));
+        String name = registry.issue(BAR);
+        assertThat(name, startsWith(BAR + "$"));
+        assertThat(name.length(), is((BAR + "$").length() + RandomString.DEFAULT_LENGTH));
+        assertThat(registry.issue(BAR), not(name));
+    }
+
+    @Test
+    public void testSuffixingHashDependsOnModifiers() throws Exception {
+        mockHashedProperties();
+        String name = new NamingStrategy.SuffixingHash(BAR).name(unnamedType);
+        when(unnamedType.getTypeManifestation()).thenReturn(TypeManifestation.FINAL);
+        assertThat(new NamingStrategy.SuffixingHash(BAR).name(unnamedType), not(name));
+    }
+
+    @Test
+    public void testSuffixingHashConflictingPackage() throws Exception {
+        mockHashedProperties();
+        when(baseNameResolver.resolve(unnamedType)).thenReturn(JAVA_QUX);
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingHash(FOO, baseNameResolver, BAR, new NamingStrategy.SuffixingHash.Registry());
+        assertThat(namingStrategy.name(unnamedType), startsWith(BAR + "." + JAVA_QUX + "$" + FOO + "$"));
+        verify(baseNameResolver).resolve(unnamedType);
+        verifyNoMoreInteractions(baseNameResolver);
+    }
+
+    @Test
+    public void testSuffixingHashObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(NamingStrategy.SuffixingHash.class).applyBasic();
+    }
+
+    private void mockHashedProperties() {
+        when(unnamedType.getSuperClass()).thenReturn(genericSuperType);
+        when(rawSuperType.getName()).thenReturn(FOO);
+        when(unnamedType.getDeclaredInterfaces()).thenReturn(Collections.<GenericTypeDescription>singletonList(TypeDescription.OBJECT));
+        when(unnamedType.getVisibility()).thenReturn(Visibility.PUBLIC);
+        when(unnamedType.getTypeManifestation()).thenReturn(TypeManifestation.PLAIN);
+        when(unnamedType.getSyntheticState()).thenReturn(SyntheticState.PLAIN);
+        when(unnamedType.getEnumerationState()).thenReturn(EnumerationState.PLAIN);
+        when(unnamedType.getClassFileVersion()).thenReturn(ClassFileVersion.JAVA_V6);
+    }
 }
@@ -0,0 +1,67 @@
+package net.bytebuddy;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NamingStrategyUnboundHashingTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testSubclass() throws Exception {
+        NamingStrategy.SuffixingHash.Registry registry = new NamingStrategy.SuffixingHash.Registry();
+        assertThat(new NamingStrategy.Unbound.Hashing(FOO, registry).subclass(TypeDescription.OBJECT), is((NamingStrategy) new NamingStrategy.SuffixingHash(FOO,
+                new NamingStrategy.SuffixingRandom.BaseNameResolver.ForGivenType(TypeDescription.OBJECT),
+                NamingStrategy.SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE,
+                registry)));
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        NamingStrategy.SuffixingHash.Registry registry = new NamingStrategy.SuffixingHash.Registry();
+        assertThat(new NamingStrategy.Unbound.Hashing(FOO, registry).create(), is((NamingStrategy) new NamingStrategy.SuffixingHash(FOO,
+                new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue(NamingStrategy.Unbound.Default.CREATION_NAME),
+                NamingStrategy.SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE,
+                registry)));
+    }
+
+    @Test
+    public void testRegistryIsConsideredByEquality() throws Exception {
+        NamingStrategy.SuffixingHash.Registry registry = new NamingStrategy.SuffixingHash.Registry();
+        assertThat(new NamingStrategy.Unbound.Hashing(FOO, registry), is(new NamingStrategy.Unbound.Hashing(FOO, registry)));
+        assertThat(new NamingStrategy.Unbound.Hashing(FOO, registry).hashCode(), is(new NamingStrategy.Unbound.Hashing(FOO, registry).hashCode()));
+        assertThat(new NamingStrategy.Unbound.Hashing(FOO), not(new NamingStrategy.Unbound.Hashing(FOO)));
+    }
+
+    @Test
+    public void testRedefine() throws Exception {
+        assertThat(new NamingStrategy.Unbound.Hashing(FOO).redefine(TypeDescription.OBJECT), is((NamingStrategy) new NamingStrategy.Fixed(Object.class.getName())));
+    }
+
+    @Test
+    public void testRebase() throws Exception {
+        assertThat(new NamingStrategy.Unbound.Hashing(FOO).rebase(TypeDescription.OBJECT), is((NamingStrategy) new NamingStrategy.Fixed(Object.class.getName())));
+    }
+
+    @Test
+    public void testCreatedTypesAreEnumerated() throws Exception {
+        ByteBuddy byteBuddy = new ByteBuddy().withNamingStrategy(new NamingStrategy.Unbound.Hashing(FOO));
+        String name = byteBuddy.subclass(Object.class).make().getTypeDescription().getName();
+        assertThat(byteBuddy.subclass(Object.class).make().getTypeDescription().getName(), is(name + "$1"));
+        assertThat(new ByteBuddy().withNamingStrategy(new NamingStrategy.Unbound.Hashing(FOO))
+                .subclass(Object.class)
+                .make()
+                .getTypeDescription()
+                .getName(), is(name));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(NamingStrategy.Unbound.Hashing.class).applyBasic();
+    }
+}
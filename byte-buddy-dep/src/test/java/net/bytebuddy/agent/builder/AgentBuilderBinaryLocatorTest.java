@@ -9,12 +9,24 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Collections;
+import java.util.Random;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class AgentBuilderBinaryLocatorTest {
 
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
 
@@ -57,9 +69,106 @@ public class AgentBuilderBinaryLocatorTest {
         assertThat(AgentBuilder.BinaryLocator.ClassLoading.INSTANCE.typePool(classFileLocator, classLoader), notNullValue(TypePool.class));
     }
 
+    @Test
+    public void testPrewarmingClassFileLocator() throws Exception {
+        assertThat(new AgentBuilder.BinaryLocator.Prewarming(TypePool.Default.ReaderMode.FAST, classLoader).classFileLocator(classLoader),
+                is(ClassFileLocator.ForClassLoader.of(classLoader)));
+    }
+
+    @Test
+    public void testPrewarmingSystemClassPath() throws Exception {
+        AgentBuilder.BinaryLocator.Prewarming binaryLocator = AgentBuilder.BinaryLocator.Prewarming.ofSystemClassPath(TypePool.Default.ReaderMode.FAST);
+        assertThat(binaryLocator.classFileLocator(ClassLoader.getSystemClassLoader()),
+                is(ClassFileLocator.ForClassLoader.of(ClassLoader.getSystemClassLoader())));
+        assertThat(binaryLocator.warmUp(getClass().getPackage().getName()), notNullValue(Runnable.class));
+    }
+
+    @Test
+    public void testPrewarmingTypePoolSharesCache() throws Exception {
+        TypePool.CacheProvider cacheProvider = new TypePool.CacheProvider.Simple();
+        AgentBuilder.BinaryLocator binaryLocator = new AgentBuilder.BinaryLocator.Prewarming(TypePool.Default.ReaderMode.FAST,
+                getClass().getClassLoader(),
+                cacheProvider);
+        ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.of(getClass().getClassLoader());
+        assertThat(binaryLocator.typePool(classFileLocator, getClass().getClassLoader()).describe(Foo.class.getName()).resolve().getModifiers(),
+                is(Foo.class.getModifiers()));
+        assertThat(cacheProvider.find(Foo.class.getName()), notNullValue(TypePool.Resolution.class));
+    }
+
+    @Test
+    public void testPrewarmingTypePoolOtherClassLoader() throws Exception {
+        TypePool.CacheProvider cacheProvider = new TypePool.CacheProvider.Simple();
+        AgentBuilder.BinaryLocator binaryLocator = new AgentBuilder.BinaryLocator.Prewarming(TypePool.Default.ReaderMode.FAST,
+                classLoader,
+                cacheProvider);
+        ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.of(getClass().getClassLoader());
+        assertThat(binaryLocator.typePool(classFileLocator, getClass().getClassLoader()).describe(Foo.class.getName()).resolve().getModifiers(),
+                is(Foo.class.getModifiers()));
+        assertThat(cacheProvider.find(Foo.class.getName()), nullValue(TypePool.Resolution.class));
+    }
+
+    @Test
+    public void testPrewarmingWarmUpJarFile() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        try {
+            JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+            try {
+                jarOutputStream.putNextEntry(new JarEntry(Foo.class.getName().replace('.', '/') + ".class"));
+                jarOutputStream.closeEntry();
+                jarOutputStream.putNextEntry(new JarEntry("META-INF/versions/9/" + Bar.class.getName().replace('.', '/') + ".class"));
+                jarOutputStream.closeEntry();
+                jarOutputStream.putNextEntry(new JarEntry(QUX + ".class"));
+                jarOutputStream.closeEntry();
+            } finally {
+                jarOutputStream.close();
+            }
+            TypePool.CacheProvider cacheProvider = new TypePool.CacheProvider.Simple();
+            new AgentBuilder.BinaryLocator.Prewarming(TypePool.Default.ReaderMode.FAST, getClass().getClassLoader(), cacheProvider)
+                    .warmUp(Collections.singletonList(file), Collections.singletonList(getClass().getPackage().getName()))
+                    .run();
+            assertThat(cacheProvider.find(Foo.class.getName()), notNullValue(TypePool.Resolution.class));
+            assertThat(cacheProvider.find(Bar.class.getName()), nullValue(TypePool.Resolution.class));
+            assertThat(cacheProvider.find(QUX).isResolved(), is(false));
+        } finally {
+            assertThat(file.delete(), is(true));
+        }
+    }
+
+    @Test
+    public void testPrewarmingWarmUpFolder() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        assertThat(file.delete(), is(true));
+        File folder = new File(file.getParentFile(), FOO + new Random().nextInt());
+        assertThat(folder.mkdir(), is(true));
+        File packageFolder = new File(folder, FOO);
+        assertThat(packageFolder.mkdir(), is(true));
+        File classFile = new File(packageFolder, BAR + ".class");
+        try {
+            assertThat(classFile.createNewFile(), is(true));
+            TypePool.CacheProvider cacheProvider = mock(TypePool.CacheProvider.class);
+            new AgentBuilder.BinaryLocator.Prewarming(TypePool.Default.ReaderMode.FAST, getClass().getClassLoader(), cacheProvider)
+                    .warmUp(Collections.singletonList(folder), Collections.<String>emptyList())
+                    .run();
+            verify(cacheProvider).find(FOO + "." + BAR);
+        } finally {
+            assertThat(classFile.delete(), is(true));
+            assertThat(packageFolder.delete(), is(true));
+            assertThat(folder.delete(), is(true));
+        }
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(AgentBuilder.BinaryLocator.Default.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.BinaryLocator.ClassLoading.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.BinaryLocator.Prewarming.class).applyBasic();
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+
+    public static class Bar {
+        /* empty */
     }
 }
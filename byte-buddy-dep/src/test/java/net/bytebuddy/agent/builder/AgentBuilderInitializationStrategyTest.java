@@ -12,16 +12,22 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.security.AccessController;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
@@ -99,6 +105,70 @@ public class AgentBuilderInitializationStrategyTest {
         assertThat(Nexus.class.getDeclaredClasses().length, is(0));
     }
 
+    @Test
+    public void testNexusInitialization() throws Exception {
+        int size = Nexus.size();
+        long count = Nexus.getInitializationCount(), nanos = Nexus.getInitializationNanos();
+        Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), BAR, loadedTypeInitializer);
+        assertThat(Nexus.size(), is(size + 1));
+        Nexus.initialize(Foo.class, BAR);
+        verify(loadedTypeInitializer).onLoad(Foo.class);
+        verifyNoMoreInteractions(loadedTypeInitializer);
+        assertThat(Nexus.size(), is(size));
+        assertThat(Nexus.getInitializationCount(), is(count + 1));
+        assertThat(Nexus.getInitializationNanos() >= nanos, is(true));
+        Nexus.initialize(Foo.class, BAR);
+        verifyNoMoreInteractions(loadedTypeInitializer);
+        assertThat(Nexus.getInitializationCount(), is(count + 1));
+    }
+
+    @Test
+    public void testNexusInitializationOtherInitializerType() throws Exception {
+        Bar bar = new Bar();
+        Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), BAR, loadedTypeInitializer);
+        Nexus.register(Foo.class.getName(), Foo.class.getClassLoader(), BAR + 1, bar);
+        Nexus.initialize(Foo.class, BAR);
+        Nexus.initialize(Foo.class, BAR + 1);
+        verify(loadedTypeInitializer).onLoad(Foo.class);
+        assertThat(bar.type, is((Object) Foo.class));
+    }
+
+    @Test
+    public void testNexusInitializationUnregistered() throws Exception {
+        long count = Nexus.getInitializationCount();
+        Nexus.initialize(Foo.class, BAR);
+        assertThat(Nexus.getInitializationCount(), is(count));
+    }
+
+    @Test
+    public void testNexusRegistrationOfUnloadedClassLoaderIsRemoved() throws Exception {
+        int size = Nexus.size();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+        Reference<ClassLoader> reference = new WeakReference<ClassLoader>(classLoader);
+        Nexus.register(FOO, classLoader, BAR, loadedTypeInitializer);
+        assertThat(Nexus.size(), is(size + 1));
+        classLoader = null;
+        for (int attempt = 0; attempt < 100 && (reference.get() != null || Nexus.size() > size); attempt++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(reference.get(), nullValue(ClassLoader.class));
+        assertThat(Nexus.size(), is(size));
+    }
+
+    @Test
+    public void testNexusKeyIgnoresReferenceQueue() throws Exception {
+        Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
+        constructor.setAccessible(true);
+        Nexus nexus = constructor.newInstance(FOO, classLoader, new ReferenceQueue<ClassLoader>(), BAR);
+        assertThat(nexus, is(constructor.newInstance(FOO, classLoader, null, BAR)));
+        assertThat(nexus.hashCode(), is(constructor.newInstance(FOO, classLoader, null, BAR).hashCode()));
+        assertThat(nexus, not(constructor.newInstance(FOO, mock(ClassLoader.class), null, BAR)));
+        assertThat(nexus, not(constructor.newInstance(FOO, null, null, BAR)));
+        assertThat(nexus, not(constructor.newInstance(FOO, classLoader, null, BAR + 1)));
+        assertThat(nexus, not(constructor.newInstance(FOO + BAR, classLoader, null, BAR)));
+    }
+
     @Test
     public void testSimpleInitializerReturnsInstance() throws Exception {
         assertThat(new AgentBuilder.InitializationStrategy.Dispatcher.LazyInitializer.Simple(loadedTypeInitializer).resolve(), is(loadedTypeInitializer));
@@ -131,9 +201,9 @@ public class AgentBuilderInitializationStrategyTest {
             assertThat(((Map<?, ?>) duplicateInitializers.get(null)).size(), is(0));
             assertThat(((Map<?, ?>) actualInitializers.get(null)).size(), is(1));
         } finally {
-            Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, int.class);
+            Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
             constructor.setAccessible(true);
-            Object value = ((Map<?, ?>) actualInitializers.get(null)).remove(constructor.newInstance(FOO, qux, BAR));
+            Object value = ((Map<?, ?>) actualInitializers.get(null)).remove(constructor.newInstance(FOO, qux, null, BAR));
             assertThat(value, is((Object) loadedTypeInitializer));
         }
     }
@@ -165,9 +235,9 @@ public class AgentBuilderInitializationStrategyTest {
             assertThat(((Map<?, ?>) duplicateInitializers.get(null)).size(), is(0));
             assertThat(((Map<?, ?>) actualInitializers.get(null)).size(), is(1));
         } finally {
-            Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, int.class);
+            Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
             constructor.setAccessible(true);
-            Object value = ((Map<?, ?>) actualInitializers.get(null)).remove(constructor.newInstance(FOO, qux, BAR));
+            Object value = ((Map<?, ?>) actualInitializers.get(null)).remove(constructor.newInstance(FOO, qux, null, BAR));
             assertThat(value, is((Object) loadedTypeInitializer));
         }
     }
@@ -183,13 +253,7 @@ public class AgentBuilderInitializationStrategyTest {
         ObjectPropertyAssertion.of(AgentBuilder.InitializationStrategy.NoOp.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.InitializationStrategy.SelfInjection.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.InitializationStrategy.SelfInjection.Dispatcher.class).apply();
-        final Iterator<Class<?>> types = Arrays.<Class<?>>asList(Object.class, String.class).iterator();
-        ObjectPropertyAssertion.of(Nexus.class).create(new ObjectPropertyAssertion.Creator<Class<?>>() {
-            @Override
-            public Class<?> create() {
-                return types.next();
-            }
-        }).apply();
+        ObjectPropertyAssertion.of(Nexus.class).applyBasic();
         ObjectPropertyAssertion.of(AgentBuilder.InitializationStrategy.SelfInjection.NexusAccessor.class).apply();
         final Iterator<Method> methods = Arrays.asList(Object.class.getDeclaredMethods()).iterator();
         ObjectPropertyAssertion.of(AgentBuilder.InitializationStrategy.SelfInjection.NexusAccessor.Dispatcher.Available.class)
@@ -204,4 +268,17 @@ public class AgentBuilderInitializationStrategyTest {
         ObjectPropertyAssertion.of(AgentBuilder.InitializationStrategy.Dispatcher.LazyInitializer.Simple.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.InitializationStrategy.Premature.class).apply();
     }
+
+    public static class Foo {
+        /* empty */
+    }
+
+    public static class Bar {
+
+        public Object type;
+
+        public void onLoad(Class<?> type) {
+            this.type = type;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.HierarchyIndex;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AgentBuilderRawMatcherForHierarchyIndexTest {
+
+    private static final String FOO = "foo.Bar";
+
+    private TypeDescription serializable, annotated, plain;
+
+    private ClassLoader first, second;
+
+    @Before
+    public void setUp() throws Exception {
+        serializable = new ByteBuddy().subclass(Object.class).implement(Serializable.class).name(FOO).make().getTypeDescription();
+        annotated = new ByteBuddy().subclass(Foo.class).name(FOO).make().getTypeDescription();
+        plain = new ByteBuddy().subclass(Object.class).name(FOO).make().getTypeDescription();
+        first = new URLClassLoader(new URL[0]);
+        second = new URLClassLoader(new URL[0]);
+    }
+
+    @Test
+    public void testSubTypeIsResolvedPerClassLoader() throws Exception {
+        AgentBuilder.RawMatcher rawMatcher = AgentBuilder.RawMatcher.ForHierarchyIndex.isSubTypeOf(Serializable.class, new HierarchyIndex.PerClassLoader());
+        assertThat(rawMatcher.matches(serializable, first, null, null), is(true));
+        assertThat(rawMatcher.matches(plain, second, null, null), is(false));
+        assertThat(rawMatcher.matches(plain, null, null, null), is(false));
+        assertThat(rawMatcher.matches(plain, first, null, null), is(true));
+    }
+
+    @Test
+    public void testInheritedAnnotationIsResolvedPerClassLoader() throws Exception {
+        AgentBuilder.RawMatcher rawMatcher = AgentBuilder.RawMatcher.ForHierarchyIndex.inheritsAnnotation(Marker.class, new HierarchyIndex.PerClassLoader());
+        assertThat(rawMatcher.matches(annotated, first, null, null), is(true));
+        assertThat(rawMatcher.matches(plain, second, null, null), is(false));
+        assertThat(rawMatcher.matches(plain, first, null, null), is(true));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.RawMatcher.ForHierarchyIndex.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.RawMatcher.ForHierarchyIndex.IndexedMatcher.ForSubType.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.RawMatcher.ForHierarchyIndex.IndexedMatcher.ForInheritedAnnotation.class).apply();
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Marker {
+        /* empty */
+    }
+
+    @Marker
+    public static class Foo {
+        /* empty */
+    }
+}
@@ -0,0 +1,325 @@
+package net.bytebuddy.asm;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.SuperMethodCall;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.InvocationTargetException;
+
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class AdviceTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz";
+
+    private static final int FOOBAR = 42;
+
+    @Before
+    public void setUp() throws Exception {
+        Counter.enter = 0;
+        Counter.exit = 0;
+    }
+
+    @Test
+    public void testWriterFlags() throws Exception {
+        assertThat(Advice.to(CountingAdvice.class).mergeWriter(0), is(ClassWriter.COMPUTE_FRAMES));
+    }
+
+    @Test
+    public void testReaderFlags() throws Exception {
+        assertThat(Advice.to(CountingAdvice.class).mergeReader(FOOBAR), is(FOOBAR));
+    }
+
+    @Test
+    public void testEnterAndExitAdvice() throws Exception {
+        Class<?> type = redefine(Advice.to(CountingAdvice.class).on(named(FOO)));
+        assertThat(type.getDeclaredMethod(FOO, String.class).invoke(type.newInstance(), FOO), is((Object) (FOO + BAR)));
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+        assertThat(type.getDeclaredMethod(QUX, long.class, int.class).invoke(type.newInstance(), 1L, 2), is((Object) 3L));
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+    }
+
+    @Test
+    public void testExitAdviceOnException() throws Exception {
+        Class<?> type = redefine(Advice.to(CountingAdvice.class).on(named(BAR)));
+        try {
+            type.getDeclaredMethod(BAR, boolean.class).invoke(type.newInstance(), true);
+            fail();
+        } catch (InvocationTargetException exception) {
+            assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+        }
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+        assertThat(type.getDeclaredMethod(BAR, boolean.class).invoke(type.newInstance(), false), is((Object) BAZ));
+        assertThat(Counter.enter, is(2));
+        assertThat(Counter.exit, is(2));
+    }
+
+    @Test
+    public void testArgumentIsRemapped() throws Exception {
+        Class<?> type = redefine(Advice.to(ArgumentAdvice.class).on(named(FOO)));
+        assertThat(type.getDeclaredMethod(FOO, String.class).invoke(type.newInstance(), FOO), is((Object) (QUX + BAR)));
+    }
+
+    @Test
+    public void testLocalVariablesAreRemapped() throws Exception {
+        Class<?> type = redefine(Advice.to(LocalVariableAdvice.class).on(named(QUX)));
+        assertThat(type.getDeclaredMethod(QUX, long.class, int.class).invoke(type.newInstance(), 1L, 2), is((Object) 3L));
+        assertThat(Counter.enter, is(2));
+        assertThat(Counter.exit, is(-1));
+    }
+
+    @Test
+    public void testStaticMethod() throws Exception {
+        Class<?> type = redefine(Advice.to(CountingAdvice.class).on(named(BAZ)));
+        assertThat(type.getDeclaredMethod(BAZ, int.class).invoke(null, FOOBAR), is((Object) FOOBAR));
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoAdvice() throws Exception {
+        Advice.to(Object.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonStaticAdvice() throws Exception {
+        Advice.to(NonStaticAdvice.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnboundParameter() throws Exception {
+        Advice.to(UnboundParameterAdvice.class);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testWrapWithoutInstrumentedType() throws Exception {
+        Advice.to(CountingAdvice.class).wrap(mock(ClassVisitor.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIncompatibleArgument() throws Exception {
+        redefine(Advice.to(ArgumentAdvice.class).on(named(QUX)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnknownArgument() throws Exception {
+        redefine(Advice.to(LocalVariableAdvice.class).on(named(BAZ)));
+    }
+
+    @Test
+    public void testRebasedOriginalMethodIsNotAdvised() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .rebase(Sample.class)
+                .method(named(FOO))
+                .intercept(SuperMethodCall.INSTANCE)
+                .classVisitor(Advice.to(CountingAdvice.class))
+                .make()
+                .load(Sample.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        assertThat(type.getDeclaredMethod(FOO, String.class).invoke(type.newInstance(), FOO), is((Object) (FOO + BAR)));
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+    }
+
+    @Test
+    public void testBridgeMethodIsNotAdvised() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .redefine(BridgeSample.class)
+                .classVisitor(Advice.to(CountingAdvice.class))
+                .make()
+                .load(BridgeSample.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        assertThat(type.getDeclaredMethod(FOO, Object.class).isBridge(), is(true));
+        assertThat(type.getDeclaredMethod(FOO, Object.class).invoke(type.newInstance(), FOO), is((Object) FOO));
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+    }
+
+    @Test
+    public void testAnnotationIsMatched() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .redefine(AnnotatedSample.class)
+                .classVisitor(Advice.to(CountingAdvice.class).on(isAnnotatedWith(Advised.class)))
+                .make()
+                .load(AnnotatedSample.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        Object instance = type.newInstance();
+        assertThat(type.getDeclaredMethod(BAR).invoke(instance), is((Object) BAR));
+        assertThat(Counter.enter, is(0));
+        assertThat(type.getDeclaredMethod(FOO).invoke(instance), is((Object) FOO));
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+    }
+
+    @Test
+    public void testOverriddenMethodOfCreatedType() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .subclass(Sample.class)
+                .method(named(FOO))
+                .intercept(SuperMethodCall.INSTANCE)
+                .classVisitor(Advice.to(CountingAdvice.class).on(named(FOO)))
+                .make()
+                .load(Sample.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(type.getDeclaredMethod(FOO, String.class).invoke(type.newInstance(), FOO), is((Object) (FOO + BAR)));
+        assertThat(Counter.enter, is(1));
+        assertThat(Counter.exit, is(1));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(Advice.class).apply();
+        ObjectPropertyAssertion.of(Advice.Dispatcher.Inactive.class).apply();
+        ObjectPropertyAssertion.of(Advice.Dispatcher.Active.class).apply();
+        ObjectPropertyAssertion.of(Advice.MaxLocalsLocator.class).applyBasic();
+        ObjectPropertyAssertion.of(Advice.CodeCopier.class).applyBasic();
+    }
+
+    private static Class<?> redefine(Advice advice) throws Exception {
+        return new ByteBuddy()
+                .redefine(Sample.class)
+                .classVisitor(advice)
+                .make()
+                .load(Sample.class.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+    }
+
+    public static class Sample {
+
+        public static int baz(int value) {
+            return value;
+        }
+
+        public String foo(String value) {
+            String result = value + BAR;
+            return result;
+        }
+
+        public Object bar(boolean exception) {
+            if (exception) {
+                throw new IllegalStateException();
+            }
+            return BAZ;
+        }
+
+        public long qux(long first, int second) {
+            long result = first;
+            for (int index = 0; index < second; index++) {
+                result++;
+            }
+            return result;
+        }
+    }
+
+    public static class BridgeSample extends GenericSample<String> {
+
+        @Override
+        public String foo(String value) {
+            return value;
+        }
+    }
+
+    public abstract static class GenericSample<T> {
+
+        public abstract T foo(T value);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Advised {
+        /* empty */
+    }
+
+    public static class AnnotatedSample {
+
+        @Advised
+        public String foo() {
+            return FOO;
+        }
+
+        public String bar() {
+            return BAR;
+        }
+    }
+
+    public static class Counter {
+
+        public static int enter, exit;
+    }
+
+    public static class CountingAdvice {
+
+        @Advice.OnMethodEnter
+        private static void enter() {
+            Counter.enter++;
+        }
+
+        @Advice.OnMethodExit
+        private static void exit() {
+            Counter.exit++;
+        }
+    }
+
+    public static class ArgumentAdvice {
+
+        @Advice.OnMethodEnter
+        private static void enter(@Advice.Argument(0) String value) {
+            value = QUX;
+        }
+    }
+
+    public static class LocalVariableAdvice {
+
+        @Advice.OnMethodEnter
+        private static void enter(@Advice.Argument(1) int second, @Advice.Argument(0) long first) {
+            long sum = first + second;
+            int copy = second;
+            if (sum > 0) {
+                Counter.enter = copy;
+            }
+        }
+
+        @Advice.OnMethodExit
+        private static void exit(@Advice.Argument(0) long first) {
+            try {
+                if (first > 0) {
+                    throw new IllegalStateException();
+                }
+                Counter.exit = 1;
+            } catch (IllegalStateException exception) {
+                Counter.exit = -1;
+            }
+        }
+    }
+
+    public static class NonStaticAdvice {
+
+        @Advice.OnMethodEnter
+        private void enter() {
+            /* empty */
+        }
+    }
+
+    public static class UnboundParameterAdvice {
+
+        @Advice.OnMethodEnter
+        private static void enter(Object value) {
+            /* empty */
+        }
+    }
+}
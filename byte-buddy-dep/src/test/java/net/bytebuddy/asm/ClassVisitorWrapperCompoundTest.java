@@ -1,5 +1,6 @@
 package net.bytebuddy.asm;
 
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Before;
@@ -23,6 +24,12 @@ public class ClassVisitorWrapperCompoundTest {
     @Mock
     private ClassVisitorWrapper wrapper, prepend, append;
 
+    @Mock
+    private ClassVisitorWrapper.ForInstrumentedType typedWrapper;
+
+    @Mock
+    private TypeDescription instrumentedType;
+
     @Mock
     private ClassVisitor wrapperVisitor, prependVisitor, appendVisitor, resultVisitor;
 
@@ -51,6 +58,19 @@ public class ClassVisitorWrapperCompoundTest {
         verifyNoMoreInteractions(append);
     }
 
+    @Test
+    public void testWrapperChainForInstrumentedType() throws Exception {
+        when(typedWrapper.wrap(instrumentedType, wrapperVisitor)).thenReturn(appendVisitor);
+        ClassVisitorWrapper.Compound compound = new ClassVisitorWrapper.Compound(prepend, typedWrapper, append);
+        assertThat(compound.wrap(instrumentedType, prependVisitor), is(resultVisitor));
+        verify(prepend).wrap(prependVisitor);
+        verifyNoMoreInteractions(prepend);
+        verify(typedWrapper).wrap(instrumentedType, wrapperVisitor);
+        verifyNoMoreInteractions(typedWrapper);
+        verify(append).wrap(appendVisitor);
+        verifyNoMoreInteractions(append);
+    }
+
     @Test
     public void testReaderFlags() throws Exception {
         ClassVisitorWrapper.Compound compound = new ClassVisitorWrapper.Compound(prepend, wrapper, append);
@@ -78,5 +98,6 @@ public class ClassVisitorWrapperCompoundTest {
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(ClassVisitorWrapper.Compound.class).apply();
+        ObjectPropertyAssertion.of(ClassVisitorWrapper.ForInstrumentedType.Dispatcher.class).apply();
     }
 }
@@ -0,0 +1,72 @@
+package net.bytebuddy.description.annotation;
+
+import org.junit.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AnnotationDescriptionInstanceCacheTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testEmptyCache() throws Exception {
+        assertThat(new AnnotationDescription.InstanceCache().find(Foo.class, Foo.class.getClassLoader()), nullValue(Foo.class));
+    }
+
+    @Test
+    public void testCachedInstance() throws Exception {
+        AnnotationDescription.InstanceCache instanceCache = new AnnotationDescription.InstanceCache();
+        Foo foo = Sample.class.getAnnotation(Foo.class);
+        assertThat(instanceCache.register(foo), sameInstance(foo));
+        assertThat(instanceCache.find(Foo.class, foo.getClass().getClassLoader()), sameInstance(foo));
+    }
+
+    @Test
+    public void testCachedInstanceOtherType() throws Exception {
+        AnnotationDescription.InstanceCache instanceCache = new AnnotationDescription.InstanceCache();
+        Foo foo = Sample.class.getAnnotation(Foo.class);
+        instanceCache.register(foo);
+        assertThat(instanceCache.find(Bar.class, foo.getClass().getClassLoader()), nullValue(Bar.class));
+    }
+
+    @Test
+    public void testCachedInstanceOtherClassLoader() throws Exception {
+        AnnotationDescription.InstanceCache instanceCache = new AnnotationDescription.InstanceCache();
+        Foo foo = Sample.class.getAnnotation(Foo.class);
+        instanceCache.register(foo);
+        assertThat(instanceCache.find(Foo.class, new ClassLoader(foo.getClass().getClassLoader()) {
+            /* empty */
+        }), nullValue(Foo.class));
+    }
+
+    @Test
+    public void testLatentDescriptionIsLoadedOnce() throws Exception {
+        AnnotationDescription annotationDescription = AnnotationDescription.Builder.forType(Foo.class).define(FOO, FOO).make();
+        Foo foo = annotationDescription.prepare(Foo.class).loadSilent();
+        assertThat(foo.foo(), is(FOO));
+        assertThat(annotationDescription.prepare(Foo.class).loadSilent(), sameInstance(foo));
+        assertThat(foo, is(Sample.class.getAnnotation(Foo.class)));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Foo {
+
+        String foo();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Bar {
+        /* empty */
+    }
+
+    @Foo(foo = FOO)
+    private static class Sample {
+        /* empty */
+    }
+}
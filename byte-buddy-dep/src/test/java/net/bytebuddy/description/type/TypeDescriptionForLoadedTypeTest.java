@@ -1,10 +1,30 @@
 package net.bytebuddy.description.type;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.generic.GenericTypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTest {
 
@@ -22,4 +42,83 @@ public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTes
     protected GenericTypeDescription describe(Method method) {
         return new MethodDescription.ForLoadedMethod(method).getReturnType();
     }
+
+    @Test
+    public void testCanonicalDescription() throws Exception {
+        assertThat(TypeDescription.ForLoadedType.of(SampleType.class), sameInstance(TypeDescription.ForLoadedType.of(SampleType.class)));
+        assertThat(TypeDescription.ForLoadedType.of(SampleType.class), is(describe(SampleType.class)));
+        assertThat(TypeDescription.ForLoadedType.of(SampleType[].class).getComponentType(), sameInstance(TypeDescription.ForLoadedType.of(SampleType.class)));
+    }
+
+    @Test
+    public void testConcurrentCanonicalDescription() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final Class<?> type = new ByteBuddy().subclass(Object.class)
+                .make()
+                .load(null, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        List<FutureTask<TypeDescription>> tasks = new ArrayList<FutureTask<TypeDescription>>();
+        for (int index = 0; index < 8; index++) {
+            FutureTask<TypeDescription> task = new FutureTask<TypeDescription>(new Callable<TypeDescription>() {
+                @Override
+                public TypeDescription call() throws Exception {
+                    start.await();
+                    return TypeDescription.ForLoadedType.of(type);
+                }
+            });
+            tasks.add(task);
+            new Thread(task).start();
+        }
+        start.countDown();
+        for (FutureTask<TypeDescription> task : tasks) {
+            assertThat(task.get(10, TimeUnit.SECONDS), sameInstance(TypeDescription.ForLoadedType.of(type)));
+        }
+    }
+
+    @Test
+    public void testCanonicalDescriptionDoesNotPreventUnloading() throws Exception {
+        ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+        Class<?> type = new ByteBuddy().subclass(Object.class)
+                .make()
+                .load(classLoader, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(TypeDescription.ForLoadedType.of(type).represents(type), is(true));
+        Reference<Class<?>> reference = new WeakReference<Class<?>>(type);
+        type = null;
+        classLoader = null;
+        for (int attempt = 0; attempt < 10 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(reference.get(), nullValue(Class.class));
+    }
+
+    @Test
+    public void testCanonicalKeys() throws Exception {
+        TypeDescription.ForLoadedType.LookupKey lookupKey = new TypeDescription.ForLoadedType.LookupKey(SampleType.class);
+        TypeDescription.ForLoadedType.StorageKey storageKey = new TypeDescription.ForLoadedType.StorageKey(SampleType.class, null);
+        assertThat(lookupKey.equals(storageKey), is(true));
+        assertThat(storageKey.equals(lookupKey), is(true));
+        assertThat(lookupKey.hashCode(), is(storageKey.hashCode()));
+        assertThat(lookupKey.equals(new TypeDescription.ForLoadedType.LookupKey(SampleType.class)), is(true));
+        assertThat(storageKey.equals(new TypeDescription.ForLoadedType.StorageKey(SampleType.class, null)), is(true));
+        assertThat(lookupKey.equals(new TypeDescription.ForLoadedType.StorageKey(Object.class, null)), is(false));
+        assertThat(storageKey.equals(new TypeDescription.ForLoadedType.LookupKey(Object.class)), is(false));
+        assertThat(lookupKey.equals(new Object()), is(false));
+        assertThat(storageKey.equals(new Object()), is(false));
+    }
+
+    @Test
+    public void testMemoizedProperties() throws Exception {
+        TypeDescription.ForLoadedType typeDescription = new TypeDescription.ForLoadedType(SampleType.class);
+        assertThat(typeDescription.getDeclaredSuperType(), sameInstance(typeDescription.getDeclaredSuperType()));
+        assertThat(typeDescription.getDeclaredInterfaces(), sameInstance(typeDescription.getDeclaredInterfaces()));
+        assertThat(typeDescription.getDeclaredFields(), sameInstance(typeDescription.getDeclaredFields()));
+        assertThat(typeDescription.getDeclaredMethods(), sameInstance(typeDescription.getDeclaredMethods()));
+    }
+
+    private static class SampleType extends ArrayList<String> implements Serializable {
+
+        private Object value;
+    }
 }
@@ -7,6 +7,7 @@ import org.junit.Test;
 import java.lang.reflect.Type;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -18,6 +19,13 @@ public class GenericTypeDescriptionTest {
         ObjectPropertyAssertion.of(GenericTypeDescription.Sort.class).apply();
     }
 
+    @Test
+    public void testLazyProjectionIsResolvedOnce() throws Exception {
+        GenericTypeDescription.LazyProjection projection = new GenericTypeDescription.LazyProjection.OfLoadedSuperType(Object[].class);
+        assertThat(projection.resolve(), sameInstance(projection.resolve()));
+        assertThat(projection.resolve(), is((GenericTypeDescription) TypeDescription.OBJECT));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testUnknownType() throws Exception {
         GenericTypeDescription.Sort.describe(mock(Type.class));
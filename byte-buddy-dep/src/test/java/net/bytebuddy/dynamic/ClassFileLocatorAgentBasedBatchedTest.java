@@ -0,0 +1,154 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+public class ClassFileLocatorAgentBasedBatchedTest {
+
+    private static final byte[] FOO = new byte[]{1, 2, 3}, BAR = new byte[]{4, 5};
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private Instrumentation instrumentation;
+
+    @Mock
+    private ClassFileLocator.AgentBased.ClassLoadingDelegate classLoadingDelegate;
+
+    @Before
+    public void setUp() throws Exception {
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        when(instrumentation.isModifiableClass(any(Class.class))).thenReturn(true);
+        doReturn(Foo.class).when(classLoadingDelegate).locate(Foo.class.getName());
+        doReturn(Bar.class).when(classLoadingDelegate).locate(Bar.class.getName());
+        when(classLoadingDelegate.locate(Qux.class.getName())).thenThrow(new ClassNotFoundException());
+        final AtomicReference<ClassFileTransformer> classFileTransformer = new AtomicReference<ClassFileTransformer>();
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                classFileTransformer.set((ClassFileTransformer) invocation.getArguments()[0]);
+                return null;
+            }
+        }).when(instrumentation).addTransformer(any(ClassFileTransformer.class), anyBoolean());
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                for (Object type : invocation.getArguments()) {
+                    classFileTransformer.get().transform(Foo.class.getClassLoader(),
+                            ((Class<?>) type).getName().replace('.', '/'),
+                            (Class<?>) type,
+                            null,
+                            type == Foo.class ? FOO : BAR);
+                }
+                return null;
+            }
+        }).when(instrumentation).retransformClasses(Mockito.<Class<?>>anyVararg());
+    }
+
+    @Test
+    public void testLocateIsCached() throws Exception {
+        ClassFileLocator.AgentBased.Batched classFileLocator = new ClassFileLocator.AgentBased.Batched(instrumentation, classLoadingDelegate, 10L);
+        assertThat(classFileLocator.locate(Foo.class.getName()).resolve(), is(FOO));
+        assertThat(classFileLocator.locate(Foo.class.getName()).resolve(), is(FOO));
+        verify(instrumentation, times(1)).retransformClasses(Foo.class);
+        verify(instrumentation, times(1)).removeTransformer(any(ClassFileTransformer.class));
+    }
+
+    @Test
+    public void testPrefetchIsBatched() throws Exception {
+        ClassFileLocator.AgentBased.Batched classFileLocator = new ClassFileLocator.AgentBased.Batched(instrumentation, classLoadingDelegate, 10L);
+        classFileLocator.prefetch(Foo.class.getName(), Bar.class.getName(), Qux.class.getName());
+        verify(instrumentation).retransformClasses(Foo.class, Bar.class);
+        assertThat(classFileLocator.locate(Foo.class.getName()).resolve(), is(FOO));
+        assertThat(classFileLocator.locate(Bar.class.getName()).resolve(), is(BAR));
+        assertThat(classFileLocator.locate(Qux.class.getName()).isResolved(), is(false));
+        verify(instrumentation, times(1)).retransformClasses(Mockito.<Class<?>>anyVararg());
+    }
+
+    @Test
+    public void testPrefetchSkipsCachedAndUnmodifiable() throws Exception {
+        when(instrumentation.isModifiableClass(Bar.class)).thenReturn(false);
+        ClassFileLocator.AgentBased.Batched classFileLocator = new ClassFileLocator.AgentBased.Batched(instrumentation, classLoadingDelegate, 10L);
+        classFileLocator.prefetch(Foo.class.getName());
+        classFileLocator.prefetch(Arrays.asList(Foo.class.getName(), Bar.class.getName()));
+        verify(instrumentation, times(1)).retransformClasses(Mockito.<Class<?>>anyVararg());
+    }
+
+    @Test
+    public void testCacheEviction() throws Exception {
+        ClassFileLocator.AgentBased.Batched classFileLocator = new ClassFileLocator.AgentBased.Batched(instrumentation, classLoadingDelegate, FOO.length);
+        classFileLocator.prefetch(Foo.class.getName(), Bar.class.getName());
+        classFileLocator.locate(Foo.class.getName());
+        classFileLocator.locate(Bar.class.getName());
+        verify(instrumentation, times(2)).retransformClasses(Mockito.<Class<?>>anyVararg());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        ClassFileLocator.AgentBased.Batched classFileLocator = new ClassFileLocator.AgentBased.Batched(instrumentation, classLoadingDelegate, 10L);
+        classFileLocator.locate(Foo.class.getName());
+        classFileLocator.clear();
+        classFileLocator.locate(Foo.class.getName());
+        verify(instrumentation, times(2)).retransformClasses(Foo.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonCompatible() throws Exception {
+        new ClassFileLocator.AgentBased.Batched(mock(Instrumentation.class), classLoadingDelegate, 10L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSize() throws Exception {
+        new ClassFileLocator.AgentBased.Batched(instrumentation, classLoadingDelegate, -1L);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassFileLocator.AgentBased.Batched.class).refine(new ObjectPropertyAssertion.Refinement<Instrumentation>() {
+            @Override
+            public void apply(Instrumentation mock) {
+                when(mock.isRetransformClassesSupported()).thenReturn(true);
+            }
+        }).apply();
+        ObjectPropertyAssertion.of(ClassFileLocator.AgentBased.BatchExtractionClassFileTransformer.class).create(new ObjectPropertyAssertion.Creator<Collection<Class<?>>>() {
+            @Override
+            public Collection<Class<?>> create() {
+                return Collections.<Class<?>>singletonList(Foo.class);
+            }
+        }).applyBasic();
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+
+    private static class Bar {
+        /* empty */
+    }
+
+    private static class Qux {
+        /* empty */
+    }
+}
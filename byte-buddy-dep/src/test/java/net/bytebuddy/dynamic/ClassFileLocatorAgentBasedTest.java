@@ -48,6 +48,20 @@ public class ClassFileLocatorAgentBasedTest {
         assertThat(resolution.resolve(), notNullValue(byte[].class));
     }
 
+    @Test
+    @AgentAttachmentRule.Enforce(retransformsClasses = true)
+    public void testBatchedExtraction() throws Exception {
+        Instrumentation instrumentation = ByteBuddyAgent.install();
+        ClassFileLocator.AgentBased.Batched classFileLocator = new ClassFileLocator.AgentBased.Batched(instrumentation,
+                getClass().getClassLoader(),
+                Long.MAX_VALUE);
+        classFileLocator.prefetch(Foo.class.getName(), Object.class.getName());
+        ClassFileLocator.Resolution resolution = classFileLocator.locate(Foo.class.getName());
+        assertThat(resolution.isResolved(), is(true));
+        assertThat(resolution.resolve(), notNullValue(byte[].class));
+        assertThat(classFileLocator.locate(Object.class.getName()).isResolved(), is(true));
+    }
+
     @Test
     @AgentAttachmentRule.Enforce(retransformsClasses = true)
     public void testExtractionOfInflatedMethodAccessor() throws Exception {
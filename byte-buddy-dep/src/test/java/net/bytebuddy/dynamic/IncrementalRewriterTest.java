@@ -0,0 +1,221 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IncrementalRewriterTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz";
+
+    private static final String TRANSFORMED = FOO + "." + BAR, COPIED = FOO + "." + QUX;
+
+    private File folder, source, target, index;
+
+    private CountingTransformer transformer;
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    private static File classFile(File folder, String typeName) {
+        return new File(folder, typeName.replace('.', File.separatorChar) + TypeSink.CLASS_FILE_EXTENSION);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        assertThat(file.delete(), is(true));
+        folder = new File(file.getParentFile(), FOO + RandomString.make());
+        assertThat(folder.mkdir(), is(true));
+        source = new File(folder, FOO);
+        target = new File(folder, BAR);
+        index = new File(folder, QUX);
+        transformer = new CountingTransformer();
+        new ByteBuddy().subclass(Object.class).name(TRANSFORMED).make().saveIn(source);
+        new ByteBuddy().subclass(Object.class).name(COPIED).make().saveIn(source);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        delete(folder);
+    }
+
+    private IncrementalRewriter.Summary rewrite(String version) throws Exception {
+        return new IncrementalRewriter(transformer, ClassFileLocator.ForClassLoader.ofClassPath(), version).rewrite(source, target, index);
+    }
+
+    @Test
+    public void testInitialRewrite() throws Exception {
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getTransformed(), is(1));
+        assertThat(summary.getCopied(), is(1));
+        assertThat(summary.getUnchanged(), is(0));
+        assertThat(summary.getDeleted(), is(0));
+        assertThat(transformer.count.get(), is(1));
+        TypePool typePool = TypePool.Default.of(new ClassFileLocator.Compound(new ClassFileLocator.ForFolder(target),
+                ClassFileLocator.ForClassLoader.ofClassPath()));
+        assertThat(typePool.describe(TRANSFORMED).resolve().getDeclaredFields().getOnly().getName(), is(BAZ));
+        assertThat(typePool.describe(COPIED).resolve().getDeclaredFields().size(), is(0));
+        assertThat(index.isFile(), is(true));
+    }
+
+    @Test
+    public void testUnchangedRewrite() throws Exception {
+        rewrite(FOO);
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getTransformed(), is(0));
+        assertThat(summary.getCopied(), is(0));
+        assertThat(summary.getUnchanged(), is(2));
+        assertThat(summary.getDeleted(), is(0));
+        assertThat(transformer.count.get(), is(1));
+    }
+
+    @Test
+    public void testChangedFileIsRewritten() throws Exception {
+        rewrite(FOO);
+        new ByteBuddy().subclass(Object.class).name(COPIED).defineField(QUX, Object.class, Modifier.PUBLIC).make().saveIn(source);
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getTransformed(), is(0));
+        assertThat(summary.getCopied(), is(1));
+        assertThat(summary.getUnchanged(), is(1));
+        assertThat(TypePool.Default.of(new ClassFileLocator.ForFolder(target)).describe(COPIED).resolve().getDeclaredFields().size(), is(1));
+    }
+
+    @Test
+    public void testChangedSuperTypeIsRewritten() throws Exception {
+        DynamicType superType = new ByteBuddy().subclass(Object.class).name(COPIED).make();
+        superType.saveIn(source);
+        new ByteBuddy().subclass(superType.getTypeDescription()).name(TRANSFORMED).make().saveIn(source);
+        rewrite(FOO);
+        new ByteBuddy().subclass(Object.class).name(COPIED).defineField(QUX, Object.class, Modifier.PUBLIC).make().saveIn(source);
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getTransformed(), is(1));
+        assertThat(summary.getCopied(), is(1));
+        assertThat(summary.getUnchanged(), is(0));
+        assertThat(transformer.count.get(), is(2));
+    }
+
+    @Test
+    public void testMissingOutputIsRewritten() throws Exception {
+        rewrite(FOO);
+        assertThat(classFile(target, TRANSFORMED).delete(), is(true));
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getTransformed(), is(1));
+        assertThat(summary.getUnchanged(), is(1));
+        assertThat(classFile(target, TRANSFORMED).isFile(), is(true));
+    }
+
+    @Test
+    public void testRemovedFileIsDeleted() throws Exception {
+        rewrite(FOO);
+        assertThat(classFile(source, COPIED).delete(), is(true));
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getUnchanged(), is(1));
+        assertThat(summary.getDeleted(), is(1));
+        assertThat(classFile(target, COPIED).exists(), is(false));
+    }
+
+    @Test
+    public void testResourceIsCopied() throws Exception {
+        File resource = new File(source, BAZ);
+        OutputStream outputStream = new FileOutputStream(resource);
+        try {
+            outputStream.write(new byte[]{1, 2, 3});
+        } finally {
+            outputStream.close();
+        }
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getCopied(), is(2));
+        assertThat(new File(target, BAZ).length(), is(3L));
+        assertThat(rewrite(FOO).getUnchanged(), is(3));
+    }
+
+    @Test
+    public void testVersionChangeRewritesAll() throws Exception {
+        rewrite(FOO);
+        IncrementalRewriter.Summary summary = rewrite(BAR);
+        assertThat(summary.getTransformed(), is(1));
+        assertThat(summary.getCopied(), is(1));
+        assertThat(summary.getUnchanged(), is(0));
+        assertThat(transformer.count.get(), is(2));
+    }
+
+    @Test
+    public void testCorruptIndexRewritesAll() throws Exception {
+        rewrite(FOO);
+        Writer writer = new OutputStreamWriter(new FileOutputStream(index, true), "UTF-8");
+        try {
+            writer.write(QUX + "\n");
+        } finally {
+            writer.close();
+        }
+        IncrementalRewriter.Summary summary = rewrite(FOO);
+        assertThat(summary.getTransformed(), is(1));
+        assertThat(summary.getCopied(), is(1));
+        assertThat(summary.getUnchanged(), is(0));
+        assertThat(transformer.count.get(), is(2));
+        assertThat(rewrite(FOO).getUnchanged(), is(2));
+    }
+
+    @Test
+    public void testIndexIsReplaced() throws Exception {
+        rewrite(FOO);
+        rewrite(FOO);
+        assertThat(folder.list().length, is(3));
+        assertThat(index.isFile(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCannotRewriteInPlace() throws Exception {
+        new IncrementalRewriter(transformer, ClassFileLocator.NoOp.INSTANCE, FOO).rewrite(source, source, index);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(IncrementalRewriter.class).apply();
+        ObjectPropertyAssertion.of(IncrementalRewriter.Summary.class).apply();
+        ObjectPropertyAssertion.of(IncrementalRewriter.Index.class).apply();
+        ObjectPropertyAssertion.of(IncrementalRewriter.Index.Entry.class).apply();
+        ObjectPropertyAssertion.of(IncrementalRewriter.DependencyResolver.Dependency.Unresolved.class).apply();
+        ObjectPropertyAssertion.of(IncrementalRewriter.DependencyResolver.Dependency.Resolved.class).apply();
+    }
+
+    private static class CountingTransformer implements IncrementalRewriter.Transformer {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public boolean matches(TypeDescription typeDescription) {
+            return typeDescription.getName().equals(TRANSFORMED);
+        }
+
+        @Override
+        public DynamicType.Builder<?> transform(TypeDescription typeDescription, ClassFileLocator classFileLocator) {
+            count.incrementAndGet();
+            return new ByteBuddy().redefine(typeDescription, classFileLocator).defineField(BAZ, Object.class, Modifier.PUBLIC);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class TypeBatchTest {
+
+    private static final String FOO = "foo";
+
+    private static final int COUNT = 16;
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() throws Exception {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void testMakeInOrder() throws Exception {
+        ByteBuddy byteBuddy = new ByteBuddy().withMethodGraphCompiler(MethodGraph.Compiler.Default.Caching.forJavaHierarchy());
+        List<DynamicType.Builder<?>> builders = new ArrayList<DynamicType.Builder<?>>(COUNT);
+        for (int index = 0; index < COUNT; index++) {
+            builders.add(byteBuddy.subclass(Callable.class)
+                    .name(Foo.class.getName() + index)
+                    .method(named("call"))
+                    .intercept(FixedValue.value(index)));
+        }
+        List<DynamicType.Unloaded<?>> unloadedTypes = new TypeBatch(executorService).make(builders);
+        assertThat(unloadedTypes.size(), is(COUNT));
+        for (int index = 0; index < COUNT; index++) {
+            assertThat(unloadedTypes.get(index).getTypeDescription().getName(), is(Foo.class.getName() + index));
+        }
+        List<DynamicType.Loaded<?>> loadedTypes = TypeBatch.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER, unloadedTypes);
+        assertThat(loadedTypes.size(), is(COUNT));
+        ClassLoader classLoader = loadedTypes.get(0).getLoaded().getClassLoader();
+        for (int index = 0; index < COUNT; index++) {
+            Class<?> type = loadedTypes.get(index).getLoaded();
+            assertThat(type.getClassLoader(), is(classLoader));
+            assertThat(((Callable<?>) type.newInstance()).call(), is((Object) index));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSingleClassLoadingStrategyApplication() throws Exception {
+        ClassLoadingStrategy classLoadingStrategy = spy(new ClassLoadingStrategy() {
+            @Override
+            public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+                return ClassLoadingStrategy.Default.WRAPPER.load(classLoader, types);
+            }
+        });
+        List<DynamicType.Loaded<?>> loadedTypes = new TypeBatch(executorService).makeAndLoad(getClass().getClassLoader(),
+                classLoadingStrategy,
+                Collections.<DynamicType.Builder<?>>nCopies(2, new ByteBuddy().subclass(Object.class)));
+        assertThat(loadedTypes.size(), is(2));
+        verify(classLoadingStrategy).load(any(ClassLoader.class), any(Map.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @SuppressWarnings("unchecked")
+    public void testExceptionIsPropagated() throws Exception {
+        DynamicType.Builder<?> builder = mock(DynamicType.Builder.class);
+        when(builder.make()).thenThrow(new IllegalArgumentException());
+        new TypeBatch(executorService).make(builder);
+    }
+
+    @Test
+    public void testMakeIntoSink() throws Exception {
+        List<DynamicType.Builder<?>> builders = new ArrayList<DynamicType.Builder<?>>(COUNT);
+        for (int index = 0; index < COUNT; index++) {
+            builders.add(new ByteBuddy().subclass(Object.class).name(Foo.class.getName() + index));
+        }
+        TypeSink typeSink = mock(TypeSink.class);
+        List<TypeDescription> typeDescriptions = new TypeBatch(executorService).make(builders, typeSink);
+        assertThat(typeDescriptions.size(), is(COUNT));
+        for (int index = 0; index < COUNT; index++) {
+            assertThat(typeDescriptions.get(index).getName(), is(Foo.class.getName() + index));
+        }
+        verify(typeSink, times(COUNT)).store(any(DynamicType.class));
+        verifyNoMoreInteractions(typeSink);
+    }
+
+    @Test(expected = IOException.class)
+    public void testSinkExceptionIsPropagated() throws Exception {
+        TypeSink typeSink = mock(TypeSink.class);
+        doThrow(new IOException()).when(typeSink).store(any(DynamicType.class));
+        new TypeBatch(executorService).make(Collections.<DynamicType.Builder<?>>singletonList(new ByteBuddy().subclass(Object.class)), typeSink);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateTypeNameCannotBeLoaded() throws Exception {
+        ClassLoadingStrategy classLoadingStrategy = mock(ClassLoadingStrategy.class);
+        try {
+            new TypeBatch(executorService).makeAndLoad(getClass().getClassLoader(),
+                    classLoadingStrategy,
+                    Collections.<DynamicType.Builder<?>>nCopies(2, new ByteBuddy().subclass(Object.class).name(Foo.class.getName())));
+        } finally {
+            verifyZeroInteractions(classLoadingStrategy);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownTypeCannotBeLoaded() throws Exception {
+        new TypeBatch.ForLoadedTypes(Collections.<TypeDescription, Class<?>>emptyMap())
+                .load(getClass().getClassLoader(), Collections.singletonMap(TypeDescription.OBJECT, new byte[0]));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeBatch.class).apply();
+        ObjectPropertyAssertion.of(TypeBatch.Creation.class).apply();
+        ObjectPropertyAssertion.of(TypeBatch.Storage.class).apply();
+        ObjectPropertyAssertion.of(TypeBatch.ForLoadedTypes.class).apply();
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+}
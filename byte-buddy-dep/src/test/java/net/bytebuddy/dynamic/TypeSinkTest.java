@@ -0,0 +1,205 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class TypeSinkTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz";
+
+    private static final byte[] BINARY_FIRST = new byte[]{1, 2, 3}, BINARY_SECOND = new byte[]{4, 5, 6};
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType dynamicType;
+
+    @Mock
+    private TypeDescription typeDescription, auxiliaryTypeDescription;
+
+    @Mock
+    private TypeSink delegate;
+
+    private ExecutorService executorService;
+
+    private File folder;
+
+    private static byte[] read(File file) throws IOException {
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        executorService = Executors.newSingleThreadExecutor();
+        File file = File.createTempFile(FOO, BAR);
+        assertThat(file.delete(), is(true));
+        folder = new File(file.getParentFile(), FOO + RandomString.make());
+        assertThat(folder.mkdir(), is(true));
+        when(typeDescription.getName()).thenReturn(FOO + "." + BAR);
+        when(typeDescription.getInternalName()).thenReturn(FOO + "/" + BAR);
+        when(auxiliaryTypeDescription.getName()).thenReturn(QUX + "." + BAZ);
+        when(auxiliaryTypeDescription.getInternalName()).thenReturn(QUX + "/" + BAZ);
+        Map<TypeDescription, byte[]> allTypes = new LinkedHashMap<TypeDescription, byte[]>();
+        allTypes.put(typeDescription, BINARY_FIRST);
+        allTypes.put(auxiliaryTypeDescription, BINARY_SECOND);
+        when(dynamicType.getAllTypes()).thenReturn(allTypes);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.SECONDS), is(true));
+        delete(folder);
+    }
+
+    @Test
+    public void testFolder() throws Exception {
+        TypeSink typeSink = new TypeSink.ForFolder(folder);
+        typeSink.store(dynamicType);
+        typeSink.close();
+        assertThat(read(new File(folder, FOO + File.separatorChar + BAR + TypeSink.CLASS_FILE_EXTENSION)), is(BINARY_FIRST));
+        assertThat(read(new File(folder, QUX + File.separatorChar + BAZ + TypeSink.CLASS_FILE_EXTENSION)), is(BINARY_SECOND));
+    }
+
+    @Test
+    public void testJarFile() throws Exception {
+        File file = new File(folder, FOO + ".jar");
+        TypeSink typeSink = TypeSink.ForJarFile.open(file);
+        typeSink.store(dynamicType);
+        typeSink.close();
+        Map<String, byte[]> entries = new HashMap<String, byte[]>();
+        JarInputStream jarInputStream = new JarInputStream(new FileInputStream(file));
+        try {
+            assertThat(jarInputStream.getManifest() != null, is(true));
+            JarEntry jarEntry;
+            while ((jarEntry = jarInputStream.getNextJarEntry()) != null) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int length;
+                while ((length = jarInputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+                entries.put(jarEntry.getName(), outputStream.toByteArray());
+            }
+        } finally {
+            jarInputStream.close();
+        }
+        assertThat(entries.size(), is(2));
+        assertThat(entries.get(FOO + "/" + BAR + TypeSink.CLASS_FILE_EXTENSION), is(BINARY_FIRST));
+        assertThat(entries.get(QUX + "/" + BAZ + TypeSink.CLASS_FILE_EXTENSION), is(BINARY_SECOND));
+    }
+
+    @Test
+    public void testAsynchronousStorage() throws Exception {
+        TypeSink typeSink = new TypeSink.Asynchronous(delegate, executorService, 1024);
+        typeSink.store(dynamicType);
+        typeSink.close();
+        verify(delegate).store(dynamicType);
+        verify(delegate).close();
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    public void testAsynchronousStorageIsBounded() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                latch.await();
+                return null;
+            }
+        }).when(delegate).store(dynamicType);
+        final TypeSink typeSink = new TypeSink.Asynchronous(delegate, executorService, BINARY_FIRST.length + BINARY_SECOND.length);
+        typeSink.store(dynamicType);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    typeSink.store(dynamicType);
+                } catch (IOException exception) {
+                    throw new AssertionError(exception);
+                }
+            }
+        };
+        thread.start();
+        thread.join(100L);
+        assertThat(thread.isAlive(), is(true));
+        latch.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(thread.isAlive(), is(false));
+        typeSink.close();
+        verify(delegate, times(2)).store(dynamicType);
+        verify(delegate).close();
+    }
+
+    @Test(expected = IOException.class)
+    public void testAsynchronousStorageFailureOnClose() throws Exception {
+        doThrow(new IOException()).when(delegate).store(dynamicType);
+        TypeSink typeSink = new TypeSink.Asynchronous(delegate, executorService, 1024);
+        typeSink.store(dynamicType);
+        typeSink.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAsynchronousIllegalBound() throws Exception {
+        new TypeSink.Asynchronous(delegate, executorService, 0);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeSink.ForFolder.class).apply();
+        ObjectPropertyAssertion.of(TypeSink.ForJarFile.class).apply();
+        ObjectPropertyAssertion.of(TypeSink.Asynchronous.class).applyBasic();
+    }
+}
@@ -11,14 +11,23 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.io.File;
+import java.lang.instrument.Instrumentation;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.JarFile;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
 
 public class ClassInjectorUsingInstrumentationTest {
 
@@ -65,9 +74,202 @@ public class ClassInjectorUsingInstrumentationTest {
         assertThat(types.get(dynamicType.getTypeDescription()).getClassLoader(), is(ClassLoader.getSystemClassLoader()));
     }
 
+    @Test
+    @AgentAttachmentRule.Enforce
+    public void testCoalescingSystemInjection() throws Exception {
+        ClassInjector.UsingInstrumentation.Coalescing classInjector = ClassInjector.UsingInstrumentation.Coalescing.of(folder,
+                ClassInjector.UsingInstrumentation.Target.SYSTEM,
+                ByteBuddyAgent.install(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                Long.MAX_VALUE);
+        String name = BAR + RandomString.make();
+        DynamicType dynamicType = new ByteBuddy().subclass(Object.class).name(name).make();
+        Map<TypeDescription, Class<?>> types = classInjector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()));
+        assertThat(types.size(), is(1));
+        assertThat(types.get(dynamicType.getTypeDescription()).getName(), is(name));
+        assertThat(types.get(dynamicType.getTypeDescription()).getClassLoader(), is(ClassLoader.getSystemClassLoader()));
+        assertThat(classInjector.getAppendedJarCount(), is(1L));
+        assertThat(classInjector.getInjectionNanos() > 0L, is(true));
+    }
+
+    @Test
+    public void testCoalescingLoneInjectionIsImmediate() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        ClassInjector.UsingInstrumentation.Coalescing classInjector = ClassInjector.UsingInstrumentation.Coalescing.of(folder,
+                ClassInjector.UsingInstrumentation.Target.SYSTEM,
+                instrumentation,
+                1L,
+                TimeUnit.MINUTES,
+                Long.MAX_VALUE);
+        TypeDescription typeDescription = mock(TypeDescription.class);
+        when(typeDescription.getInternalName()).thenReturn(FOO);
+        when(typeDescription.getName()).thenReturn(Object.class.getName());
+        long start = System.nanoTime();
+        Map<TypeDescription, Class<?>> types = classInjector.inject(Collections.singletonMap(typeDescription, new byte[1]));
+        assertThat(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10L), is(true));
+        assertThat(types.size(), is(1));
+        assertThat(types.get(typeDescription), is((Object) Object.class));
+        assertThat(classInjector.getAppendedJarCount(), is(1L));
+        verify(instrumentation).appendToSystemClassLoaderSearch(any(JarFile.class));
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testCoalescingInjectionIsBatched() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        CountDownLatch appending = new CountDownLatch(1), release = new CountDownLatch(1);
+        block(instrumentation, appending, release);
+        final ClassInjector.UsingInstrumentation.Coalescing classInjector = ClassInjector.UsingInstrumentation.Coalescing.of(folder,
+                ClassInjector.UsingInstrumentation.Target.SYSTEM,
+                instrumentation,
+                1L,
+                TimeUnit.MINUTES,
+                2L);
+        final TypeDescription first = mock(TypeDescription.class), second = mock(TypeDescription.class), third = mock(TypeDescription.class);
+        when(first.getInternalName()).thenReturn(FOO);
+        when(first.getName()).thenReturn(Object.class.getName());
+        when(second.getInternalName()).thenReturn(BAR);
+        when(second.getName()).thenReturn(String.class.getName());
+        when(third.getInternalName()).thenReturn(FOO + BAR);
+        when(third.getName()).thenReturn(Integer.class.getName());
+        final AtomicReference<Map<TypeDescription, Class<?>>> types = new AtomicReference<Map<TypeDescription, Class<?>>>();
+        Thread blocker = inject(classInjector, third, null);
+        blocker.start();
+        appending.await();
+        Thread leader = inject(classInjector, first, null);
+        leader.start();
+        while (leader.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(10L);
+        }
+        Thread follower = new Thread() {
+            @Override
+            public void run() {
+                types.set(classInjector.inject(Collections.singletonMap(second, new byte[1])));
+            }
+        };
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING || leader.getState() != Thread.State.WAITING) {
+            Thread.sleep(10L);
+        }
+        release.countDown();
+        blocker.join(TimeUnit.SECONDS.toMillis(10L));
+        leader.join(TimeUnit.SECONDS.toMillis(10L));
+        follower.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(blocker.isAlive(), is(false));
+        assertThat(leader.isAlive(), is(false));
+        assertThat(follower.isAlive(), is(false));
+        assertThat(types.get().size(), is(1));
+        assertThat(types.get().get(second), is((Object) String.class));
+        assertThat(classInjector.getAppendedJarCount(), is(2L));
+        verify(instrumentation, times(2)).appendToSystemClassLoaderSearch(any(JarFile.class));
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testCoalescingInterruptedLeaderReleasesBatch() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        CountDownLatch appending = new CountDownLatch(1), release = new CountDownLatch(1);
+        block(instrumentation, appending, release);
+        final ClassInjector.UsingInstrumentation.Coalescing classInjector = ClassInjector.UsingInstrumentation.Coalescing.of(folder,
+                ClassInjector.UsingInstrumentation.Target.SYSTEM,
+                instrumentation,
+                1L,
+                TimeUnit.MINUTES,
+                Long.MAX_VALUE);
+        final TypeDescription first = mock(TypeDescription.class), second = mock(TypeDescription.class), third = mock(TypeDescription.class);
+        when(third.getInternalName()).thenReturn(FOO);
+        when(third.getName()).thenReturn(Object.class.getName());
+        AtomicReference<Throwable> leaderFailure = new AtomicReference<Throwable>(), followerFailure = new AtomicReference<Throwable>();
+        Thread blocker = inject(classInjector, third, null);
+        blocker.start();
+        appending.await();
+        Thread leader = inject(classInjector, first, leaderFailure);
+        leader.start();
+        while (leader.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(10L);
+        }
+        Thread follower = inject(classInjector, second, followerFailure);
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING) {
+            Thread.sleep(10L);
+        }
+        leader.interrupt();
+        leader.join(TimeUnit.SECONDS.toMillis(10L));
+        follower.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(leader.isAlive(), is(false));
+        assertThat(follower.isAlive(), is(false));
+        assertThat(leaderFailure.get() instanceof IllegalStateException, is(true));
+        assertThat(leaderFailure.get().getCause() instanceof InterruptedException, is(true));
+        assertThat(followerFailure.get() instanceof IllegalStateException, is(true));
+        assertThat(followerFailure.get().getCause(), is(leaderFailure.get()));
+        release.countDown();
+        blocker.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(blocker.isAlive(), is(false));
+        verify(instrumentation).appendToSystemClassLoaderSearch(any(JarFile.class));
+        verifyNoMoreInteractions(instrumentation);
+        assertThat(classInjector.toString().contains("pending=null"), is(true));
+        assertThat(classInjector.toString().contains("writing=false"), is(true));
+        assertThat(classInjector.toString().contains("inFlight=0"), is(true));
+    }
+
+    private static void block(Instrumentation instrumentation, final CountDownLatch appending, final CountDownLatch release) {
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                appending.countDown();
+                release.await();
+                return null;
+            }
+        }).when(instrumentation).appendToSystemClassLoaderSearch(any(JarFile.class));
+    }
+
+    private static Thread inject(final ClassInjector classInjector,
+                                 final TypeDescription typeDescription,
+                                 final AtomicReference<Throwable> failure) {
+        return new Thread() {
+            @Override
+            public void run() {
+                try {
+                    classInjector.inject(Collections.singletonMap(typeDescription, new byte[1]));
+                } catch (Throwable throwable) {
+                    if (failure == null) {
+                        throw new AssertionError(throwable);
+                    }
+                    failure.set(throwable);
+                }
+            }
+        };
+    }
+
+    @Test
+    public void testCoalescingEmptyInjection() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        ClassInjector.UsingInstrumentation.Coalescing classInjector = ClassInjector.UsingInstrumentation.Coalescing.of(folder,
+                ClassInjector.UsingInstrumentation.Target.BOOTSTRAP,
+                instrumentation,
+                1L,
+                TimeUnit.MINUTES,
+                Long.MAX_VALUE);
+        assertThat(classInjector.inject(Collections.<TypeDescription, byte[]>emptyMap()).size(), is(0));
+        assertThat(classInjector.getAppendedJarCount(), is(0L));
+        verifyZeroInteractions(instrumentation);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCoalescingNegativeWindow() throws Exception {
+        ClassInjector.UsingInstrumentation.Coalescing.of(folder,
+                ClassInjector.UsingInstrumentation.Target.BOOTSTRAP,
+                mock(Instrumentation.class),
+                -1L,
+                TimeUnit.MILLISECONDS,
+                Long.MAX_VALUE);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(ClassInjector.UsingInstrumentation.class).apply();
+        ObjectPropertyAssertion.of(ClassInjector.UsingInstrumentation.Coalescing.class).applyBasic();
         ObjectPropertyAssertion.of(ClassInjector.UsingInstrumentation.Target.class).apply();
     }
 }
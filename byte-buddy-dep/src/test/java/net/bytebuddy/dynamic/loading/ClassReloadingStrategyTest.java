@@ -2,20 +2,30 @@ package net.bytebuddy.dynamic.loading;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.test.utility.AgentAttachmentRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.lang.instrument.ClassDefinition;
+import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
+import java.util.Collections;
+import java.util.Map;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.*;
 
 public class ClassReloadingStrategyTest {
 
@@ -102,6 +112,104 @@ public class ClassReloadingStrategyTest {
         assertThat(foo.foo(), is(FOO));
     }
 
+    @Test
+    @AgentAttachmentRule.Enforce(redefinesClasses = true)
+    public void testSnapshotReloadingStrategy() throws Exception {
+        assertThat(ByteBuddyAgent.install(), instanceOf(Instrumentation.class));
+        Foo foo = new Foo();
+        assertThat(foo.foo(), is(FOO));
+        ClassReloadingStrategy classReloadingStrategy = ClassReloadingStrategy.fromInstalledAgent().enableSnapshots();
+        new ByteBuddy()
+                .redefine(Foo.class)
+                .method(named(FOO))
+                .intercept(FixedValue.value(BAR))
+                .make()
+                .load(Foo.class.getClassLoader(), classReloadingStrategy);
+        assertThat(foo.foo(), is(BAR));
+        classReloadingStrategy.reset(Foo.class);
+        assertThat(foo.foo(), is(FOO));
+    }
+
+    @Test
+    public void testSnapshotSkipsUnchangedRedefinition() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        ClassReloadingStrategy classReloadingStrategy = new ClassReloadingStrategy(instrumentation).enableSnapshots();
+        byte[] binaryRepresentation = new ByteBuddy().redefine(Foo.class)
+                .method(named(FOO))
+                .intercept(FixedValue.value(BAR))
+                .make()
+                .getBytes();
+        Map<TypeDescription, byte[]> types = Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class),
+                binaryRepresentation);
+        classReloadingStrategy.load(Foo.class.getClassLoader(), types);
+        verify(instrumentation).redefineClasses(any(ClassDefinition[].class));
+        classReloadingStrategy.load(Foo.class.getClassLoader(), types);
+        verify(instrumentation).redefineClasses(any(ClassDefinition[].class));
+        classReloadingStrategy.reset(Foo.class);
+        verify(instrumentation, times(2)).redefineClasses(any(ClassDefinition[].class));
+        classReloadingStrategy.reset(Foo.class);
+        verify(instrumentation, times(2)).redefineClasses(any(ClassDefinition[].class));
+    }
+
+    @Test
+    public void testSnapshotResetsToOriginalClassFile() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        ClassReloadingStrategy classReloadingStrategy = new ClassReloadingStrategy(instrumentation).enableSnapshots();
+        classReloadingStrategy.load(Foo.class.getClassLoader(), Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class),
+                new byte[]{1, 2, 3}));
+        classReloadingStrategy.reset(Foo.class);
+        ArgumentCaptor<ClassDefinition> captor = ArgumentCaptor.forClass(ClassDefinition.class);
+        verify(instrumentation, times(2)).redefineClasses(captor.capture());
+        assertThat(captor.getAllValues().get(1).getDefinitionClassFile(), is(ClassFileLocator.ForClassLoader.read(Foo.class).resolve()));
+    }
+
+    @Test
+    public void testSnapshotExtractsOriginalClassFileFromVirtualMachine() throws Exception {
+        final Instrumentation instrumentation = mock(Instrumentation.class);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        final ArgumentCaptor<ClassFileTransformer> transformer = ArgumentCaptor.forClass(ClassFileTransformer.class);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                verify(instrumentation).addTransformer(transformer.capture(), eq(true));
+                assertThat(transformer.getValue().transform(Foo.class.getClassLoader(),
+                        Foo.class.getName().replace('.', '/'),
+                        Foo.class,
+                        Foo.class.getProtectionDomain(),
+                        new byte[]{4, 5, 6}), nullValue(byte[].class));
+                return null;
+            }
+        }).when(instrumentation).retransformClasses(Foo.class);
+        ClassReloadingStrategy classReloadingStrategy = new ClassReloadingStrategy(instrumentation).enableSnapshots();
+        classReloadingStrategy.load(Foo.class.getClassLoader(), Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class),
+                new byte[]{1, 2, 3}));
+        verify(instrumentation).retransformClasses(Foo.class);
+        verify(instrumentation).removeTransformer(transformer.getValue());
+        classReloadingStrategy.reset(Foo.class);
+        ArgumentCaptor<ClassDefinition> captor = ArgumentCaptor.forClass(ClassDefinition.class);
+        verify(instrumentation, times(2)).redefineClasses(captor.capture());
+        assertThat(captor.getAllValues().get(1).getDefinitionClassFile(), is(new byte[]{4, 5, 6}));
+        verify(instrumentation).retransformClasses(Foo.class);
+    }
+
+    @Test
+    public void testSnapshotFallsBackToClassLoaderWithoutExtraction() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        ClassReloadingStrategy classReloadingStrategy = new ClassReloadingStrategy(instrumentation).enableSnapshots();
+        classReloadingStrategy.load(Foo.class.getClassLoader(), Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class),
+                new byte[]{1, 2, 3}));
+        verify(instrumentation).addTransformer(any(ClassFileTransformer.class), anyBoolean());
+        classReloadingStrategy.reset(Foo.class);
+        ArgumentCaptor<ClassDefinition> captor = ArgumentCaptor.forClass(ClassDefinition.class);
+        verify(instrumentation, times(2)).redefineClasses(captor.capture());
+        assertThat(captor.getAllValues().get(1).getDefinitionClassFile(), is(ClassFileLocator.ForClassLoader.read(Foo.class).resolve()));
+    }
+
     @Test
     public void testRetransformationFunctional() throws Exception {
         Instrumentation instrumentation = mock(Instrumentation.class);
@@ -132,6 +240,11 @@ public class ClassReloadingStrategyTest {
         ObjectPropertyAssertion.of(ClassReloadingStrategy.Engine.ClassRedefinitionTransformer.class).applyBasic();
         ObjectPropertyAssertion.of(ClassReloadingStrategy.BootstrapInjection.Enabled.class).apply();
         ObjectPropertyAssertion.of(ClassReloadingStrategy.BootstrapInjection.Disabled.class).apply();
+        ObjectPropertyAssertion.of(ClassReloadingStrategy.SnapshotStore.Disabled.class).apply();
+        ObjectPropertyAssertion.of(ClassReloadingStrategy.SnapshotStore.Enabled.class).apply();
+        ObjectPropertyAssertion.of(ClassReloadingStrategy.SnapshotStore.Enabled.ClassFileExtractor.class).apply();
+        ObjectPropertyAssertion.of(ClassReloadingStrategy.SnapshotStore.Enabled.Snapshot.class).apply();
+        ObjectPropertyAssertion.of(ClassReloadingStrategy.SnapshotStore.Preparation.Simple.class).apply();
     }
 
     @SuppressWarnings("unused")
@@ -103,6 +103,37 @@ public class PackageTypeStrategyManifestReadingTest {
         verifyZeroInteractions(sealBaseLocator);
     }
 
+    @Test
+    public void testManifestIsReadOncePerClassLoader() throws Exception {
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.SPECIFICATION_TITLE, FOO);
+        manifest.getEntries().put(FOO + "/" + BAR + "/", new Attributes());
+        manifest.getAttributes(FOO + "/" + BAR + "/").put(Attributes.Name.SPECIFICATION_TITLE, BAR);
+        when(classLoader.getResourceAsStream("/META-INF/MANIFEST.MF")).then(new Answer<InputStream>() {
+            @Override
+            public InputStream answer(InvocationOnMock invocationOnMock) throws Throwable {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                manifest.write(outputStream);
+                return new ByteArrayInputStream(outputStream.toByteArray());
+            }
+        });
+        PackageDefinitionStrategy packageDefinitionStrategy = new PackageDefinitionStrategy.ManifestReading(sealBaseLocator);
+        assertThat(packageDefinitionStrategy.define(classLoader, FOO + "." + BAR, FOO + "." + BAR + "." + QUX).getSpecificationTitle(), is(BAR));
+        assertThat(packageDefinitionStrategy.define(classLoader, FOO + "." + BAR, FOO + "." + BAR + "." + BAZ).getSpecificationTitle(), is(BAR));
+        assertThat(packageDefinitionStrategy.define(classLoader, FOO, FOO + "." + QUX).getSpecificationTitle(), is(FOO));
+        verify(classLoader, times(1)).getResourceAsStream("/META-INF/MANIFEST.MF");
+        verifyZeroInteractions(sealBaseLocator);
+    }
+
+    @Test
+    public void testNoManifestIsReadOncePerClassLoader() throws Exception {
+        PackageDefinitionStrategy packageDefinitionStrategy = new PackageDefinitionStrategy.ManifestReading(sealBaseLocator);
+        assertThat(packageDefinitionStrategy.define(classLoader, FOO, BAR).isDefined(), is(true));
+        assertThat(packageDefinitionStrategy.define(classLoader, BAR, FOO).isDefined(), is(true));
+        verify(classLoader, times(1)).getResourceAsStream("/META-INF/MANIFEST.MF");
+    }
+
     @Test
     public void testManifestPackageAttributesNotSealed() throws Exception {
         final Manifest manifest = new Manifest();
@@ -258,6 +289,7 @@ public class PackageTypeStrategyManifestReadingTest {
     @IntegrationRule.Enforce
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(PackageDefinitionStrategy.ManifestReading.class).apply();
+        ObjectPropertyAssertion.of(PackageDefinitionStrategy.ManifestReading.ManifestAttributes.class).applyBasic();
         ObjectPropertyAssertion.of(PackageDefinitionStrategy.ManifestReading.SealBaseLocator.NonSealing.class).apply();
         final Iterator<URL> urls = Arrays.asList(new URL("file://foo"), new URL("file://bar")).iterator();
         ObjectPropertyAssertion.of(PackageDefinitionStrategy.ManifestReading.SealBaseLocator.ForFixedValue.class)
@@ -0,0 +1,139 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void testFindAndInsert() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.WEAK);
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        assertThat(typeCache.find(classLoader, FOO), nullValue(Class.class));
+        assertThat(typeCache.insert(classLoader, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, FOO), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, BAR), nullValue(Class.class));
+        assertThat(typeCache.find(new URLClassLoader(new URL[0]), FOO), nullValue(Class.class));
+        assertThat(typeCache.getHitCount(), is(1L));
+        assertThat(typeCache.getMissCount(), is(3L));
+    }
+
+    @Test
+    public void testInsertDoesNotReplace() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.SOFT);
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        assertThat(typeCache.insert(classLoader, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.insert(classLoader, FOO, String.class), is((Object) Object.class));
+    }
+
+    @Test
+    public void testBootstrapClassLoader() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.SOFT);
+        assertThat(typeCache.insert(null, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.find(null, FOO), is((Object) Object.class));
+        assertThat(typeCache.insert(null, BAR, String.class), is((Object) String.class));
+        assertThat(typeCache.find(null, BAR), is((Object) String.class));
+    }
+
+    @Test
+    public void testFindOrInsert() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.WEAK);
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        final AtomicInteger counter = new AtomicInteger();
+        Callable<Class<?>> callable = new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                counter.incrementAndGet();
+                return Object.class;
+            }
+        };
+        assertThat(typeCache.findOrInsert(classLoader, FOO, callable), is((Object) Object.class));
+        assertThat(typeCache.findOrInsert(classLoader, FOO, callable), is((Object) Object.class));
+        assertThat(counter.get(), is(1));
+        assertThat(typeCache.getHitCount(), is(1L));
+        assertThat(typeCache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void testFindOrInsertConcurrently() throws Exception {
+        final TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.SOFT, 1);
+        final ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        final AtomicInteger counter = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            Future<?>[] futures = new Future<?>[THREADS];
+            for (int index = 0; index < THREADS; index++) {
+                futures[index] = executorService.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        latch.await();
+                        return typeCache.findOrInsert(classLoader, FOO, new Callable<Class<?>>() {
+                            @Override
+                            public Class<?> call() throws Exception {
+                                counter.incrementAndGet();
+                                return Object.class;
+                            }
+                        });
+                    }
+                });
+            }
+            latch.countDown();
+            for (Future<?> future : futures) {
+                assertThat(future.get(), is((Object) Object.class));
+            }
+        } finally {
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(1, TimeUnit.SECONDS), is(true));
+        }
+        assertThat(counter.get(), is(1));
+        assertThat(typeCache.getHitCount() + typeCache.getMissCount(), is((long) THREADS));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFindOrInsertCheckedException() throws Exception {
+        new TypeCache<String>(TypeCache.Sort.WEAK).findOrInsert(null, FOO, new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                throw new Exception();
+            }
+        });
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.WEAK);
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        typeCache.insert(classLoader, FOO, Object.class);
+        typeCache.clear();
+        assertThat(typeCache.find(classLoader, FOO), nullValue(Class.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalConcurrency() throws Exception {
+        new TypeCache<String>(TypeCache.Sort.WEAK, 0);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeCache.Sort.class).apply();
+    }
+}
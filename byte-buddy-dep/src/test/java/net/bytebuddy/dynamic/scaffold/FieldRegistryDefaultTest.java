@@ -13,6 +13,8 @@ import org.mockito.Mock;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class FieldRegistryDefaultTest {
@@ -66,6 +68,25 @@ public class FieldRegistryDefaultTest {
                 AnnotationAppender.ValueFilter.AppendDefaults.INSTANCE)));
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateFieldRegistered() throws Exception {
+        new FieldRegistry.Default()
+                .include(knownFieldToken, distinctFactory, defaultValue)
+                .include(knownFieldToken, distinctFactory, defaultValue);
+    }
+
+    @Test
+    public void testDuplicateFieldRegisteredOnBranch() throws Exception {
+        FieldRegistry fieldRegistry = new FieldRegistry.Default().include(knownFieldToken, distinctFactory, defaultValue);
+        fieldRegistry.include(mock(FieldDescription.Token.class), distinctFactory, defaultValue);
+        try {
+            fieldRegistry.include(knownFieldToken, distinctFactory, defaultValue);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+            /* expected */
+        }
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(FieldRegistry.Default.class).apply();
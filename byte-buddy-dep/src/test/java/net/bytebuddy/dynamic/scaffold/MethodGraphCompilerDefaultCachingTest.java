@@ -0,0 +1,114 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodGraphCompilerDefaultCachingTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Test
+    public void testCachedCompilationEqualsDefaultCompilation() throws Exception {
+        MethodGraph.Compiler methodGraphCompiler = MethodGraph.Compiler.Default.Caching.forJavaHierarchy();
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(Bar.class);
+        MethodGraph.Linked expected = MethodGraph.Compiler.Default.forJavaHierarchy().compile(typeDescription);
+        for (int index = 0; index < 2; index++) {
+            MethodGraph.Linked methodGraph = methodGraphCompiler.compile(typeDescription);
+            assertThat(methodGraph.listNodes().size(), is(expected.listNodes().size()));
+            assertThat(methodGraph.getSuperGraph().listNodes().size(), is(expected.getSuperGraph().listNodes().size()));
+            for (MethodGraph.Node node : expected.listNodes()) {
+                assertThat(methodGraph.locate(node.getRepresentative().asToken()).getRepresentative(), is(node.getRepresentative()));
+            }
+        }
+    }
+
+    @Test
+    public void testCachedCompilationRespectsViewPointPackage() throws Exception {
+        MethodGraph.Compiler methodGraphCompiler = MethodGraph.Compiler.Default.Caching.forJavaHierarchy();
+        ByteBuddy byteBuddy = new ByteBuddy().withMethodGraphCompiler(methodGraphCompiler);
+        Class<? extends Foo> samePackage = byteBuddy.subclass(Foo.class)
+                .name(Foo.class.getPackage().getName() + "." + QUX)
+                .method(named(FOO))
+                .intercept(FixedValue.value(BAR))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded();
+        assertThat(samePackage.getDeclaredMethod(FOO).getReturnType(), is((Object) Object.class));
+        Class<? extends Foo> otherPackage = byteBuddy.subclass(Foo.class)
+                .name(QUX + "." + QUX)
+                .method(named(FOO))
+                .intercept(FixedValue.value(BAR))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(otherPackage.getDeclaredMethods().length, is(0));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        MethodGraph.Compiler.Default.Caching<?> methodGraphCompiler = MethodGraph.Compiler.Default.Caching.forJVMHierarchy();
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(Bar.class);
+        MethodGraph.Linked methodGraph = methodGraphCompiler.compile(typeDescription);
+        methodGraphCompiler.clear();
+        assertThat(methodGraphCompiler.compile(typeDescription).listNodes().size(), is(methodGraph.listNodes().size()));
+        MethodDescription methodDescription = typeDescription.getDeclaredMethods().filter(named(BAR)).getOnly();
+        assertThat(methodGraphCompiler.compile(typeDescription).locate(methodDescription.asToken()).getRepresentative(), is(methodDescription));
+    }
+
+    @Test
+    public void testCachedCompilationRespectsSuperTypeIdentity() throws Exception {
+        MethodGraph.Compiler methodGraphCompiler = MethodGraph.Compiler.Default.Caching.forJavaHierarchy();
+        TypeDescription first = new ByteBuddy()
+                .subclass(Object.class)
+                .name(QUX + "." + FOO)
+                .defineMethod(FOO, Object.class, Collections.<Class<?>>emptyList(), Visibility.PUBLIC)
+                .intercept(FixedValue.value(FOO))
+                .make()
+                .getTypeDescription();
+        TypeDescription second = new ByteBuddy()
+                .subclass(Object.class)
+                .name(QUX + "." + FOO)
+                .defineMethod(BAR, Object.class, Collections.<Class<?>>emptyList(), Visibility.PUBLIC)
+                .intercept(FixedValue.value(BAR))
+                .make()
+                .getTypeDescription();
+        assertThat(first, is(second));
+        MethodGraph.Linked firstGraph = methodGraphCompiler.compile(new ByteBuddy().subclass(first).name(QUX + "." + BAR).make().getTypeDescription());
+        assertThat(firstGraph.getSuperGraph().locate(first.getDeclaredMethods().filter(named(FOO)).getOnly().asToken()).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        MethodGraph.Linked secondGraph = methodGraphCompiler.compile(new ByteBuddy().subclass(second).name(QUX + "." + BAR).make().getTypeDescription());
+        assertThat(secondGraph.getSuperGraph().locate(second.getDeclaredMethods().filter(named(BAR)).getOnly().asToken()).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        assertThat(secondGraph.getSuperGraph().locate(first.getDeclaredMethods().filter(named(FOO)).getOnly().asToken()).getSort(), is(MethodGraph.Node.Sort.UNRESOLVED));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(MethodGraph.Compiler.Default.Caching.class).applyBasic();
+        ObjectPropertyAssertion.of(MethodGraph.Compiler.Default.Caching.Snapshot.class).apply();
+    }
+
+    public static class Foo {
+
+        Object foo() {
+            return null;
+        }
+    }
+
+    public static class Bar extends Foo {
+
+        public Object bar() {
+            return null;
+        }
+    }
+}
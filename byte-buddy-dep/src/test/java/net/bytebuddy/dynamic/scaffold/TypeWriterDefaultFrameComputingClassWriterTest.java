@@ -17,12 +17,11 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class TypeWriterDefaultFrameComputingClassWriterTest {
 
-    private static final String FOO = "pkg/foo", BAR = "pkg/bar", QUX = "pkg/qux", BAZ = "pkg/baz", FOOBAR = "pkg/foobar";
+    private static final String FOO = "pkg/foo", BAR = "pkg/bar", QUX = "pkg/qux", BAZ = "pkg/baz", FOOBAR = "pkg/foobar", INSTRUMENTED = "pkg/instrumented";
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -31,13 +30,13 @@ public class TypeWriterDefaultFrameComputingClassWriterTest {
     private TypePool typePool;
 
     @Mock
-    private TypeDescription leftType, rightType, superType;
+    private TypeDescription leftType, rightType, superType, instrumentedType;
 
     private TypeWriter.Default.FrameComputingClassWriter frameComputingClassWriter;
 
     @Before
     public void setUp() throws Exception {
-        frameComputingClassWriter = new TypeWriter.Default.FrameComputingClassWriter(mock(ClassReader.class), 0, typePool);
+        frameComputingClassWriter = new TypeWriter.Default.FrameComputingClassWriter(mock(ClassReader.class), 0, typePool, instrumentedType);
         when(typePool.describe(FOO.replace('/', '.'))).thenReturn(new TypePool.Resolution.Simple(leftType));
         when(typePool.describe(BAR.replace('/', '.'))).thenReturn(new TypePool.Resolution.Simple(rightType));
         when(leftType.getInternalName()).thenReturn(QUX);
@@ -45,16 +44,41 @@ public class TypeWriterDefaultFrameComputingClassWriterTest {
         when(leftType.getSuperType()).thenReturn(superType);
         when(superType.asErasure()).thenReturn(superType);
         when(superType.getInternalName()).thenReturn(FOOBAR);
+        when(instrumentedType.asErasure()).thenReturn(instrumentedType);
+        when(instrumentedType.getInternalName()).thenReturn(INSTRUMENTED);
     }
 
     @Test
     public void testFactory() throws Exception {
-        assertThat(TypeWriter.Default.FrameComputingClassWriter.of(mock(ClassReader.class), 0, mock(ClassFileLocator.class)),
+        assertThat(TypeWriter.Default.FrameComputingClassWriter.of(mock(ClassReader.class), 0, mock(ClassFileLocator.class), instrumentedType),
                 not(instanceOf(TypeWriter.Default.FrameComputingClassWriter.class)));
-        assertThat(TypeWriter.Default.FrameComputingClassWriter.of(mock(ClassReader.class), ClassWriter.COMPUTE_FRAMES, mock(ClassFileLocator.class)),
+        assertThat(TypeWriter.Default.FrameComputingClassWriter.of(mock(ClassReader.class), ClassWriter.COMPUTE_FRAMES, mock(ClassFileLocator.class), instrumentedType),
                 instanceOf(TypeWriter.Default.FrameComputingClassWriter.class));
     }
 
+    @Test
+    public void testCreationFactory() throws Exception {
+        assertThat(TypeWriter.Default.FrameComputingClassWriter.of(0, mock(ClassFileLocator.class), instrumentedType),
+                not(instanceOf(TypeWriter.Default.FrameComputingClassWriter.class)));
+        assertThat(TypeWriter.Default.FrameComputingClassWriter.of(ClassWriter.COMPUTE_FRAMES, mock(ClassFileLocator.class), instrumentedType),
+                instanceOf(TypeWriter.Default.FrameComputingClassWriter.class));
+    }
+
+    @Test
+    public void testInstrumentedTypeIsNotLookedUp() throws Exception {
+        when(instrumentedType.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(INSTRUMENTED, BAR), is(INSTRUMENTED));
+        verify(typePool, never()).describe(INSTRUMENTED.replace('/', '.'));
+    }
+
+    @Test
+    public void testSuperTypeOfInstrumentedTypeIsNotLookedUp() throws Exception {
+        when(instrumentedType.getSuperType()).thenReturn(superType);
+        when(superType.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOOBAR, BAR), is(FOOBAR));
+        verify(typePool, never()).describe(FOOBAR.replace('/', '.'));
+    }
+
     @Test
     public void testLeftIsAssignable() throws Exception {
         when(leftType.isAssignableFrom(rightType)).thenReturn(true);
@@ -1,12 +1,14 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.dynamic.scaffold.TypeWriter;
 import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
 import org.junit.Test;
 import org.objectweb.asm.ClassVisitor;
 
@@ -18,6 +20,8 @@ import static org.mockito.Mockito.when;
 
 public class ImplementationContextDefaultOtherTest {
 
+    private static final String FOO = "foo", BAR = "bar";
+
     @Test
     public void testFactory() throws Exception {
         assertThat(Implementation.Context.Default.Factory.INSTANCE.make(mock(TypeDescription.class),
@@ -26,6 +30,21 @@ public class ImplementationContextDefaultOtherTest {
                 mock(ClassFileVersion.class)), instanceOf(Implementation.Context.Default.class));
     }
 
+    @Test
+    public void testHashingFactory() throws Exception {
+        TypeDescription instrumentedType = mock(TypeDescription.class);
+        when(instrumentedType.getName()).thenReturn(FOO);
+        FieldDescription fieldDescription = mock(FieldDescription.class);
+        when(fieldDescription.getName()).thenReturn(BAR);
+        Implementation.Context.ExtractableView implementationContext = Implementation.Context.Default.HashingFactory.INSTANCE.make(instrumentedType,
+                mock(AuxiliaryType.NamingStrategy.class),
+                mock(InstrumentedType.TypeInitializer.class),
+                mock(ClassFileVersion.class));
+        assertThat(implementationContext, instanceOf(Implementation.Context.Default.class));
+        assertThat(((Implementation.Context.Default) implementationContext).registerGetterFor(fieldDescription).getName(),
+                is(BAR + "$" + Implementation.Context.Default.ACCESSOR_METHOD_SUFFIX + "$" + RandomString.hashOf(FOO.hashCode())));
+    }
+
     @Test
     public void testTypeInitializerNotRetained() throws Exception {
         assertThat(new Implementation.Context.Default(mock(TypeDescription.class),
@@ -67,5 +86,6 @@ public class ImplementationContextDefaultOtherTest {
         ObjectPropertyAssertion.of(Implementation.Context.Default.FieldSetterDelegation.class).apply();
         ObjectPropertyAssertion.of(Implementation.Context.Default.FieldGetterDelegation.class).apply();
         ObjectPropertyAssertion.of(Implementation.Context.Default.Factory.class).apply();
+        ObjectPropertyAssertion.of(Implementation.Context.Default.HashingFactory.class).apply();
     }
 }
@@ -67,6 +67,23 @@ public class InvocationHandlerAdapterTest extends AbstractImplementationTest {
         instance.assertZeroCalls();
     }
 
+    @Test
+    public void testStaticAdapterWithLazyMethodCache() throws Exception {
+        Foo foo = new Foo();
+        DynamicType.Loaded<Bar> loaded = implement(Bar.class, InvocationHandlerAdapter.of(foo).withLazyMethodCache());
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(1));
+        assertThat(loaded.getLoaded().getDeclaredMethods().length, is(1));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1));
+        Bar instance = loaded.getLoaded().newInstance();
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(1));
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(2));
+        assertThat(foo.methods.get(0), sameInstance(foo.methods.get(1)));
+        assertThat(foo.methods.get(0), is(Bar.class.getDeclaredMethod(BAR, Object.class)));
+        instance.assertZeroCalls();
+    }
+
     @Test
     public void testInstanceAdapterWithoutCache() throws Exception {
         DynamicType.Loaded<Bar> loaded = implement(Bar.class, InvocationHandlerAdapter.toInstanceField(QUX));
@@ -107,6 +124,25 @@ public class InvocationHandlerAdapterTest extends AbstractImplementationTest {
         instance.assertZeroCalls();
     }
 
+    @Test
+    public void testInstanceAdapterWithLazyMethodCache() throws Exception {
+        DynamicType.Loaded<Bar> loaded = implement(Bar.class, InvocationHandlerAdapter.toInstanceField(QUX).withLazyMethodCache());
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(1));
+        assertThat(loaded.getLoaded().getDeclaredMethods().length, is(1));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1));
+        Field field = loaded.getLoaded().getDeclaredField(QUX);
+        field.setAccessible(true);
+        Bar instance = loaded.getLoaded().newInstance();
+        Foo foo = new Foo();
+        field.set(instance, foo);
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(1));
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(2));
+        assertThat(foo.methods.get(0), sameInstance(foo.methods.get(1)));
+        instance.assertZeroCalls();
+    }
+
     @Test
     public void testEqualsHashCodeStaticAdapter() throws Exception {
         assertThat(InvocationHandlerAdapter.of(new Foo(FOO)).hashCode(), is(InvocationHandlerAdapter.of(new Foo(FOO)).hashCode()));
@@ -135,6 +171,7 @@ public class InvocationHandlerAdapterTest extends AbstractImplementationTest {
         ObjectPropertyAssertion.of(InvocationHandlerAdapter.ForInstanceDelegation.Appender.class).apply();
         ObjectPropertyAssertion.of(InvocationHandlerAdapter.ForStaticDelegation.class).skipSynthetic().apply();
         ObjectPropertyAssertion.of(InvocationHandlerAdapter.ForStaticDelegation.Appender.class).apply();
+        ObjectPropertyAssertion.of(InvocationHandlerAdapter.MethodCache.class).apply();
     }
 
     private static class Foo implements InvocationHandler {
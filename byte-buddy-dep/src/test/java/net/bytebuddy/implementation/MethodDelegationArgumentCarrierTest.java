@@ -0,0 +1,108 @@
+package net.bytebuddy.implementation;
+
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.bind.annotation.ArgumentCarrier;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class MethodDelegationArgumentCarrierTest extends AbstractImplementationTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testPrimitiveArguments() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(Bar.class));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(true, (byte) 1, (short) 2, 'c', 3, 4L, 5f, 6d, FOO), is((Object) ("true12c345.06.0" + FOO + 9)));
+        assertThat(instance.bar(false, (byte) 1, (short) 2, 'c', 3, 4L, 5f, 6d, FOO), is((Object) ("false12c345.06.0" + FOO + 9)));
+        assertThat(loaded.getRawAuxiliaryTypes().size(), is(1));
+    }
+
+    @Test
+    public void testBoxedArguments() throws Exception {
+        DynamicType.Loaded<Qux> loaded = implement(Qux.class, MethodDelegation.to(Baz.class));
+        Qux instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(42, FOO), is((Object) (42 + FOO)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalArgumentType() throws Exception {
+        DynamicType.Loaded<Qux> loaded = implement(Qux.class, MethodDelegation.to(IllegalType.class));
+        loaded.getLoaded().newInstance().foo(42, FOO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalIndex() throws Exception {
+        DynamicType.Loaded<Qux> loaded = implement(Qux.class, MethodDelegation.to(IllegalIndex.class));
+        loaded.getLoaded().newInstance().foo(42, FOO);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIllegalParameterType() throws Exception {
+        implement(Qux.class, MethodDelegation.to(IllegalParameter.class));
+    }
+
+    public static class Foo {
+
+        public Object foo(boolean z, byte b, short s, char c, int i, long l, float f, double d, String t) {
+            return null;
+        }
+
+        public Object bar(boolean z, byte b, short s, char c, int i, long l, float f, double d, String t) {
+            return null;
+        }
+    }
+
+    public static class Bar {
+
+        public static String intercept(@ArgumentCarrier ArgumentCarrier.Arguments arguments) {
+            return "" + arguments.getBoolean(0)
+                    + arguments.getByte(1)
+                    + arguments.getShort(2)
+                    + arguments.getChar(3)
+                    + arguments.getInt(4)
+                    + arguments.getLong(5)
+                    + arguments.getFloat(6)
+                    + arguments.getDouble(7)
+                    + arguments.get(8)
+                    + arguments.size();
+        }
+    }
+
+    public static class Qux {
+
+        public Object foo(int i, String t) {
+            return null;
+        }
+    }
+
+    public static class Baz {
+
+        public static String intercept(@ArgumentCarrier Object arguments) {
+            return "" + ((ArgumentCarrier.Arguments) arguments).get(0) + ((ArgumentCarrier.Arguments) arguments).get(1);
+        }
+    }
+
+    public static class IllegalType {
+
+        public static long intercept(@ArgumentCarrier ArgumentCarrier.Arguments arguments) {
+            return arguments.getLong(0);
+        }
+    }
+
+    public static class IllegalIndex {
+
+        public static int intercept(@ArgumentCarrier ArgumentCarrier.Arguments arguments) {
+            return arguments.getInt(1);
+        }
+    }
+
+    public static class IllegalParameter {
+
+        public static Object intercept(@ArgumentCarrier String arguments) {
+            return null;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import net.bytebuddy.test.utility.ClassFileExtraction;
 import org.junit.Test;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.security.AccessController;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
@@ -78,6 +80,53 @@ public class MethodDelegationSuperTest extends AbstractImplementationTest {
         assertThat(instance.qux(), is((Object) (FOO + QUX)));
     }
 
+    @Test
+    public void testCachedSuperInstance() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(CachedBaz.class));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.qux(), is((Object) (FOO + QUX)));
+        Object proxy = CachedBaz.proxy;
+        assertThat(instance.qux(), is((Object) (FOO + QUX)));
+        assertThat(CachedBaz.proxy, sameInstance(proxy));
+        assertThat(loaded.getLoaded().newInstance().qux(), is((Object) (FOO + QUX)));
+        assertThat(CachedBaz.proxy, not(sameInstance(proxy)));
+        Field field = loaded.getLoaded().getDeclaredFields()[0];
+        assertThat(field.isSynthetic(), is(true));
+        assertThat(Modifier.isPrivate(field.getModifiers()), is(true));
+        assertThat(Modifier.isVolatile(field.getModifiers()), is(true));
+        assertThat(Modifier.isTransient(field.getModifiers()), is(true));
+    }
+
+    @Test
+    public void testCachedSuperInterfaceForMultipleMethods() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodDelegation.to(CachedFooBar.class));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.qux(), is((Object) (FOO + QUX)));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1));
+    }
+
+    @Test
+    public void testCachedSuperInstanceIsNotSharedWithClone() throws Exception {
+        DynamicType.Loaded<Cloned> loaded = implement(Cloned.class, MethodDelegation.to(CachedClonedBaz.class), Cloned.class.getClassLoader(), named(QUX));
+        Cloned instance = loaded.getLoaded().newInstance();
+        assertThat(instance.qux(), is((Object) (FOO + QUX)));
+        Object proxy = CachedClonedBaz.proxy;
+        Cloned clone = instance.copy();
+        clone.value = BAR;
+        assertThat(clone.qux(), is((Object) (BAR + QUX)));
+        assertThat(CachedClonedBaz.proxy, not(sameInstance(proxy)));
+        Object cloneProxy = CachedClonedBaz.proxy;
+        assertThat(clone.qux(), is((Object) (BAR + QUX)));
+        assertThat(CachedClonedBaz.proxy, sameInstance(cloneProxy));
+        assertThat(instance.qux(), is((Object) (FOO + QUX)));
+        assertThat(CachedClonedBaz.proxy, sameInstance(proxy));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCachedSuperInstanceUnsafe() throws Exception {
+        implement(Foo.class, MethodDelegation.to(CachedQuxBaz.class));
+    }
+
     @Test
     public void testFinalType() throws Exception {
         ClassLoader classLoader = new ByteArrayClassLoader(null,
@@ -134,6 +183,53 @@ public class MethodDelegationSuperTest extends AbstractImplementationTest {
         }
     }
 
+    public static class CachedBaz {
+
+        public static Object proxy;
+
+        public static String baz(@Super(cached = true) Foo foo) {
+            proxy = foo;
+            return foo.qux() + QUX;
+        }
+    }
+
+    public static class Cloned implements Cloneable {
+
+        public String value = FOO;
+
+        public Object qux() {
+            return value;
+        }
+
+        public Cloned copy() throws CloneNotSupportedException {
+            return (Cloned) clone();
+        }
+    }
+
+    public static class CachedClonedBaz {
+
+        public static Object proxy;
+
+        public static String baz(@Super(cached = true) Cloned cloned) {
+            proxy = cloned;
+            return cloned.qux() + QUX;
+        }
+    }
+
+    public static class CachedFooBar {
+
+        public static String baz(@Super(cached = true) Qux foo) {
+            return foo.qux() + QUX;
+        }
+    }
+
+    public static class CachedQuxBaz {
+
+        public static String baz(@Super(strategy = Super.Instantiation.UNSAFE, cached = true) Foo foo) {
+            return foo.qux() + QUX;
+        }
+    }
+
     public static abstract class FooBarQuxBaz implements Qux {
 
         @Override
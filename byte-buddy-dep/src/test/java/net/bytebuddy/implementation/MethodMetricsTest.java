@@ -0,0 +1,195 @@
+package net.bytebuddy.implementation;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodMetricsTest extends AbstractImplementationTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private static final int COUNT = 3;
+
+    @Test
+    public void testCounting() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodMetrics.counting());
+        Foo instance = loaded.getLoaded().newInstance();
+        for (int index = 0; index < COUNT; index++) {
+            assertThat(instance.foo(QUX), is(QUX + FOO));
+        }
+        assertThat(instance.bar(), is((long) COUNT));
+        MethodMetrics.Counter counter = MethodMetrics.Registry.of(loaded.getLoaded().getClassLoader()).getCounters().get(loaded.getLoaded().getName() + "#foo(Ljava/lang/String;)Ljava/lang/String;");
+        assertThat(counter, notNullValue(MethodMetrics.Counter.class));
+        assertThat(counter.get(), is((long) COUNT));
+        assertThat(MethodMetrics.Registry.of(loaded.getLoaded().getClassLoader()).getCounters().get(loaded.getLoaded().getName() + "#bar()J").get(), is(1L));
+    }
+
+    @Test
+    public void testTiming() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodMetrics.timing());
+        Foo instance = loaded.getLoaded().newInstance();
+        for (int index = 0; index < COUNT; index++) {
+            assertThat(instance.foo(QUX), is(QUX + FOO));
+        }
+        assertThat(instance.bar(), is((long) COUNT));
+        MethodMetrics.Histogram histogram = MethodMetrics.Registry.of(loaded.getLoaded().getClassLoader()).getHistograms().get(loaded.getLoaded().getName() + "#foo(Ljava/lang/String;)Ljava/lang/String;");
+        assertThat(histogram, notNullValue(MethodMetrics.Histogram.class));
+        assertThat(histogram.getCount(), is((long) COUNT));
+    }
+
+    @Test
+    public void testAndThen() throws Exception {
+        DynamicType.Loaded<Foo> loaded = implement(Foo.class, MethodMetrics.counting().andThen(FixedValue.value(BAR)), Foo.class.getClassLoader(), isDeclaredBy(Foo.class).and(named(FOO)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(BAR));
+        assertThat(instance.bar(), is(1L));
+        assertThat(MethodMetrics.Registry.of(loaded.getLoaded().getClassLoader()).getCounters().get(loaded.getLoaded().getName() + "#foo(Ljava/lang/String;)Ljava/lang/String;").get(), is(1L));
+    }
+
+    @Test
+    public void testRegistry() throws Exception {
+        MethodMetrics.Registry registry = new MethodMetrics.Registry();
+        MethodMetrics.Counter counter = registry.counter(FOO);
+        assertThat(registry.counter(FOO), sameInstance(counter));
+        counter.increment();
+        MethodMetrics.Histogram histogram = registry.histogram(FOO);
+        assertThat(registry.histogram(FOO), sameInstance(histogram));
+        histogram.record(1L);
+        registry.reset();
+        assertThat(counter.get(), is(0L));
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(registry.getCounters().get(FOO), sameInstance(counter));
+        assertThat(registry.getHistograms().get(FOO), sameInstance(histogram));
+    }
+
+    @Test
+    public void testRegistryPerClassLoader() throws Exception {
+        ClassLoader first = new URLClassLoader(new URL[0]), second = new URLClassLoader(new URL[0]);
+        assertThat(MethodMetrics.Registry.of(first), sameInstance(MethodMetrics.Registry.of(first)));
+        assertThat(MethodMetrics.Registry.of(null), sameInstance(MethodMetrics.Registry.of(null)));
+        assertThat(MethodMetrics.Registry.of(first), not(sameInstance(MethodMetrics.Registry.of(second))));
+        assertThat(MethodMetrics.Registry.counterOf(Object.class, FOO), sameInstance(MethodMetrics.Registry.of(null).counter(FOO)));
+        assertThat(MethodMetrics.Registry.histogramOf(getClass(), FOO), sameInstance(MethodMetrics.Registry.of(getClass().getClassLoader()).histogram(FOO)));
+    }
+
+    @Test
+    public void testSameNamedTypesOfDifferentClassLoadersDoNotShareMetrics() throws Exception {
+        DynamicType.Unloaded<Foo> unloaded = new ByteBuddy().subclass(Foo.class).name(Foo.class.getName() + QUX).method(isDeclaredBy(Foo.class)).intercept(MethodMetrics.counting()).make();
+        Foo first = unloaded.load(new URLClassLoader(new URL[0], Foo.class.getClassLoader()), ClassLoadingStrategy.Default.WRAPPER).getLoaded().newInstance();
+        Class<? extends Foo> type = unloaded.load(new URLClassLoader(new URL[0], Foo.class.getClassLoader()), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        Foo second = type.newInstance();
+        first.bar();
+        first.bar();
+        second.bar();
+        String key = type.getName() + "#bar()J";
+        assertThat(MethodMetrics.Registry.of(first.getClass().getClassLoader()).getCounters().get(key).get(), is(2L));
+        assertThat(MethodMetrics.Registry.of(second.getClass().getClassLoader()).getCounters().get(key).get(), is(1L));
+    }
+
+    @Test
+    public void testHistogramBuckets() throws Exception {
+        MethodMetrics.Histogram histogram = new MethodMetrics.Histogram();
+        histogram.record(-1L);
+        histogram.record(0L);
+        histogram.record(1L);
+        histogram.record(2L);
+        histogram.record(3L);
+        histogram.record(1024L);
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.getCount(0), is(3L));
+        assertThat(histogram.getCount(1), is(2L));
+        assertThat(histogram.getCount(10), is(1L));
+        assertThat(histogram.getCount(MethodMetrics.Histogram.BUCKETS - 2), is(1L));
+        assertThat(histogram.getCount(), is(7L));
+        assertThat(histogram.getTotalDuration(), is(1030L + Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testCounterStripes() throws Exception {
+        final MethodMetrics.Counter counter = new MethodMetrics.Counter();
+        Thread[] thread = new Thread[COUNT];
+        for (int index = 0; index < COUNT; index++) {
+            thread[index] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int index = 0; index < 1000; index++) {
+                        counter.increment();
+                    }
+                }
+            });
+            thread[index].start();
+        }
+        for (Thread aThread : thread) {
+            aThread.join();
+        }
+        assertThat(counter.get(), is(COUNT * 1000L));
+    }
+
+    @Test
+    public void testHistogramStripes() throws Exception {
+        final MethodMetrics.Histogram histogram = new MethodMetrics.Histogram();
+        Thread[] thread = new Thread[COUNT];
+        for (int index = 0; index < COUNT; index++) {
+            thread[index] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int index = 0; index < 1000; index++) {
+                        histogram.record(2L);
+                    }
+                }
+            });
+            thread[index].start();
+        }
+        for (Thread aThread : thread) {
+            aThread.join();
+        }
+        assertThat(histogram.getCount(), is(COUNT * 1000L));
+        assertThat(histogram.getCount(1), is(COUNT * 1000L));
+        assertThat(histogram.getTotalDuration(), is(COUNT * 2000L));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testHistogramIllegalBucket() throws Exception {
+        new MethodMetrics.Histogram().getCount(MethodMetrics.Histogram.BUCKETS);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        assertThat(MethodMetrics.counting(), instanceOf(MethodMetrics.class));
+        ObjectPropertyAssertion.of(MethodMetrics.class).apply();
+        ObjectPropertyAssertion.of(MethodMetrics.Sort.class).apply();
+        ObjectPropertyAssertion.of(MethodMetrics.WithoutReturn.class).apply();
+        ObjectPropertyAssertion.of(MethodMetrics.Appender.class).apply();
+        ObjectPropertyAssertion.of(MethodMetrics.Appender.TerminationHandler.class).apply();
+        ObjectPropertyAssertion.of(MethodMetrics.LongStore.class).apply();
+        ObjectPropertyAssertion.of(MethodMetrics.Registry.class).applyBasic();
+    }
+
+    public static class Foo {
+
+        private long count;
+
+        public String foo(String value) {
+            count++;
+            return value + FOO;
+        }
+
+        public long bar() {
+            return count;
+        }
+    }
+}
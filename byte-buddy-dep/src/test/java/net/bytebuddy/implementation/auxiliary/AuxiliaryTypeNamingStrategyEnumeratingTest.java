@@ -0,0 +1,40 @@
+package net.bytebuddy.implementation.auxiliary;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AuxiliaryTypeNamingStrategyEnumeratingTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testEnumeration() throws Exception {
+        AuxiliaryType.NamingStrategy namingStrategy = new AuxiliaryType.NamingStrategy.Enumerating(FOO);
+        assertThat(namingStrategy.name(TypeDescription.OBJECT), is(Object.class.getName() + "$" + FOO + "$0"));
+        assertThat(namingStrategy.name(TypeDescription.OBJECT), is(Object.class.getName() + "$" + FOO + "$1"));
+        assertThat(namingStrategy.name(TypeDescription.STRING), is(String.class.getName() + "$" + FOO + "$0"));
+    }
+
+    @Test
+    public void testEnumerationIsBounded() throws Exception {
+        AuxiliaryType.NamingStrategy namingStrategy = new AuxiliaryType.NamingStrategy.Enumerating(FOO, 1);
+        assertThat(namingStrategy.name(TypeDescription.OBJECT), is(Object.class.getName() + "$" + FOO + "$0"));
+        assertThat(namingStrategy.name(TypeDescription.OBJECT), is(Object.class.getName() + "$" + FOO + "$1"));
+        String name = namingStrategy.name(TypeDescription.STRING);
+        assertThat(name, startsWith(String.class.getName() + "$" + FOO + "$"));
+        assertThat(name.length(), is((String.class.getName() + "$" + FOO + "$").length() + RandomString.DEFAULT_LENGTH));
+        assertThat(namingStrategy.name(TypeDescription.STRING), not(name));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AuxiliaryType.NamingStrategy.Enumerating.class).applyBasic();
+    }
+}
@@ -0,0 +1,63 @@
+package net.bytebuddy.implementation.auxiliary;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.bytecode.constant.TextConstant;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ConstantHolderTest {
+
+    private static final String FOO = "foo", BAR = "net.bytebuddy.test.Bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private AuxiliaryType.MethodAccessorFactory methodAccessorFactory;
+
+    @Test
+    public void testCreation() throws Exception {
+        DynamicType dynamicType = new ConstantHolder(new TextConstant(FOO), TypeDescription.STRING)
+                .make(BAR, ClassFileVersion.forCurrentJavaVersion(), methodAccessorFactory);
+        assertThat(dynamicType.getTypeDescription().getName(), is(BAR));
+        assertThat(dynamicType.getTypeDescription().getModifiers(), is(Opcodes.ACC_SYNTHETIC));
+        assertThat(dynamicType.getTypeDescription().getDeclaredFields().size(), is(1));
+        assertThat(dynamicType.getTypeDescription().getDeclaredMethods().size(), is(0));
+        assertThat(dynamicType.getRawAuxiliaryTypes().size(), is(0));
+        Class<?> type = ClassLoadingStrategy.Default.WRAPPER.load(getClass().getClassLoader(),
+                Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes())).get(dynamicType.getTypeDescription());
+        Field field = type.getDeclaredField(ConstantHolder.FIELD_NAME);
+        assertThat(field.getModifiers(), is(Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC));
+        field.setAccessible(true);
+        assertThat(field.get(null), is((Object) FOO));
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        assertThat(new ConstantHolder(new TextConstant(FOO), TypeDescription.STRING),
+                is(new ConstantHolder(new TextConstant(FOO), TypeDescription.STRING)));
+        assertThat(new ConstantHolder(new TextConstant(FOO), TypeDescription.STRING).hashCode(),
+                is(new ConstantHolder(new TextConstant(FOO), TypeDescription.STRING).hashCode()));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ConstantHolder.class).apply();
+        ObjectPropertyAssertion.of(ConstantHolder.Read.class).apply();
+        ObjectPropertyAssertion.of(ConstantHolder.Initializer.class).apply();
+    }
+}
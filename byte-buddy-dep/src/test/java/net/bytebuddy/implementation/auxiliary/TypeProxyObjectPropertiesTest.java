@@ -32,6 +32,10 @@ public class TypeProxyObjectPropertiesTest {
         ObjectPropertyAssertion.of(TypeProxy.MethodCall.Appender.AccessorMethodInvocation.class).skipSynthetic().apply();
         ObjectPropertyAssertion.of(TypeProxy.SilentConstruction.Appender.class).skipSynthetic().apply();
         ObjectPropertyAssertion.of(TypeProxy.InvocationFactory.Default.class).apply();
+        ObjectPropertyAssertion.of(TypeProxy.InstanceCache.Disabled.class).apply();
+        ObjectPropertyAssertion.of(TypeProxy.InstanceCache.ForField.class).apply();
+        ObjectPropertyAssertion.of(TypeProxy.InstanceCache.ForField.Factory.class).apply();
+        ObjectPropertyAssertion.of(TypeProxy.InstanceCache.ForField.Factory.Appender.class).apply();
     }
 
     @Test
@@ -39,6 +43,11 @@ public class TypeProxyObjectPropertiesTest {
         ObjectPropertyAssertion.of(TypeProxy.ForSuperMethodByConstructor.class).apply();
     }
 
+    @Test
+    public void testCachedConstructorObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeProxy.ForSuperMethodByCachedConstructor.class).apply();
+    }
+
     @Test
     public void testReflectionFactoryObjectPropertiesFactoryEqualsHashCode() throws Exception {
         ObjectPropertyAssertion.of(TypeProxy.ForSuperMethodByReflectionFactory.class).apply();
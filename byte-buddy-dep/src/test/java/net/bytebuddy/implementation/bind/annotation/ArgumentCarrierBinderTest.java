@@ -0,0 +1,54 @@
+package net.bytebuddy.implementation.bind.annotation;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.bind.MethodDelegationBinder;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.when;
+
+public class ArgumentCarrierBinderTest extends AbstractAnnotationBinderTest<ArgumentCarrier> {
+
+    @Mock
+    private TypeDescription targetType;
+
+    public ArgumentCarrierBinderTest() {
+        super(ArgumentCarrier.class);
+    }
+
+    @Override
+    protected TargetMethodAnnotationDrivenBinder.ParameterBinder<ArgumentCarrier> getSimpleBinder() {
+        return ArgumentCarrier.Binder.INSTANCE;
+    }
+
+    @Test
+    public void testLegalBinding() throws Exception {
+        when(target.getType()).thenReturn(targetType);
+        when(targetType.asErasure()).thenReturn(targetType);
+        when(targetType.isAssignableFrom(ArgumentCarrier.Arguments.class)).thenReturn(true);
+        MethodDelegationBinder.ParameterBinding<?> parameterBinding = ArgumentCarrier.Binder.INSTANCE
+                .bind(annotationDescription, source, target, implementationTarget, assigner);
+        assertThat(parameterBinding.isValid(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIllegalBinding() throws Exception {
+        when(target.getType()).thenReturn(targetType);
+        when(targetType.asErasure()).thenReturn(targetType);
+        ArgumentCarrier.Binder.INSTANCE.bind(annotationDescription, source, target, implementationTarget, assigner);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ArgumentCarrier.Binder.class).apply();
+        ObjectPropertyAssertion.of(ArgumentCarrier.Binder.Creation.class).apply();
+        ObjectPropertyAssertion.of(ArgumentCarrier.Binder.CarrierType.class).apply();
+        ObjectPropertyAssertion.of(ArgumentCarrier.Binder.CarrierType.ConstructorCall.class).apply();
+        ObjectPropertyAssertion.of(ArgumentCarrier.Binder.CarrierType.ConstructorCall.Appender.class).apply();
+        ObjectPropertyAssertion.of(ArgumentCarrier.Binder.CarrierType.ArgumentAccess.class).apply();
+        ObjectPropertyAssertion.of(ArgumentCarrier.Binder.CarrierType.ArgumentAccess.Appender.class).apply();
+    }
+}
@@ -1,12 +1,15 @@
 package net.bytebuddy.implementation.bytecode.constant;
 
 import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.field.FieldList;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.ParameterList;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.description.type.generic.GenericTypeList;
 import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+import net.bytebuddy.implementation.auxiliary.ConstantHolder;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.StackSize;
 import net.bytebuddy.test.utility.MockitoRule;
@@ -20,6 +23,7 @@ import org.mockito.asm.Opcodes;
 import org.mockito.asm.Type;
 import org.objectweb.asm.MethodVisitor;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Collections;
 
@@ -38,7 +42,7 @@ public class MethodConstantTest {
     private MethodDescription.InDefinedShape methodDescription;
 
     @Mock
-    private TypeDescription declaringType, parameterType, fieldType;
+    private TypeDescription declaringType, parameterType, fieldType, holderType;
 
     @Mock
     private ParameterList<?> parameterList;
@@ -79,6 +83,9 @@ public class MethodConstantTest {
         when(fieldDescription.getInternalName()).thenReturn(FOO);
         when(fieldDescription.getDescriptor()).thenReturn(QUX);
         when(fieldDescription.asDefined()).thenReturn(fieldDescription);
+        when(fieldDescription.getSourceCodeName()).thenReturn(ConstantHolder.FIELD_NAME);
+        when(holderType.getDeclaredFields())
+                .thenReturn(new FieldList.Explicit<FieldDescription.InDefinedShape>(Collections.singletonList(fieldDescription)));
     }
 
     @Test
@@ -106,6 +113,19 @@ public class MethodConstantTest {
         verifyNoMoreInteractions(implementationContext);
     }
 
+    @Test
+    public void testMethodCachedLazily() throws Exception {
+        when(implementationContext.register(any(AuxiliaryType.class))).thenReturn(holderType);
+        StackManipulation.Size size = MethodConstant.forMethod(methodDescription).cachedLazily().apply(methodVisitor, implementationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(1));
+        verify(methodVisitor).visitFieldInsn(Opcodes.GETSTATIC, BAZ, FOO, QUX);
+        verifyNoMoreInteractions(methodVisitor);
+        verify(implementationContext).register(new ConstantHolder(MethodConstant.forMethod(methodDescription),
+                new TypeDescription.ForLoadedType(Method.class)));
+        verifyNoMoreInteractions(implementationContext);
+    }
+
     @Test
     public void testConstructor() throws Exception {
         when(methodDescription.isConstructor()).thenReturn(true);
@@ -133,12 +153,27 @@ public class MethodConstantTest {
         verifyNoMoreInteractions(implementationContext);
     }
 
+    @Test
+    public void testConstructorCachedLazily() throws Exception {
+        when(methodDescription.isConstructor()).thenReturn(true);
+        when(implementationContext.register(any(AuxiliaryType.class))).thenReturn(holderType);
+        StackManipulation.Size size = MethodConstant.forMethod(methodDescription).cachedLazily().apply(methodVisitor, implementationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(1));
+        verify(methodVisitor).visitFieldInsn(Opcodes.GETSTATIC, BAZ, FOO, QUX);
+        verifyNoMoreInteractions(methodVisitor);
+        verify(implementationContext).register(new ConstantHolder(MethodConstant.forMethod(methodDescription),
+                new TypeDescription.ForLoadedType(Constructor.class)));
+        verifyNoMoreInteractions(implementationContext);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testTypeInitializer() throws Exception {
         when(methodDescription.isTypeInitializer()).thenReturn(true);
         MethodConstant.CanCache methodConstant = MethodConstant.forMethod(methodDescription);
         assertThat(methodConstant.isValid(), is(false));
         assertThat(methodConstant.cached().isValid(), is(false));
+        assertThat(methodConstant.cachedLazily().isValid(), is(false));
         methodConstant.apply(methodVisitor, implementationContext);
     }
 
@@ -927,6 +927,14 @@ public class ElementMatchersTest {
         assertThat(ElementMatchers.isSuperTypeOf(String.class).matches(new TypeDescription.ForLoadedType(Serializable.class)), is(true));
     }
 
+    @Test
+    public void testIsSubTypeIndexed() throws Exception {
+        HierarchyIndex hierarchyIndex = new HierarchyIndex();
+        assertThat(ElementMatchers.isSubTypeOf(String.class, hierarchyIndex).matches(new TypeDescription.ForLoadedType(Object.class)), is(false));
+        assertThat(ElementMatchers.isSubTypeOf(Object.class, hierarchyIndex).matches(new TypeDescription.ForLoadedType(String.class)), is(true));
+        assertThat(ElementMatchers.isSubTypeOf(Serializable.class, hierarchyIndex).matches(new TypeDescription.ForLoadedType(String.class)), is(true));
+    }
+
     @Test
     public void testIsAnnotatedInheritedWith() throws Exception {
         assertThat(ElementMatchers.inheritsAnnotation(OtherAnnotation.class)
@@ -935,6 +943,15 @@ public class ElementMatchersTest {
                 .matches(new TypeDescription.ForLoadedType(OtherInherited.class)), is(false));
     }
 
+    @Test
+    public void testIsAnnotatedInheritedWithIndexed() throws Exception {
+        HierarchyIndex hierarchyIndex = new HierarchyIndex();
+        assertThat(ElementMatchers.inheritsAnnotation(OtherAnnotation.class, hierarchyIndex)
+                .matches(new TypeDescription.ForLoadedType(OtherInherited.class)), is(true));
+        assertThat(ElementMatchers.inheritsAnnotation(OtherAnnotation.class, hierarchyIndex)
+                .matches(new TypeDescription.ForLoadedType(Object.class)), is(false));
+    }
+
     @Test
     public void testTypeSort() throws Exception {
         assertThat(ElementMatchers.ofSort(GenericTypeDescription.Sort.NON_GENERIC).matches(new TypeDescription.ForLoadedType(Object.class)), is(true));
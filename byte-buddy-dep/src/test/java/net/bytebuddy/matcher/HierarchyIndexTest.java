@@ -0,0 +1,133 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class HierarchyIndexTest {
+
+    @Test
+    public void testSubType() throws Exception {
+        HierarchyIndex hierarchyIndex = new HierarchyIndex();
+        TypeDescription string = new TypeDescription.ForLoadedType(String.class);
+        assertThat(hierarchyIndex.isSubTypeOf(string, string), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(string, TypeDescription.OBJECT), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(string, new TypeDescription.ForLoadedType(Serializable.class)), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(string, new TypeDescription.ForLoadedType(CharSequence.class)), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(string, new TypeDescription.ForLoadedType(Integer.class)), is(false));
+        assertThat(hierarchyIndex.isSubTypeOf(TypeDescription.OBJECT, string), is(false));
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(Serializable.class), TypeDescription.OBJECT), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(Qux.class), new TypeDescription.ForLoadedType(Baz.class)), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(Bar.class), new TypeDescription.ForLoadedType(Baz.class)), is(false));
+    }
+
+    @Test
+    public void testNonIndexedTypes() throws Exception {
+        HierarchyIndex hierarchyIndex = new HierarchyIndex();
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(String[].class), new TypeDescription.ForLoadedType(Object[].class)), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(String[].class), TypeDescription.OBJECT), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(int.class), new TypeDescription.ForLoadedType(int.class)), is(true));
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(int.class), TypeDescription.OBJECT), is(false));
+        assertThat(hierarchyIndex.inheritsAnnotation(new TypeDescription.ForLoadedType(int.class), new TypeDescription.ForLoadedType(Foo.class)), is(false));
+        assertThat(hierarchyIndex.size(), is(0));
+    }
+
+    @Test
+    public void testHierarchyIsRecordedOnce() throws Exception {
+        HierarchyIndex hierarchyIndex = new HierarchyIndex();
+        hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(Bar.class), TypeDescription.OBJECT);
+        assertThat(hierarchyIndex.size(), is(2));
+        hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(Qux.class), TypeDescription.OBJECT);
+        assertThat(hierarchyIndex.size(), is(4));
+        hierarchyIndex.inheritsAnnotation(new TypeDescription.ForLoadedType(Qux.class), new TypeDescription.ForLoadedType(Foo.class));
+        assertThat(hierarchyIndex.size(), is(4));
+        hierarchyIndex.clear();
+        assertThat(hierarchyIndex.size(), is(0));
+    }
+
+    @Test
+    public void testQueriedTypeIsNotAssignedId() throws Exception {
+        HierarchyIndex hierarchyIndex = new HierarchyIndex();
+        assertThat(hierarchyIndex.isSubTypeOf(new TypeDescription.ForLoadedType(Bar.class), new TypeDescription.ForLoadedType(Integer.class)), is(false));
+        assertThat(hierarchyIndex.inheritsAnnotation(new TypeDescription.ForLoadedType(Bar.class), new TypeDescription.ForLoadedType(Retention.class)), is(false));
+        assertThat(hierarchyIndex.toString(), not(containsString(Integer.class.getName())));
+        assertThat(hierarchyIndex.toString(), not(containsString(Retention.class.getName())));
+    }
+
+    @Test
+    public void testInheritedAnnotation() throws Exception {
+        HierarchyIndex hierarchyIndex = new HierarchyIndex();
+        TypeDescription foo = new TypeDescription.ForLoadedType(Foo.class), other = new TypeDescription.ForLoadedType(Other.class);
+        assertThat(hierarchyIndex.inheritsAnnotation(new TypeDescription.ForLoadedType(Bar.class), foo), is(true));
+        assertThat(hierarchyIndex.inheritsAnnotation(new TypeDescription.ForLoadedType(Bar.class), other), is(true));
+        assertThat(hierarchyIndex.inheritsAnnotation(new TypeDescription.ForLoadedType(Qux.class), foo), is(true));
+        assertThat(hierarchyIndex.inheritsAnnotation(new TypeDescription.ForLoadedType(Qux.class), other), is(false));
+        assertThat(hierarchyIndex.inheritsAnnotation(TypeDescription.OBJECT, foo), is(false));
+    }
+
+    @Test
+    public void testPerClassLoader() throws Exception {
+        HierarchyIndex.PerClassLoader perClassLoader = new HierarchyIndex.PerClassLoader();
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        assertThat(perClassLoader.locate(classLoader), sameInstance(perClassLoader.locate(classLoader)));
+        assertThat(perClassLoader.locate(null), sameInstance(perClassLoader.locate(null)));
+        assertThat(perClassLoader.locate(classLoader), not(sameInstance(perClassLoader.locate(null))));
+        HierarchyIndex hierarchyIndex = perClassLoader.locate(classLoader);
+        perClassLoader.clear();
+        assertThat(perClassLoader.locate(classLoader), not(sameInstance(hierarchyIndex)));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(HierarchyIndex.class).applyBasic();
+        ObjectPropertyAssertion.of(HierarchyIndex.PerClassLoader.class).applyBasic();
+        ObjectPropertyAssertion.of(HierarchyIndex.Entry.class).create(new ObjectPropertyAssertion.Creator<BitSet>() {
+            @Override
+            public BitSet create() {
+                BitSet bitSet = new BitSet();
+                bitSet.set(new Random().nextInt(1024));
+                return bitSet;
+            }
+        }).apply();
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Foo {
+        /* empty */
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Other {
+        /* empty */
+    }
+
+    public interface Baz {
+        /* empty */
+    }
+
+    @Foo
+    @Other
+    public static class Bar {
+        /* empty */
+    }
+
+    public static class Qux extends Bar implements Baz {
+        /* empty */
+    }
+}
@@ -0,0 +1,43 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class IndexedInheritedAnnotationMatcherTest extends AbstractElementMatcherTest<IndexedInheritedAnnotationMatcher<?>> {
+
+    @Mock
+    private TypeDescription typeDescription, otherType;
+
+    @Mock
+    private HierarchyIndex hierarchyIndex;
+
+    @SuppressWarnings("unchecked")
+    public IndexedInheritedAnnotationMatcherTest() {
+        super((Class<? extends IndexedInheritedAnnotationMatcher<?>>) (Object) IndexedInheritedAnnotationMatcher.class, "inheritsAnnotation");
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        when(hierarchyIndex.inheritsAnnotation(otherType, typeDescription)).thenReturn(true);
+        assertThat(new IndexedInheritedAnnotationMatcher<TypeDescription>(typeDescription, hierarchyIndex).matches(otherType), is(true));
+        verify(hierarchyIndex).inheritsAnnotation(otherType, typeDescription);
+        verifyNoMoreInteractions(hierarchyIndex);
+        verifyZeroInteractions(otherType);
+        verifyZeroInteractions(typeDescription);
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        when(hierarchyIndex.inheritsAnnotation(otherType, typeDescription)).thenReturn(false);
+        assertThat(new IndexedInheritedAnnotationMatcher<TypeDescription>(typeDescription, hierarchyIndex).matches(otherType), is(false));
+        verify(hierarchyIndex).inheritsAnnotation(otherType, typeDescription);
+        verifyNoMoreInteractions(hierarchyIndex);
+        verifyZeroInteractions(otherType);
+        verifyZeroInteractions(typeDescription);
+    }
+}
@@ -0,0 +1,43 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class IndexedSubTypeMatcherTest extends AbstractElementMatcherTest<IndexedSubTypeMatcher<?>> {
+
+    @Mock
+    private TypeDescription typeDescription, otherType;
+
+    @Mock
+    private HierarchyIndex hierarchyIndex;
+
+    @SuppressWarnings("unchecked")
+    public IndexedSubTypeMatcherTest() {
+        super((Class<? extends IndexedSubTypeMatcher<?>>) (Object) IndexedSubTypeMatcher.class, "isSubTypeOf");
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        when(hierarchyIndex.isSubTypeOf(otherType, typeDescription)).thenReturn(true);
+        assertThat(new IndexedSubTypeMatcher<TypeDescription>(typeDescription, hierarchyIndex).matches(otherType), is(true));
+        verify(hierarchyIndex).isSubTypeOf(otherType, typeDescription);
+        verifyNoMoreInteractions(hierarchyIndex);
+        verifyZeroInteractions(otherType);
+        verifyZeroInteractions(typeDescription);
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        when(hierarchyIndex.isSubTypeOf(otherType, typeDescription)).thenReturn(false);
+        assertThat(new IndexedSubTypeMatcher<TypeDescription>(typeDescription, hierarchyIndex).matches(otherType), is(false));
+        verify(hierarchyIndex).isSubTypeOf(otherType, typeDescription);
+        verifyNoMoreInteractions(hierarchyIndex);
+        verifyZeroInteractions(otherType);
+        verifyZeroInteractions(typeDescription);
+    }
+}
@@ -0,0 +1,186 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolAbstractBaseTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testConcurrentDescriptionIsCoalesced() throws Exception {
+        final BlockingTypePool typePool = new BlockingTypePool(new TypePool.CacheProvider.Simple());
+        final AtomicReference<TypePool.Resolution> resolution = new AtomicReference<TypePool.Resolution>();
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                resolution.set(typePool.describe(FOO));
+            }
+        };
+        thread.start();
+        assertThat(typePool.started.await(10, TimeUnit.SECONDS), is(true));
+        Thread waiting = new Thread() {
+            @Override
+            public void run() {
+                typePool.describe(FOO);
+            }
+        };
+        waiting.start();
+        while (typePool.getCoalescedDescriptionCount() == 0L) {
+            Thread.sleep(10L);
+        }
+        typePool.release.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(10L));
+        waiting.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(thread.isAlive(), is(false));
+        assertThat(waiting.isAlive(), is(false));
+        assertThat(typePool.descriptions.get(), is(1));
+        assertThat(typePool.getCoalescedDescriptionCount(), is(1L));
+        assertThat(typePool.getDuplicateDescriptionCount(), is(0L));
+        assertThat(typePool.describe(FOO), sameInstance(resolution.get()));
+        assertThat(typePool.descriptions.get(), is(1));
+    }
+
+    @Test
+    public void testConcurrentDescriptionFailureIsPropagated() throws Exception {
+        final BlockingTypePool typePool = new BlockingTypePool(new TypePool.CacheProvider.Simple());
+        typePool.failure = true;
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    typePool.describe(FOO);
+                } catch (IllegalArgumentException ignored) {
+                    /* expected */
+                }
+            }
+        };
+        thread.start();
+        assertThat(typePool.started.await(10, TimeUnit.SECONDS), is(true));
+        final AtomicReference<Throwable> throwable = new AtomicReference<Throwable>();
+        Thread waiting = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    typePool.describe(FOO);
+                } catch (Throwable exception) {
+                    throwable.set(exception);
+                }
+            }
+        };
+        waiting.start();
+        while (typePool.getCoalescedDescriptionCount() == 0L) {
+            Thread.sleep(10L);
+        }
+        typePool.release.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(10L));
+        waiting.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(throwable.get() instanceof IllegalStateException, is(true));
+        assertThat(throwable.get().getCause() instanceof IllegalArgumentException, is(true));
+    }
+
+    @Test
+    public void testReentrantDescription() throws Exception {
+        ReentrantTypePool typePool = new ReentrantTypePool(new TypePool.CacheProvider.Simple());
+        TypePool.Resolution resolution = typePool.describe(FOO);
+        assertThat(resolution.resolve(), is(TypeDescription.OBJECT));
+        assertThat(typePool.getCoalescedDescriptionCount(), is(0L));
+        assertThat(typePool.getDuplicateDescriptionCount(), is(1L));
+    }
+
+    @Test
+    public void testNoCoalescenceWithoutContention() throws Exception {
+        BlockingTypePool typePool = new BlockingTypePool(TypePool.CacheProvider.NoOp.INSTANCE);
+        typePool.release.countDown();
+        typePool.describe(FOO);
+        typePool.describe(FOO);
+        assertThat(typePool.descriptions.get(), is(2));
+        assertThat(typePool.getCoalescedDescriptionCount(), is(0L));
+        assertThat(typePool.getDuplicateDescriptionCount(), is(0L));
+    }
+
+    @Test
+    public void testNoCoalescenceWithoutCache() throws Exception {
+        final BlockingTypePool typePool = new BlockingTypePool(TypePool.CacheProvider.NoOp.INSTANCE);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                typePool.describe(FOO);
+            }
+        };
+        thread.start();
+        assertThat(typePool.started.await(10, TimeUnit.SECONDS), is(true));
+        Thread other = new Thread() {
+            @Override
+            public void run() {
+                typePool.describe(FOO);
+            }
+        };
+        other.start();
+        while (typePool.descriptions.get() < 2) {
+            Thread.sleep(10L);
+        }
+        typePool.release.countDown();
+        thread.join(TimeUnit.SECONDS.toMillis(10L));
+        other.join(TimeUnit.SECONDS.toMillis(10L));
+        assertThat(thread.isAlive(), is(false));
+        assertThat(other.isAlive(), is(false));
+        assertThat(typePool.isCoalescing(), is(false));
+        assertThat(typePool.getCoalescedDescriptionCount(), is(0L));
+    }
+
+    private static class BlockingTypePool extends TypePool.AbstractBase {
+
+        private final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+
+        private final AtomicInteger descriptions = new AtomicInteger();
+
+        private volatile boolean failure;
+
+        protected BlockingTypePool(CacheProvider cacheProvider) {
+            super(cacheProvider);
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            descriptions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                throw new AssertionError(exception);
+            }
+            if (failure) {
+                throw new IllegalArgumentException();
+            }
+            return new Resolution.Simple(TypeDescription.OBJECT);
+        }
+    }
+
+    private static class ReentrantTypePool extends TypePool.AbstractBase {
+
+        private boolean reentered;
+
+        protected ReentrantTypePool(CacheProvider cacheProvider) {
+            super(cacheProvider);
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            if (!reentered) {
+                reentered = true;
+                describe(name);
+            }
+            return new Resolution.Simple(TypeDescription.OBJECT);
+        }
+    }
+}
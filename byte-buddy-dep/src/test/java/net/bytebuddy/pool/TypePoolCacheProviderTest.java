@@ -45,9 +45,25 @@ public class TypePoolCacheProviderTest {
         assertThat(simple.find(FOO), sameInstance(resolution));
     }
 
+    @Test
+    public void testSoft() throws Exception {
+        TypePool.CacheProvider soft = new TypePool.CacheProvider.Soft();
+        assertThat(soft.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(soft.register(FOO, resolution), sameInstance(resolution));
+        assertThat(soft.find(FOO), sameInstance(resolution));
+        TypePool.Resolution resolution = mock(TypePool.Resolution.class);
+        assertThat(soft.register(FOO, resolution), sameInstance(this.resolution));
+        assertThat(soft.find(FOO), sameInstance(this.resolution));
+        soft.clear();
+        assertThat(soft.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(soft.register(FOO, resolution), sameInstance(resolution));
+        assertThat(soft.find(FOO), sameInstance(resolution));
+    }
+
     @Test
     public void testSimpleObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.CacheProvider.NoOp.class).apply();
         ObjectPropertyAssertion.of(TypePool.CacheProvider.Simple.class).applyBasic();
+        ObjectPropertyAssertion.of(TypePool.CacheProvider.Soft.class).applyBasic();
     }
 }
@@ -4,8 +4,15 @@ import net.bytebuddy.description.annotation.AbstractAnnotationDescriptionTest;
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Test;
 
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class TypePoolDefaultAnnotationDescriptionTest extends AbstractAnnotationDescriptionTest {
 
@@ -27,4 +34,28 @@ public class TypePoolDefaultAnnotationDescriptionTest extends AbstractAnnotation
         return typePool.describe(declaringType.getName()).resolve()
                 .getDeclaredAnnotations().ofType(annotation.annotationType());
     }
+
+    @Test
+    public void testLoadedAnnotationIsCached() throws Exception {
+        Cached cached = typePool.describe(CachedSample.class.getName()).resolve()
+                .getDeclaredAnnotations()
+                .ofType(Cached.class)
+                .loadSilent();
+        assertThat(cached, is(CachedSample.class.getAnnotation(Cached.class)));
+        assertThat(typePool.describe(CachedSample.class.getName()).resolve()
+                .getDeclaredAnnotations()
+                .ofType(Cached.class)
+                .loadSilent(), sameInstance(cached));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Cached {
+
+        String value();
+    }
+
+    @Cached("foo")
+    private static class CachedSample {
+        /* empty */
+    }
 }
@@ -62,6 +62,11 @@ public class TypePoolDefaultClassLoadingTest {
         assertThat(resolution.resolve(), is(TypeDescription.OBJECT));
     }
 
+    @Test
+    public void testDescriptionsAreNotCoalesced() throws Exception {
+        assertThat(((TypePool.AbstractBase) typePool).isCoalescing(), is(false));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.Default.ClassLoading.class).apply();
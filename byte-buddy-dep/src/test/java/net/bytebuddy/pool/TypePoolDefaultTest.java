@@ -1,11 +1,16 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -36,6 +41,53 @@ public class TypePoolDefaultTest {
         fail();
     }
 
+    @Test
+    public void testNamesAndDescriptorsAreShared() throws Exception {
+        TypePool.Default typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(),
+                ClassFileLocator.ForClassLoader.ofClassPath(),
+                TypePool.Default.ReaderMode.FAST);
+        TypeDescription first = typePool.describe(Object.class.getName()).resolve(), second = typePool.describe(String.class.getName()).resolve();
+        assertThat(first.getDeclaredMethods().filter(named("toString")).getOnly().getInternalName(),
+                sameInstance(second.getDeclaredMethods().filter(named("toString")).getOnly().getInternalName()));
+        assertThat(typePool.stringTable.intern("Ljava/lang/String;"), sameInstance(typePool.stringTable.intern(new String("Ljava/lang/String;"))));
+        assertThat(typePool.stringTable.size() > 0, is(true));
+        typePool.clear();
+        assertThat(typePool.stringTable.size(), is(0));
+    }
+
+    @Test
+    public void testNamesAndDescriptorsAreSharedWithSoftCache() throws Exception {
+        TypePool.Default typePool = new TypePool.Default(new TypePool.CacheProvider.Soft(),
+                ClassFileLocator.ForClassLoader.ofClassPath(),
+                TypePool.Default.ReaderMode.FAST);
+        TypeDescription first = typePool.describe(Object.class.getName()).resolve(), second = typePool.describe(String.class.getName()).resolve();
+        assertThat(first.getDeclaredMethods().filter(named("toString")).getOnly().getInternalName(),
+                sameInstance(second.getDeclaredMethods().filter(named("toString")).getOnly().getInternalName()));
+    }
+
+    @Test
+    public void testNamesAndDescriptorsAreNotRetainedWithoutReference() throws Exception {
+        TypePool.Default typePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE,
+                ClassFileLocator.ForClassLoader.ofClassPath(),
+                TypePool.Default.ReaderMode.FAST);
+        String descriptor = new String("Ljava/lang/String;");
+        assertThat(typePool.stringTable.intern(descriptor), sameInstance(descriptor));
+        assertThat(typePool.stringTable.intern(new String(descriptor)), sameInstance(descriptor));
+        assertThat(typePool.stringTable.size(), is(1));
+        descriptor = null;
+        for (int attempt = 0; attempt < 100 && typePool.stringTable.size() > 0; attempt++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(typePool.stringTable.size(), is(0));
+    }
+
+    @Test
+    public void testSharedDescriptorsResolveParameters() throws Exception {
+        TypeDescription typeDescription = typePool.describe(String.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredMethods().filter(named("regionMatches").and(takesArguments(4))).getOnly().getParameters().asTypeList().asErasures().get(1), is(TypeDescription.STRING));
+    }
+
     @Test
     public void testGenericsObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.Default.GenericTypeExtractor.class).applyBasic();
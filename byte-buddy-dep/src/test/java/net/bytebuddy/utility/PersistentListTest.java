@@ -0,0 +1,102 @@
+package net.bytebuddy.utility;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PersistentListTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz";
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(PersistentList.empty().size(), is(0));
+        assertThat(PersistentList.empty(), is((List<Object>) Collections.emptyList()));
+    }
+
+    @Test
+    public void testOfPersistentListIsIdentity() throws Exception {
+        PersistentList<String> list = PersistentList.<String>empty().append(FOO);
+        assertThat(PersistentList.of(list), sameInstance(list));
+    }
+
+    @Test
+    public void testOfListIsCopied() throws Exception {
+        List<String> original = new ArrayList<String>(Arrays.asList(FOO, BAR));
+        PersistentList<String> list = PersistentList.of(original);
+        original.add(QUX);
+        assertThat(list, is(Arrays.asList(FOO, BAR)));
+    }
+
+    @Test
+    public void testAppend() throws Exception {
+        PersistentList<String> first = PersistentList.<String>empty().append(FOO);
+        PersistentList<String> second = first.append(BAR);
+        assertThat(first, is(Collections.singletonList(FOO)));
+        assertThat(second, is(Arrays.asList(FOO, BAR)));
+    }
+
+    @Test
+    public void testPrepend() throws Exception {
+        PersistentList<String> first = PersistentList.<String>empty().prepend(FOO);
+        PersistentList<String> second = first.prepend(BAR);
+        assertThat(first, is(Collections.singletonList(FOO)));
+        assertThat(second, is(Arrays.asList(BAR, FOO)));
+    }
+
+    @Test
+    public void testMixed() throws Exception {
+        PersistentList<String> list = PersistentList.<String>empty().append(FOO).prepend(BAR).append(QUX).prepend(BAZ);
+        assertThat(list, is(Arrays.asList(BAZ, BAR, FOO, QUX)));
+    }
+
+    @Test
+    public void testBranchingAppendDoesNotAffectOtherBranch() throws Exception {
+        PersistentList<String> base = PersistentList.<String>empty().append(FOO);
+        PersistentList<String> left = base.append(BAR), right = base.append(QUX);
+        assertThat(base, is(Collections.singletonList(FOO)));
+        assertThat(left, is(Arrays.asList(FOO, BAR)));
+        assertThat(right, is(Arrays.asList(FOO, QUX)));
+    }
+
+    @Test
+    public void testBranchingPrependDoesNotAffectOtherBranch() throws Exception {
+        PersistentList<String> base = PersistentList.<String>empty().prepend(FOO);
+        PersistentList<String> left = base.prepend(BAR), right = base.prepend(QUX);
+        assertThat(base, is(Collections.singletonList(FOO)));
+        assertThat(left, is(Arrays.asList(BAR, FOO)));
+        assertThat(right, is(Arrays.asList(QUX, FOO)));
+    }
+
+    @Test
+    public void testLargeChain() throws Exception {
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int index = 0; index < 1000; index++) {
+            list = list.append(index);
+            expected.add(index);
+        }
+        assertThat(list, is(expected));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() throws Exception {
+        PersistentList.<String>empty().append(FOO).get(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testNegativeIndex() throws Exception {
+        PersistentList.<String>empty().append(FOO).get(-1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() throws Exception {
+        PersistentList.<String>empty().add(FOO);
+    }
+}
@@ -0,0 +1,69 @@
+package net.bytebuddy.utility;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PersistentSetTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(PersistentSet.empty().size(), is(0));
+        assertThat(PersistentSet.empty(), is((Set<Object>) Collections.emptySet()));
+    }
+
+    @Test
+    public void testWith() throws Exception {
+        PersistentSet<String> first = PersistentSet.<String>empty().with(FOO);
+        PersistentSet<String> second = first.with(BAR);
+        assertThat(first, is((Set<String>) Collections.singleton(FOO)));
+        assertThat(second, is((Set<String>) new HashSet<String>(Arrays.asList(FOO, BAR))));
+        assertThat(first.contains(BAR), is(false));
+        assertThat(second.contains(BAR), is(true));
+    }
+
+    @Test
+    public void testWithContainedElementIsIdentity() throws Exception {
+        PersistentSet<String> set = PersistentSet.<String>empty().with(FOO);
+        assertThat(set.with(FOO), sameInstance(set));
+    }
+
+    @Test
+    public void testBranchingDoesNotAffectOtherBranch() throws Exception {
+        PersistentSet<String> base = PersistentSet.<String>empty().with(FOO);
+        PersistentSet<String> left = base.with(BAR), right = base.with(QUX);
+        assertThat(base.contains(BAR), is(false));
+        assertThat(base.contains(QUX), is(false));
+        assertThat(left.contains(BAR), is(true));
+        assertThat(left.contains(QUX), is(false));
+        assertThat(right.contains(BAR), is(false));
+        assertThat(right.contains(QUX), is(true));
+        assertThat(right.with(BAR).contains(BAR), is(true));
+    }
+
+    @Test
+    public void testLargeChain() throws Exception {
+        PersistentSet<Integer> set = PersistentSet.empty();
+        for (int index = 0; index < 1000; index++) {
+            assertThat(set.contains(index), is(false));
+            set = set.with(index);
+        }
+        assertThat(set.size(), is(1000));
+        for (int index = 0; index < 1000; index++) {
+            assertThat(set.contains(index), is(true));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() throws Exception {
+        PersistentSet.<String>empty().add(FOO);
+    }
+}
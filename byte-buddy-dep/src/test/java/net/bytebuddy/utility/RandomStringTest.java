@@ -24,6 +24,16 @@ public class RandomStringTest {
         assertThat(randomString.nextString(), not(randomString.nextString()));
     }
 
+    @Test
+    public void testHashOf() throws Exception {
+        assertThat(RandomString.hashOf(0).length(), is(RandomString.DEFAULT_LENGTH));
+        assertThat(RandomString.hashOf(-1).length(), is(RandomString.DEFAULT_LENGTH));
+        assertThat(RandomString.hashOf(Integer.MIN_VALUE).length(), is(RandomString.DEFAULT_LENGTH));
+        assertThat(RandomString.hashOf(42), is(RandomString.hashOf(42)));
+        assertThat(RandomString.hashOf(42), not(RandomString.hashOf(43)));
+        assertThat(RandomString.hashOf(1), not(RandomString.hashOf(-1)));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testNegativeLengthThrowsException() throws Exception {
         new RandomString(-1);
@@ -16,6 +16,49 @@ public class StreamDrainerTest {
         assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input)), is(input));
     }
 
+    @Test
+    public void testDrainageOfEmptyStream() throws Exception {
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(new byte[0])), is(new byte[0]));
+    }
+
+    @Test
+    public void testPooledDrainage() throws Exception {
+        byte[] first = new byte[]{1, 2, 3, 4}, second = new byte[]{5, 6};
+        StreamDrainer streamDrainer = new StreamDrainer(1, true);
+        assertThat(streamDrainer.drain(new ByteArrayInputStream(first)), is(first));
+        assertThat(streamDrainer.drain(new ByteArrayInputStream(second)), is(second));
+        assertThat(StreamDrainer.POOLED.drain(new ByteArrayInputStream(first)), is(first));
+    }
+
+    @Test
+    public void testSizedDrainage() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), input.length), is(input));
+    }
+
+    @Test
+    public void testSizedDrainageShorterStream() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), input.length + 2), is(input));
+    }
+
+    @Test
+    public void testSizedDrainageLongerStream() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), input.length - 2), is(input));
+    }
+
+    @Test
+    public void testSizedDrainageUnknownSize() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), -1L), is(input));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalBufferSize() throws Exception {
+        new StreamDrainer(0);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(StreamDrainer.class).apply();